@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares the JMH results of a benchmark run with the results of a baseline run.
+ * <p>
+ * A benchmark is reported as a regression when its score or its normalized allocation rate grows by more than the
+ * threshold, and the growth of the score is larger than the combined error of both runs.
+ */
+public class BaselineReport {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    private static final double MIN_ALLOCATION_DELTA = 64;
+
+    private final List<String> lines = new ArrayList<>();
+    private int regressions;
+
+    private BaselineReport() {
+
+    }
+
+    /**
+     * Compares the given JMH JSON result files.
+     *
+     * @param baselineFile result file of the baseline run
+     * @param currentFile  result file of the current run
+     * @param threshold    allowed growth in percent
+     * @return the comparison report
+     * @throws IOException if a result file could not be read
+     */
+    public static BaselineReport compare(Path baselineFile, Path currentFile, double threshold) throws IOException {
+
+        Map<String, Result> baseline = readResults(baselineFile);
+        Map<String, Result> current = readResults(currentFile);
+        BaselineReport report = new BaselineReport();
+        report.lines.add(String.format("%-70s %14s %14s %9s %14s %14s %9s", "Benchmark", "Baseline", "Current",
+                "Change", "Baseline B/op", "Current B/op", "Change"));
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result result = entry.getValue();
+            Result base = baseline.get(entry.getKey());
+            if (base == null) {
+                report.lines.add(String.format("%-70s %14s %14.3f %9s", entry.getKey(), "-", result.score, "new"));
+                continue;
+            }
+            double scoreChange = getChange(base.score, result.score);
+            double allocationChange = getChange(base.allocation, result.allocation);
+            boolean slower = scoreChange > threshold &&
+                    result.score - base.score > result.error + base.error;
+            boolean allocatesMore = allocationChange > threshold &&
+                    result.allocation - base.allocation > MIN_ALLOCATION_DELTA;
+            if (slower || allocatesMore) {
+                report.regressions++;
+            }
+            report.lines.add(String.format("%-70s %14.3f %14.3f %8.1f%% %14.0f %14.0f %8.1f%%%s", entry.getKey(),
+                    base.score, result.score, scoreChange, base.allocation, result.allocation, allocationChange,
+                    slower || allocatesMore ? "  REGRESSION" : ""));
+        }
+        for (String key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                report.lines.add(String.format("%-70s %14s", key, "missing"));
+            }
+        }
+        report.lines.add(report.regressions + " regression(s) above " + threshold + "%");
+        return report;
+    }
+
+    public boolean hasRegressions() {
+
+        return regressions > 0;
+    }
+
+    public String format() {
+
+        return String.join(System.lineSeparator(), lines);
+    }
+
+    private static double getChange(double baseline, double current) {
+
+        if (baseline == 0 || Double.isNaN(baseline) || Double.isNaN(current)) {
+            return 0;
+        }
+        return (current - baseline) * 100 / baseline;
+    }
+
+    private static Map<String, Result> readResults(Path file) throws IOException {
+
+        Map<String, Result> results = new LinkedHashMap<>();
+        JsonArray runs = JsonParser.parseString(Files.readString(file)).getAsJsonArray();
+        for (JsonElement element : runs) {
+            JsonObject run = element.getAsJsonObject();
+            JsonObject primaryMetric = run.getAsJsonObject("primaryMetric");
+            Result result = new Result();
+            result.score = getDouble(primaryMetric, "score");
+            result.error = getDouble(primaryMetric, "scoreError");
+            result.allocation = Double.NaN;
+            JsonObject secondaryMetrics = run.getAsJsonObject("secondaryMetrics");
+            if (secondaryMetrics != null) {
+                for (Map.Entry<String, JsonElement> metric : secondaryMetrics.entrySet()) {
+                    if (metric.getKey().endsWith(ALLOCATION_METRIC)) {
+                        result.allocation = getDouble(metric.getValue().getAsJsonObject(), "score");
+                    }
+                }
+            }
+            results.put(getKey(run), result);
+        }
+        return results;
+    }
+
+    private static String getKey(JsonObject run) {
+
+        String benchmark = run.get("benchmark").getAsString();
+        JsonObject params = run.getAsJsonObject("params");
+        if (params == null) {
+            return benchmark;
+        }
+        Map<String, String> sortedParams = new TreeMap<>();
+        for (Map.Entry<String, JsonElement> param : params.entrySet()) {
+            sortedParams.put(param.getKey(), param.getValue().getAsString());
+        }
+        return benchmark + sortedParams;
+    }
+
+    private static double getDouble(JsonObject object, String member) {
+
+        JsonElement value = object.get(member);
+        if (value == null || !value.isJsonPrimitive()) {
+            return 0;
+        }
+        // JMH writes "NaN" as a string when the error could not be computed
+        try {
+            return Double.parseDouble(value.getAsString());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static class Result {
+
+        private double score;
+        private double error;
+        private double allocation;
+    }
+}
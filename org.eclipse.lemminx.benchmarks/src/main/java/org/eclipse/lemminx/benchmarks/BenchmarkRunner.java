@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Path;
+
+/**
+ * Runs the benchmarks with the GC profiler and compares the results with a baseline run.
+ * <p>
+ * Usage: {@code java -jar benchmarks.jar [--baseline <result.json>] [--threshold <percent>] [--result <result.json>]
+ * [benchmark regex...]}. The results of a run can be kept as the baseline of the next release. Two existing result
+ * files can be compared without running the benchmarks with {@code --compare <baseline.json> <current.json>}. The
+ * process exits with status 1 when a regression is found.
+ */
+public class BenchmarkRunner {
+
+    private static final double DEFAULT_THRESHOLD = 10;
+
+    public static void main(String[] args) throws Exception {
+
+        Path baseline = null;
+        Path result = Path.of("jmh-result.json");
+        double threshold = DEFAULT_THRESHOLD;
+        ChainedOptionsBuilder options = new OptionsBuilder();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--baseline":
+                    baseline = Path.of(args[++i]);
+                    break;
+                case "--threshold":
+                    threshold = Double.parseDouble(args[++i]);
+                    break;
+                case "--result":
+                    result = Path.of(args[++i]);
+                    break;
+                case "--compare":
+                    report(Path.of(args[i + 1]), Path.of(args[i + 2]), threshold);
+                    return;
+                default:
+                    options.include(args[i]);
+            }
+        }
+        new Runner(options
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.toString())
+                .build()).run();
+        if (baseline != null) {
+            report(baseline, result, threshold);
+        }
+    }
+
+    private static void report(Path baseline, Path result, double threshold) throws Exception {
+
+        BaselineReport report = BaselineReport.compare(baseline, result, threshold);
+        System.out.println(report.format());
+        if (report.hasRegressions()) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.benchmarks;
+
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeGenerator;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.factory.SubtreeBuilder;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of building the syntax tree of a large WSDL and data service, with the subtrees built sequentially or in
+ * parallel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DefinitionBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int operations;
+
+    @Param({"true", "false"})
+    public boolean parallel;
+
+    private DOMDocument wsdl;
+    private DOMDocument dataService;
+
+    @Setup
+    public void setUp() {
+
+        wsdl = parse(SynapseArtifacts.wsdl(operations), "BenchmarkService.wsdl");
+        dataService = parse(SynapseArtifacts.dataService(operations), "BenchmarkDataService.dbs");
+        SubtreeBuilder.setParallelThreshold(parallel ? SubtreeBuilder.DEFAULT_PARALLEL_THRESHOLD : Integer.MAX_VALUE);
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        SubtreeBuilder.setParallelThreshold(SubtreeBuilder.DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    @Benchmark
+    public STNode buildWsdl() {
+
+        return SyntaxTreeGenerator.buildTree(wsdl.getDocumentElement());
+    }
+
+    @Benchmark
+    public STNode buildDataService() {
+
+        return SyntaxTreeGenerator.buildTree(dataService.getDocumentElement());
+    }
+
+    private static DOMDocument parse(String content, String fileName) {
+
+        TextDocument document = new TextDocument(content, "file:///benchmark/" + fileName);
+        return DOMParser.getInstance().parse(document, null);
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.benchmarks;
+
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.contentmodel.settings.ContentModelSettings;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationRootSettings;
+import org.eclipse.lemminx.services.XMLLanguageService;
+import org.eclipse.lemminx.services.extensions.save.AbstractSaveContext;
+import org.eclipse.lemminx.settings.SharedSettings;
+import org.eclipse.lsp4j.CompletionList;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.Position;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Benchmarks of validating a Synapse API against the Synapse XSDs and of the completion inside its mediator flow.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LanguageServiceBenchmark {
+
+    private static final String SCHEMAS = "org/eclipse/lemminx/schemas/440";
+
+    @Param({"10", "100", "1000"})
+    public int resources;
+
+    private Path schemaFolder;
+    private Path extractedSchemas;
+    private XMLLanguageService languageService;
+    private ContentModelSettings settings;
+    private DOMDocument document;
+    private Position completionPosition;
+    private SharedSettings sharedSettings;
+
+    @Setup
+    public void setUp() throws Exception {
+
+        URL schemas = getClass().getClassLoader().getResource(SCHEMAS);
+        if (schemas != null && "file".equals(schemas.getProtocol())) {
+            // Running from the class folders of an IDE
+            schemaFolder = Path.of(schemas.toURI());
+        } else {
+            extractedSchemas = Files.createTempDirectory("synapse-schemas");
+            Utils.extractJarFolder(SCHEMAS, extractedSchemas);
+            schemaFolder = extractedSchemas;
+        }
+
+        settings = new ContentModelSettings();
+        settings.setUseCache(false);
+        settings.setCatalogs(new String[]{schemaFolder.resolve("catalog.xml").toString()});
+        XMLValidationRootSettings validation = new XMLValidationRootSettings();
+        validation.setNoGrammar("ignore");
+        settings.setValidation(validation);
+
+        languageService = new XMLLanguageService();
+        String content = SynapseArtifacts.api(resources);
+        TextDocument textDocument = new TextDocument(content, "file:///benchmark/" + SynapseArtifacts.API_NAME +
+                ".xml");
+        document = DOMParser.getInstance().parse(textDocument, languageService.getResolverExtensionManager());
+        languageService.setDocumentProvider(uri -> document);
+        languageService.doSave(new SettingsSaveContext(settings));
+        languageService.initializeIfNeeded();
+
+        completionPosition = textDocument.positionAt(content.lastIndexOf(SynapseArtifacts.COMPLETION_MARKER));
+        sharedSettings = new SharedSettings();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+
+        SynapseArtifacts.delete(extractedSchemas);
+    }
+
+    @Benchmark
+    public List<Diagnostic> validate() {
+
+        return languageService.doDiagnostics(document, settings.getValidation(), Collections.emptyMap(), () -> {
+        });
+    }
+
+    @Benchmark
+    public CompletionList complete() {
+
+        return languageService.doComplete(document, completionPosition, sharedSettings);
+    }
+
+    private static class SettingsSaveContext extends AbstractSaveContext {
+
+        SettingsSaveContext(Object settings) {
+
+            super(settings);
+        }
+
+        @Override
+        public DOMDocument getDocument(String uri) {
+
+            return null;
+        }
+
+        @Override
+        public void collectDocumentToValidate(Predicate<DOMDocument> validateDocumentPredicate) {
+
+        }
+    }
+}
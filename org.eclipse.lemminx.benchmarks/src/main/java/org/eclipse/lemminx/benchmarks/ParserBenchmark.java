@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.benchmarks;
+
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeGenerator;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.dom.parser.Scanner;
+import org.eclipse.lemminx.dom.parser.TokenType;
+import org.eclipse.lemminx.dom.parser.XMLScanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of scanning and parsing a Synapse API and building its syntax tree.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int resources;
+
+    private String content;
+    private TextDocument textDocument;
+    private DOMDocument document;
+
+    @Setup
+    public void setUp() {
+
+        content = SynapseArtifacts.api(resources);
+        textDocument = new TextDocument(content, "file:///benchmark/" + SynapseArtifacts.API_NAME + ".xml");
+        document = DOMParser.getInstance().parse(textDocument, null);
+    }
+
+    @Benchmark
+    public int scan() {
+
+        Scanner scanner = XMLScanner.createScanner(content);
+        int tokens = 0;
+        TokenType token = scanner.scan();
+        while (token != TokenType.EOS) {
+            tokens++;
+            token = scanner.scan();
+        }
+        return tokens;
+    }
+
+    @Benchmark
+    public DOMDocument parse() {
+
+        return DOMParser.getInstance().parse(textDocument, null);
+    }
+
+    @Benchmark
+    public STNode buildSyntaxTree() {
+
+        return SyntaxTreeGenerator.buildTree(document.getDocumentElement());
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Generates an integration project of a given size.
+ * <p>
+ * The project contains APIs, sequences, endpoints, local entry connections, registry resources and data services in
+ * the layout of a {@code src/main/wso2mi} project. The cross-reference density is the probability of a mediator
+ * referring another artifact, so that the dependency scanning and resource lookups work on a realistic graph. The
+ * same seed always generates the same project.
+ * <p>
+ * Usage: {@code ProjectGenerator <target folder> [--artifacts <count>] [--density <0..1>] [--seed <seed>]}
+ */
+public class ProjectGenerator {
+
+    private static final String SYNAPSE_NAMESPACE = "http://ws.apache.org/ns/synapse";
+
+    private final int apis;
+    private final int sequences;
+    private final int endpoints;
+    private final int connections;
+    private final int registryResources;
+    private final int dataServices;
+    private final double density;
+    private final Random random;
+
+    /**
+     * Creates a generator.
+     *
+     * @param artifacts total number of artifacts
+     * @param density   probability of a mediator referring another artifact
+     * @param seed      seed of the generated references
+     */
+    public ProjectGenerator(int artifacts, double density, long seed) {
+
+        this.sequences = Math.max(1, artifacts * 30 / 100);
+        this.endpoints = Math.max(1, artifacts * 15 / 100);
+        this.registryResources = Math.max(1, artifacts * 15 / 100);
+        this.connections = Math.max(1, artifacts / 10);
+        this.dataServices = Math.max(1, artifacts / 10);
+        this.apis = Math.max(1, artifacts - sequences - endpoints - registryResources - connections - dataServices);
+        this.density = density;
+        this.random = new Random(seed);
+    }
+
+    public static void main(String[] args) throws IOException {
+
+        if (args.length == 0) {
+            System.err.println("Usage: ProjectGenerator <target folder> [--artifacts <count>] [--density <0..1>] " +
+                    "[--seed <seed>]");
+            System.exit(1);
+        }
+        int artifacts = 3000;
+        double density = 0.3;
+        long seed = 42;
+        for (int i = 1; i < args.length - 1; i += 2) {
+            switch (args[i]) {
+                case "--artifacts":
+                    artifacts = Integer.parseInt(args[i + 1]);
+                    break;
+                case "--density":
+                    density = Double.parseDouble(args[i + 1]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[i + 1]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        ProjectGenerator generator = new ProjectGenerator(artifacts, density, seed);
+        Path project = generator.generate(Path.of(args[0]));
+        System.out.println("Generated " + generator.getArtifactCount() + " artifacts in " + project.toAbsolutePath());
+    }
+
+    /**
+     * Returns the number of generated artifacts. Every artifact type gets at least one artifact, hence it can be more
+     * than the requested number of artifacts for a small project.
+     *
+     * @return the number of generated artifacts
+     */
+    public int getArtifactCount() {
+
+        return apis + sequences + endpoints + connections + registryResources + dataServices;
+    }
+
+    /**
+     * Writes the project into the given folder.
+     *
+     * @param projectRoot root folder of the project
+     * @return the root folder of the project
+     * @throws IOException if the project could not be written
+     */
+    public Path generate(Path projectRoot) throws IOException {
+
+        String projectName = projectRoot.getFileName().toString();
+        Files.createDirectories(projectRoot);
+        Files.writeString(projectRoot.resolve("pom.xml"), pom(projectName));
+
+        Path artifacts = projectRoot.resolve(Path.of("src", "main", "wso2mi", "artifacts"));
+        Path registry = projectRoot.resolve(Path.of("src", "main", "wso2mi", "resources", "registry", "gov",
+                "transforms"));
+        write(artifacts.resolve("apis"), "API_", apis, this::api, ".xml");
+        write(artifacts.resolve("sequences"), "Sequence_", sequences, this::sequence, ".xml");
+        write(artifacts.resolve("endpoints"), "Endpoint_", endpoints, this::endpoint, ".xml");
+        write(artifacts.resolve("local-entries"), "Connection_", connections, this::connection, ".xml");
+        write(artifacts.resolve("data-services"), "DataService_", dataServices, this::dataService, ".dbs");
+        write(registry, "transform_", registryResources, this::xslt, ".xslt");
+        Files.createDirectories(projectRoot.resolve(Path.of("src", "main", "wso2mi", "resources", "metadata")));
+        return projectRoot;
+    }
+
+    private void write(Path folder, String prefix, int count, ArtifactWriter writer, String extension)
+            throws IOException {
+
+        Files.createDirectories(folder);
+        for (int i = 0; i < count; i++) {
+            Files.writeString(folder.resolve(prefix + i + extension), writer.write(i));
+        }
+    }
+
+    private String pom(String projectName) {
+
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n" +
+                "  <modelVersion>4.0.0</modelVersion>\n" +
+                "  <groupId>com.example</groupId>\n" +
+                "  <artifactId>" + projectName + "</artifactId>\n" +
+                "  <version>1.0.0</version>\n" +
+                "  <packaging>pom</packaging>\n" +
+                "  <name>" + projectName + "</name>\n" +
+                "  <properties>\n" +
+                "    <project.runtime.version>4.4.0</project.runtime.version>\n" +
+                "  </properties>\n" +
+                "  <build>\n" +
+                "    <plugins>\n" +
+                "      <plugin>\n" +
+                "        <groupId>org.wso2.maven</groupId>\n" +
+                "        <artifactId>vscode-car-plugin</artifactId>\n" +
+                "        <version>5.2.90</version>\n" +
+                "        <extensions>true</extensions>\n" +
+                "      </plugin>\n" +
+                "    </plugins>\n" +
+                "  </build>\n" +
+                "</project>\n";
+    }
+
+    private String api(int index) {
+
+        StringBuilder api = new StringBuilder();
+        api.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<api xmlns=\"").append(SYNAPSE_NAMESPACE).append("\" name=\"API_").append(index)
+                .append("\" context=\"/api").append(index).append("\">\n");
+        for (int resource = 0; resource < 3; resource++) {
+            api.append("    <resource methods=\"GET POST\" uri-template=\"/items").append(resource)
+                    .append("/{id}\">\n")
+                    .append("        <inSequence>\n")
+                    .append("            <log category=\"INFO\">\n")
+                    .append("                <message>Request ${params.pathParams.id}</message>\n")
+                    .append("            </log>\n")
+                    .append("            <variable name=\"id\" type=\"STRING\" ")
+                    .append("expression=\"${params.pathParams.id}\"/>\n");
+            if (isReferred()) {
+                api.append("            <sequence key=\"Sequence_").append(random.nextInt(sequences)).append("\"/>\n");
+            }
+            if (isReferred()) {
+                api.append("            <xslt key=\"gov:transforms/transform_")
+                        .append(random.nextInt(registryResources)).append(".xslt\"/>\n");
+            }
+            if (isReferred()) {
+                api.append("            <http.get configKey=\"Connection_").append(random.nextInt(connections))
+                        .append("\">\n")
+                        .append("                <relativePath>/items/${vars.id}</relativePath>\n")
+                        .append("                <headers>[]</headers>\n")
+                        .append("                <responseVariable>http_get_").append(resource)
+                        .append("</responseVariable>\n")
+                        .append("                <overwriteBody>true</overwriteBody>\n")
+                        .append("            </http.get>\n");
+            } else {
+                api.append("            <call>\n")
+                        .append("                <endpoint key=\"Endpoint_").append(random.nextInt(endpoints))
+                        .append("\"/>\n")
+                        .append("            </call>\n");
+            }
+            api.append("            <respond/>\n")
+                    .append("        </inSequence>\n")
+                    .append("        <faultSequence>\n")
+                    .append("        </faultSequence>\n")
+                    .append("    </resource>\n");
+        }
+        api.append("</api>\n");
+        return api.toString();
+    }
+
+    private String sequence(int index) {
+
+        StringBuilder sequence = new StringBuilder();
+        sequence.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<sequence xmlns=\"").append(SYNAPSE_NAMESPACE).append("\" name=\"Sequence_").append(index)
+                .append("\" trace=\"disable\">\n");
+        for (int i = 0; i < 5; i++) {
+            sequence.append("    <variable name=\"value").append(i)
+                    .append("\" type=\"STRING\" expression=\"${payload.value").append(i).append("}\"/>\n");
+        }
+        // Refer only the previous sequences, so that the flows do not have cycles
+        if (index > 0 && isReferred()) {
+            sequence.append("    <sequence key=\"Sequence_").append(random.nextInt(index)).append("\"/>\n");
+        }
+        if (isReferred()) {
+            sequence.append("    <call>\n")
+                    .append("        <endpoint key=\"Endpoint_").append(random.nextInt(endpoints)).append("\"/>\n")
+                    .append("    </call>\n");
+        }
+        sequence.append("</sequence>\n");
+        return sequence.toString();
+    }
+
+    private String endpoint(int index) {
+
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<endpoint xmlns=\"" + SYNAPSE_NAMESPACE + "\" name=\"Endpoint_" + index + "\">\n" +
+                "    <http method=\"get\" uri-template=\"http://localhost:9090/service" + index + "\">\n" +
+                "        <suspendOnFailure>\n" +
+                "            <initialDuration>-1</initialDuration>\n" +
+                "            <progressionFactor>1</progressionFactor>\n" +
+                "        </suspendOnFailure>\n" +
+                "        <markForSuspension>\n" +
+                "            <retriesBeforeSuspension>0</retriesBeforeSuspension>\n" +
+                "        </markForSuspension>\n" +
+                "    </http>\n" +
+                "</endpoint>\n";
+    }
+
+    private String connection(int index) {
+
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<localEntry xmlns=\"" + SYNAPSE_NAMESPACE + "\" key=\"Connection_" + index + "\">\n" +
+                "    <http.init>\n" +
+                "        <connectionType>HTTP</connectionType>\n" +
+                "        <name>Connection_" + index + "</name>\n" +
+                "        <baseUrl>http://localhost:" + (9000 + index % 1000) + "</baseUrl>\n" +
+                "        <authType>None</authType>\n" +
+                "    </http.init>\n" +
+                "</localEntry>\n";
+    }
+
+    private String dataService(int index) {
+
+        return "<data name=\"DataService_" + index + "\" serviceNamespace=\"\" transports=\"http https\">\n" +
+                "    <config id=\"default\">\n" +
+                "        <property name=\"driverClassName\">org.h2.Driver</property>\n" +
+                "        <property name=\"url\">jdbc:h2:mem:service" + index + "</property>\n" +
+                "        <property name=\"username\">sa</property>\n" +
+                "        <property name=\"password\"></property>\n" +
+                "    </config>\n" +
+                "    <query id=\"select_item\" useConfig=\"default\">\n" +
+                "        <sql>SELECT id, name FROM items WHERE id = ?</sql>\n" +
+                "        <param name=\"id\" sqlType=\"INTEGER\"/>\n" +
+                "        <result element=\"items\" rowName=\"item\">\n" +
+                "            <element column=\"id\" name=\"id\" xsdType=\"integer\"/>\n" +
+                "            <element column=\"name\" name=\"name\" xsdType=\"string\"/>\n" +
+                "        </result>\n" +
+                "    </query>\n" +
+                "    <resource method=\"GET\" path=\"/items/{id}\">\n" +
+                "        <call-query href=\"select_item\">\n" +
+                "            <with-param name=\"id\" query-param=\"id\"/>\n" +
+                "        </call-query>\n" +
+                "    </resource>\n" +
+                "</data>\n";
+    }
+
+    private String xslt(int index) {
+
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<xsl:stylesheet version=\"1.0\" xmlns:xsl=\"http://www.w3.org/1999/XSL/Transform\">\n" +
+                "    <xsl:template match=\"/\">\n" +
+                "        <transformed index=\"" + index + "\">\n" +
+                "            <xsl:copy-of select=\".\"/>\n" +
+                "        </transformed>\n" +
+                "    </xsl:template>\n" +
+                "</xsl:stylesheet>\n";
+    }
+
+    private boolean isReferred() {
+
+        return random.nextDouble() < density;
+    }
+
+    private interface ArtifactWriter {
+
+        String write(int index);
+    }
+}
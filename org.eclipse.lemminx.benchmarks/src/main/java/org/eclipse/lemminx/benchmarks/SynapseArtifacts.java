@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Generates synthetic Synapse artifacts of a given size for the benchmarks.
+ */
+public final class SynapseArtifacts {
+
+    public static final String API_NAME = "BenchmarkAPI";
+    public static final String COMPLETION_MARKER = "<respond/>";
+    private static final String SYNAPSE_NAMESPACE = "http://ws.apache.org/ns/synapse";
+    private static final int SEQUENCE_COUNT = 10;
+
+    private SynapseArtifacts() {
+
+    }
+
+    /**
+     * Generates an API with the given number of resources. Each resource calls one of the generated sequences.
+     *
+     * @param resources number of resources
+     * @return the API configuration
+     */
+    public static String api(int resources) {
+
+        StringBuilder api = new StringBuilder();
+        api.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<api xmlns=\"").append(SYNAPSE_NAMESPACE).append("\" name=\"").append(API_NAME)
+                .append("\" context=\"/benchmark\">\n");
+        for (int i = 0; i < resources; i++) {
+            api.append("    <resource methods=\"GET POST\" uri-template=\"/resource").append(i).append("/{id}\">\n")
+                    .append("        <inSequence>\n")
+                    .append("            <log category=\"INFO\">\n")
+                    .append("                <message>Request ${params.pathParams.id}</message>\n")
+                    .append("            </log>\n")
+                    .append("            <variable name=\"id").append(i)
+                    .append("\" type=\"STRING\" expression=\"${params.pathParams.id}\"/>\n")
+                    .append("            <filter xpath=\"${payload.enabled == true}\">\n")
+                    .append("                <then>\n")
+                    .append("                    <sequence key=\"").append(sequenceName(i % SEQUENCE_COUNT))
+                    .append("\"/>\n")
+                    .append("                </then>\n")
+                    .append("                <else>\n")
+                    .append("                    <drop/>\n")
+                    .append("                </else>\n")
+                    .append("            </filter>\n")
+                    .append("            <payloadFactory media-type=\"json\" template-type=\"default\">\n")
+                    .append("                <format>{\"id\": \"${vars.id").append(i).append("}\"}</format>\n")
+                    .append("            </payloadFactory>\n")
+                    .append("            ").append(COMPLETION_MARKER).append("\n")
+                    .append("        </inSequence>\n")
+                    .append("        <faultSequence>\n")
+                    .append("        </faultSequence>\n")
+                    .append("    </resource>\n");
+        }
+        api.append("</api>\n");
+        return api.toString();
+    }
+
+    /**
+     * Generates a sequence with the given number of mediators.
+     *
+     * @param name      sequence name
+     * @param mediators number of mediators
+     * @return the sequence configuration
+     */
+    public static String sequence(String name, int mediators) {
+
+        StringBuilder sequence = new StringBuilder();
+        sequence.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<sequence xmlns=\"").append(SYNAPSE_NAMESPACE).append("\" name=\"").append(name)
+                .append("\" trace=\"disable\">\n");
+        for (int i = 0; i < mediators; i++) {
+            sequence.append("    <property name=\"property").append(i)
+                    .append("\" scope=\"default\" type=\"STRING\" expression=\"${payload.value").append(i)
+                    .append("}\"/>\n");
+        }
+        sequence.append("</sequence>\n");
+        return sequence.toString();
+    }
+
+    /**
+     * Generates a WSDL 1.1 definition of a SOAP service with the given number of operations. Each operation has its
+     * own request and response messages and elements.
+     *
+     * @param operations number of operations
+     * @return the WSDL definition
+     */
+    public static String wsdl(int operations) {
+
+        StringBuilder types = new StringBuilder();
+        StringBuilder messages = new StringBuilder();
+        StringBuilder portType = new StringBuilder();
+        StringBuilder binding = new StringBuilder();
+        for (int i = 0; i < operations; i++) {
+            String operation = "operation" + i;
+            types.append("            <xs:element name=\"").append(operation).append("Request\">\n")
+                    .append("                <xs:complexType><xs:sequence>\n")
+                    .append("                    <xs:element name=\"id\" type=\"xs:string\"/>\n")
+                    .append("                    <xs:element name=\"amount\" type=\"xs:decimal\"/>\n")
+                    .append("                </xs:sequence></xs:complexType>\n")
+                    .append("            </xs:element>\n")
+                    .append("            <xs:element name=\"").append(operation)
+                    .append("Response\" type=\"xs:string\"/>\n");
+            messages.append("    <wsdl:message name=\"").append(operation).append("Request\">\n")
+                    .append("        <wsdl:part name=\"parameters\" element=\"tns:").append(operation)
+                    .append("Request\"/>\n")
+                    .append("    </wsdl:message>\n")
+                    .append("    <wsdl:message name=\"").append(operation).append("Response\">\n")
+                    .append("        <wsdl:part name=\"parameters\" element=\"tns:").append(operation)
+                    .append("Response\"/>\n")
+                    .append("    </wsdl:message>\n");
+            portType.append("        <wsdl:operation name=\"").append(operation).append("\">\n")
+                    .append("            <wsdl:documentation>Operation ").append(i).append("</wsdl:documentation>\n")
+                    .append("            <wsdl:input message=\"tns:").append(operation).append("Request\"/>\n")
+                    .append("            <wsdl:output message=\"tns:").append(operation).append("Response\"/>\n")
+                    .append("        </wsdl:operation>\n");
+            binding.append("        <wsdl:operation name=\"").append(operation).append("\">\n")
+                    .append("            <soap:operation soapAction=\"urn:").append(operation)
+                    .append("\" style=\"document\"/>\n")
+                    .append("            <wsdl:input><soap:body use=\"literal\"/></wsdl:input>\n")
+                    .append("            <wsdl:output><soap:body use=\"literal\"/></wsdl:output>\n")
+                    .append("        </wsdl:operation>\n");
+        }
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<wsdl:definitions xmlns:wsdl=\"http://schemas.xmlsoap.org/wsdl/\" " +
+                "xmlns:soap=\"http://schemas.xmlsoap.org/wsdl/soap/\" " +
+                "xmlns:xs=\"http://www.w3.org/2001/XMLSchema\" xmlns:tns=\"http://benchmark.wso2.org\" " +
+                "name=\"BenchmarkService\" targetNamespace=\"http://benchmark.wso2.org\">\n" +
+                "    <wsdl:types>\n" +
+                "        <xs:schema elementFormDefault=\"qualified\" targetNamespace=\"http://benchmark.wso2.org\">\n" +
+                types +
+                "        </xs:schema>\n" +
+                "    </wsdl:types>\n" +
+                messages +
+                "    <wsdl:portType name=\"BenchmarkPortType\">\n" + portType + "    </wsdl:portType>\n" +
+                "    <wsdl:binding name=\"BenchmarkBinding\" type=\"tns:BenchmarkPortType\">\n" +
+                "        <soap:binding transport=\"http://schemas.xmlsoap.org/soap/http\" style=\"document\"/>\n" +
+                binding +
+                "    </wsdl:binding>\n" +
+                "    <wsdl:service name=\"BenchmarkService\">\n" +
+                "        <wsdl:port name=\"BenchmarkPort\" binding=\"tns:BenchmarkBinding\">\n" +
+                "            <soap:address location=\"http://localhost:8290/services/BenchmarkService\"/>\n" +
+                "        </wsdl:port>\n" +
+                "    </wsdl:service>\n" +
+                "</wsdl:definitions>\n";
+    }
+
+    /**
+     * Generates a data service with the given number of queries. Each query has an operation and a resource which
+     * call it.
+     *
+     * @param queries number of queries
+     * @return the data service configuration
+     */
+    public static String dataService(int queries) {
+
+        StringBuilder dataService = new StringBuilder();
+        dataService.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<data name=\"BenchmarkDataService\" serviceNamespace=\"http://benchmark.wso2.org\" ")
+                .append("transports=\"http https\">\n")
+                .append("    <description>Benchmark data service</description>\n")
+                .append("    <config id=\"BenchmarkDataSource\">\n")
+                .append("        <property name=\"driverClassName\">com.mysql.jdbc.Driver</property>\n")
+                .append("        <property name=\"url\">jdbc:mysql://localhost:3306/benchmark</property>\n")
+                .append("        <property name=\"username\">admin</property>\n")
+                .append("        <property name=\"password\">admin</property>\n")
+                .append("    </config>\n");
+        for (int i = 0; i < queries; i++) {
+            dataService.append("    <query id=\"query").append(i).append("\" useConfig=\"BenchmarkDataSource\">\n")
+                    .append("        <sql>SELECT id, name, amount FROM table").append(i)
+                    .append(" WHERE id = ? AND name = ?</sql>\n")
+                    .append("        <result element=\"Entries\" rowName=\"Entry\">\n")
+                    .append("            <element column=\"id\" name=\"id\" xsdType=\"string\"/>\n")
+                    .append("            <element column=\"name\" name=\"name\" xsdType=\"string\"/>\n")
+                    .append("            <element column=\"amount\" name=\"amount\" xsdType=\"decimal\"/>\n")
+                    .append("        </result>\n")
+                    .append("        <param name=\"id\" sqlType=\"STRING\"/>\n")
+                    .append("        <param name=\"name\" sqlType=\"STRING\"/>\n")
+                    .append("    </query>\n");
+        }
+        for (int i = 0; i < queries; i++) {
+            dataService.append("    <operation name=\"operation").append(i).append("\">\n")
+                    .append("        <call-query href=\"query").append(i).append("\">\n")
+                    .append("            <with-param name=\"id\" query-param=\"id\"/>\n")
+                    .append("            <with-param name=\"name\" query-param=\"name\"/>\n")
+                    .append("        </call-query>\n")
+                    .append("    </operation>\n")
+                    .append("    <resource method=\"GET\" path=\"entries").append(i).append("/{id}\">\n")
+                    .append("        <call-query href=\"query").append(i).append("\">\n")
+                    .append("            <with-param name=\"id\" query-param=\"id\"/>\n")
+                    .append("            <with-param name=\"name\" query-param=\"name\"/>\n")
+                    .append("        </call-query>\n")
+                    .append("    </resource>\n");
+        }
+        dataService.append("</data>\n");
+        return dataService.toString();
+    }
+
+    /**
+     * Writes an integration project with the generated API and the sequences it refers.
+     *
+     * @param projectRoot root folder of the project
+     * @param resources   number of resources of the API
+     * @return the path of the API file
+     * @throws IOException if the project could not be written
+     */
+    public static Path writeProject(Path projectRoot, int resources) throws IOException {
+
+        Path artifacts = projectRoot.resolve(Path.of("src", "main", "wso2mi", "artifacts"));
+        Path apis = Files.createDirectories(artifacts.resolve("apis"));
+        Path sequences = Files.createDirectories(artifacts.resolve("sequences"));
+        for (int i = 0; i < SEQUENCE_COUNT; i++) {
+            Files.writeString(sequences.resolve(sequenceName(i) + ".xml"), sequence(sequenceName(i), 10));
+        }
+        Path apiFile = apis.resolve(API_NAME + ".xml");
+        Files.writeString(apiFile, api(resources));
+        return apiFile;
+    }
+
+    /**
+     * Deletes a folder created for the benchmarks.
+     *
+     * @param folder folder to delete
+     * @throws IOException if the folder could not be deleted
+     */
+    public static void delete(Path folder) throws IOException {
+
+        if (folder == null || !Files.exists(folder)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(folder)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static String sequenceName(int index) {
+
+        return "BenchmarkSequence" + index;
+    }
+}
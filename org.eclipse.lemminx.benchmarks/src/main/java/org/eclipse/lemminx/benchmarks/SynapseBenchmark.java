@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.benchmarks;
+
+import org.eclipse.lemminx.customservice.synapse.dependency.tree.DependencyScanner;
+import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.DependencyTree;
+import org.eclipse.lemminx.customservice.synapse.expression.ExpressionValidator;
+import org.eclipse.lemminx.customservice.synapse.expression.pojo.ExpressionError;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the Synapse expression validation and of the dependency scanning of an integration project.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SynapseBenchmark {
+
+    private static final String[] EXPRESSIONS = {
+            "payload.name",
+            "vars.count + 1",
+            "payload.orders[?(@.price > 10)].id",
+            "length(payload.items) > 0 ? payload.items[0] : \"none\"",
+            "toUpper(params.queryParams.type) == \"JSON\" && exists(headers[\"Content-Type\"])",
+            "xpath(\"//order/id\")",
+            "payload.name +"
+    };
+
+    @Param({"10", "100", "1000"})
+    public int resources;
+
+    private Path projectRoot;
+    private String apiPath;
+
+    @Setup
+    public void setUp() throws Exception {
+
+        projectRoot = Files.createTempDirectory("synapse-project");
+        apiPath = SynapseArtifacts.writeProject(projectRoot, resources).toString();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+
+        SynapseArtifacts.delete(projectRoot);
+    }
+
+    @Benchmark
+    public void validateExpressions(Blackhole blackhole) {
+
+        for (String expression : EXPRESSIONS) {
+            List<ExpressionError> errors = ExpressionValidator.validate(expression);
+            blackhole.consume(errors);
+        }
+    }
+
+    @Benchmark
+    public DependencyTree scanDependencies() {
+
+        return new DependencyScanner(projectRoot.toString()).analyzeArtifact(apiPath);
+    }
+}
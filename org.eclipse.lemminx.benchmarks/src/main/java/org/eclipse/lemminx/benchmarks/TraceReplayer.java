@@ -0,0 +1,412 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import org.eclipse.lemminx.XMLServerLauncher;
+import org.eclipse.lemminx.customservice.synapse.performance.LatencyHistogram;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Replays a recorded JSON-RPC trace against an in-process language server and reports the latency of each method
+ * and the heap usage of the server.
+ * <p>
+ * The trace is a JSON lines file of JSON-RPC messages in the order they are sent by the editor. A message with an
+ * {@code id} is sent as a request, and the other messages are sent as notifications. A message can have a
+ * {@code delayMs} member to wait before sending it, so that bursts and pauses of the editor are reproduced. The
+ * following placeholders are replaced in the trace:
+ * <ul>
+ *     <li>{@code ${projectPath}}: path of the project</li>
+ *     <li>{@code ${projectUri}}: URI of the project</li>
+ *     <li>{@code ${content:<relative path>}}: content of a file of the project</li>
+ * </ul>
+ * The server is initialized with the project before the trace is replayed, unless the trace starts with its own
+ * {@code initialize} request. The requests of the server to the client are answered with empty results.
+ * <p>
+ * Usage: {@code TraceReplayer <trace.jsonl> <project folder> [--speed <factor>] [--repeat <count>]}. The bundled
+ * {@code traces/edit-session.jsonl} trace is replayed when the trace is {@code -}, against a project generated with
+ * {@link ProjectGenerator}.
+ */
+public class TraceReplayer {
+
+    private static final String BUNDLED_TRACE = "/traces/edit-session.jsonl";
+    private static final Pattern CONTENT_PLACEHOLDER = Pattern.compile("\\$\\{content:([^}]+)}");
+    private static final long RESPONSE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(2);
+
+    private final Path projectRoot;
+    private final double speed;
+    private final AtomicInteger nextId = new AtomicInteger();
+    private final Map<Integer, PendingRequest> pendingRequests = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> errors = new ConcurrentHashMap<>();
+    private final Map<String, String> errorMessages = new ConcurrentHashMap<>();
+    private final AtomicLong peakHeap = new AtomicLong();
+    private OutputStream serverInput;
+
+    public TraceReplayer(Path projectRoot, double speed) {
+
+        this.projectRoot = projectRoot.toAbsolutePath();
+        this.speed = speed;
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        if (args.length < 2) {
+            System.err.println("Usage: TraceReplayer <trace.jsonl | -> <project folder> [--speed <factor>] " +
+                    "[--repeat <count>]");
+            System.exit(1);
+        }
+        double speed = 1;
+        int repeat = 1;
+        for (int i = 2; i < args.length - 1; i += 2) {
+            switch (args[i]) {
+                case "--speed":
+                    speed = Double.parseDouble(args[i + 1]);
+                    break;
+                case "--repeat":
+                    repeat = Integer.parseInt(args[i + 1]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        Path projectRoot = Path.of(args[1]);
+        List<String> trace;
+        if ("-".equals(args[0])) {
+            if (!Files.exists(projectRoot.resolve("pom.xml"))) {
+                new ProjectGenerator(3000, 0.3, 42).generate(projectRoot);
+            }
+            try (InputStream in = TraceReplayer.class.getResourceAsStream(BUNDLED_TRACE)) {
+                trace = List.of(new String(in.readAllBytes(), StandardCharsets.UTF_8).split("\\R"));
+            }
+        } else {
+            trace = Files.readAllLines(Path.of(args[0]));
+        }
+        TraceReplayer replayer = new TraceReplayer(projectRoot, speed);
+        System.out.println(replayer.replay(trace, repeat));
+        System.exit(0);
+    }
+
+    /**
+     * Starts the language server and replays the given trace.
+     *
+     * @param trace  lines of the trace
+     * @param repeat number of times to replay the trace
+     * @return the report of the replay
+     * @throws Exception if the trace could not be replayed
+     */
+    public String replay(List<String> trace, int repeat) throws Exception {
+
+        System.setProperty("watchParentProcess", "false");
+        ScheduledExecutorService heapSampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "heap-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heapSampler.scheduleAtFixedRate(() -> peakHeap.accumulateAndGet(getUsedHeap(), Math::max), 0, 50,
+                TimeUnit.MILLISECONDS);
+        Path workingFolder = Files.createTempDirectory("mi-trace-replay");
+        long start = System.currentTimeMillis();
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+             Socket client = new Socket(serverSocket.getInetAddress(), serverSocket.getLocalPort());
+             Socket server = serverSocket.accept()) {
+            XMLServerLauncher.launch(server.getInputStream(), server.getOutputStream());
+            serverInput = client.getOutputStream();
+            Thread reader = new Thread(() -> readMessages(client), "trace-reader");
+            reader.setDaemon(true);
+            reader.start();
+
+            boolean customInitialize = !trace.isEmpty() && trace.get(0).contains("\"initialize\"");
+            if (!customInitialize) {
+                send(createRequest("initialize", createInitializeParams(workingFolder)));
+                awaitResponses();
+                send(createNotification("initialized", new JsonObject()));
+            }
+            for (int i = 0; i < repeat; i++) {
+                for (String line : trace) {
+                    if (!line.isBlank()) {
+                        replayMessage(line);
+                    }
+                }
+            }
+            awaitResponses();
+            long duration = System.currentTimeMillis() - start;
+            System.gc();
+            long heapAfterGc = getUsedHeap();
+            // The exit notification is not sent, since the server would terminate the JVM of the replayer
+            send(createRequest("shutdown", JsonNull.INSTANCE));
+            awaitResponses();
+            return createReport(duration, heapAfterGc);
+        } finally {
+            heapSampler.shutdownNow();
+            SynapseArtifacts.delete(workingFolder);
+        }
+    }
+
+    private void replayMessage(String line) throws IOException, InterruptedException {
+
+        JsonObject message = JsonParser.parseString(resolvePlaceholders(line)).getAsJsonObject();
+        JsonElement delay = message.remove("delayMs");
+        if (delay != null && delay.getAsLong() > 0) {
+            Thread.sleep((long) (delay.getAsLong() / speed));
+        }
+        message.addProperty("jsonrpc", "2.0");
+        if (message.has("id")) {
+            message.add("id", new JsonPrimitive(registerRequest(message.get("method").getAsString())));
+        }
+        send(message);
+    }
+
+    private String resolvePlaceholders(String line) throws IOException {
+
+        String resolved = line.replace("${projectPath}", escape(projectRoot.toString()))
+                .replace("${projectUri}", escape(projectRoot.toUri().toString().replaceAll("/$", "")));
+        Matcher matcher = CONTENT_PLACEHOLDER.matcher(resolved);
+        StringBuilder result = new StringBuilder();
+        while (matcher.find()) {
+            String content = Files.readString(projectRoot.resolve(matcher.group(1)));
+            matcher.appendReplacement(result, Matcher.quoteReplacement(escape(content)));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    private static String escape(String value) {
+
+        String json = new JsonPrimitive(value).toString();
+        return json.substring(1, json.length() - 1);
+    }
+
+    private JsonObject createInitializeParams(Path workingFolder) {
+
+        // The trace does not try out mediators, so the MI server path does not need to be a server installation
+        JsonObject xmlSettings = new JsonObject();
+        xmlSettings.addProperty("extensionPath", workingFolder.toString());
+        xmlSettings.addProperty("miServerPath", workingFolder.resolve("micro-integrator").toString());
+        JsonObject settings = new JsonObject();
+        settings.add("xml", xmlSettings);
+        JsonObject initializationOptions = new JsonObject();
+        initializationOptions.add("settings", settings);
+        JsonObject params = new JsonObject();
+        params.add("processId", JsonNull.INSTANCE);
+        params.addProperty("rootPath", projectRoot.toString());
+        params.addProperty("rootUri", projectRoot.toUri().toString());
+        params.add("capabilities", new JsonObject());
+        params.add("initializationOptions", initializationOptions);
+        return params;
+    }
+
+    private JsonObject createRequest(String method, JsonElement params) {
+
+        JsonObject request = createNotification(method, params);
+        request.addProperty("id", registerRequest(method));
+        return request;
+    }
+
+    private JsonObject createNotification(String method, JsonElement params) {
+
+        JsonObject notification = new JsonObject();
+        notification.addProperty("jsonrpc", "2.0");
+        notification.addProperty("method", method);
+        notification.add("params", params);
+        return notification;
+    }
+
+    private int registerRequest(String method) {
+
+        int id = nextId.incrementAndGet();
+        pendingRequests.put(id, new PendingRequest(method, System.nanoTime()));
+        return id;
+    }
+
+    private synchronized void send(JsonObject message) throws IOException {
+
+        byte[] content = message.toString().getBytes(StandardCharsets.UTF_8);
+        serverInput.write(("Content-Length: " + content.length + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        serverInput.write(content);
+        serverInput.flush();
+    }
+
+    private void readMessages(Socket client) {
+
+        try (InputStream in = new BufferedInputStream(client.getInputStream())) {
+            while (true) {
+                int contentLength = readContentLength(in);
+                if (contentLength < 0) {
+                    return;
+                }
+                byte[] content = in.readNBytes(contentLength);
+                handleMessage(JsonParser.parseString(new String(content, StandardCharsets.UTF_8)).getAsJsonObject());
+            }
+        } catch (IOException e) {
+            // The server closed the connection
+        }
+    }
+
+    private static int readContentLength(InputStream in) throws IOException {
+
+        int contentLength = -1;
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        int c;
+        while ((c = in.read()) != -1) {
+            if (c == '\n') {
+                String line = header.toString(StandardCharsets.US_ASCII).trim();
+                header.reset();
+                if (line.isEmpty()) {
+                    return contentLength;
+                }
+                if (line.toLowerCase().startsWith("content-length:")) {
+                    contentLength = Integer.parseInt(line.substring("content-length:".length()).trim());
+                }
+            } else {
+                header.write(c);
+            }
+        }
+        return -1;
+    }
+
+    private void handleMessage(JsonObject message) throws IOException {
+
+        if (message.has("method")) {
+            if (message.has("id")) {
+                // Request of the server to the client
+                JsonObject response = new JsonObject();
+                response.addProperty("jsonrpc", "2.0");
+                response.add("id", message.get("id"));
+                response.add("result", getClientResult(message));
+                send(response);
+            }
+            return;
+        }
+        JsonElement id = message.get("id");
+        if (id == null || !id.isJsonPrimitive() || !id.getAsJsonPrimitive().isNumber()) {
+            return;
+        }
+        PendingRequest request = pendingRequests.remove(id.getAsInt());
+        if (request == null) {
+            return;
+        }
+        latencies.computeIfAbsent(request.method, key -> new LatencyHistogram())
+                .record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - request.startTime));
+        if (message.has("error")) {
+            errors.computeIfAbsent(request.method, key -> new AtomicInteger()).incrementAndGet();
+            errorMessages.putIfAbsent(request.method, message.getAsJsonObject("error").get("message").getAsString());
+        }
+        synchronized (pendingRequests) {
+            pendingRequests.notifyAll();
+        }
+    }
+
+    private static JsonElement getClientResult(JsonObject request) {
+
+        if ("workspace/configuration".equals(request.get("method").getAsString())) {
+            JsonArray result = new JsonArray();
+            JsonObject params = request.getAsJsonObject("params");
+            JsonArray items = params != null ? params.getAsJsonArray("items") : null;
+            for (int i = 0; items != null && i < items.size(); i++) {
+                result.add(JsonNull.INSTANCE);
+            }
+            return result;
+        }
+        return JsonNull.INSTANCE;
+    }
+
+    private void awaitResponses() throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + RESPONSE_TIMEOUT_MILLIS;
+        synchronized (pendingRequests) {
+            while (!pendingRequests.isEmpty() && System.currentTimeMillis() < deadline) {
+                pendingRequests.wait(100);
+            }
+        }
+    }
+
+    private String createReport(long duration, long heapAfterGc) {
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-45s %7s %7s %10s %10s %10s %10s%n", "Method", "Count", "Errors", "p50 ms",
+                "p95 ms", "p99 ms", "max ms"));
+        Map<String, LatencyHistogram> sorted = new TreeMap<>(latencies);
+        for (Map.Entry<String, LatencyHistogram> entry : sorted.entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            AtomicInteger errorCount = errors.get(entry.getKey());
+            report.append(String.format("%-45s %7d %7d %10.1f %10.1f %10.1f %10.1f%n", entry.getKey(),
+                    histogram.getCount(), errorCount != null ? errorCount.get() : 0,
+                    histogram.getPercentile(50) / 1000.0, histogram.getPercentile(95) / 1000.0,
+                    histogram.getPercentile(99) / 1000.0, histogram.getMax() / 1000.0));
+        }
+        for (Map.Entry<String, String> entry : new TreeMap<>(errorMessages).entrySet()) {
+            report.append(entry.getKey()).append(" failed with: ").append(entry.getValue())
+                    .append(System.lineSeparator());
+        }
+        if (!pendingRequests.isEmpty()) {
+            report.append(pendingRequests.size()).append(" request(s) without a response")
+                    .append(System.lineSeparator());
+        }
+        report.append(String.format("Replayed in %d ms, peak heap %d MB, heap after GC %d MB", duration,
+                toMegabytes(peakHeap.get()), toMegabytes(heapAfterGc)));
+        return report.toString();
+    }
+
+    private static long getUsedHeap() {
+
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long toMegabytes(long bytes) {
+
+        return bytes / (1024 * 1024);
+    }
+
+    private static class PendingRequest {
+
+        private final String method;
+        private final long startTime;
+
+        PendingRequest(String method, long startTime) {
+
+            this.method = method;
+            this.startTime = startTime;
+        }
+    }
+}
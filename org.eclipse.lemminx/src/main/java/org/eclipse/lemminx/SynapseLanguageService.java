@@ -16,6 +16,7 @@ package org.eclipse.lemminx;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import org.eclipse.lemminx.commons.ModelTextDocument;
 import org.eclipse.lemminx.customservice.ISynapseLanguageService;
 import org.eclipse.lemminx.customservice.SynapseLanguageClientAPI;
 import org.eclipse.lemminx.customservice.synapse.CodeDiagnosticRequest;
@@ -76,6 +77,7 @@ import org.eclipse.lemminx.customservice.synapse.parser.DeployPluginDetails;
 import org.eclipse.lemminx.customservice.synapse.parser.DependencyDownloadManager;
 import org.eclipse.lemminx.customservice.synapse.parser.OverviewPage;
 import org.eclipse.lemminx.customservice.synapse.parser.OverviewPageDetailsResponse;
+import org.eclipse.lemminx.customservice.synapse.parser.ProjectMetadataService;
 import org.eclipse.lemminx.customservice.synapse.parser.UpdateConfigRequest;
 import org.eclipse.lemminx.customservice.synapse.parser.UpdateDependencyRequest;
 import org.eclipse.lemminx.customservice.synapse.parser.UpdatePropertyRequest;
@@ -84,6 +86,8 @@ import org.eclipse.lemminx.customservice.synapse.parser.config.ConfigParser;
 import org.eclipse.lemminx.customservice.synapse.parser.config.ConfigurableEntry;
 import org.eclipse.lemminx.customservice.synapse.parser.pom.PomParser;
 import org.eclipse.lemminx.customservice.synapse.parser.ConnectorDownloadManager;
+import org.eclipse.lemminx.customservice.synapse.performance.PerformanceMonitor;
+import org.eclipse.lemminx.customservice.synapse.performance.PerformanceStats;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.AbstractResourceFinder;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.ArtifactFileScanner;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.RegistryFileScanner;
@@ -104,6 +108,7 @@ import org.eclipse.lemminx.customservice.synapse.connectors.ConnectorHolder;
 import org.eclipse.lemminx.customservice.synapse.connectors.AbstractConnectorLoader;
 import org.eclipse.lemminx.customservice.synapse.connectors.SchemaGenerate;
 import org.eclipse.lemminx.customservice.synapse.definition.SynapseDefinitionProvider;
+import org.eclipse.lemminx.customservice.synapse.diagnostics.WorkspaceDiagnosticsScanner;
 import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryMapResponse;
 import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeBuilder;
 import org.eclipse.lemminx.customservice.synapse.driver.DriverDownloadRequest;
@@ -129,6 +134,7 @@ import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationSettings;
 import org.eclipse.lemminx.services.extensions.completion.ICompletionResponse;
 import org.eclipse.lemminx.settings.SharedSettings;
+import org.eclipse.lemminx.telemetry.TelemetryManager;
 import org.eclipse.lemminx.uriresolver.URIResolverExtensionManager;
 import org.eclipse.lsp4j.DefinitionParams;
 import org.eclipse.lsp4j.Diagnostic;
@@ -136,8 +142,11 @@ import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.SignatureHelp;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.TextEdit;
+import org.eclipse.lsp4j.WorkspaceDiagnosticParams;
+import org.eclipse.lsp4j.WorkspaceDiagnosticReport;
 import org.eclipse.lsp4j.WorkspaceFolder;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.jsonrpc.messages.Either3;
 import org.wso2.mi.tool.connector.tools.generator.grpc.GRPCConnectorGenerator;
@@ -197,8 +206,10 @@ public class SynapseLanguageService implements ISynapseLanguageService {
         this.connectorHolder = ConnectorHolder.getInstance();
         this.inboundConnectorHolder = new InboundConnectorHolder();
         mediatorHandler = new MediatorHandler();
+        mediatorHandler.setOpenDocumentProvider(this::getOpenDocument);
         connectionHandler = new ConnectionHandler();
         this.dynamicFieldsHandler = new DynamicFieldsHandler();
+        TelemetryManager.setPerformanceListener(PerformanceMonitor.getInstance());
     }
 
     public void init(String projectUri, Object settings, SynapseLanguageClientAPI languageClient) {
@@ -232,6 +243,16 @@ public class SynapseLanguageService implements ISynapseLanguageService {
         }
     }
 
+    private DOMDocument getOpenDocument(String documentPath) {
+
+        for (ModelTextDocument<DOMDocument> document : xmlTextDocumentService.allDocuments()) {
+            if (documentPath.equals(Utils.getAbsolutePath(document.getUri()))) {
+                return document.getModel();
+            }
+        }
+        return null;
+    }
+
     private void initializeConnectorLoader() throws InvalidConfigurationException {
 
         if (isLegacyProject) {
@@ -271,10 +292,24 @@ public class SynapseLanguageService implements ISynapseLanguageService {
 
         return xmlTextDocumentService.computeDOMAsync(param, (xmlDocument, cancelChecker) -> {
             cancelChecker.checkCanceled();
-            return doDiagnostics(xmlDocument, cancelChecker);
+            List<Diagnostic> diagnostics = xmlTextDocumentService.getDiagnostics(xmlDocument, cancelChecker);
+            return new PublishDiagnosticsParams(xmlDocument.getDocumentURI(), diagnostics);
         });
     }
 
+    /**
+     * Computes the diagnostics of the closed artifacts of the project for the 'workspace/diagnostic' request.
+     *
+     * @param params the workspace diagnostic request
+     * @return the diagnostic reports which were not streamed to the client
+     */
+    public CompletableFuture<WorkspaceDiagnosticReport> workspaceDiagnostic(WorkspaceDiagnosticParams params) {
+
+        WorkspaceDiagnosticsScanner scanner = new WorkspaceDiagnosticsScanner(xmlTextDocumentService,
+                uriResolverExtensionManager, xmlLanguageServer.getLanguageClient());
+        return CompletableFutures.computeAsync(cancelChecker -> scanner.scan(projectUri, params, cancelChecker));
+    }
+
     private PublishDiagnosticsParams doDiagnostics(DOMDocument xmlDocument, CancelChecker cancelChecker) {
 
         SharedSettings sharedSettings = xmlTextDocumentService.getSharedSettings();
@@ -370,15 +405,15 @@ public class SynapseLanguageService implements ISynapseLanguageService {
     @Override
     public CompletableFuture<List<String>> getRegistryFiles(TextDocumentIdentifier param) {
 
-        List<String> registryFiles = RegistryFileScanner.scanRegistryFiles(projectUri);
-        return CompletableFuture.supplyAsync(() -> registryFiles);
+        return CompletableFutures.computeAsync(
+                cancelChecker -> RegistryFileScanner.scanRegistryFiles(projectUri, cancelChecker));
     }
 
     @Override
     public CompletableFuture<List<String>> getResourceFiles() {
 
-        List<String> resourceFiles = ResourceFileScanner.scanResourceFiles(projectUri);
-        return CompletableFuture.supplyAsync(() -> resourceFiles);
+        return CompletableFutures.computeAsync(
+                cancelChecker -> ResourceFileScanner.scanResourceFiles(projectUri, cancelChecker));
     }
 
     @Override
@@ -405,8 +440,8 @@ public class SynapseLanguageService implements ISynapseLanguageService {
     @Override
     public CompletableFuture<List<String>> getArtifactFiles(TextDocumentIdentifier param) {
 
-        List<String> artifactFiles = ArtifactFileScanner.scanArtifactFiles(projectUri);
-        return CompletableFuture.supplyAsync(() -> artifactFiles);
+        return CompletableFutures.computeAsync(
+                cancelChecker -> ArtifactFileScanner.scanArtifactFiles(projectUri, false, cancelChecker));
     }
 
     @Override
@@ -690,6 +725,12 @@ public class SynapseLanguageService implements ISynapseLanguageService {
         return CompletableFuture.supplyAsync(() -> DependencyDownloadManager.getDependencyStatusList(projectUri));
     }
 
+    @Override
+    public CompletableFuture<PerformanceStats> performanceStats() {
+
+        return CompletableFuture.supplyAsync(() -> PerformanceMonitor.getInstance().getPerformanceStats());
+    }
+
     @Override
     public CompletableFuture<String> loadDependentResources() {
 
@@ -771,7 +812,8 @@ public class SynapseLanguageService implements ISynapseLanguageService {
     @Override
     public CompletableFuture<List<ConfigDetails>> getConfigurableList() {
 
-        return CompletableFuture.supplyAsync(() -> ConfigParser.getConfigDetails(projectUri));
+        return CompletableFuture.supplyAsync(
+                () -> ProjectMetadataService.getInstance().getMetadata(projectUri).getConfigurables());
     }
 
     @Override
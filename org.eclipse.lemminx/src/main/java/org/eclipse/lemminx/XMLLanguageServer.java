@@ -61,6 +61,7 @@ import org.eclipse.lemminx.settings.XMLCompletionSettings;
 import org.eclipse.lemminx.settings.XMLFoldingSettings;
 import org.eclipse.lemminx.settings.XMLFormattingOptions;
 import org.eclipse.lemminx.settings.XMLGeneralClientSettings;
+import org.eclipse.lemminx.settings.XMLMemorySettings;
 import org.eclipse.lemminx.settings.XMLPreferences;
 import org.eclipse.lemminx.settings.XMLSymbolSettings;
 import org.eclipse.lemminx.settings.XMLTelemetrySettings;
@@ -242,6 +243,11 @@ public class XMLLanguageServer implements ProcessLanguageServer, XMLLanguageServ
 				xmlTextDocumentService.updatePreferences(newPreferences);
 			}
 
+			XMLMemorySettings newMemory = xmlClientSettings.getMemory();
+			if (newMemory != null) {
+				xmlTextDocumentService.updateMemorySettings(newMemory);
+			}
+
 			ServerSettings serverSettings = xmlClientSettings.getServer();
 			if (serverSettings != null) {
 				String workDir = serverSettings.getNormalizedWorkDir();
@@ -25,6 +25,7 @@ import java.util.function.Function;
 import org.eclipse.lemminx.commons.ParentProcessWatcher;
 import org.eclipse.lemminx.customservice.SynapseLanguageClientAPI;
 import org.eclipse.lemminx.customservice.XMLLanguageClientAPI;
+import org.eclipse.lemminx.telemetry.TelemetryManager;
 import org.eclipse.lsp4j.jsonrpc.Launcher;
 import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
 import org.eclipse.lsp4j.launch.LSPLauncher.Builder;
@@ -97,6 +98,8 @@ public class XMLServerLauncher {
 		} else {
 			wrapper = new ParentProcessWatcher(server);
 		}
+		// Measure the requests on the raw message streams, before any other wrapper
+		wrapper = wrapper.compose(TelemetryManager.getPerformanceListener()::wrap);
 		Launcher<LanguageClient> launcher = createServerLauncher(server, in, out, Executors.newCachedThreadPool(), wrapper);
 		server.setClient(launcher.getRemoteProxy());
 		return launcher.startListening();
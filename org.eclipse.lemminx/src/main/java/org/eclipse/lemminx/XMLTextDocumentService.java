@@ -22,7 +22,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.logging.Level;
@@ -32,17 +34,22 @@ import java.util.stream.Collectors;
 import org.eclipse.lemminx.client.ExtendedClientCapabilities;
 import org.eclipse.lemminx.client.LimitExceededWarner;
 import org.eclipse.lemminx.client.LimitFeature;
+import org.eclipse.lemminx.commons.DiagnosticResultCache;
 import org.eclipse.lemminx.commons.ModelTextDocument;
 import org.eclipse.lemminx.commons.ModelTextDocuments;
 import org.eclipse.lemminx.commons.ModelValidatorDelayer;
+import org.eclipse.lemminx.commons.MultiCancelChecker;
 import org.eclipse.lemminx.commons.TextDocument;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelManager;
 import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationRootSettings;
+import org.eclipse.lemminx.extensions.contentmodel.settings.XMLValidationSettings;
 import org.eclipse.lemminx.services.DocumentSymbolsResult;
 import org.eclipse.lemminx.services.SymbolInformationResult;
 import org.eclipse.lemminx.services.XMLLanguageService;
 import org.eclipse.lemminx.services.data.DataEntryField;
+import org.eclipse.lemminx.services.extensions.diagnostics.DiagnosticsResult;
 import org.eclipse.lemminx.services.extensions.save.AbstractSaveContext;
 import org.eclipse.lemminx.settings.CompositeSettings;
 import org.eclipse.lemminx.settings.SharedSettings;
@@ -50,8 +57,11 @@ import org.eclipse.lemminx.settings.XMLCodeLensSettings;
 import org.eclipse.lemminx.settings.XMLCompletionSettings;
 import org.eclipse.lemminx.settings.XMLFoldingSettings;
 import org.eclipse.lemminx.settings.XMLFormattingOptions;
+import org.eclipse.lemminx.settings.XMLMemorySettings;
 import org.eclipse.lemminx.settings.XMLPreferences;
 import org.eclipse.lemminx.settings.XMLSymbolSettings;
+import org.eclipse.lemminx.settings.capabilities.ClientCapabilitiesWrapper;
+import org.eclipse.lemminx.telemetry.TelemetryManager;
 import org.eclipse.lemminx.utils.XMLPositionUtility;
 import org.eclipse.lsp4j.ClientCapabilities;
 import org.eclipse.lsp4j.CodeAction;
@@ -65,6 +75,7 @@ import org.eclipse.lsp4j.Command;
 import org.eclipse.lsp4j.CompletionItem;
 import org.eclipse.lsp4j.CompletionList;
 import org.eclipse.lsp4j.CompletionParams;
+import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.ConfigurationItem;
 import org.eclipse.lsp4j.ConfigurationParams;
 import org.eclipse.lsp4j.DefinitionParams;
@@ -72,6 +83,8 @@ import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 import org.eclipse.lsp4j.DidCloseTextDocumentParams;
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
 import org.eclipse.lsp4j.DidSaveTextDocumentParams;
+import org.eclipse.lsp4j.DocumentDiagnosticParams;
+import org.eclipse.lsp4j.DocumentDiagnosticReport;
 import org.eclipse.lsp4j.DocumentColorParams;
 import org.eclipse.lsp4j.DocumentFormattingParams;
 import org.eclipse.lsp4j.DocumentHighlight;
@@ -95,6 +108,8 @@ import org.eclipse.lsp4j.PrepareRenameResult;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.ReferenceParams;
+import org.eclipse.lsp4j.RelatedFullDocumentDiagnosticReport;
+import org.eclipse.lsp4j.RelatedUnchangedDocumentDiagnosticReport;
 import org.eclipse.lsp4j.RenameParams;
 import org.eclipse.lsp4j.SelectionRange;
 import org.eclipse.lsp4j.SelectionRangeParams;
@@ -121,9 +136,20 @@ public class XMLTextDocumentService implements TextDocumentService {
 
 	private static final Logger LOGGER = Logger.getLogger(XMLTextDocumentService.class.getName());
 
+	/**
+	 * Delay in milliseconds of the diagnostics refresh requested by a validation,
+	 * so that the validations of many documents send a single refresh.
+	 */
+	private static final long DIAGNOSTICS_REFRESH_DELAY_MS = 100;
+
 	private final XMLLanguageServer xmlLanguageServer;
 	private final ModelTextDocuments<DOMDocument> documents;
 	private final ModelValidatorDelayer<DOMDocument> xmlValidatorDelayer;
+	private final DiagnosticResultCache diagnosticResults;
+
+	private final AtomicBoolean diagnosticsRefreshScheduled = new AtomicBoolean();
+	private final Map<String, List<Diagnostic>> publishedDiagnostics;
+	private final XMLMemorySettings memorySettings;
 
 	private SharedSettings sharedSettings;
 	private LimitExceededWarner limitExceededWarner;
@@ -191,6 +217,8 @@ public class XMLTextDocumentService implements TextDocumentService {
 	private boolean hierarchicalDocumentSymbolSupport;
 	private boolean definitionLinkSupport;
 	private boolean typeDefinitionLinkSupport;
+	private boolean pullDiagnosticsSupport;
+	private boolean diagnosticRefreshSupport;
 
 	private Boolean clientConfigurationSupport;
 
@@ -202,9 +230,15 @@ public class XMLTextDocumentService implements TextDocumentService {
 		});
 		this.sharedSettings = new SharedSettings();
 		this.limitExceededWarner = null;
+		this.publishedDiagnostics = new ConcurrentHashMap<>();
+		this.memorySettings = new XMLMemorySettings();
+		this.diagnosticResults = new DiagnosticResultCache(
+				() -> getXMLLanguageService().getResolverExtensionManager().getResolutionEpoch());
 		this.xmlValidatorDelayer = new ModelValidatorDelayer<DOMDocument>((document) -> {
 			DOMDocument xmlDocument = document.getModel();
-			validate(xmlDocument, Collections.emptyMap());
+			if (!pullDiagnosticsSupport) {
+				validate(xmlDocument, Collections.emptyMap());
+			}
 
 			getXMLLanguageService().getDocumentLifecycleParticipants().forEach(participant -> {
 				try {
@@ -241,10 +275,14 @@ public class XMLTextDocumentService implements TextDocumentService {
 						&& textDocumentClientCapabilities.getTypeDefinition().getLinkSupport() != null
 						&& textDocumentClientCapabilities.getTypeDefinition().getLinkSupport();
 			}
+			pullDiagnosticsSupport = new ClientCapabilitiesWrapper(capabilities, extendedClientCapabilities)
+					.isPullDiagnosticsSupported();
 			// Workspace settings
 			if (capabilities.getWorkspace() != null) {
 				sharedSettings.getWorkspaceSettings().setCapabilities(capabilities.getWorkspace());
 				clientConfigurationSupport = capabilities.getWorkspace().getConfiguration();
+				diagnosticRefreshSupport = capabilities.getWorkspace().getDiagnostics() != null
+						&& Boolean.TRUE.equals(capabilities.getWorkspace().getDiagnostics().getRefreshSupport());
 			}
 		}
 		if (extendedClientCapabilities != null) {
@@ -379,9 +417,33 @@ public class XMLTextDocumentService implements TextDocumentService {
 		});
 	}
 
+	@Override
+	public CompletableFuture<DocumentDiagnosticReport> diagnostic(DocumentDiagnosticParams params) {
+		ModelTextDocument<DOMDocument> document = getDocument(params.getTextDocument().getUri());
+		if (document == null) {
+			return CompletableFuture
+					.completedFuture(new DocumentDiagnosticReport(new RelatedFullDocumentDiagnosticReport()));
+		}
+		String resultId = diagnosticResults.getResultId(document);
+		if (resultId.equals(params.getPreviousResultId())) {
+			// The client already has the diagnostics of this version of the document
+			return CompletableFuture
+					.completedFuture(new DocumentDiagnosticReport(new RelatedUnchangedDocumentDiagnosticReport(resultId)));
+		}
+		return computeDOMAsync(params.getTextDocument(), (xmlDocument, cancelChecker) -> {
+			List<Diagnostic> diagnostics = getDiagnostics(xmlDocument, resultId, cancelChecker);
+			RelatedFullDocumentDiagnosticReport report = new RelatedFullDocumentDiagnosticReport(diagnostics);
+			report.setResultId(resultId);
+			return new DocumentDiagnosticReport(report);
+		});
+	}
+
 	@Override
 	public void didOpen(DidOpenTextDocumentParams params) {
+		diagnosticResults.documentOpened(params.getTextDocument().getUri());
+		publishedDiagnostics.remove(params.getTextDocument().getUri());
 		ModelTextDocument<DOMDocument> document = documents.onDidOpenTextDocument(params);
+		releaseMemory();
 		triggerValidationFor(document, TriggeredBy.didOpen);
 	}
 
@@ -392,9 +454,37 @@ public class XMLTextDocumentService implements TextDocumentService {
 	public void didChange(DidChangeTextDocumentParams params) {
 		xmlLanguageServer.getSynapseLanguageService();
 		ModelTextDocument<DOMDocument> document = documents.onDidChangeTextDocument(params);
+		releaseMemory();
 		triggerValidationFor(document, TriggeredBy.didChange, params.getContentChanges());
 	}
 
+	/**
+	 * Keeps the parsed models and the content model documents within the memory
+	 * budget.
+	 * 
+	 * <p>
+	 * The content model documents may use half of the budget, and the parsed
+	 * models of the open documents the rest. When the parsed models exceed it, the
+	 * models of the documents which were not accessed recently are released, and
+	 * when it is not enough, the grammars which were not used recently are
+	 * evicted.
+	 * </p>
+	 */
+	public void releaseMemory() {
+		long budget = memorySettings.getBudgetInBytes();
+		long inactiveMillis = TimeUnit.SECONDS.toMillis(memorySettings.getInactiveDelay());
+		ContentModelManager contentModelManager = getXMLLanguageService().getComponent(ContentModelManager.class);
+		long grammarUsage = 0;
+		if (contentModelManager != null) {
+			contentModelManager.setMemoryBudget(budget / 2);
+			grammarUsage = contentModelManager.getMemoryUsage();
+		}
+		long modelUsage = documents.releaseInactiveModels(budget - grammarUsage, inactiveMillis);
+		if (contentModelManager != null && modelUsage + grammarUsage > budget) {
+			contentModelManager.evictUnusedGrammars(inactiveMillis);
+		}
+	}
+
 	@Override
 	public void didClose(DidCloseTextDocumentParams params) {
 		TextDocumentIdentifier identifier = params.getTextDocument();
@@ -404,9 +494,13 @@ public class XMLTextDocumentService implements TextDocumentService {
 		documents.onDidCloseTextDocument(params);
 		// Remove the validation from the delayer
 		xmlValidatorDelayer.cleanPendingValidation(uri);
-		// Publish empty errors from the document
-		xmlLanguageServer.getLanguageClient()
-				.publishDiagnostics(new PublishDiagnosticsParams(uri, Collections.emptyList()));
+		diagnosticResults.documentClosed(uri);
+		publishedDiagnostics.remove(uri);
+		if (!pullDiagnosticsSupport) {
+			// Publish empty errors from the document
+			xmlLanguageServer.getLanguageClient()
+					.publishDiagnostics(new PublishDiagnosticsParams(uri, Collections.emptyList()));
+		}
 		getLimitExceededWarner().evictValue(uri);
 		// Manage didClose document lifecycle participants
 		if (xmlDocument != null) {
@@ -648,15 +742,14 @@ public class XMLTextDocumentService implements TextDocumentService {
 
 	private void triggerValidationFor(Collection<ModelTextDocument<DOMDocument>> documents) {
 		if (!documents.isEmpty()) {
-			xmlLanguageServer.schedule(() -> {
-				documents.forEach(document -> {
-					try {
-						validate(document.getModel(), Collections.emptyMap());
-					} catch (CancellationException e) {
-						// Ignore the error and continue to validate other documents
-					}
-				});
-			}, 500, TimeUnit.MILLISECONDS);
+			// The documents are validated again because the grammars they use changed
+			if (pullDiagnosticsSupport) {
+				refreshDiagnostics();
+				return;
+			}
+			diagnosticResults.invalidate();
+			documents.forEach(document -> xmlValidatorDelayer.validateWithDelay(document,
+					doc -> validate(doc.getModel(), Collections.emptyMap())));
 		}
 	}
 
@@ -690,7 +783,9 @@ public class XMLTextDocumentService implements TextDocumentService {
 		} else {
 			CompletableFuture.runAsync(() -> {
 				DOMDocument xmlDocument = ((ModelTextDocument<DOMDocument>) document).getModel();
-				validate(xmlDocument, Collections.emptyMap());
+				if (!pullDiagnosticsSupport) {
+					validate(xmlDocument, Collections.emptyMap());
+				}
 				getXMLLanguageService().getDocumentLifecycleParticipants().forEach(participant -> {
 					try {
 						participant.didOpen(xmlDocument);
@@ -713,15 +808,132 @@ public class XMLTextDocumentService implements TextDocumentService {
 	 *                               diagnostics must be stopped.
 	 */
 	void validate(DOMDocument xmlDocument, Map<String, Object> validationArgs) throws CancellationException {
+		if (pullDiagnosticsSupport) {
+			// The client pulls the diagnostics, ask it to pull them again
+			scheduleDiagnosticsRefresh();
+			return;
+		}
 		CancelChecker cancelChecker = xmlDocument.getCancelChecker();
 		cancelChecker.checkCanceled();
-		getXMLLanguageService().publishDiagnostics(xmlDocument,
-				params -> xmlLanguageServer.getLanguageClient().publishDiagnostics(params),
-				(doc) -> triggerValidationFor(doc, TriggeredBy.Other),
-				sharedSettings.getValidationSettings(),
+		String resultId = diagnosticResults.getResultId(xmlDocument.getTextDocument());
+		getXMLLanguageService().publishDiagnostics(xmlDocument, params -> {
+			if ((validationArgs == null || validationArgs.isEmpty()) && params.getDiagnostics() instanceof DiagnosticsResult
+					&& ((DiagnosticsResult) params.getDiagnostics()).getFutures().isEmpty()) {
+				diagnosticResults.putDiagnostics(params.getUri(), resultId, params.getDiagnostics());
+			}
+			List<Diagnostic> lastPublished = publishedDiagnostics.put(params.getUri(), params.getDiagnostics());
+			if (params.getDiagnostics().equals(lastPublished)) {
+				// The client already shows these diagnostics
+				TelemetryManager.getPerformanceListener().recordUnchangedDiagnostics();
+				return;
+			}
+			xmlLanguageServer.getLanguageClient().publishDiagnostics(params);
+		}, (doc) -> triggerValidationFor(doc, TriggeredBy.Other), sharedSettings.getValidationSettings(),
 				validationArgs, cancelChecker);
 	}
 
+	/**
+	 * Returns the diagnostics of the given open DOM document.
+	 *
+	 * <p>
+	 * The document is validated only when it changed, or the grammars it uses
+	 * changed, since its last validation.
+	 * </p>
+	 *
+	 * @param xmlDocument   the open DOM document.
+	 * @param cancelChecker the cancel checker.
+	 * @return the diagnostics of the given open DOM document.
+	 *
+	 * @throws CancellationException when the DOM document content changed and
+	 *                               diagnostics must be stopped.
+	 */
+	public List<Diagnostic> getDiagnostics(DOMDocument xmlDocument, CancelChecker cancelChecker)
+			throws CancellationException {
+		String resultId = diagnosticResults.getResultId(xmlDocument.getTextDocument());
+		return getDiagnostics(xmlDocument, resultId, cancelChecker);
+	}
+
+	/**
+	 * Returns the diagnostics of the given DOM document for the given result id.
+	 *
+	 * <p>
+	 * The diagnostics computed for the result id are reused. When some XSD, DTD
+	 * are downloading, the diagnostics are not cached and the client is asked to
+	 * pull the diagnostics again once the downloads are done.
+	 * </p>
+	 *
+	 * @param xmlDocument   the DOM document.
+	 * @param resultId      the result id of the document, computed before the
+	 *                      document was parsed.
+	 * @param cancelChecker the cancel checker.
+	 * @return the diagnostics of the given DOM document.
+	 *
+	 * @throws CancellationException when the diagnostics must be stopped.
+	 */
+	public List<Diagnostic> getDiagnostics(DOMDocument xmlDocument, String resultId, CancelChecker cancelChecker)
+			throws CancellationException {
+		String uri = xmlDocument.getDocumentURI();
+		List<Diagnostic> diagnostics = diagnosticResults.getDiagnostics(uri, resultId);
+		if (diagnostics != null) {
+			return diagnostics;
+		}
+		if (xmlDocument.getCancelChecker() != null) {
+			// Stop when the open document changed, since the diagnostics would not match
+			// the result id
+			cancelChecker = new MultiCancelChecker(cancelChecker, xmlDocument.getCancelChecker());
+		}
+		cancelChecker.checkCanceled();
+		XMLValidationSettings validationSettings = sharedSettings.getValidationSettings()
+				.getValidationSettings(uri);
+		DiagnosticsResult result = (DiagnosticsResult) getXMLLanguageService().doDiagnostics(xmlDocument,
+				validationSettings, Collections.emptyMap(), cancelChecker);
+		cancelChecker.checkCanceled();
+		List<CompletableFuture<?>> futures = result.getFutures();
+		if (futures.isEmpty()) {
+			diagnosticResults.putDiagnostics(uri, resultId, result);
+		} else {
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+					.whenComplete((value, downloadException) -> refreshDiagnostics());
+		}
+		return result;
+	}
+
+	/**
+	 * Invalidates the diagnostics of all the documents and asks the client to pull
+	 * them again.
+	 */
+	public void refreshDiagnostics() {
+		diagnosticResults.invalidate();
+		if (diagnosticRefreshSupport) {
+			xmlLanguageServer.getLanguageClient().refreshDiagnostics();
+		}
+	}
+
+	/**
+	 * Refreshes the diagnostics after a short delay. The validations requested
+	 * before the refresh is done, for instance when all the open documents are
+	 * validated again, are coalesced into a single refresh.
+	 */
+	private void scheduleDiagnosticsRefresh() {
+		if (diagnosticsRefreshScheduled.compareAndSet(false, true)) {
+			CompletableFuture.runAsync(() -> {
+				diagnosticsRefreshScheduled.set(false);
+				refreshDiagnostics();
+			}, CompletableFuture.delayedExecutor(DIAGNOSTICS_REFRESH_DELAY_MS, TimeUnit.MILLISECONDS));
+		}
+	}
+
+	/**
+	 * Returns the result ids and diagnostics of the last validation of the
+	 * documents.
+	 *
+	 * @return the result ids and diagnostics of the last validation of the
+	 *         documents.
+	 */
+	public DiagnosticResultCache getDiagnosticResults() {
+		return diagnosticResults;
+	}
+
 	private XMLLanguageService getXMLLanguageService() {
 		return xmlLanguageServer.getXMLLanguageService();
 	}
@@ -742,6 +954,11 @@ public class XMLTextDocumentService implements TextDocumentService {
 		sharedSettings.getPreferences().merge(newPreferences);
 	}
 
+	public void updateMemorySettings(XMLMemorySettings newSettings) {
+		memorySettings.merge(newSettings);
+		releaseMemory();
+	}
+
 	public XMLSymbolSettings getSharedSymbolSettings() {
 		return sharedSettings.getSymbolSettings();
 	}
@@ -20,6 +20,7 @@ import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.lemminx.commons.WorkspaceFolders;
+import org.eclipse.lemminx.customservice.synapse.parser.ProjectMetadataService;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
 import org.eclipse.lemminx.services.extensions.commands.IXMLCommandService;
 import org.eclipse.lsp4j.DidChangeConfigurationParams;
@@ -27,6 +28,8 @@ import org.eclipse.lsp4j.DidChangeWatchedFilesParams;
 import org.eclipse.lsp4j.DidChangeWorkspaceFoldersParams;
 import org.eclipse.lsp4j.ExecuteCommandParams;
 import org.eclipse.lsp4j.FileEvent;
+import org.eclipse.lsp4j.WorkspaceDiagnosticParams;
+import org.eclipse.lsp4j.WorkspaceDiagnosticReport;
 import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
 import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
 import org.eclipse.lsp4j.jsonrpc.messages.ResponseError;
@@ -94,6 +97,7 @@ public class XMLWorkspaceService implements WorkspaceService, IXMLCommandService
 				.getTextDocumentService();
 		List<FileEvent> changes = params.getChanges();
 		for (FileEvent change : changes) {
+			ProjectMetadataService.getInstance().fileChanged(change.getUri());
 			if (change.getUri().contains(Constant.INBOUND_CONNECTORS_DIR) && change.getUri().contains(".zip")) {
 				((SynapseLanguageService) xmlLanguageServer.getSynapseLanguageService()).updateInboundConnectors();
 			} else if (change.getUri().contains(Constant.CONNECTORS) && change.getUri().contains(".zip")) {
@@ -106,6 +110,11 @@ public class XMLWorkspaceService implements WorkspaceService, IXMLCommandService
 		}
 	}
 
+	@Override
+	public CompletableFuture<WorkspaceDiagnosticReport> diagnostic(WorkspaceDiagnosticParams params) {
+		return ((SynapseLanguageService) xmlLanguageServer.getSynapseLanguageService()).workspaceDiagnostic(params);
+	}
+
 	@Override
 	public void registerCommand(String commandId, IDelegateCommandHandler handler) {
 		synchronized (commands) {
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.commons;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.eclipse.lsp4j.Diagnostic;
+
+/**
+ * Result ids and diagnostics of the last validation of the documents.
+ *
+ * <p>
+ * The result id of a document identifies the state which its diagnostics
+ * depend on: the version of an open document (or the size and modification
+ * time of a closed file) and the fingerprint of the grammars. The fingerprint
+ * changes when the grammars may validate differently, for instance when an XSD
+ * is saved or when the catalogs are updated, so that the result ids of all the
+ * documents change.
+ * </p>
+ *
+ * <p>
+ * A client which sends back the current result id of a document already has
+ * its diagnostics, and the diagnostics computed for the current result id are
+ * reused, so a document is only validated again when its result id changed.
+ * </p>
+ *
+ */
+public class DiagnosticResultCache {
+
+	private static class CachedDiagnostics {
+
+		private final String resultId;
+
+		private final List<Diagnostic> diagnostics;
+
+		CachedDiagnostics(String resultId, List<Diagnostic> diagnostics) {
+			this.resultId = resultId;
+			this.diagnostics = diagnostics;
+		}
+	}
+
+	private final LongSupplier resolutionEpoch;
+
+	private final AtomicLong grammarEpoch;
+
+	private final AtomicLong openCount;
+
+	private final Map<String, Long> openedDocuments;
+
+	private final Map<String, CachedDiagnostics> diagnostics;
+
+	/**
+	 * Creates the cache.
+	 *
+	 * @param resolutionEpoch the supplier of the epoch of the URI resolutions,
+	 *                        which is a part of the fingerprint of the grammars.
+	 */
+	public DiagnosticResultCache(LongSupplier resolutionEpoch) {
+		this.resolutionEpoch = resolutionEpoch;
+		this.grammarEpoch = new AtomicLong();
+		this.openCount = new AtomicLong();
+		this.openedDocuments = new ConcurrentHashMap<>();
+		this.diagnostics = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Invalidates the result ids of all the documents. This method must be called
+	 * when the grammars used by the documents may have changed.
+	 */
+	public void invalidate() {
+		grammarEpoch.incrementAndGet();
+		diagnostics.clear();
+	}
+
+	/**
+	 * Notifies that the given document was opened.
+	 *
+	 * <p>
+	 * The versions of a document start again when it is opened, so each opening
+	 * of the document is a part of its result ids.
+	 * </p>
+	 *
+	 * @param uri the document URI.
+	 */
+	public void documentOpened(String uri) {
+		openedDocuments.put(uri, openCount.incrementAndGet());
+		diagnostics.remove(uri);
+	}
+
+	/**
+	 * Notifies that the given document was closed.
+	 *
+	 * @param uri the document URI.
+	 */
+	public void documentClosed(String uri) {
+		openedDocuments.remove(uri);
+		diagnostics.remove(uri);
+	}
+
+	/**
+	 * Returns the result id of the given open document.
+	 *
+	 * @param document the open document.
+	 * @return the result id of the given open document.
+	 */
+	public String getResultId(TextDocument document) {
+		String uri = document.getUri();
+		return "d" + openedDocuments.getOrDefault(uri, 0L) + "." + document.getVersion() + ":" + getFingerprint();
+	}
+
+	/**
+	 * Returns the result id of the given closed file.
+	 *
+	 * @param file the file.
+	 * @return the result id of the given closed file and null if the file cannot
+	 *         be read.
+	 */
+	public String getResultId(Path file) {
+		try {
+			BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+			return "f" + attributes.lastModifiedTime().toMillis() + "." + attributes.size() + ":" + getFingerprint();
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the diagnostics of the given document computed for the given result
+	 * id.
+	 *
+	 * @param uri      the document URI.
+	 * @param resultId the result id.
+	 * @return the diagnostics of the given document computed for the given result
+	 *         id and null otherwise.
+	 */
+	public List<Diagnostic> getDiagnostics(String uri, String resultId) {
+		CachedDiagnostics cached = diagnostics.get(uri);
+		return cached != null && cached.resultId.equals(resultId) ? cached.diagnostics : null;
+	}
+
+	/**
+	 * Stores the diagnostics of the given document computed for the given result
+	 * id.
+	 *
+	 * @param uri         the document URI.
+	 * @param resultId    the result id.
+	 * @param diagnostics the diagnostics.
+	 */
+	public void putDiagnostics(String uri, String resultId, List<Diagnostic> diagnostics) {
+		this.diagnostics.put(uri, new CachedDiagnostics(resultId, diagnostics));
+	}
+
+	private String getFingerprint() {
+		return grammarEpoch.get() + "." + resolutionEpoch.getAsLong();
+	}
+}
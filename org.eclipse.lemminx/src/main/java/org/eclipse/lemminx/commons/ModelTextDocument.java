@@ -31,16 +31,20 @@ public class ModelTextDocument<T> extends TextDocument {
 
 	private final BiFunction<TextDocument, CancelChecker, T> parse;
 
-	private T model;
+	private volatile T model;
+
+	private volatile long lastAccessTime;
 
 	public ModelTextDocument(TextDocumentItem document, BiFunction<TextDocument, CancelChecker, T> parse) {
 		super(document);
 		this.parse = parse;
+		this.lastAccessTime = System.currentTimeMillis();
 	}
 
 	public ModelTextDocument(String text, String uri, BiFunction<TextDocument, CancelChecker, T> parse) {
 		super(text, uri);
 		this.parse = parse;
+		this.lastAccessTime = System.currentTimeMillis();
 	}
 
 	/**
@@ -60,10 +64,13 @@ public class ModelTextDocument<T> extends TextDocument {
 	 * @return the parsed model synchronized with last version of the text document.
 	 */
 	public T getModel() {
-		if (model == null) {
+		lastAccessTime = System.currentTimeMillis();
+		// read the model once, since it can be released by another thread
+		T existingModel = model;
+		if (existingModel == null) {
 			return getSynchronizedModel();
 		}
-		return model;
+		return existingModel;
 	}
 
 	/**
@@ -97,8 +104,33 @@ public class ModelTextDocument<T> extends TextDocument {
 		return model;
 	}
 
+	/**
+	 * Returns the time when the model was last requested or the text last changed.
+	 * 
+	 * @return the time in milliseconds when the model was last requested or the
+	 *         text last changed.
+	 */
+	public long getLastAccessTime() {
+		return lastAccessTime;
+	}
+
+	/**
+	 * Releases the parsed model to free the memory. The text is kept and the model
+	 * is parsed again the next time it is requested.
+	 * 
+	 * @return true if a parsed model was released and false otherwise.
+	 */
+	public synchronized boolean releaseModel() {
+		if (model == null) {
+			return false;
+		}
+		model = null;
+		return true;
+	}
+
 	@Override
 	public void setText(String text) {
+		lastAccessTime = System.currentTimeMillis();
 		super.setText(text);
 		// text changed, cancel the completable future which load the model
 		cancelModel();
@@ -11,10 +11,14 @@
 *******************************************************************************/
 package org.eclipse.lemminx.commons;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import org.eclipse.lemminx.telemetry.TelemetryManager;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
@@ -30,6 +34,9 @@ import org.eclipse.lsp4j.jsonrpc.CompletableFutures.FutureCancelChecker;
  */
 public class ModelTextDocuments<T> extends TextDocuments<ModelTextDocument<T>> {
 
+	// Estimate of the memory used by a parsed model for each character of its text
+	private static final int MODEL_BYTES_PER_CHARACTER = 12;
+
 	private final BiFunction<TextDocument, CancelChecker, T> parse;
 
 	public ModelTextDocuments(BiFunction<TextDocument, CancelChecker, T> parse) {
@@ -144,6 +151,63 @@ public class ModelTextDocuments<T> extends TextDocuments<ModelTextDocument<T>> {
 		});
 	}
 
+	/**
+	 * Releases the parsed models of the documents which were not accessed recently
+	 * when the estimated memory used by the parsed models exceeds the given
+	 * budget.
+	 * 
+	 * <p>
+	 * The least recently accessed models are released first. The text of the
+	 * documents is kept and their model is parsed again when it is requested.
+	 * </p>
+	 * 
+	 * @param budgetBytes    the memory budget of the parsed models in bytes.
+	 * @param inactiveMillis the time in milliseconds since the last access of a
+	 *                       document after which its model can be released.
+	 * @return the estimated memory in bytes used by the parsed models which are
+	 *         kept.
+	 */
+	public long releaseInactiveModels(long budgetBytes, long inactiveMillis) {
+		List<ModelTextDocument<T>> parsedDocuments = new ArrayList<>();
+		long usedBytes = 0;
+		int openDocuments = 0;
+		for (ModelTextDocument<T> document : all()) {
+			openDocuments++;
+			if (document.getExistingModel() != null) {
+				parsedDocuments.add(document);
+				usedBytes += getModelWeight(document);
+			}
+		}
+		int releasedModels = 0;
+		if (usedBytes > budgetBytes) {
+			long inactiveSince = System.currentTimeMillis() - inactiveMillis;
+			parsedDocuments.sort(Comparator.comparingLong(ModelTextDocument::getLastAccessTime));
+			for (ModelTextDocument<T> document : parsedDocuments) {
+				if (usedBytes <= budgetBytes || document.getLastAccessTime() > inactiveSince) {
+					break;
+				}
+				if (document.releaseModel()) {
+					usedBytes -= getModelWeight(document);
+					releasedModels++;
+				}
+			}
+		}
+		TelemetryManager.getPerformanceListener().recordModelMemory(openDocuments,
+				parsedDocuments.size() - releasedModels, usedBytes, releasedModels);
+		return usedBytes;
+	}
+
+	/**
+	 * Returns the estimated memory used by the parsed model of the given document.
+	 * 
+	 * @param document the document.
+	 * @return the estimated memory in bytes used by the parsed model of the given
+	 *         document.
+	 */
+	static long getModelWeight(TextDocument document) {
+		return (long) document.getText().length() * MODEL_BYTES_PER_CHARACTER;
+	}
+
 	private static <R> CompletableFuture<R> computeAsyncCompose(Function<CancelChecker, CompletableFuture<R>> code) {
 		CompletableFuture<CancelChecker> start = new CompletableFuture<>();
 		CompletableFuture<R> result = start.thenComposeAsync(code);
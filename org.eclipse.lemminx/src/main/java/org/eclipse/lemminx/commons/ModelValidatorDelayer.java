@@ -13,41 +13,121 @@ package org.eclipse.lemminx.commons;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
+import org.eclipse.lemminx.telemetry.PerformanceListener;
+import org.eclipse.lemminx.telemetry.TelemetryManager;
+
 /**
  * Validate a given model document with delay.
  * 
+ * <p>
+ * The delay of a document is adapted to the cost of its validation: the
+ * delayer keeps a moving average of the time taken to validate each document,
+ * and waits twice that time, within bounds, before validating it. A small
+ * document is validated soon after a change, while a large one, which takes
+ * longer to validate, is only validated once the user stops typing. Before the
+ * first measure, the cost is estimated from the size of the document.
+ * </p>
+ * 
+ * <p>
+ * A pending validation is replaced by the validation of a newer version of the
+ * document. A running validation is stopped by the cancel checker of the
+ * validated model as soon as a newer version exists.
+ * </p>
+ * 
  * @author Angelo ZERR
  *
  * @param <T>
  */
 public class ModelValidatorDelayer<T> {
 
-	private static final long DEFAULT_VALIDATION_DELAY_MS = 500;
+	private static final long DEFAULT_VALIDATION_DELAY_MS = 200;
+
+	private static final long MAX_VALIDATION_DELAY_MS = 2000;
+
+	private static final int DELAY_PER_VALIDATION_COST = 2;
+
+	// Prior estimate of the validation cost, before the first measure
+	private static final int CHARACTERS_VALIDATED_PER_MS = 1000;
+
+	private static final double COST_SMOOTHING = 0.3;
+
+	private static class PendingValidation<T> {
+
+		private final Future<?> request;
+
+		private final int version;
+
+		private final Consumer<ModelTextDocument<T>> validator;
+
+		PendingValidation(Future<?> request, int version, Consumer<ModelTextDocument<T>> validator) {
+			this.request = request;
+			this.version = version;
+			this.validator = validator;
+		}
+	}
+
+	private static class ValidationCost {
+
+		private int measures;
+
+		private double costMs;
+	}
 
 	private final ScheduledExecutorService executorService;
 
 	private final Consumer<ModelTextDocument<T>> validator;
 
-	private final Map<String, Future<?>> pendingValidationRequests;
+	private final Map<String, PendingValidation<T>> pendingValidationRequests;
+
+	private final Map<String, ValidationCost> validationCosts;
 
 	private final long validationDelayMs;
 
+	private final PerformanceListener performanceListener;
+
 	public ModelValidatorDelayer(Consumer<ModelTextDocument<T>> validator) {
 		this(Executors.newScheduledThreadPool(2), validator, DEFAULT_VALIDATION_DELAY_MS);
 	}
 
+	/**
+	 * Creates a delayer.
+	 * 
+	 * @param executorService   the executor which runs the validations.
+	 * @param validator         the validator called after a change of a document.
+	 * @param validationDelayMs the minimum delay of a validation.
+	 */
 	public ModelValidatorDelayer(ScheduledExecutorService executorService, Consumer<ModelTextDocument<T>> validator,
 			long validationDelayMs) {
+		this(executorService, validator, validationDelayMs, null);
+	}
+
+	/**
+	 * Creates a delayer.
+	 * 
+	 * @param executorService     the executor which runs the validations.
+	 * @param validator           the validator called after a change of a
+	 *                            document.
+	 * @param validationDelayMs   the minimum delay of a validation.
+	 * @param performanceListener the listener of the validations, or null to use
+	 *                            the listener registered in the
+	 *                            {@link TelemetryManager}.
+	 */
+	public ModelValidatorDelayer(ScheduledExecutorService executorService, Consumer<ModelTextDocument<T>> validator,
+			long validationDelayMs, PerformanceListener performanceListener) {
 		this.executorService = executorService;
 		this.validator = validator;
 		this.pendingValidationRequests = new HashMap<>();
+		this.validationCosts = new ConcurrentHashMap<>();
 		this.validationDelayMs = validationDelayMs;
+		this.performanceListener = performanceListener;
 	}
 
 	/**
@@ -58,28 +138,116 @@ public class ModelValidatorDelayer<T> {
 	 * @param document the document model to validate.
 	 */
 	public void validateWithDelay(ModelTextDocument<T> document) {
+		validateWithDelay(document, validator);
+	}
+
+	/**
+	 * Validate the given model <code>document</code> with a delay, with the given
+	 * validator.
+	 * 
+	 * <p>
+	 * When a validation after a change of the document is pending, it is kept,
+	 * since it validates the document too.
+	 * </p>
+	 * 
+	 * @param document  the document model to validate.
+	 * @param validator the validator.
+	 */
+	public void validateWithDelay(ModelTextDocument<T> document, Consumer<ModelTextDocument<T>> validator) {
 		String uri = document.getUri();
-		cleanPendingValidation(uri);
 		int version = document.getVersion();
-		Future<?> request = executorService.schedule(() -> {
-			synchronized (pendingValidationRequests) {
-				pendingValidationRequests.remove(uri);
-			}
-			if (version == document.getVersion()) {
-				validator.accept(document);
-			}
-		}, validationDelayMs, TimeUnit.MILLISECONDS);
+		long delay = getValidationDelay(document);
 		synchronized (pendingValidationRequests) {
-			pendingValidationRequests.put(uri, request);
+			PendingValidation<T> pending = pendingValidationRequests.remove(uri);
+			if (pending != null) {
+				if (pending.request.cancel(false)) {
+					// The pending validation is coalesced with this one
+					getPerformanceListener().recordValidationCoalesced();
+				}
+				if (pending.validator == this.validator) {
+					validator = this.validator;
+				}
+			}
+			Consumer<ModelTextDocument<T>> documentValidator = validator;
+			Future<?> request = executorService.schedule(() -> {
+				synchronized (pendingValidationRequests) {
+					PendingValidation<T> current = pendingValidationRequests.get(uri);
+					if (current != null && current.version == version) {
+						pendingValidationRequests.remove(uri);
+					}
+				}
+				if (version == document.getVersion()) {
+					validate(document, documentValidator);
+				} else {
+					getPerformanceListener().recordValidationCoalesced();
+				}
+			}, delay, TimeUnit.MILLISECONDS);
+			pendingValidationRequests.put(uri, new PendingValidation<>(request, version, documentValidator));
 		}
 	}
 
 	public void cleanPendingValidation(String uri) {
+		validationCosts.remove(uri);
 		synchronized (pendingValidationRequests) {
-			Future<?> request = pendingValidationRequests.get(uri);
-			if (request != null) {
-				request.cancel(true);
-				pendingValidationRequests.remove(uri);
+			PendingValidation<T> pending = pendingValidationRequests.remove(uri);
+			if (pending != null) {
+				pending.request.cancel(false);
+			}
+		}
+	}
+
+	/**
+	 * Returns the delay before validating the given document.
+	 * 
+	 * @param document the document model to validate.
+	 * @return the delay in milliseconds before validating the given document.
+	 */
+	long getValidationDelay(ModelTextDocument<T> document) {
+		ValidationCost cost = validationCosts.get(document.getUri());
+		double costMs = -1;
+		if (cost != null) {
+			// The cost is updated on the validation thread
+			synchronized (cost) {
+				if (cost.measures > 1) {
+					costMs = cost.costMs;
+				}
+			}
+		}
+		if (costMs < 0) {
+			costMs = (double) document.getText().length() / CHARACTERS_VALIDATED_PER_MS;
+		}
+		long delay = (long) (costMs * DELAY_PER_VALIDATION_COST);
+		return Math.max(validationDelayMs, Math.min(MAX_VALIDATION_DELAY_MS, delay));
+	}
+
+	private void validate(ModelTextDocument<T> document, Consumer<ModelTextDocument<T>> validator) {
+		long start = System.nanoTime();
+		try {
+			validator.accept(document);
+		} catch (CancellationException e) {
+			// A newer version of the document will be validated
+			getPerformanceListener().recordValidationCancelled();
+			return;
+		}
+		long time = System.nanoTime() - start;
+		getPerformanceListener().recordValidation(TimeUnit.NANOSECONDS.toMicros(time));
+		updateValidationCost(document.getUri(), TimeUnit.NANOSECONDS.toMicros(time) / 1000.0);
+	}
+
+	private PerformanceListener getPerformanceListener() {
+		return performanceListener != null ? performanceListener : TelemetryManager.getPerformanceListener();
+	}
+
+	void updateValidationCost(String uri, double timeMs) {
+		ValidationCost cost = validationCosts.computeIfAbsent(uri, key -> new ValidationCost());
+		synchronized (cost) {
+			// The first validation of a document may load its grammars, so it does not
+			// tell the cost of the next validations
+			cost.measures++;
+			if (cost.measures == 2) {
+				cost.costMs = timeMs;
+			} else if (cost.measures > 2) {
+				cost.costMs += COST_SMOOTHING * (timeMs - cost.costMs);
 			}
 		}
 	}
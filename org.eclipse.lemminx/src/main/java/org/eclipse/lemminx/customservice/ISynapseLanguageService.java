@@ -67,6 +67,7 @@ import org.eclipse.lemminx.customservice.synapse.parser.UpdateDependencyRequest;
 import org.eclipse.lemminx.customservice.synapse.parser.UpdatePropertyRequest;
 import org.eclipse.lemminx.customservice.synapse.parser.UpdateResponse;
 import org.eclipse.lemminx.customservice.synapse.parser.config.ConfigurableEntry;
+import org.eclipse.lemminx.customservice.synapse.performance.PerformanceStats;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.ResourceUsagesRequest;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.ResourceParam;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.ResourceResponse;
@@ -294,4 +295,7 @@ public interface ISynapseLanguageService {
 
     @JsonRequest
     CompletableFuture<DependencyStatusResponse> getDependencyStatusList();
+
+    @JsonRequest
+    CompletableFuture<PerformanceStats> performanceStats();
 }
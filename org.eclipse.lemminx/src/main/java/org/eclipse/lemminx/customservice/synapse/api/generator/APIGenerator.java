@@ -163,9 +163,8 @@ public class APIGenerator {
             }
         }
 
-        String apiElement = APISerializer.serializeAPI(genAPI);
         if (log.isLoggable(Level.FINE)) {
-            log.info("API generation completed : " + genAPI.getName() + " API: " + apiElement);
+            log.info("API generation completed : " + genAPI.getName() + " API: " + APISerializer.serializeAPI(genAPI));
         }
         return genAPI;
     }
@@ -274,9 +273,8 @@ public class APIGenerator {
             }
         }
 
-        String apiElement = APISerializer.serializeAPI(genAPI);
         if (log.isLoggable(Level.FINE)) {
-            log.info("API generation completed : " + genAPI.getName() + " API: " + apiElement);
+            log.info("API generation completed : " + genAPI.getName() + " API: " + APISerializer.serializeAPI(genAPI));
         }
         return genAPI;
     }
@@ -15,9 +15,6 @@
 package org.eclipse.lemminx.customservice.synapse.api.generator;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -43,7 +40,7 @@ import io.swagger.v3.parser.core.models.SwaggerParseResult;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.lemminx.customservice.synapse.parser.AdvanceDetails;
 import org.eclipse.lemminx.customservice.synapse.parser.OverviewPageDetailsResponse;
-import org.eclipse.lemminx.customservice.synapse.parser.pom.PomParser;
+import org.eclipse.lemminx.customservice.synapse.parser.ProjectMetadataService;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.api.API;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.api.ApiVersionType;
 
@@ -208,8 +205,8 @@ public class OpenAPIProcessor {
 
         String serverVersionPath = api.getContext().startsWith("/") ? "" : "/";
         if (StringUtils.isNotBlank(projectPath)){
-            OverviewPageDetailsResponse overviewPageDetailsResponse = new OverviewPageDetailsResponse();
-            PomParser.getPomDetails(projectPath, overviewPageDetailsResponse);
+            OverviewPageDetailsResponse overviewPageDetailsResponse =
+                    ProjectMetadataService.getInstance().getMetadata(projectPath).getPomDetails();
             AdvanceDetails advanceDetails = overviewPageDetailsResponse.getBuildDetails().getAdvanceDetails();
             serverVersionPath = "/" + advanceDetails.getProjectGroupId().getValue() + "/" + advanceDetails.getProjectArtifactId().getValue()
                     + "/" + overviewPageDetailsResponse.getPrimaryDetails().getProjectVersion().getValue()
@@ -364,15 +361,7 @@ public class OpenAPIProcessor {
             throw new APIGenException("Provided swagger definition is empty");
         }
 
-        if (isJSONIn) {
-            JsonNode jsonNodeTree = null;
-            try {
-                jsonNodeTree = new ObjectMapper().readTree(existingSwagger);
-                existingSwagger = new YAMLMapper().writeValueAsString(jsonNodeTree);
-            } catch (JsonProcessingException e) {
-                throw new APIGenException("Error occurred while converting the swagger to YAML format", e);
-            }
-        }
+        // The parser reads both JSON and YAML, so a JSON definition is parsed as it is without converting it to YAML
         OpenAPIV3Parser apiv3Parser = new OpenAPIV3Parser();
         SwaggerParseResult swaggerParseResult = apiv3Parser.readContents(existingSwagger);
         OpenAPI openAPI = swaggerParseResult.getOpenAPI();
@@ -380,6 +369,9 @@ public class OpenAPIProcessor {
         Paths paths = openAPI.getPaths();
         Paths newPaths = new Paths();
 
+        // Every resource of the API is merged into the definition. Merging an unchanged operation only looks up its
+        // parameters, while the cost of an update is in parsing and writing the whole definition, hence the operations
+        // are not filtered with the path fingerprints used by SwaggerUtils.compareOpenAPIs.
         final Map<String, Object> dataMap = GenericApiObjectDefinition.getPathMap(api);
         for (Map.Entry<String, Object> entry : dataMap.entrySet()) {
             boolean pathItemExists = false;
@@ -14,14 +14,17 @@
 
 package org.eclipse.lemminx.customservice.synapse.api.generator;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSyntaxException;
-import io.swagger.v3.oas.models.OpenAPI;
-import io.swagger.v3.parser.OpenAPIV3Parser;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.lemminx.customservice.synapse.api.generator.pojo.GenerateAPIParam;
@@ -64,8 +67,7 @@ import java.io.IOException;
 import java.io.StringWriter;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.nio.file.Files;
-import java.nio.file.Paths;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.logging.Level;
@@ -95,6 +97,8 @@ public class RestApiAdmin {
     private static final String SOAP_BODY_PREFIX = "<soapenv:Envelope xmlns:soapenv"
             + "=\"http://www.w3.org/2003/05/soap-envelope\">\r\n<soapenv:Header/>\r\n<soapenv:Body>\r\n";
     private static final String SOAP_BODY_POSTFIX = "</soapenv:Body>\r\n</soapenv:Envelope>\r\n";
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory());
 
     public GenerateAPIResponse createAPI(GenerateAPIParam param) {
 
@@ -123,7 +127,7 @@ public class RestApiAdmin {
         if (CREATE_FROM_SWAGGER.equalsIgnoreCase(mode)) {
             try {
                 return createAPIFromSwagger(apiName, sourcePath, publishSwaggerPath);
-            } catch (JsonProcessingException e) {
+            } catch (IOException e) {
                 LOGGER.log(Level.SEVERE, "Exception occurred while creating API from Swagger", e);
                 return null;
             }
@@ -141,26 +145,73 @@ public class RestApiAdmin {
         return null;
     }
 
-    private GenerateAPIResponse createAPIFromSwagger(String apiName, String swaggerPath, String publishSwaggerPath) throws JsonProcessingException {
+    private GenerateAPIResponse createAPIFromSwagger(String apiName, String swaggerPath, String publishSwaggerPath)
+            throws IOException {
 
         File swaggerFile = new File(swaggerPath);
-        String swaggerYaml = getSwaggerFileAsYAML(swaggerFile, apiName);
+        ObjectMapper mapper = "json".equals(FilenameUtils.getExtension(swaggerFile.getName())) ? JSON_MAPPER :
+                YAML_MAPPER;
+        JsonNode swagger = mapper.readTree(swaggerFile);
+        if (swagger == null || !swagger.isObject()) {
+            throw new IOException("Invalid swagger definition: " + swaggerPath);
+        }
+        JsonNode info = swagger.get("info");
+        if (info != null && info.isObject()) {
+            ((ObjectNode) info).put(TITLE, apiName);
+        }
 
-        String api = getSynapseAPIFromSwagger(swaggerYaml, publishSwaggerPath);
+        String api = getSynapseAPIFromSwagger(swagger, publishSwaggerPath);
         return new GenerateAPIResponse(api);
     }
 
-    private String getSynapseAPIFromSwagger(String swaggerYaml, String publishSwaggerPath) throws JsonProcessingException {
+    /**
+     * Generates the Synapse API from the parsed swagger definition.
+     * <p>
+     * The definition is parsed only once, and the parsed tree is handed over to the generator as it is, without
+     * converting it between YAML and JSON strings.
+     *
+     * @param swagger            parsed swagger definition
+     * @param publishSwaggerPath swagger publish path
+     * @return the Synapse API
+     */
+    private String getSynapseAPIFromSwagger(JsonNode swagger, String publishSwaggerPath) {
+
+        APIGenerator apiGenerator = new APIGenerator(toJsonObject(swagger), publishSwaggerPath);
+        return apiGenerator.generateSynapseAPIXml();
+    }
 
-        String swaggerString = GenericApiObjectDefinition.convertYamlToJson(swaggerYaml);
-        JsonParser jsonParser = new JsonParser();
-        JsonElement swaggerJson = jsonParser.parse(swaggerString);
-        APIGenerator apiGenerator = new APIGenerator(swaggerJson.getAsJsonObject(), publishSwaggerPath);
-        String apiXml = apiGenerator.generateSynapseAPIXml();
-        return apiXml;
+    private static JsonObject toJsonObject(JsonNode node) {
+
+        JsonObject jsonObject = new JsonObject();
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            jsonObject.add(field.getKey(), toJsonElement(field.getValue()));
+        }
+        return jsonObject;
+    }
+
+    private static JsonElement toJsonElement(JsonNode node) {
+
+        if (node.isObject()) {
+            return toJsonObject(node);
+        } else if (node.isArray()) {
+            JsonArray jsonArray = new JsonArray();
+            for (JsonNode item : node) {
+                jsonArray.add(toJsonElement(item));
+            }
+            return jsonArray;
+        } else if (node.isNumber()) {
+            return new JsonPrimitive(node.numberValue());
+        } else if (node.isBoolean()) {
+            return new JsonPrimitive(node.booleanValue());
+        } else if (node.isNull() || node.isMissingNode()) {
+            return JsonNull.INSTANCE;
+        }
+        return new JsonPrimitive(node.asText());
     }
 
-    private GenerateAPIResponse createAPIFromWSDL(String apiName, String endpoint, String sourcePath) throws SOAPToRESTException, MalformedURLException, JsonProcessingException, TransformerException {
+    private GenerateAPIResponse createAPIFromWSDL(String apiName, String endpoint, String sourcePath) throws SOAPToRESTException, IOException, TransformerException {
 
         URL url = new URL(sourcePath);
         SOAPtoRESTConversionData soaPtoRESTConversionData = SOAPToRESTConverter.getSOAPtoRESTConversionData(url,
@@ -185,7 +236,7 @@ public class RestApiAdmin {
         wsdlEndpoint.setWsdl(wsdlEndpointData);
 
         String swaggerYaml = soaPtoRESTConversionData.getOASString();
-        String apiXml = getSynapseAPIFromSwagger(swaggerYaml, null);
+        String apiXml = getSynapseAPIFromSwagger(YAML_MAPPER.readTree(swaggerYaml), null);
         APIFactory apiFactory = new APIFactory();
         API api = (API) apiFactory.create(Utils.getDOMDocument(apiXml).getDocumentElement());
 
@@ -270,26 +321,6 @@ public class RestApiAdmin {
         return new GenerateAPIResponse(genApi, genEndpoint);
     }
 
-    private String getSwaggerFileAsYAML(File swaggerFile, String apiName) {
-
-        String swaggerContent = "";
-        try {
-            swaggerContent = new String(Files.readAllBytes(Paths.get(swaggerFile.getAbsolutePath())));
-            if (FilenameUtils.getExtension(swaggerFile.getAbsolutePath()).equals("json")) {
-                swaggerContent = convertJSONtoYaml(swaggerContent);
-            }
-            swaggerContent = updateNameInSwagger(apiName, swaggerContent);
-
-        } catch (IOException e) {
-            LOGGER.log(Level.SEVERE, "Exception occurred while reading swagger file", e);
-        } catch (APIException e) {
-            LOGGER.log(Level.SEVERE, "Exception occurred while updating swagger name", e);
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Exception occurred while converting swagger JSON to YAML", e);
-        }
-        return swaggerContent;
-    }
-
     public String updateNameInSwagger(String newName, String swagger) throws APIException {
 
         JsonParser parser = new JsonParser();
@@ -365,19 +396,8 @@ public class RestApiAdmin {
      * @return boolean
      */
     public Boolean isEqualSwaggers(IsEqualSwaggersParam param) {
-        OpenAPI existingOpenAPI = null;
-        OpenAPI generatedOpenAPI = null;
-        if (param.existingSwagger != null) {
-            existingOpenAPI = new OpenAPIV3Parser().readContents(param.existingSwagger, null, null).
-                    getOpenAPI();
 
-        }
-        if (param.generatedSwagger != null) {
-            generatedOpenAPI = new OpenAPIV3Parser().readContents(param.generatedSwagger, null, null).
-                    getOpenAPI();
-
-        }
-        return SwaggerUtils.compareOpenAPIs(generatedOpenAPI, existingOpenAPI);
+        return SwaggerUtils.compareOpenAPIs(param.generatedSwagger, param.existingSwagger);
     }
 
     /**
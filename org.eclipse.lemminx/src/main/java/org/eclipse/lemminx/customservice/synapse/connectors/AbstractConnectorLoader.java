@@ -14,6 +14,7 @@
 
 package org.eclipse.lemminx.customservice.synapse.connectors;
 
+import com.google.gson.JsonObject;
 import org.eclipse.lemminx.customservice.SynapseLanguageClientAPI;
 import org.eclipse.lemminx.customservice.synapse.ConnectorStatusNotification;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.Connector;
@@ -21,6 +22,7 @@ import org.eclipse.lemminx.customservice.synapse.inbound.conector.InboundConnect
 import org.eclipse.lemminx.customservice.synapse.InvalidConfigurationException;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.eclipse.lemminx.customservice.synapse.utils.ZipArchive;
 
 import java.io.File;
 import java.io.IOException;
@@ -40,12 +42,14 @@ import static org.eclipse.lemminx.customservice.synapse.utils.Constant.INBOUND_C
 public abstract class AbstractConnectorLoader {
 
     private static final Logger log = Logger.getLogger(AbstractConnectorLoader.class.getName());
+    protected static final String INBOUND_CONNECTOR_RECORD_EXT = ".inbound";
     private SynapseLanguageClientAPI languageClient;
     protected ConnectorHolder connectorHolder;
     protected InboundConnectorHolder inboundConnectorHolder;
     private ConnectorReader connectorReader;
     protected List<String> connectorsZipFolderPath = new ArrayList<>();
     private File connectorExtractFolder;
+    private ConnectorCatalog connectorCatalog;
     protected String projectUri;
 
     public AbstractConnectorLoader(SynapseLanguageClientAPI languageClient, ConnectorHolder connectorHolder,
@@ -65,6 +69,8 @@ public abstract class AbstractConnectorLoader {
         setProjectUri(projectRoot);
         setConnectorsZipFolderPath(projectRoot);
         connectorExtractFolder = getConnectorExtractFolder();
+        connectorCatalog = new ConnectorCatalog(connectorExtractFolder);
+        connectorCatalog.load();
     }
 
     protected abstract void setConnectorsZipFolderPath(String projectRoot);
@@ -76,8 +82,35 @@ public abstract class AbstractConnectorLoader {
             connectorHolder.setConnectorZips(Collections.unmodifiableList(connectorZips));
             cleanOldConnectors(connectorExtractFolder, connectorZips);
             copyToProjectIfNeeded(connectorZips);
+            connectorCatalog.retainAll(connectorZips);
+            loadCatalogConnectors(connectorZips);
             extractZips(connectorZips, connectorExtractFolder);
             readConnectors(connectorExtractFolder);
+            connectorCatalog.save();
+        }
+    }
+
+    /**
+     * Adds the connectors of the unchanged connector zips from the connector catalog, so that they are available
+     * before the zips are extracted and without reading the connector descriptors again.
+     *
+     * @param connectorZips available connector zips
+     */
+    private void loadCatalogConnectors(List<File> connectorZips) {
+
+        for (File zip : connectorZips) {
+            if (zip.getName().contains(INBOUND_CONNECTOR_PREFIX)) {
+                continue;
+            }
+            ConnectorCatalog.CatalogEntry entry = connectorCatalog.getEntry(zip);
+            if (entry == null || connectorHolder.exists(entry.getConnector().getName())) {
+                continue;
+            }
+            Connector connector = entry.getConnector();
+            connector.setConnectorZipPath(getConnectorZip(connectorZips, connector.getExtractedConnectorPath()));
+            connectorHolder.addUiSchemas(entry.getUiSchemas());
+            connectorHolder.addConnector(connector);
+            notifyAddConnector(connector.getName(), true, "Connector added successfully");
         }
     }
 
@@ -122,17 +155,14 @@ public abstract class AbstractConnectorLoader {
         for (File zip : connectorZips) {
             String zipName = zip.getName();
             zipName = zipName.substring(0, zipName.lastIndexOf(Constant.DOT));
-            if (!tempConnectorNames.contains(zipName)) {
+            if (zipName.contains(INBOUND_CONNECTOR_PREFIX)) {
+                // Only the UI schema of an inbound connector is needed, hence the zip is not extracted
+                saveInboundConnector(zip, new File(extractFolder, zipName + INBOUND_CONNECTOR_RECORD_EXT));
+            } else if (!tempConnectorNames.contains(zipName)) {
                 String extractTo = extractFolder.getAbsolutePath() + File.separator + zipName;
                 File extractToFolder = new File(extractTo);
                 try {
                     Utils.extractZip(zip, extractToFolder);
-                    if (zipName.contains(INBOUND_CONNECTOR_PREFIX)) {
-                        String schema = Utils.readFile(extractToFolder.toPath().resolve(Constant.RESOURCES)
-                                .resolve(Constant.UI_SCHEMA_JSON).toFile());
-                        inboundConnectorHolder.saveInboundConnector(Utils.getJsonObject(schema)
-                                .get(Constant.NAME).getAsString(), schema);
-                    }
                 } catch (IOException e) {
                     log.log(Level.WARNING, "Failed to extract connector zip:" + zipName, e);
                 }
@@ -140,6 +170,20 @@ public abstract class AbstractConnectorLoader {
         }
     }
 
+    private void saveInboundConnector(File zip, File record) {
+
+        try {
+            JsonObject schema = ZipArchive.readJsonEntry(zip, InboundConnectorHolder.UI_SCHEMA_ENTRY);
+            String connectorName = schema.get(Constant.NAME).getAsString();
+            if (inboundConnectorHolder.saveInboundConnector(connectorName, schema.toString())) {
+                // Record the connector saved from the zip, so that it can be removed when the zip is removed
+                Utils.writeToFile(record.getAbsolutePath(), connectorName + "\n" + zip.getAbsolutePath());
+            }
+        } catch (Exception e) {
+            log.log(Level.WARNING, "Failed to read the inbound connector zip:" + zip.getName(), e);
+        }
+    }
+
     private void readConnectors(File connectorFolder) {
 
         File[] files = connectorFolder.listFiles(File::isDirectory);
@@ -152,6 +196,7 @@ public abstract class AbstractConnectorLoader {
                     connector.setConnectorZipPath(
                             getConnectorZip(connectorHolder.getConnectorZips(), connector.getExtractedConnectorPath()));
                     connectorHolder.addConnector(connector);
+                    connectorCatalog.addEntry(getZipOfExtractedFolder(f), connector);
                     notifyAddConnector(connector.getName(), true, "Connector added successfully");
                     continue;
                 }
@@ -178,6 +223,23 @@ public abstract class AbstractConnectorLoader {
         return null;
     }
 
+    private File getZipOfExtractedFolder(File extractedFolder) {
+
+        File matchedZip = null;
+        for (File zip : connectorHolder.getConnectorZips()) {
+            String zipName = zip.getName();
+            if (extractedFolder.getName().equals(zipName.substring(0, zipName.lastIndexOf(Constant.DOT)))) {
+                if (zip.getAbsolutePath().contains(projectUri)) {
+                    return zip;
+                }
+                if (matchedZip == null) {
+                    matchedZip = zip;
+                }
+            }
+        }
+        return matchedZip;
+    }
+
     protected void notifyAddConnector(String connector, boolean isSuccessful, String message) {
 
         ConnectorStatusNotification status = new ConnectorStatusNotification(connector, isSuccessful, message);
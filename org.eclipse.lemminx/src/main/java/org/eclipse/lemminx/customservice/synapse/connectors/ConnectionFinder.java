@@ -23,11 +23,8 @@ import org.eclipse.lemminx.customservice.synapse.resourceFinder.ResourceFinderFa
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.ArtifactResource;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.Resource;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.ResourceResponse;
+import org.eclipse.lemminx.customservice.synapse.utils.CompactDocument;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
-import org.eclipse.lemminx.customservice.synapse.utils.Utils;
-import org.eclipse.lemminx.dom.DOMDocument;
-import org.eclipse.lemminx.dom.DOMElement;
-import org.eclipse.lemminx.dom.DOMNode;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 
 import java.io.File;
@@ -42,6 +39,11 @@ import java.util.logging.Logger;
 public class ConnectionFinder {
 
     private static final Logger log = Logger.getLogger(ConnectionFinder.class.getName());
+    // The parameters of a connection are read, but the content of other local entries is skipped
+    private static final CompactDocument.ScanLimit CONNECTION_SCAN_LIMIT = (document, parent, depth) -> {
+        String entryName = document.getNodeName(document.getFirstElement(document.getDocumentElement()));
+        return depth > 2 && (entryName == null || getConnectorName(entryName) == null);
+    };
 
     /**
      * Find connections for a given uri and name. If the name is null, it will return all the connections.
@@ -101,13 +103,15 @@ public class ConnectionFinder {
                 String localEntryName = resource.getName();
                 String filePath = ((ArtifactResource) resource).getAbsolutePath();
                 File file = new File(filePath);
-                DOMDocument document = Utils.getDOMDocument(file);
-                DOMElement childElement = Utils.getFirstElement(document.getDocumentElement());
-                if (childElement != null) {
-                    String nodeName = childElement.getNodeName();
+                CompactDocument document = CompactDocument.parse(file, CONNECTION_SCAN_LIMIT);
+                int rootElement = document.getDocumentElement();
+                int childElement = rootElement != CompactDocument.NONE ? document.getFirstElement(rootElement) :
+                        CompactDocument.NONE;
+                if (childElement != CompactDocument.NONE) {
+                    String nodeName = document.getNodeName(childElement);
                     String connectorName = getConnectorName(nodeName);
-                    String connectionType = getConnectionType(childElement);
-                    List<ConnectionParameter> parameters = getParameters(childElement);
+                    String connectionType = getConnectionType(document, childElement);
+                    List<ConnectionParameter> parameters = getParameters(document, childElement);
                     if (connectorName != null) {
                         addToConnections(connections, connectorName, localEntryName, connectionType, parameters,
                                 filePath);
@@ -119,27 +123,22 @@ public class ConnectionFinder {
         }
     }
 
-    private static List<ConnectionParameter> getParameters(DOMElement element) {
+    private static List<ConnectionParameter> getParameters(CompactDocument document, int element) {
 
         List<ConnectionParameter> parameters = new ArrayList<>();
-        List<DOMNode> children = element.getChildren();
-        if (children != null && !children.isEmpty()) {
-            for (DOMNode child : children) {
-                if (child instanceof DOMElement) {
-                    DOMElement childElement = (DOMElement) child;
-                    ConnectionParameter parameter = new ConnectionParameter();
-                    parameter.setName(childElement.getNodeName());
-                    String inline = Utils.getInlineString(childElement.getFirstChild());
-                    Boolean isExpression = isExpression(inline);
-                    parameter.setExpression(isExpression);
-                    if (isExpression) {
-                        parameter.setExpression(inline.substring(1, inline.length() - 1));
-                    } else {
-                        parameter.setValue(inline);
-                    }
-                    parameters.add(parameter);
-                }
+        for (int child = document.getFirstElement(element); child != CompactDocument.NONE;
+             child = document.getNextElement(child)) {
+            ConnectionParameter parameter = new ConnectionParameter();
+            parameter.setName(document.getNodeName(child));
+            String inline = document.getInlineString(document.getFirstChild(child));
+            Boolean isExpression = isExpression(inline);
+            parameter.setExpression(isExpression);
+            if (isExpression) {
+                parameter.setExpression(inline.substring(1, inline.length() - 1));
+            } else {
+                parameter.setValue(inline);
             }
+            parameters.add(parameter);
         }
         return parameters;
     }
@@ -171,16 +170,12 @@ public class ConnectionFinder {
         }
     }
 
-    private static String getConnectionType(DOMElement element) {
+    private static String getConnectionType(CompactDocument document, int element) {
 
-        List<DOMNode> children = element.getChildren();
-        if (children != null) {
-            for (DOMNode child : children) {
-                String nodeName = child.getNodeName();
-                if ("connectionType".equals(nodeName)) {
-                    String connectionType = Utils.getInlineString(child.getFirstChild());
-                    return connectionType;
-                }
+        for (int child = document.getFirstElement(element); child != CompactDocument.NONE;
+             child = document.getNextElement(child)) {
+            if (document.hasName(child, "connectionType")) {
+                return document.getInlineString(document.getFirstChild(child));
             }
         }
         return null;
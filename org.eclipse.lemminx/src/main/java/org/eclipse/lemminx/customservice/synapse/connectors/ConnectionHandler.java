@@ -63,11 +63,7 @@ public class ConnectionHandler {
             if (connectionSchemas != null) {
                 String path = connectionSchemas.get(connectionType.toUpperCase());
                 if (path != null) {
-                    File file = new File(path);
-                    if (file.exists()) {
-                        String uiSchemaString = Utils.readFile(file);
-                        return Utils.getJsonObject(uiSchemaString);
-                    }
+                    return connectorHolder.getUiSchema(path);
                 }
             }
         }
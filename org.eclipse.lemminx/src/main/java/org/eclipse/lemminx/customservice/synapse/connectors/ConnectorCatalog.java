@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.connectors;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import org.eclipse.lemminx.customservice.synapse.connectors.entity.Connector;
+import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Snapshot of the connectors read from the connector zips of a project.
+ * <p>
+ * Each entry keeps the {@link Connector} model together with the content of its UI schemas and is keyed by the
+ * extracted folder name of the connector zip. An entry is only used while the fingerprint of the zip it was created
+ * from is unchanged. The catalog is stored in a single file next to the extracted connectors, so that it can be
+ * loaded with one read at startup without parsing the connector descriptors or extracting the zips.
+ */
+public class ConnectorCatalog {
+
+    private static final Logger LOGGER = Logger.getLogger(ConnectorCatalog.class.getName());
+    private static final String CATALOG_FILE_NAME = "connector-catalog.json";
+    private static final int CATALOG_VERSION = 1;
+
+    private final File catalogFile;
+    private final Gson gson;
+    private Map<String, CatalogEntry> entries;
+    private boolean modified;
+
+    public ConnectorCatalog(File connectorExtractFolder) {
+
+        this.catalogFile = new File(connectorExtractFolder.getParentFile(), CATALOG_FILE_NAME);
+        this.gson = new Gson();
+        this.entries = new HashMap<>();
+    }
+
+    /**
+     * Loads the catalog file, if it exists, using a memory mapped read.
+     */
+    public void load() {
+
+        entries = new HashMap<>();
+        if (!catalogFile.exists()) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(catalogFile.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            String content = StandardCharsets.UTF_8.decode(buffer).toString();
+            CatalogSnapshot snapshot = gson.fromJson(content, CatalogSnapshot.class);
+            if (snapshot != null && snapshot.version == CATALOG_VERSION && snapshot.entries != null) {
+                entries = snapshot.entries;
+            }
+        } catch (IOException | JsonSyntaxException e) {
+            LOGGER.log(Level.WARNING, "Failed to load the connector catalog. The connectors will be read again.", e);
+        }
+    }
+
+    /**
+     * Returns the snapshot of the connector extracted from the given zip if the zip is unchanged since the
+     * snapshot was taken.
+     *
+     * @param zip connector zip
+     * @return the catalog entry or null if there is no valid entry for the zip
+     */
+    public CatalogEntry getEntry(File zip) {
+
+        CatalogEntry entry = entries.get(getExtractedFolderName(zip));
+        if (entry != null && entry.fingerprint.equals(getFingerprint(zip)) && entry.connector != null) {
+            return entry;
+        }
+        return null;
+    }
+
+    /**
+     * Adds a snapshot of the given connector to the catalog.
+     *
+     * @param zip       connector zip the connector was extracted from
+     * @param connector connector model
+     */
+    public void addEntry(File zip, Connector connector) {
+
+        if (zip == null || connector == null ||
+                ConnectorReader.BALLERINA_PACKAGE_NAME.equals(connector.getPackageName())) {
+            // Ballerina connectors depend on the project sources, hence they are always read again.
+            return;
+        }
+        Map<String, String> uiSchemas = new HashMap<>();
+        File uiSchemaFolder = connector.getUiSchemaPath() != null ? new File(connector.getUiSchemaPath()) : null;
+        File[] files = uiSchemaFolder != null ? uiSchemaFolder.listFiles() : null;
+        if (files != null) {
+            for (File file : files) {
+                if (file.getName().endsWith(Constant.JSON_FILE_EXT)) {
+                    try {
+                        uiSchemas.put(file.getAbsolutePath(), Utils.readFile(file));
+                    } catch (IOException e) {
+                        LOGGER.log(Level.WARNING, "Failed to read the UI schema: " + file.getAbsolutePath(), e);
+                        return;
+                    }
+                }
+            }
+        }
+        entries.put(getExtractedFolderName(zip), new CatalogEntry(getFingerprint(zip), connector, uiSchemas));
+        modified = true;
+    }
+
+    /**
+     * Removes the entries of the connectors whose zips are no longer available.
+     *
+     * @param connectorZips available connector zips
+     */
+    public void retainAll(List<File> connectorZips) {
+
+        Map<String, CatalogEntry> retained = new HashMap<>();
+        for (File zip : connectorZips) {
+            String folderName = getExtractedFolderName(zip);
+            CatalogEntry entry = entries.get(folderName);
+            if (entry != null) {
+                retained.put(folderName, entry);
+            }
+        }
+        if (retained.size() != entries.size()) {
+            entries = retained;
+            modified = true;
+        }
+    }
+
+    /**
+     * Writes the catalog to the disk if it was modified after loading.
+     */
+    public void save() {
+
+        if (!modified) {
+            return;
+        }
+        CatalogSnapshot snapshot = new CatalogSnapshot();
+        snapshot.version = CATALOG_VERSION;
+        snapshot.entries = entries;
+        try {
+            Path tempFile = Files.createTempFile(catalogFile.getParentFile().toPath(), CATALOG_FILE_NAME, null);
+            Files.writeString(tempFile, gson.toJson(snapshot));
+            Files.move(tempFile, catalogFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            modified = false;
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to save the connector catalog.", e);
+        }
+    }
+
+    private String getExtractedFolderName(File zip) {
+
+        String zipName = zip.getName();
+        return zipName.substring(0, zipName.lastIndexOf(Constant.DOT));
+    }
+
+    private String getFingerprint(File zip) {
+
+        return Utils.getHash(zip.getName() + ":" + zip.length() + ":" + zip.lastModified());
+    }
+
+    /**
+     * Snapshot of a single connector.
+     */
+    public static class CatalogEntry {
+
+        private final String fingerprint;
+        private final Connector connector;
+        private final Map<String, String> uiSchemas;
+
+        CatalogEntry(String fingerprint, Connector connector, Map<String, String> uiSchemas) {
+
+            this.fingerprint = fingerprint;
+            this.connector = connector;
+            this.uiSchemas = uiSchemas;
+        }
+
+        public Connector getConnector() {
+
+            return connector;
+        }
+
+        public Map<String, String> getUiSchemas() {
+
+            return uiSchemas != null ? uiSchemas : Map.of();
+        }
+    }
+
+    private static class CatalogSnapshot {
+
+        private int version;
+        private Map<String, CatalogEntry> entries;
+    }
+}
@@ -14,24 +14,33 @@
 
 package org.eclipse.lemminx.customservice.synapse.connectors;
 
+import com.google.gson.JsonObject;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.Connector;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.ConnectorAction;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ConnectorHolder {
 
     private static List<Connector> connectors;
     private List<File> connectorZips;
     private static ConnectorHolder instance;
+    private final Map<String, String> uiSchemaContents;
+    private final Map<String, JsonObject> uiSchemas;
 
     private ConnectorHolder() {
 
         this.connectors = new ArrayList<>();
+        this.uiSchemaContents = new ConcurrentHashMap<>();
+        this.uiSchemas = new ConcurrentHashMap<>();
     }
 
     public static synchronized ConnectorHolder getInstance() {
@@ -120,6 +129,7 @@ public class ConnectorHolder {
             for (Connector connector : connectors) {
                 if (connector.getName().equalsIgnoreCase(connectorName)) {
                     connectors.remove(connector);
+                    removeUiSchemas(connector);
                     break;
                 }
             }
@@ -139,5 +149,58 @@ public class ConnectorHolder {
     public void clearConnectors() {
 
         connectors.clear();
+        uiSchemaContents.clear();
+        uiSchemas.clear();
+    }
+
+    /**
+     * Adds the content of the UI schemas of a connector restored from the connector catalog, so that the schemas
+     * can be served without reading the extracted connector.
+     *
+     * @param schemaContents UI schema content against the UI schema path
+     */
+    public void addUiSchemas(Map<String, String> schemaContents) {
+
+        uiSchemaContents.putAll(schemaContents);
+    }
+
+    /**
+     * Returns a copy of the UI schema in the given path. The schema is read and parsed only once.
+     *
+     * @param uiSchemaPath path of the UI schema
+     * @return the UI schema or null if the schema is not available
+     * @throws IOException if an error occurred while reading the schema
+     */
+    public JsonObject getUiSchema(String uiSchemaPath) throws IOException {
+
+        if (uiSchemaPath == null) {
+            return null;
+        }
+        JsonObject uiSchema = uiSchemas.get(uiSchemaPath);
+        if (uiSchema == null) {
+            String content = uiSchemaContents.remove(uiSchemaPath);
+            if (content == null) {
+                File file = new File(uiSchemaPath);
+                if (!file.exists()) {
+                    return null;
+                }
+                content = Utils.readFile(file);
+            }
+            uiSchema = Utils.getJsonObject(content);
+            if (uiSchema == null) {
+                return null;
+            }
+            uiSchemas.put(uiSchemaPath, uiSchema);
+        }
+        return uiSchema.deepCopy();
+    }
+
+    private void removeUiSchemas(Connector connector) {
+
+        String uiSchemaPath = connector.getUiSchemaPath();
+        if (uiSchemaPath != null) {
+            uiSchemaContents.keySet().removeIf(path -> path.startsWith(uiSchemaPath));
+            uiSchemas.keySet().removeIf(path -> path.startsWith(uiSchemaPath));
+        }
     }
 }
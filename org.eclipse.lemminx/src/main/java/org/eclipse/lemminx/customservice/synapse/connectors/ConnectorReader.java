@@ -44,7 +44,7 @@ public class ConnectorReader {
     private static final Logger log = Logger.getLogger(ConnectorReader.class.getName());
     private static final Pattern ARTIFACT_VERSION_REGEX = Pattern.compile("(.+)-(\\d+\\.\\d+\\.\\d+(-SNAPSHOT)?)");
     private HashMap<String, List<String>> allowedConnectionTypesMap = new HashMap<>();
-    private static final String BALLERINA_PACKAGE_NAME = "io.ballerina.stdlib.mi";
+    static final String BALLERINA_PACKAGE_NAME = "io.ballerina.stdlib.mi";
     private static final List<String> EXCLUDED_AGENT_TOOLS = List.of("ai.chat", "ai.ragChat", "ai.agent");
 
     public Connector readConnector(String connectorPath, String projectUri) {
@@ -105,13 +105,11 @@ public class NewProjectConnectorLoader extends AbstractConnectorLoader {
                 connectorHolder.removeConnector(getConnectorName(connectorFolder));
                 try {
                     if (connectorFolder.getName().contains(Constant.INBOUND_CONNECTOR_PREFIX) ) {
+                        // Inbound connector extracted by an older version of the language server
                         String schema = Utils.readFile(connectorFolder.toPath().resolve(Constant.RESOURCES)
                                 .resolve(Constant.UI_SCHEMA_JSON).toFile());
-                        String fileName = Utils.getJsonObject(schema).get(Constant.NAME).getAsString() + Constant.JSON_FILE_EXT;
-                        String projectFolderName = connectorExtractFolder.getParentFile().getName();
-                        File schemaToRemove = Path.of(System.getProperty(Constant.USER_HOME), Constant.WSO2_MI,
-                                Constant.INBOUND_CONNECTORS).resolve(projectFolderName).resolve(fileName).toFile();
-                        FileUtils.delete(schemaToRemove);
+                        inboundConnectorHolder.removeInboundConnector(
+                                Utils.getJsonObject(schema).get(Constant.NAME).getAsString());
                     }
                     FileUtils.deleteDirectory(connectorFolder);
                     notifyRemoveConnector(connectorName, true, "Connector deleted successfully");
@@ -120,6 +118,37 @@ public class NewProjectConnectorLoader extends AbstractConnectorLoader {
                 }
             }
         }
+        cleanOldInboundConnectors(connectorExtractFolder, connectorZips);
+    }
+
+    private void cleanOldInboundConnectors(File connectorExtractFolder, List<File> connectorZips) {
+
+        File[] records = connectorExtractFolder.listFiles(
+                file -> file.isFile() && file.getName().endsWith(INBOUND_CONNECTOR_RECORD_EXT));
+        if (records == null) {
+            return;
+        }
+        for (File record : records) {
+            String zipName = record.getName().substring(0,
+                    record.getName().length() - INBOUND_CONNECTOR_RECORD_EXT.length());
+            boolean isConnectorAvailable =
+                    connectorZips.stream().anyMatch(file -> file.getName().contains(zipName));
+            if (!isConnectorAvailable) {
+                try {
+                    // The record holds the name of the connector and the path of its zip
+                    String[] recordLines = Utils.readFile(record).trim().split("\\R");
+                    if (recordLines.length > 1) {
+                        inboundConnectorHolder.removeInboundConnector(recordLines[0], new File(recordLines[1]));
+                    } else {
+                        inboundConnectorHolder.removeInboundConnector(recordLines[0]);
+                    }
+                    FileUtils.delete(record);
+                    notifyRemoveConnector(zipName, true, "Connector deleted successfully");
+                } catch (IOException e) {
+                    log.log(Level.WARNING, "Failed to delete inbound connector:" + zipName, e);
+                }
+            }
+        }
     }
 
     private Path getConnnectorDownloadPath() {
@@ -0,0 +1,400 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.debugger;
+
+import org.apache.commons.text.StringEscapeUtils;
+import org.eclipse.lemminx.customservice.synapse.debugger.entity.Breakpoint;
+import org.eclipse.lemminx.customservice.synapse.debugger.entity.StepOverInfo;
+import org.eclipse.lemminx.customservice.synapse.debugger.entity.debuginfo.ApiDebugInfo;
+import org.eclipse.lemminx.customservice.synapse.debugger.entity.debuginfo.DebugInfo;
+import org.eclipse.lemminx.customservice.synapse.debugger.entity.debuginfo.IDebugInfo;
+import org.eclipse.lemminx.customservice.synapse.debugger.entity.debuginfo.InboundDebugInfo;
+import org.eclipse.lemminx.customservice.synapse.debugger.entity.debuginfo.ProxyDebugInfo;
+import org.eclipse.lemminx.customservice.synapse.debugger.entity.debuginfo.SequenceDebugInfo;
+import org.eclipse.lemminx.customservice.synapse.debugger.entity.debuginfo.TemplateDebugInfo;
+import org.eclipse.lemminx.customservice.synapse.debugger.visitor.MediatorRange;
+import org.eclipse.lemminx.customservice.synapse.debugger.visitor.MediatorRangeVisitor;
+import org.eclipse.lemminx.customservice.synapse.debugger.visitor.VisitorUtils;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.NamedSequence;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.api.API;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.api.APIResource;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.misc.common.Sequence;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.proxy.Proxy;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.proxy.ProxyTarget;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.template.Template;
+import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Index of the breakpoint ranges of a single version of an artifact.
+ * <p>
+ * The syntax tree is walked once, when the index is created, to collect the ranges of the sequences and mediators of
+ * the artifact. Breakpoints are then resolved against the ranges: the mediators of a sequence are in document order,
+ * so the mediator of a breakpoint is found with a binary search instead of another walk of the syntax tree.
+ */
+public class BreakpointIndex {
+
+    private static final Logger LOGGER = Logger.getLogger(BreakpointIndex.class.getName());
+
+    private final STNode syntaxTree;
+    private final Scope root;
+
+    public BreakpointIndex(STNode syntaxTree) {
+
+        this.syntaxTree = syntaxTree;
+        this.root = syntaxTree != null ? createRootScope(syntaxTree) : null;
+    }
+
+    /**
+     * Returns the debug info of the given breakpoint.
+     *
+     * @param breakpoint breakpoint
+     * @return debug info of the breakpoint or null if the artifact type does not support debugging
+     */
+    public IDebugInfo getDebugInfo(Breakpoint breakpoint) {
+
+        if (root == null) {
+            return null;
+        }
+        if (!VisitorUtils.checkNodeInRange(root.node, breakpoint)) {
+            return markAsInvalid(copy(root.outOfRangeDebugInfo), root.outOfRangeError);
+        }
+        Scope scope = findScope(breakpoint);
+        IDebugInfo debugInfo = copy(scope.debugInfo);
+        if (scope.mediators == null || !resolveMediators(scope.mediators, breakpoint, debugInfo)) {
+            markAsInvalid(debugInfo, scope.error);
+        }
+        return debugInfo;
+    }
+
+    /**
+     * Returns the step over breakpoints of the given breakpoint.
+     *
+     * @param breakpoint breakpoint
+     * @return step over info
+     */
+    public StepOverInfo getStepOverInfo(Breakpoint breakpoint) {
+
+        StepOverState state = new StepOverState();
+        if (root != null && VisitorUtils.checkNodeInRange(root.node, breakpoint)) {
+            Scope scope = findScope(breakpoint);
+            if (scope.mediators != null) {
+                stepOver(scope.mediators, breakpoint, state);
+            }
+        }
+        return state.stepOverInfo;
+    }
+
+    public STNode getSyntaxTree() {
+
+        return syntaxTree;
+    }
+
+    private Scope findScope(Breakpoint breakpoint) {
+
+        Scope scope = root;
+        Scope child = scope.findChild(breakpoint);
+        while (child != null) {
+            scope = child;
+            child = scope.findChild(breakpoint);
+        }
+        return scope;
+    }
+
+    /**
+     * Resolves the position of the breakpoint in the given mediators. When the breakpoint is in the range of more than
+     * one mediator (a breakpoint without a column on a line shared by mediators), the last one decides the position,
+     * while an invalid breakpoint error of any of them is kept.
+     *
+     * @return true if the breakpoint is in the range of a mediator, false otherwise
+     */
+    private static boolean resolveMediators(List<MediatorRange> mediators, Breakpoint breakpoint,
+                                            IDebugInfo debugInfo) {
+
+        boolean found = false;
+        int first = firstCandidate(mediators, breakpoint);
+        int count = first;
+        for (int i = first; i < mediators.size(); i++) {
+            MediatorRange mediator = mediators.get(i);
+            if (VisitorUtils.startsAfter(mediator.getNode(), breakpoint)) {
+                break;
+            }
+            if (!VisitorUtils.checkNodeInRange(mediator.getNode(), breakpoint)) {
+                count++;
+                continue;
+            }
+            found = true;
+            String position = resolvePosition(mediator, count, breakpoint);
+            if (position != null) {
+                debugInfo.setMediatorPosition(position);
+            } else {
+                debugInfo.setMediatorPosition(null);
+                markAsInvalid(debugInfo, mediator.getInvalidBreakpointError());
+            }
+        }
+        return found;
+    }
+
+    private static String resolvePosition(MediatorRange mediator, int count, Breakpoint breakpoint) {
+
+        String position = Integer.toString(count);
+        if (VisitorUtils.checkValidBreakpoint(mediator.getNode(), breakpoint)) {
+            return position;
+        }
+        for (MediatorRange.Branch branch : mediator.getBranches()) {
+            if (VisitorUtils.checkNodeInRange(branch.getNode(), breakpoint)) {
+                DebugInfo branchDebugInfo = new DebugInfo();
+                resolveMediators(branch.getMediators(), breakpoint, branchDebugInfo);
+                if (branchDebugInfo.getMediatorPosition() == null) {
+                    return null;
+                }
+                if (branch.getLabel() != null) {
+                    position += " " + branch.getLabel();
+                }
+                return position + " " + branchDebugInfo.getMediatorPosition();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Collects the breakpoints reached by stepping over the breakpoint. The breakpoint steps into the branches of a
+     * mediator when it is on the start tag of the mediator, otherwise it steps to the next mediator, leaving the
+     * enclosing branches when it is on the last mediator of a branch.
+     */
+    private static void stepOver(List<MediatorRange> mediators, Breakpoint breakpoint, StepOverState state) {
+
+        int first = state.found ? 0 : firstCandidate(mediators, breakpoint);
+        for (int i = first; i < mediators.size() && !state.done; i++) {
+            MediatorRange mediator = mediators.get(i);
+            if (state.found) {
+                state.stepOverInfo.add(getBreakpointForNode(mediator.getNode()));
+                state.done = true;
+            } else if (VisitorUtils.checkNodeInRange(mediator.getNode(), breakpoint)) {
+                if (VisitorUtils.checkValidBreakpoint(mediator.getNode(), breakpoint)) {
+                    for (STNode stepIntoMediator : mediator.getStepIntoMediators()) {
+                        state.stepOverInfo.add(getBreakpointForNode(stepIntoMediator));
+                    }
+                    state.done = mediator.isStepIntoOnly();
+                } else {
+                    for (MediatorRange.Branch branch : mediator.getStepOverBranches()) {
+                        if (VisitorUtils.checkNodeInRange(branch.getNode(), breakpoint)) {
+                            stepOver(branch.getMediators(), breakpoint, state);
+                            if (!mediator.isSearchAllStepOverBranches()) {
+                                break;
+                            }
+                        }
+                    }
+                }
+                if (!state.done) {
+                    state.found = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the first mediator that does not end before the breakpoint. The mediators before it are not
+     * in the range of the breakpoint.
+     */
+    private static int firstCandidate(List<MediatorRange> mediators, Breakpoint breakpoint) {
+
+        int low = 0;
+        int high = mediators.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (VisitorUtils.endsBefore(mediators.get(mid).getNode(), breakpoint)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static Breakpoint getBreakpointForNode(STNode node) {
+
+        int line = node.getRange().getStartTagRange().getStart().getLine();
+        int column = node.getRange().getStartTagRange().getStart().getCharacter();
+        return new Breakpoint(line, column);
+    }
+
+    private static IDebugInfo markAsInvalid(IDebugInfo debugInfo, String error) {
+
+        debugInfo.setValid(false);
+        debugInfo.setError(error);
+        return debugInfo;
+    }
+
+    private static IDebugInfo copy(IDebugInfo debugInfo) {
+
+        try {
+            return debugInfo.clone();
+        } catch (CloneNotSupportedException e) {
+            LOGGER.log(Level.SEVERE, "Error while cloning debug info", e);
+            return debugInfo;
+        }
+    }
+
+    private static Scope createRootScope(STNode syntaxTree) {
+
+        String tag = syntaxTree.getTag();
+        if (Constant.API.equalsIgnoreCase(tag)) {
+            return createApiScope((API) syntaxTree);
+        } else if (Constant.PROXY.equalsIgnoreCase(tag)) {
+            return createProxyScope((Proxy) syntaxTree);
+        } else if (Constant.SEQUENCE.equalsIgnoreCase(tag)) {
+            NamedSequence sequence = (NamedSequence) syntaxTree;
+            SequenceDebugInfo debugInfo = new SequenceDebugInfo();
+            debugInfo.setSequenceKey(sequence.getName());
+            Scope scope = new Scope(sequence, debugInfo, "Invalid breakpoint in Sequence", new SequenceDebugInfo(),
+                    "Breakpoint is not in the range of the sequence");
+            scope.mediators = MediatorRangeVisitor.visitMediators(sequence.getMediatorList());
+            return scope;
+        } else if (Constant.INBOUND_ENDPOINT.equalsIgnoreCase(tag)) {
+            String error = "Breakpoint is not supported in inbound endpoint. Please add the breakpoint inside the " +
+                    "respective sequence";
+            return new Scope(syntaxTree, new InboundDebugInfo(), error, new InboundDebugInfo(), error);
+        } else if (Constant.TEMPLATE.equalsIgnoreCase(tag)) {
+            Template template = (Template) syntaxTree;
+            TemplateDebugInfo debugInfo = new TemplateDebugInfo();
+            debugInfo.setTemplateKey(template.getName());
+            Scope scope = new Scope(template, debugInfo, "Invalid breakpoint in Template", new TemplateDebugInfo(),
+                    "Breakpoint is not in the range of the template");
+            if (template.getSequence() != null) {
+                scope.mediators = MediatorRangeVisitor.visitMediators(template.getSequence().getMediatorList());
+            }
+            return scope;
+        }
+        return null;
+    }
+
+    private static Scope createApiScope(API api) {
+
+        StringBuilder key = new StringBuilder();
+        key.append(api.getName());
+        if (api.getVersion() != null) {
+            key.append(":v").append(api.getVersion());
+        }
+        ApiDebugInfo apiDebugInfo = new ApiDebugInfo();
+        apiDebugInfo.setApiKey(key.toString());
+        String error = "Invalid breakpoint in API";
+        Scope scope = new Scope(api, apiDebugInfo, error, new ApiDebugInfo(), error);
+        APIResource[] resources = api.getResource();
+        if (resources != null) {
+            for (APIResource resource : resources) {
+                ApiDebugInfo resourceDebugInfo = new ApiDebugInfo();
+                resourceDebugInfo.setApiKey(key.toString());
+                String[] methods = resource.getMethods();
+                resourceDebugInfo.setMethod(methods != null && methods.length > 0 ? methods[0] : null);
+                resourceDebugInfo.setUriTemplate(StringEscapeUtils.unescapeHtml4(resource.getUriTemplate()));
+                resourceDebugInfo.setUrlMapping(StringEscapeUtils.unescapeHtml4(resource.getUrlMapping()));
+                Scope resourceScope = new Scope(resource, resourceDebugInfo, error);
+                addSequenceScopes(resourceScope, "api_", error, resource.getInSequence(), resource.getOutSequence(),
+                        resource.getFaultSequence());
+                scope.children.add(resourceScope);
+            }
+        }
+        return scope;
+    }
+
+    private static Scope createProxyScope(Proxy proxy) {
+
+        ProxyDebugInfo proxyDebugInfo = new ProxyDebugInfo();
+        proxyDebugInfo.setProxyKey(proxy.getName());
+        Scope scope = new Scope(proxy, proxyDebugInfo, "Breakpoint is not in the proxy target sequence",
+                new ProxyDebugInfo(), "Breakpoint is not in the range of the proxy");
+        ProxyTarget target = proxy.getTarget();
+        if (target != null) {
+            addSequenceScopes(scope, "proxy_", "Invalid breakpoint in Proxy", target.getInSequence(),
+                    target.getOutSequence(), target.getFaultSequence());
+        }
+        return scope;
+    }
+
+    private static void addSequenceScopes(Scope parent, String sequenceTypePrefix, String error,
+                                          Sequence... sequences) {
+
+        for (Sequence sequence : sequences) {
+            if (sequence == null) {
+                continue;
+            }
+            IDebugInfo debugInfo = copy(parent.debugInfo);
+            String tag = sequence.getTag();
+            String sequenceType = sequenceTypePrefix + tag.substring(0, tag.length() - 5).toLowerCase();
+            if (debugInfo instanceof ApiDebugInfo) {
+                ((ApiDebugInfo) debugInfo).setSequenceType(sequenceType);
+            } else if (debugInfo instanceof ProxyDebugInfo) {
+                ((ProxyDebugInfo) debugInfo).setSequenceType(sequenceType);
+            }
+            Scope scope = new Scope(sequence, debugInfo, error);
+            scope.mediators = MediatorRangeVisitor.visitMediators(sequence.getMediatorList());
+            parent.children.add(scope);
+        }
+    }
+
+    /**
+     * A range of the artifact, such as an API resource or a proxy in sequence, with the debug info of the breakpoints
+     * in it. The children are searched in order and the first one in the range of the breakpoint is used.
+     */
+    private static class Scope {
+
+        private final STNode node;
+        private final IDebugInfo debugInfo;
+        private final String error;
+        private final IDebugInfo outOfRangeDebugInfo;
+        private final String outOfRangeError;
+        private final List<Scope> children;
+        private List<MediatorRange> mediators;
+
+        Scope(STNode node, IDebugInfo debugInfo, String error) {
+
+            this(node, debugInfo, error, null, null);
+        }
+
+        Scope(STNode node, IDebugInfo debugInfo, String error, IDebugInfo outOfRangeDebugInfo,
+              String outOfRangeError) {
+
+            this.node = node;
+            this.debugInfo = debugInfo;
+            this.error = error;
+            this.outOfRangeDebugInfo = outOfRangeDebugInfo;
+            this.outOfRangeError = outOfRangeError;
+            this.children = new ArrayList<>();
+        }
+
+        Scope findChild(Breakpoint breakpoint) {
+
+            for (Scope child : children) {
+                if (VisitorUtils.checkNodeInRange(child.node, breakpoint)) {
+                    return child;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static class StepOverState {
+
+        private final StepOverInfo stepOverInfo = new StepOverInfo();
+        private boolean found;
+        private boolean done;
+    }
+}
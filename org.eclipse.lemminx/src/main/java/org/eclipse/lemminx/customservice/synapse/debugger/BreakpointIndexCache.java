@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.debugger;
+
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeGenerator;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.eclipse.lemminx.dom.DOMDocument;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Holds the breakpoint index of the recently debugged artifacts.
+ * <p>
+ * An index is kept as long as the last modified time and the size of the artifact file do not change. When they
+ * change, the artifact is parsed again and a new index is created for the new version. An artifact that can not be
+ * read is cached as well, with an empty index, until its file changes.
+ */
+public class BreakpointIndexCache {
+
+    private static final Logger LOGGER = Logger.getLogger(BreakpointIndexCache.class.getName());
+    private static final int MAX_INDEXES = 32;
+    private static final BreakpointIndexCache INSTANCE = new BreakpointIndexCache();
+
+    private final Map<String, VersionedIndex> indexes;
+
+    private BreakpointIndexCache() {
+
+        this.indexes = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VersionedIndex> eldest) {
+
+                return size() > MAX_INDEXES;
+            }
+        };
+    }
+
+    public static BreakpointIndexCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the breakpoint index of the given artifact file.
+     *
+     * @param filePath path of the artifact file
+     * @return breakpoint index of the current version of the file
+     */
+    public synchronized BreakpointIndex getIndex(String filePath) {
+
+        File file = new File(filePath);
+        long lastModified = file.lastModified();
+        long size = file.length();
+        VersionedIndex versionedIndex = indexes.get(filePath);
+        if (versionedIndex != null && versionedIndex.lastModified == lastModified && versionedIndex.size == size) {
+            return versionedIndex.index;
+        }
+        BreakpointIndex index = new BreakpointIndex(buildSyntaxTree(file));
+        indexes.put(filePath, new VersionedIndex(index, lastModified, size));
+        return index;
+    }
+
+    private static STNode buildSyntaxTree(File file) {
+
+        try {
+            DOMDocument document = Utils.getDOMDocument(file);
+            return SyntaxTreeGenerator.buildTree(document.getDocumentElement());
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error while generating syntax tree for: " + file.getPath(), e);
+            return null;
+        }
+    }
+
+    private static class VersionedIndex {
+
+        private final BreakpointIndex index;
+        private final long lastModified;
+        private final long size;
+
+        VersionedIndex(BreakpointIndex index, long lastModified, long size) {
+
+            this.index = index;
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+    }
+}
@@ -19,58 +19,27 @@ import org.eclipse.lemminx.customservice.synapse.debugger.entity.Breakpoint;
 import org.eclipse.lemminx.customservice.synapse.debugger.entity.BreakpointValidity;
 import org.eclipse.lemminx.customservice.synapse.debugger.entity.StepOverInfo;
 import org.eclipse.lemminx.customservice.synapse.debugger.entity.debuginfo.IDebugInfo;
-import org.eclipse.lemminx.customservice.synapse.debugger.visitor.Visitor;
-import org.eclipse.lemminx.customservice.synapse.debugger.visitor.breakpoint.ApiVisitor;
-import org.eclipse.lemminx.customservice.synapse.debugger.visitor.breakpoint.InboundEndpointVisitor;
-import org.eclipse.lemminx.customservice.synapse.debugger.visitor.breakpoint.ProxyVisitor;
-import org.eclipse.lemminx.customservice.synapse.debugger.visitor.breakpoint.SequenceVisitor;
-import org.eclipse.lemminx.customservice.synapse.debugger.visitor.breakpoint.TemplateVisitor;
-import org.eclipse.lemminx.customservice.synapse.debugger.visitor.stepover.StepOverApiVisitor;
-import org.eclipse.lemminx.customservice.synapse.debugger.visitor.stepover.StepOverInboundEndpointVisitor;
-import org.eclipse.lemminx.customservice.synapse.debugger.visitor.stepover.StepOverProxyVisitor;
-import org.eclipse.lemminx.customservice.synapse.debugger.visitor.stepover.StepOverSequenceVisitor;
-import org.eclipse.lemminx.customservice.synapse.debugger.visitor.stepover.StepOverTemplateVisitor;
-import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeGenerator;
-import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.NamedSequence;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
-import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.api.API;
-import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.inbound.InboundEndpoint;
-import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.proxy.Proxy;
-import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.template.Template;
-import org.eclipse.lemminx.customservice.synapse.utils.Constant;
-import org.eclipse.lemminx.customservice.synapse.utils.Utils;
-import org.eclipse.lemminx.dom.DOMDocument;
-
-import java.io.File;
-import java.io.IOException;
+
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 /**
  * This class is used get info about the breakpoint to support debugging in the Synapse language.
  */
 public class DebuggerHelper {
 
-    private static final Logger LOGGER = Logger.getLogger(DebuggerHelper.class.getName());
-    private STNode syntaxTree;
-    private String filePath;
+    private final BreakpointIndex breakpointIndex;
 
     public DebuggerHelper(String filePath) {
 
-        this.filePath = filePath;
-        try {
-            this.syntaxTree = getSyntaxTree();
-        } catch (IOException e) {
-            LOGGER.log(Level.SEVERE, "Error while generating syntax tree for: " + filePath, e);
-        }
+        this.breakpointIndex = BreakpointIndexCache.getInstance().getIndex(filePath);
     }
 
     public DebuggerHelper(STNode syntaxTree) {
 
-        this.syntaxTree = syntaxTree;
+        this.breakpointIndex = new BreakpointIndex(syntaxTree);
     }
 
     /**
@@ -114,48 +83,19 @@ public class DebuggerHelper {
     }
 
     /**
-     * This method is used to generate the debug info. It will traverse the syntax tree and generate the info for
-     * each breakpoint.
+     * This method is used to generate the debug info. Each breakpoint is resolved against the breakpoint index of the
+     * artifact instead of walking the syntax tree again.
      *
      * @param breakPoints list of breakpoints
      * @return list of debug info
      */
     public List<IDebugInfo> generateDebugInfo(List<Breakpoint> breakPoints) {
 
-        String tag = syntaxTree.getTag();
-        List<Breakpoint> breakpointsCopy = new ArrayList<>(breakPoints);
-        HashMap<Breakpoint, IDebugInfo> breakpointInfoMap = new HashMap<>(breakPoints.size());
+        List<IDebugInfo> debugInfos = new ArrayList<>(breakPoints.size());
         for (Breakpoint breakpoint : breakPoints) {
-            breakpointInfoMap.put(breakpoint, null);
-        }
-        Visitor visitor;
-        if (Constant.API.equalsIgnoreCase(tag)) {
-            visitor = new ApiVisitor((API) syntaxTree, breakpointsCopy, breakpointInfoMap);
-            visitor.startVisit();
-        } else if (Constant.PROXY.equalsIgnoreCase(tag)) {
-            visitor = new ProxyVisitor((Proxy) syntaxTree, breakpointsCopy,
-                    breakpointInfoMap);
-            visitor.startVisit();
-        } else if (Constant.SEQUENCE.equalsIgnoreCase(tag)) {
-            visitor = new SequenceVisitor((NamedSequence) syntaxTree, breakpointsCopy,
-                    breakpointInfoMap);
-            visitor.startVisit();
-        } else if (Constant.INBOUND_ENDPOINT.equalsIgnoreCase(tag)) {
-            visitor = new InboundEndpointVisitor((InboundEndpoint) syntaxTree,
-                    breakpointsCopy, breakpointInfoMap);
-            visitor.startVisit();
-        } else if (Constant.TEMPLATE.equalsIgnoreCase(tag)) {
-            visitor = new TemplateVisitor((Template) syntaxTree, breakpointsCopy,
-                    breakpointInfoMap);
-            visitor.startVisit();
-        }
-        IDebugInfo[] debugInfos = new IDebugInfo[breakPoints.size()];
-        for (Breakpoint bp : breakPoints) {
-            IDebugInfo debugInfo = breakpointInfoMap.get(bp);
-            int index = breakPoints.indexOf(bp);
-            debugInfos[index] = debugInfo;
+            debugInfos.add(breakpointIndex.getDebugInfo(breakpoint));
         }
-        return List.of(debugInfos);
+        return Collections.unmodifiableList(debugInfos);
     }
 
     /**
@@ -166,32 +106,6 @@ public class DebuggerHelper {
      */
     public StepOverInfo getStepOverBreakpoints(Breakpoint breakpoint) {
 
-        String tag = syntaxTree.getTag();
-        StepOverInfo stepOverInfo = new StepOverInfo();
-        Visitor visitor;
-        if (Constant.API.equalsIgnoreCase(tag)) {
-            visitor = new StepOverApiVisitor((API) syntaxTree, breakpoint, stepOverInfo);
-            visitor.startVisit();
-        } else if (Constant.PROXY.equalsIgnoreCase(tag)) {
-            visitor = new StepOverProxyVisitor((Proxy) syntaxTree, breakpoint, stepOverInfo);
-            visitor.startVisit();
-        } else if (Constant.SEQUENCE.equalsIgnoreCase(tag)) {
-            visitor = new StepOverSequenceVisitor((NamedSequence) syntaxTree, breakpoint, stepOverInfo);
-            visitor.startVisit();
-        } else if (Constant.INBOUND_ENDPOINT.equalsIgnoreCase(tag)) {
-            visitor = new StepOverInboundEndpointVisitor((InboundEndpoint) syntaxTree, breakpoint, stepOverInfo);
-            visitor.startVisit();
-        } else if (Constant.TEMPLATE.equalsIgnoreCase(tag)) {
-            visitor = new StepOverTemplateVisitor((Template) syntaxTree, breakpoint, stepOverInfo);
-            visitor.startVisit();
-        }
-        return stepOverInfo;
-    }
-
-    private STNode getSyntaxTree() throws IOException {
-
-        File file = new File(filePath);
-        DOMDocument document = Utils.getDOMDocument(file);
-        return SyntaxTreeGenerator.buildTree(document.getDocumentElement());
+        return breakpointIndex.getStepOverInfo(breakpoint);
     }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.debugger.visitor;
+
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.Mediator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Range of a mediator in the breakpoint index of an artifact.
+ * <p>
+ * Holds everything needed to resolve a breakpoint placed in the mediator: the branches with the ranges of their
+ * mediators, the error of an invalid breakpoint and the mediators that are reached when stepping over the mediator.
+ */
+public class MediatorRange {
+
+    private final STNode node;
+    private final String invalidBreakpointError;
+    private final List<Branch> branches;
+    private final List<Branch> stepOverBranches;
+    private final List<STNode> stepIntoMediators;
+    private boolean searchAllStepOverBranches;
+    private boolean stepIntoOnly;
+
+    MediatorRange(STNode node, String invalidBreakpointError) {
+
+        this.node = node;
+        this.invalidBreakpointError = invalidBreakpointError;
+        this.branches = new ArrayList<>();
+        this.stepOverBranches = new ArrayList<>();
+        this.stepIntoMediators = new ArrayList<>();
+    }
+
+    /**
+     * Sets the branches searched for the breakpoint, in the order they are searched.
+     */
+    void setBranches(Branch... branches) {
+
+        addBranches(this.branches, branches);
+    }
+
+    /**
+     * Sets the branches searched for the breakpoint when stepping over. If all is true, the breakpoint is searched in
+     * every branch in range instead of only the first one.
+     */
+    void setStepOverBranches(boolean all, Branch... branches) {
+
+        this.searchAllStepOverBranches = all;
+        addBranches(this.stepOverBranches, branches);
+    }
+
+    /**
+     * Sets the branches stepped into when stepping over the start tag of the mediator. If stopsInBranches is true and
+     * every branch has a mediator, the mediator after this one is not a step over target.
+     */
+    void setStepIntoBranches(boolean stopsInBranches, Branch... branches) {
+
+        for (Branch branch : branches) {
+            if (branch != null && branch.firstMediator != null) {
+                stepIntoMediators.add(branch.firstMediator);
+            }
+        }
+        this.stepIntoOnly = stopsInBranches && !stepIntoMediators.isEmpty() &&
+                stepIntoMediators.size() == branches.length;
+    }
+
+    private static void addBranches(List<Branch> list, Branch[] branches) {
+
+        for (Branch branch : branches) {
+            if (branch != null) {
+                list.add(branch);
+            }
+        }
+    }
+
+    public STNode getNode() {
+
+        return node;
+    }
+
+    public String getInvalidBreakpointError() {
+
+        return invalidBreakpointError;
+    }
+
+    public List<Branch> getBranches() {
+
+        return Collections.unmodifiableList(branches);
+    }
+
+    public List<Branch> getStepOverBranches() {
+
+        return Collections.unmodifiableList(stepOverBranches);
+    }
+
+    public boolean isSearchAllStepOverBranches() {
+
+        return searchAllStepOverBranches;
+    }
+
+    public List<STNode> getStepIntoMediators() {
+
+        return Collections.unmodifiableList(stepIntoMediators);
+    }
+
+    public boolean isStepIntoOnly() {
+
+        return stepIntoOnly;
+    }
+
+    /**
+     * A branch of a mediator, such as a switch case or a clone target, with the ranges of its mediators.
+     */
+    public static class Branch {
+
+        private final STNode node;
+        private final String label;
+        private final List<MediatorRange> mediators;
+        private final STNode firstMediator;
+
+        Branch(STNode node, String label, List<Mediator> mediators) {
+
+            this.node = node;
+            this.label = label;
+            this.mediators = MediatorRangeVisitor.visitMediators(mediators);
+            this.firstMediator = mediators != null && !mediators.isEmpty() ? mediators.get(0) : null;
+        }
+
+        public STNode getNode() {
+
+            return node;
+        }
+
+        /**
+         * Returns the label added to the mediator position of the breakpoints in the branch, null if none.
+         */
+        public String getLabel() {
+
+            return label;
+        }
+
+        public List<MediatorRange> getMediators() {
+
+            return mediators;
+        }
+    }
+}
@@ -0,0 +1,578 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.debugger.visitor;
+
+import org.eclipse.lemminx.customservice.synapse.AbstractMediatorVisitor;
+import org.eclipse.lemminx.customservice.synapse.debugger.visitor.MediatorRange.Branch;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.connector.ai.AIAgent;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.connector.Connector;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.connector.ai.AIChat;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.connector.ai.KnowledgeBase;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.Mediator;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.SequenceMediator;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.advanced.Clone.Clone;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.advanced.Clone.CloneTarget;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.advanced.DataServiceCall.DataServiceCall;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.advanced.DbMediator.DbMediator;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.advanced.Enqueue;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.advanced.Event;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.advanced.Transaction;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.advanced.cache.Cache;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.core.CallTemplate;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.core.Drop;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.core.Header;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.core.Log;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.core.Loopback;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.core.Property;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.core.PropertyGroup;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.core.Respond;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.core.Send;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.core.Store;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.core.ThrowError;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.core.Variable;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.core.call.Call;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.core.callout.Callout;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.core.validate.Validate;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.eip.Foreach;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.eip.Iterate;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.eip.ScatterGather;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.eip.aggregate.Aggregate;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.eip.aggregate.AggregateOnComplete;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.eip.aggregate.CorrelateOnOrCompleteConditionOrOnComplete;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.extension.Bean;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.extension.Class;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.extension.Script;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.extension.Spring;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.extension.command.PojoCommand;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.extension.ejb.Ejb;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.filter.condRouter.ConditionalRouter;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.filter.filter.Filter;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.filter.switchMediator.Switch;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.filter.switchMediator.SwitchCase;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.filter.switchMediator.SwitchDefault;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.filter.throttle.Throttle;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.other.OauthService;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.other.bam.Bam;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.other.builder.Builder;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.other.entitlement.EntitlementService;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.other.ntlm.Ntlm;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.other.publishEvent.PublishEvent;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.other.rule.Rule;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.transformation.Datamapper;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.transformation.FastXSLT;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.transformation.Jsontransform;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.transformation.xquery.Xquery;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.transformation.enrich.Enrich;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.transformation.fault.Makefault;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.transformation.payload.PayloadFactory;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.transformation.rewrite.Rewrite;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.transformation.smooks.Smooks;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.transformation.xslt.Xslt;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.misc.common.Sequence;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.misc.targets.Target;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Builds the ranges of the mediators of a mediator list, including the mediators of their branches, in a single walk.
+ * The ranges are used by the breakpoint index to resolve breakpoints without visiting the mediators again.
+ */
+public class MediatorRangeVisitor extends AbstractMediatorVisitor {
+
+    private final List<MediatorRange> ranges;
+
+    private MediatorRangeVisitor() {
+
+        this.ranges = new ArrayList<>();
+    }
+
+    /**
+     * Returns the ranges of the given mediators, in document order. Mediators which can not be visited are skipped.
+     *
+     * @param mediators mediators to visit
+     * @return ranges of the mediators
+     */
+    public static List<MediatorRange> visitMediators(List<Mediator> mediators) {
+
+        if (mediators == null || mediators.isEmpty()) {
+            return Collections.emptyList();
+        }
+        MediatorRangeVisitor visitor = new MediatorRangeVisitor();
+        for (Mediator mediator : mediators) {
+            VisitorUtils.visitMediator(mediator, visitor);
+        }
+        return Collections.unmodifiableList(visitor.ranges);
+    }
+
+    void visitSimpleMediator(STNode node) {
+
+        ranges.add(new MediatorRange(node, "Breakpoint is not in the starting tag of the mediator:" + node.getTag()));
+    }
+
+    @Override
+    protected void visitConnector(Connector node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitPropertyGroup(PropertyGroup node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitJsontransform(Jsontransform node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitMakefault(Makefault node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitSmooks(Smooks node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitHeader(Header node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitDataServiceCall(DataServiceCall node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitTransaction(Transaction node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitDatamapper(Datamapper node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitPojoCommand(PojoCommand node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitPayloadFactory(PayloadFactory node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitEntitlementService(EntitlementService node) {
+
+        MediatorRange range = new MediatorRange(node, "Invalid breakpoint in Entitlement Service");
+        Branch onReject = branch(node.getOnReject(), "0");
+        Branch onAccept = branch(node.getOnAccept(), "1");
+        Branch obligations = branch(node.getObligations(), "2");
+        Branch advice = branch(node.getAdvice(), "3");
+        range.setBranches(onReject, onAccept, obligations, advice);
+        range.setStepOverBranches(false, onReject, onAccept, advice, obligations);
+        range.setStepIntoBranches(true, onAccept, onReject, advice, obligations);
+        ranges.add(range);
+    }
+
+    @Override
+    protected void visitThrottle(Throttle node) {
+
+        MediatorRange range = new MediatorRange(node, "Invalid breakpoint in Throttle Mediator");
+        Branch onReject = branch(node.getOnReject(), "0");
+        Branch onAccept = branch(node.getOnAccept(), "1");
+        range.setBranches(onReject, onAccept);
+        range.setStepOverBranches(false, onReject, onAccept);
+        range.setStepIntoBranches(true, onAccept, onReject);
+        ranges.add(range);
+    }
+
+    @Override
+    protected void visitCache(Cache node) {
+
+        MediatorRange range = new MediatorRange(node, "Invalid breakpoint in Cache Mediator");
+        Branch onCacheHit = node.getOnCacheHit() != null ?
+                new Branch(node.getOnCacheHit(), null, node.getOnCacheHit().getMediatorList()) : null;
+        range.setBranches(onCacheHit);
+        range.setStepOverBranches(false, onCacheHit);
+        range.setStepIntoBranches(false, onCacheHit);
+        ranges.add(range);
+    }
+
+    @Override
+    protected void visitEnqueue(Enqueue node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitDbreport(DbMediator node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitDblookup(DbMediator node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitEvent(Event node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitRespond(Respond node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitPublishEvent(PublishEvent node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitSwitch(Switch node) {
+
+        MediatorRange range = new MediatorRange(node, "Invalid breakpoint in Switch Mediator");
+        SwitchDefault default_ = node.get_default();
+        SwitchCase[] cases = node.get_case() != null ? node.get_case() : new SwitchCase[0];
+        Branch[] branches = new Branch[cases.length + 1];
+        branches[0] = default_ != null ? new Branch(default_, "0", default_.getMediatorList()) : null;
+        for (int i = 0; i < cases.length; i++) {
+            if (cases[i] != null) {
+                branches[i + 1] = new Branch(cases[i], Integer.toString(i + 1), cases[i].getMediatorList());
+            }
+        }
+        range.setBranches(branches);
+        Branch[] stepOverBranches = new Branch[branches.length];
+        System.arraycopy(branches, 1, stepOverBranches, 0, cases.length);
+        stepOverBranches[cases.length] = branches[0];
+        range.setStepOverBranches(true, stepOverBranches);
+        range.setStepIntoBranches(true, branches);
+        ranges.add(range);
+    }
+
+    @Override
+    protected void visitSpring(Spring node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitRule(Rule node) {
+
+        MediatorRange range = new MediatorRange(node, "Invalid breakpoint in Rule Mediator");
+        if (node.getChildMediators() != null) {
+            range.setBranches(new Branch(node.getChildMediators(), null, node.getChildMediators().getMediatorList()));
+        }
+        ranges.add(range);
+    }
+
+    @Override
+    protected void visitConditionalRouter(ConditionalRouter node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitLoopback(Loopback node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitStore(Store node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitValidate(Validate node) {
+
+        MediatorRange range = new MediatorRange(node, "Invalid breakpoint in Validate Mediator");
+        Branch onFail = node.getOnFail() != null ?
+                new Branch(node.getOnFail(), null, node.getOnFail().getMediatorList()) : null;
+        range.setBranches(onFail);
+        range.setStepOverBranches(false, onFail);
+        range.setStepIntoBranches(false, onFail);
+        ranges.add(range);
+    }
+
+    @Override
+    protected void visitFilter(Filter node) {
+
+        MediatorRange range = new MediatorRange(node, "Invalid breakpoint in Filter Mediator");
+        Branch then = node.getThen() != null ? new Branch(node.getThen(), "1", node.getThen().getMediatorList()) : null;
+        Branch else_ = node.getElse_() != null ?
+                new Branch(node.getElse_(), "0", node.getElse_().getMediatorList()) : null;
+        range.setBranches(then, else_);
+        range.setStepOverBranches(false, then, else_);
+        range.setStepIntoBranches(true, then, else_);
+        ranges.add(range);
+    }
+
+    @Override
+    protected void visitSend(Send node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitClone(Clone node) {
+
+        ranges.add(targetsRange(node, node.getTarget(), "Invalid breakpoint in Clone Mediator"));
+    }
+
+    @Override
+    protected void visitClass(Class node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitAggregate(Aggregate node) {
+
+        MediatorRange range = new MediatorRange(node, "Invalid breakpoint in Aggregate Mediator");
+        CorrelateOnOrCompleteConditionOrOnComplete conditions = node.getCorrelateOnOrCompleteConditionOrOnComplete();
+        Optional<AggregateOnComplete> onComplete = conditions != null ? conditions.getOnComplete() : Optional.empty();
+        Branch onCompleteBranch = onComplete.map(complete -> new Branch(complete, null, complete.getMediatorList()))
+                .orElse(null);
+        range.setBranches(onCompleteBranch);
+        range.setStepOverBranches(false, onCompleteBranch);
+        range.setStepIntoBranches(false, onCompleteBranch);
+        ranges.add(range);
+    }
+
+    @Override
+    protected void visitLog(Log node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitEjb(Ejb node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitNTLM(Ntlm node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitRewrite(Rewrite node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitCallTemplate(CallTemplate node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitCall(Call node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitIterate(Iterate node) {
+
+        MediatorRange range = new MediatorRange(node, "Invalid breakpoint in Iterate Mediator");
+        Target target = node.getTarget();
+        Branch targetBranch = target != null ? new Branch(target, null, mediatorsOf(target.getSequence())) : null;
+        range.setBranches(targetBranch);
+        range.setStepOverBranches(false, targetBranch);
+        range.setStepIntoBranches(true, targetBranch);
+        ranges.add(range);
+    }
+
+    @Override
+    protected void visitProperty(Property node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitVariable(Variable node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitScatterGather(ScatterGather node) {
+
+        ranges.add(targetsRange(node, node.getTargets(), "Invalid breakpoint in Scatter Gather Mediator"));
+    }
+
+    @Override
+    protected void visitForeach(Foreach node) {
+
+        MediatorRange range = new MediatorRange(node, "Invalid breakpoint in Foreach Mediator");
+        Branch sequence = branch(node.getSequence(), null);
+        range.setBranches(sequence);
+        range.setStepOverBranches(false, sequence);
+        range.setStepIntoBranches(true, sequence);
+        ranges.add(range);
+    }
+
+    @Override
+    protected void visitEnrich(Enrich node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitScript(Script node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitBean(Bean node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitXquery(Xquery node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitBuilder(Builder node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitDrop(Drop node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitXslt(Xslt node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitBam(Bam node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitFastXSLT(FastXSLT node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitOauthService(OauthService node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitCallout(Callout node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitSequence(SequenceMediator node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitThrowError(ThrowError node) {
+
+        visitSimpleMediator(node);
+    }
+
+    @Override
+    protected void visitAIChat(AIChat node) {
+
+        visitConnector((Connector) node);
+    }
+
+    @Override
+    protected void visitAIAgent(AIAgent node) {
+
+        visitConnector((Connector) node);
+    }
+
+    @Override
+    protected void visitAIKnowledgeBase(KnowledgeBase node) {
+
+        visitConnector((Connector) node);
+    }
+
+    private static MediatorRange targetsRange(STNode node, CloneTarget[] targets, String invalidBreakpointError) {
+
+        MediatorRange range = new MediatorRange(node, invalidBreakpointError);
+        Branch[] branches = new Branch[targets != null ? targets.length : 0];
+        for (int i = 0; i < branches.length; i++) {
+            if (targets[i] != null) {
+                branches[i] = new Branch(targets[i], Integer.toString(i), mediatorsOf(targets[i].getSequence()));
+            }
+        }
+        range.setBranches(branches);
+        range.setStepOverBranches(true, branches);
+        range.setStepIntoBranches(true, branches);
+        return range;
+    }
+
+    private static Branch branch(Sequence sequence, String label) {
+
+        return sequence != null ? new Branch(sequence, label, sequence.getMediatorList()) : null;
+    }
+
+    private static List<Mediator> mediatorsOf(Sequence sequence) {
+
+        return sequence != null ? sequence.getMediatorList() : null;
+    }
+}
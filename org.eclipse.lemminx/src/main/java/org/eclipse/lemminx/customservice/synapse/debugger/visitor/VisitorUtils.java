@@ -16,23 +16,22 @@ package org.eclipse.lemminx.customservice.synapse.debugger.visitor;
 
 import org.eclipse.lemminx.customservice.synapse.AbstractMediatorVisitor;
 import org.eclipse.lemminx.customservice.synapse.debugger.entity.Breakpoint;
-import org.eclipse.lemminx.customservice.synapse.debugger.entity.debuginfo.IDebugInfo;
-import org.eclipse.lemminx.customservice.synapse.debugger.visitor.breakpoint.BreakpointMediatorVisitor;
-import org.eclipse.lemminx.customservice.synapse.debugger.visitor.stepover.StepOverMediatorVisitor;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.Mediator;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.eclipse.lsp4j.Position;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.HashMap;
-import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class VisitorUtils {
 
     private static final Logger LOGGER = Logger.getLogger(VisitorUtils.class.getName());
+    private static final Map<String, Method> VISIT_METHOD_CACHE = new ConcurrentHashMap<>();
 
     /**
      * Check whether the breakpoint is within the range of the node.
@@ -99,65 +98,33 @@ public class VisitorUtils {
     }
 
     /**
-     * Visit the mediators in the list and get the debug info.
+     * Check whether the node ends before the breakpoint. Sibling nodes that end before the breakpoint are never in
+     * the range of the breakpoint and come before the ones that may be.
      *
-     * @param mediators The list of mediators to visit.
-     * @param visitor   The visitor to visit the mediators.
+     * @param node       The node to check.
+     * @param breakpoint The breakpoint to check.
+     * @return True if the node ends before the breakpoint, false otherwise.
      */
-    public static void visitMediators(List<Mediator> mediators, BreakpointMediatorVisitor visitor) {
+    public static boolean endsBefore(STNode node, Breakpoint breakpoint) {
 
-        visitMediators(mediators, visitor, new HashMap<>());
+        Position end = node.isSelfClosed() ? node.getRange().getStartTagRange().getEnd() :
+                node.getRange().getEndTagRange().getEnd();
+        return end.getLine() < breakpoint.getLine() || (end.getLine() == breakpoint.getLine() &&
+                breakpoint.getColumn() != null && end.getCharacter() <= breakpoint.getColumn());
     }
 
     /**
-     * Visit the mediators in the list and generate debug info for the current breakpoint.
-     * If the visitor is done, then the breakpoint will be removed from the list and the debug info will be stored in
-     * the map. Then the visitor will continue from the next breakpoint.
+     * Check whether the node starts after the breakpoint.
      *
-     * @param mediators  The list of mediators to visit.
-     * @param visitor    The visitor to visit the mediators.
-     * @param debugInfos The map to store the debug info of the mediators.
+     * @param node       The node to check.
+     * @param breakpoint The breakpoint to check.
+     * @return True if the node starts after the breakpoint, false otherwise.
      */
-    public static void visitMediators(List<Mediator> mediators, BreakpointMediatorVisitor visitor, HashMap<Breakpoint,
-            IDebugInfo> debugInfos) {
-
-        if (mediators != null && mediators.size() > 0) {
-            for (int i = 0; i < mediators.size(); i++) {
-
-                visitMediator(mediators.get(i), visitor);
-                if (visitor.isDone()) {
-                    IDebugInfo debugInfo = null;
-                    try {
-                        debugInfo = visitor.getDebugInfo().clone();
-                    } catch (CloneNotSupportedException e) {
-                        LOGGER.log(Level.SEVERE, "Error while cloning debug info", e);
-                    }
-                    debugInfos.put(visitor.getBreakpoint(), debugInfo);
-                    if (visitor.getBreakpoints() != null && visitor.getBreakpoints().size() > 0) {
-                        visitor.nextBreakpoint();
-                        i--;
-                    }
-                }
-            }
-        }
-    }
+    public static boolean startsAfter(STNode node, Breakpoint breakpoint) {
 
-    /**
-     * Visit the mediators in the list and get the next step over breakpoints.
-     *
-     * @param mediators The list of mediators to visit.
-     * @param visitor   The visitor to visit the mediators.
-     */
-    public static void visitMediators(List<Mediator> mediators, StepOverMediatorVisitor visitor) {
-
-        if (mediators != null && mediators.size() > 0) {
-            for (int i = 0; i < mediators.size(); i++) {
-                visitMediator(mediators.get(i), visitor);
-                if (visitor.isDone()) {
-                    break;
-                }
-            }
-        }
+        Position start = node.getRange().getStartTagRange().getStart();
+        return start.getLine() > breakpoint.getLine() || (start.getLine() == breakpoint.getLine() &&
+                breakpoint.getColumn() != null && start.getCharacter() > breakpoint.getColumn());
     }
 
     /**
@@ -174,8 +141,7 @@ public class VisitorUtils {
         String visitFn;
         visitFn = "visit" + tag.substring(0, 1).toUpperCase() + tag.substring(1);
         try {
-            Method method = AbstractMediatorVisitor.class.getDeclaredMethod(visitFn, node.getClass());
-            method.setAccessible(true);
+            Method method = getVisitMethod(visitFn, node.getClass());
             method.invoke(visitor, node);
         } catch (NoSuchMethodException e) {
             LOGGER.log(Level.SEVERE, "No visit method found for mediator: " + tag, e);
@@ -186,21 +152,15 @@ public class VisitorUtils {
         }
     }
 
-    /**
-     * Mark the breakpoint as invalid and store the error message in the debug info.
-     *
-     * @param breakpoint        The breakpoint to mark as invalid.
-     * @param error             The error message to store in the debug info.
-     * @param debugInfo         The debug info to store the error message.
-     * @param breakpointInfoMap The map to store the debug info of the breakpoints.
-     * @param breakpoints       The list of breakpoints.
-     */
-    public static void markAsInvalid(Breakpoint breakpoint, String error, IDebugInfo debugInfo, HashMap<Breakpoint,
-            IDebugInfo> breakpointInfoMap, List<Breakpoint> breakpoints) {
+    private static Method getVisitMethod(String visitFn, Class<?> nodeClass) throws NoSuchMethodException {
 
-        breakpoints.remove(breakpoint);
-        debugInfo.setValid(false);
-        debugInfo.setError(error);
-        breakpointInfoMap.put(breakpoint, debugInfo);
+        String key = visitFn + "#" + nodeClass.getName();
+        Method method = VISIT_METHOD_CACHE.get(key);
+        if (method == null) {
+            method = AbstractMediatorVisitor.class.getDeclaredMethod(visitFn, nodeClass);
+            method.setAccessible(true);
+            VISIT_METHOD_CACHE.put(key, method);
+        }
+        return method;
     }
 }
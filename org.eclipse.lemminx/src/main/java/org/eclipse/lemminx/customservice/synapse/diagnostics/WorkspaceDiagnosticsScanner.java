@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.diagnostics;
+
+import org.eclipse.lemminx.XMLTextDocumentService;
+import org.eclipse.lemminx.commons.DiagnosticResultCache;
+import org.eclipse.lemminx.commons.ModelTextDocument;
+import org.eclipse.lemminx.customservice.synapse.utils.ParallelFileScanner;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.uriresolver.URIResolverExtensionManager;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.PreviousResultId;
+import org.eclipse.lsp4j.ProgressParams;
+import org.eclipse.lsp4j.WorkspaceDiagnosticParams;
+import org.eclipse.lsp4j.WorkspaceDiagnosticReport;
+import org.eclipse.lsp4j.WorkspaceDiagnosticReportPartialResult;
+import org.eclipse.lsp4j.WorkspaceDocumentDiagnosticReport;
+import org.eclipse.lsp4j.WorkspaceFullDocumentDiagnosticReport;
+import org.eclipse.lsp4j.WorkspaceUnchangedDocumentDiagnosticReport;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4j.services.LanguageClient;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Computes the diagnostics of the closed Synapse artifacts of a project for the 'workspace/diagnostic' request.
+ * <p>
+ * The artifacts which did not change since the diagnostics the client already has, according to the result ids it
+ * sent, are reported as unchanged without being read. The other artifacts are validated in parallel, reusing the
+ * diagnostics cached for their result id. When the client gave a partial result token, the reports are streamed to
+ * the client in batches while the scan is running and the final response is empty.
+ */
+public class WorkspaceDiagnosticsScanner {
+
+    private static final Logger LOGGER = Logger.getLogger(WorkspaceDiagnosticsScanner.class.getName());
+    private static final int BATCH_SIZE = 32;
+    private static final String XML_EXTENSION = ".xml";
+
+    private final XMLTextDocumentService xmlTextDocumentService;
+    private final URIResolverExtensionManager resolverExtensionManager;
+    private final LanguageClient languageClient;
+
+    public WorkspaceDiagnosticsScanner(XMLTextDocumentService xmlTextDocumentService,
+                                       URIResolverExtensionManager resolverExtensionManager,
+                                       LanguageClient languageClient) {
+
+        this.xmlTextDocumentService = xmlTextDocumentService;
+        this.resolverExtensionManager = resolverExtensionManager;
+        this.languageClient = languageClient;
+    }
+
+    /**
+     * Computes the diagnostics of the closed artifacts of the given project.
+     *
+     * @param projectPath   the project folder
+     * @param params        the workspace diagnostic request
+     * @param cancelChecker the cancel checker of the request
+     * @return the diagnostic reports which were not streamed to the client
+     */
+    public WorkspaceDiagnosticReport scan(String projectPath, WorkspaceDiagnosticParams params,
+                                         CancelChecker cancelChecker) {
+
+        List<WorkspaceDocumentDiagnosticReport> reports = new ArrayList<>();
+        if (projectPath == null) {
+            return new WorkspaceDiagnosticReport(reports);
+        }
+        Map<Path, String> previousResultIds = getPreviousResultIds(params.getPreviousResultIds());
+        Set<Path> openFiles = new HashSet<>();
+        for (ModelTextDocument<DOMDocument> document : xmlTextDocumentService.allDocuments()) {
+            Path openFile = toPath(document.getUri());
+            if (openFile != null) {
+                openFiles.add(openFile);
+            }
+        }
+        Either<String, Integer> partialResultToken = params.getPartialResultToken();
+        Path artifactsPath = Path.of(projectPath, "src", "main", "wso2mi", "artifacts");
+        ParallelFileScanner.scan(artifactsPath, folder -> !ParallelFileScanner.isHidden(folder),
+                file -> file.getFileName().toString().endsWith(XML_EXTENSION) && !openFiles.contains(file),
+                file -> {
+                    WorkspaceDocumentDiagnosticReport report =
+                            getReport(file, previousResultIds.get(file), cancelChecker);
+                    if (report != null) {
+                        addReport(report, reports, partialResultToken);
+                    }
+                    return null;
+                }, cancelChecker);
+        if (partialResultToken != null) {
+            synchronized (reports) {
+                sendReports(reports, partialResultToken);
+            }
+        }
+        return new WorkspaceDiagnosticReport(reports);
+    }
+
+    private WorkspaceDocumentDiagnosticReport getReport(Path file, String previousResultId,
+                                                        CancelChecker cancelChecker) {
+
+        DiagnosticResultCache diagnosticResults = xmlTextDocumentService.getDiagnosticResults();
+        String uri = file.toUri().toString();
+        String resultId = diagnosticResults.getResultId(file);
+        if (resultId == null) {
+            return null;
+        }
+        if (resultId.equals(previousResultId)) {
+            return new WorkspaceDocumentDiagnosticReport(
+                    new WorkspaceUnchangedDocumentDiagnosticReport(resultId, uri, null));
+        }
+        List<Diagnostic> diagnostics = diagnosticResults.getDiagnostics(uri, resultId);
+        if (diagnostics == null) {
+            try {
+                DOMDocument document = DOMParser.getInstance().parse(Files.readString(file), uri,
+                        resolverExtensionManager);
+                diagnostics = xmlTextDocumentService.getDiagnostics(document, resultId, cancelChecker);
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Could not read " + file + " to compute its diagnostics", e);
+                return null;
+            } catch (CancellationException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.SEVERE, "Error while computing the diagnostics of " + file, e);
+                return null;
+            }
+        }
+        WorkspaceFullDocumentDiagnosticReport report = new WorkspaceFullDocumentDiagnosticReport(diagnostics, uri,
+                null);
+        report.setResultId(resultId);
+        return new WorkspaceDocumentDiagnosticReport(report);
+    }
+
+    private void addReport(WorkspaceDocumentDiagnosticReport report, List<WorkspaceDocumentDiagnosticReport> reports,
+                           Either<String, Integer> partialResultToken) {
+
+        synchronized (reports) {
+            reports.add(report);
+            if (partialResultToken != null && reports.size() >= BATCH_SIZE) {
+                sendReports(reports, partialResultToken);
+            }
+        }
+    }
+
+    private void sendReports(List<WorkspaceDocumentDiagnosticReport> reports,
+                             Either<String, Integer> partialResultToken) {
+
+        if (reports.isEmpty()) {
+            return;
+        }
+        WorkspaceDiagnosticReportPartialResult partialResult =
+                new WorkspaceDiagnosticReportPartialResult(new ArrayList<>(reports));
+        languageClient.notifyProgress(new ProgressParams(partialResultToken, Either.forRight(partialResult)));
+        reports.clear();
+    }
+
+    private static Map<Path, String> getPreviousResultIds(List<PreviousResultId> previousResultIds) {
+
+        Map<Path, String> resultIds = new HashMap<>();
+        if (previousResultIds != null) {
+            for (PreviousResultId previousResultId : previousResultIds) {
+                Path file = toPath(previousResultId.getUri());
+                if (file != null) {
+                    resultIds.put(file, previousResultId.getValue());
+                }
+            }
+        }
+        return resultIds;
+    }
+
+    private static Path toPath(String uri) {
+
+        String path = Utils.getAbsolutePath(uri);
+        try {
+            return path != null ? Path.of(path) : null;
+        } catch (InvalidPathException e) {
+            return null;
+        }
+    }
+}
@@ -39,11 +39,11 @@ import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.endpoint.NamedEndpoint;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.inbound.InboundEndpoint;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.template.Template;
+import org.eclipse.lemminx.customservice.synapse.utils.CompactDocument;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+import org.eclipse.lemminx.customservice.synapse.utils.ParallelFileScanner;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
 import org.eclipse.lemminx.dom.DOMDocument;
-import org.eclipse.lemminx.dom.DOMElement;
-import org.eclipse.lemminx.dom.DOMNode;
 import org.eclipse.lsp4j.WorkspaceFolder;
 
 import java.io.File;
@@ -56,6 +56,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -69,6 +70,8 @@ public class DirectoryTreeBuilder {
     private static final String WSO2MI = "wso2mi";
     private static final String RESOURCES = "resources";
     private static final String JAVA = "java";
+    private static final List<String> SUB_TYPED_ARTIFACTS = List.of("Endpoint", "Template", "MessageProcessor",
+            "MessageStore", "InboundEndpoint");
     private static String projectPath;
     private static String mainSequence;
     private static List<String> artifactResourcePaths = new ArrayList<>();
@@ -277,22 +280,20 @@ public class DirectoryTreeBuilder {
         File pomFile = pomPath.toFile();
         if (pomFile.exists()) {
             try {
-                DOMDocument pom = Utils.getDOMDocument(pomFile);
-                DOMNode profiles = Utils.getChildNodeByName(pom.getDocumentElement(), Constant.PROFILES);
-                List<DOMNode> profileList = profiles.getChildren();
-                profileList.forEach(profile -> {
-                    DOMNode profileId = Utils.getChildNodeByName(profile, Constant.ID);
-                    if (profileId != null && Constant.DEFAULT.equals(Utils.getInlineString(profileId.getFirstChild()))) {
-                        DOMNode properties = Utils.getChildNodeByName(profile, Constant.PROPERTIES);
-                        if (properties != null) {
-                            DOMNode mainSequenceNode = Utils.getChildNodeByName(properties, Constant.MAIN_SEQUENCE);
-                            if (mainSequenceNode != null) {
-                                mainSequence = Utils.getInlineString(mainSequenceNode.getFirstChild());
-                                return;
-                            }
+                CompactDocument pom = CompactDocument.parse(pomFile);
+                int profiles = pom.getChildElement(pom.getDocumentElement(), Constant.PROFILES);
+                for (int profile = pom.getFirstElement(profiles); profile != CompactDocument.NONE;
+                     profile = pom.getNextElement(profile)) {
+                    int profileId = pom.getChildElement(profile, Constant.ID);
+                    if (profileId != CompactDocument.NONE &&
+                            Constant.DEFAULT.equals(pom.getInlineString(pom.getFirstChild(profileId)))) {
+                        int properties = pom.getChildElement(profile, Constant.PROPERTIES);
+                        int mainSequenceNode = pom.getChildElement(properties, Constant.MAIN_SEQUENCE);
+                        if (mainSequenceNode != CompactDocument.NONE) {
+                            mainSequence = pom.getInlineString(pom.getFirstChild(mainSequenceNode));
                         }
                     }
-                });
+                }
             } catch (IOException e) {
                 LOGGER.log(Level.WARNING, "Could not read project pom file");
             }
@@ -324,21 +325,23 @@ public class DirectoryTreeBuilder {
 
     private static void analyzeArtifacts(IntegrationDirectoryTree directoryTree) {
 
-        String artifactsPath = projectPath + File.separator + Constant.SRC + File.separator + MAIN
-                + File.separator + WSO2MI + File.separator + "artifacts";
-        File folder = new File(artifactsPath);
-        File[] listOfFiles = folder.listFiles(File::isDirectory);
-        if (listOfFiles != null) {
-            for (File subFolder : listOfFiles) {
-                try {
-                    if (subFolder.isDirectory()) {
-                        String type = getType(subFolder.getName());
-                        analyzeByType(directoryTree, subFolder, type);
-                    }
-                } catch (SecurityException e) {
-                    LOGGER.log(Level.WARNING, "No read access to the file.", e);
-                }
+        Path artifactsFolder = Path.of(projectPath, Constant.SRC, MAIN, WSO2MI, "artifacts");
+        try {
+            // The artifacts of all the type folders are parsed in parallel and added to the tree in the folder order
+            List<Map.Entry<String, Node>> components = ParallelFileScanner.scan(artifactsFolder,
+                    folder -> artifactsFolder.equals(folder.getParent()),
+                    file -> !artifactsFolder.equals(file.getParent()) && !ParallelFileScanner.isHidden(file),
+                    file -> {
+                        String type = getType(file.getParent().getFileName().toString());
+                        Node component = createEsbComponent(type, file.getFileName().toString(),
+                                file.toAbsolutePath().toString());
+                        return component != null ? Map.entry(type, component) : null;
+                    });
+            for (Map.Entry<String, Node> component : components) {
+                addArtifact(directoryTree, component.getKey(), component.getValue());
             }
+        } catch (SecurityException e) {
+            LOGGER.log(Level.WARNING, "No read access to the file.", e);
         }
     }
 
@@ -350,36 +353,20 @@ public class DirectoryTreeBuilder {
         return name1;
     }
 
-    private static void analyzeByType(IntegrationDirectoryTree directoryTree, File folder, String type) {
+    private static void addArtifact(IntegrationDirectoryTree directoryTree, String type, Node advancedComponent) {
 
         try {
-            File[] listOfFiles = folder.listFiles();
-            if (listOfFiles != null) {
-                for (File file : listOfFiles) {
-                    if (file.isFile() && !file.isHidden()) {
-                        String name = file.getName();
-                        String path = file.getAbsolutePath();
-                        Node advancedComponent = createEsbComponent(type, name, path);
-                        if (advancedComponent != null) {
-                            try {
-                                String methodName;
-                                if (advancedComponent instanceof ConnectionNode) {
-                                    methodName = "addConnection";
-                                } else {
-                                    methodName = "add" + type;
-                                }
-                                Method method = directoryTree.getClass().getMethod(methodName, Node.class);
-                                method.invoke(directoryTree, advancedComponent);
-                            } catch (NoSuchMethodException | IllegalArgumentException | IllegalAccessException |
-                                     InvocationTargetException e) {
-                                LOGGER.log(Level.WARNING, "Error while trying to execute method.", e);
-                            }
-                        }
-                    }
-                }
+            String methodName;
+            if (advancedComponent instanceof ConnectionNode) {
+                methodName = "addConnection";
+            } else {
+                methodName = "add" + type;
             }
-        } catch (SecurityException e) {
-            LOGGER.log(Level.WARNING, "No read access to the file.", e);
+            Method method = directoryTree.getClass().getMethod(methodName, Node.class);
+            method.invoke(directoryTree, advancedComponent);
+        } catch (NoSuchMethodException | IllegalArgumentException | IllegalAccessException |
+                 InvocationTargetException e) {
+            LOGGER.log(Level.WARNING, "Error while trying to execute method.", e);
         }
     }
 
@@ -555,11 +542,11 @@ public class DirectoryTreeBuilder {
         if (path.endsWith(".xml")) {
             try {
                 File file = new File(path);
-                DOMDocument domDocument = Utils.getDOMDocument(file);
-                DOMElement rootElement = Utils.getRootElementFromConfigXml(domDocument);
+                CompactDocument document = CompactDocument.parse(file, CompactDocument.ScanLimit.depth(1));
+                int rootElement = getRootElementFromConfigXml(document);
 
-                if (rootElement != null) {
-                    String type = rootElement.getNodeName();
+                if (rootElement != CompactDocument.NONE) {
+                    String type = document.getNodeName(rootElement);
                     String name = file.getName();
                     type = getType(type);
                     Node regNode = createRegistryNode(name, type, path);
@@ -597,8 +584,10 @@ public class DirectoryTreeBuilder {
 
         String artifactName;
         String nodeType = Utils.addUnderscoreBetweenWords(type).toUpperCase();
+        CompactDocument document;
         try {
-            artifactName = getArtifactName(type, path);
+            document = parseArtifact(type, new File(path));
+            artifactName = getArtifactName(type, document);
         } catch (IOException e) {
             //Could not read artifact name. Ignoring the file as it is invalid.
             Node invalidNode = new Node(nodeType, name, path);
@@ -610,18 +599,32 @@ public class DirectoryTreeBuilder {
         setSubType(component, type, path);
         if (Constant.API.equalsIgnoreCase(type) || Constant.SEQUENCE.equalsIgnoreCase(type) ||
                 Constant.PROXY_SERVICE.equalsIgnoreCase(type) || Constant.INBOUND_ENDPOINT.equalsIgnoreCase(type)) {
-            AdvancedNode advancedNode = createAdvancedEsbComponent(component, type, path);
+            AdvancedNode advancedNode = createAdvancedEsbComponent(component, type, path, document);
             return advancedNode;
         } else if (Constant.LOCAL_ENTRY.equalsIgnoreCase(type)) {
-            Node localEntry = createLocalEntry(component, path);
+            Node localEntry = createLocalEntry(component, path, document);
             return localEntry;
         }
 
         return component;
     }
 
+    private static CompactDocument parseArtifact(String type, File file) throws IOException {
+
+        if (Constant.API.equalsIgnoreCase(type)) {
+            // All the resources of an API are listed
+            return CompactDocument.parse(file);
+        } else if (Constant.LOCAL_ENTRY.equalsIgnoreCase(type)) {
+            return CompactDocument.parse(file, CompactDocument.ScanLimit.depth(2));
+        }
+        return CompactDocument.parse(file, CompactDocument.ScanLimit.depth(1));
+    }
+
     private static void setSubType(Node component, String type, String path) {
 
+        if (!SUB_TYPED_ARTIFACTS.contains(type)) {
+            return;
+        }
         File file = new File(path);
         try {
             DOMDocument domDocument = Utils.getDOMDocument(file);
@@ -658,12 +661,13 @@ public class DirectoryTreeBuilder {
         }
     }
 
-    private static AdvancedNode createAdvancedEsbComponent(Node component, String type, String path) {
+    private static AdvancedNode createAdvancedEsbComponent(Node component, String type, String path,
+                                                           CompactDocument document) {
 
         AdvancedNode advancedNode;
         switch (type.toLowerCase()) {
             case Constant.API:
-                String context = getApiContext(path);
+                String context = getApiContext(document);
                 advancedNode = new APINode(component);
                 ((APINode) advancedNode).setContext(context);
                 break;
@@ -679,124 +683,105 @@ public class DirectoryTreeBuilder {
                 advancedNode = new AdvancedNode(component);
         }
         File file = new File(path);
-        if (file.isFile() && !file.isHidden()) {
-            DOMDocument domDocument = null;
-            try {
-                domDocument = Utils.getDOMDocument(file);
-            } catch (IOException e) {
-                LOGGER.log(Level.WARNING, "Error while reading file content", e);
-            }
-            DOMElement rootElement = Utils.getRootElementFromConfigXml(domDocument);
-            if (Constant.API.equalsIgnoreCase(type)) {
-                addResources(rootElement, advancedNode);
-            }
+        if (file.isFile() && !file.isHidden() && Constant.API.equalsIgnoreCase(type)) {
+            addResources(document, getRootElementFromConfigXml(document), advancedNode);
         }
         return advancedNode;
     }
 
-    private static Node createLocalEntry(Node component, String path) {
-
-        File file = new File(path);
-        try {
-            DOMDocument domDocument = Utils.getDOMDocument(file);
-            if (domDocument != null) {
-                DOMElement rootElement = domDocument.getDocumentElement();
-                String key = rootElement.getAttribute(Constant.KEY);
-                DOMElement childElement = Utils.getFirstElement(rootElement);
-                if (childElement != null) {
-                    String entryTag = childElement.getNodeName();
-                    Pattern pattern = Pattern.compile("(.*)\\.init");
-                    Matcher matcher = pattern.matcher(entryTag);
-                    if (matcher.find()) {
-                        String connectorName = matcher.group(1);
-                        String connectionType = getConnectionType(childElement);
-                        ConnectionNode connectionNode = new ConnectionNode(key, path, connectorName, connectionType);
-                        return connectionNode;
-                    }
+    private static Node createLocalEntry(Node component, String path, CompactDocument document) {
+
+        int rootElement = document.getDocumentElement();
+        if (rootElement != CompactDocument.NONE) {
+            String key = document.getAttribute(rootElement, Constant.KEY);
+            int childElement = document.getFirstElement(rootElement);
+            if (childElement != CompactDocument.NONE) {
+                String entryTag = document.getNodeName(childElement);
+                Pattern pattern = Pattern.compile("(.*)\\.init");
+                Matcher matcher = pattern.matcher(entryTag);
+                if (matcher.find()) {
+                    String connectorName = matcher.group(1);
+                    String connectionType = getConnectionType(document, childElement);
+                    ConnectionNode connectionNode = new ConnectionNode(key, path, connectorName, connectionType);
+                    return connectionNode;
                 }
             }
-        } catch (IOException e) {
-            LOGGER.log(Level.WARNING, "Error while reading file content", e);
         }
         return component;
     }
 
-    private static String getConnectionType(DOMElement element) {
+    private static String getConnectionType(CompactDocument document, int element) {
 
-        List<DOMNode> children = element.getChildren();
-        if (children != null) {
-            for (DOMNode child : children) {
-                String nodeName = child.getNodeName();
-                if ("connectionType".equals(nodeName)) {
-                    String connectionType = Utils.getInlineString(child.getFirstChild());
-                    return connectionType;
-                }
+        for (int child = document.getFirstElement(element); child != CompactDocument.NONE;
+             child = document.getNextElement(child)) {
+            if (document.hasName(child, "connectionType")) {
+                return document.getInlineString(document.getFirstChild(child));
             }
         }
         return null;
     }
 
-    private static String getApiContext(String path) {
+    private static String getApiContext(CompactDocument document) {
 
-        File file = new File(path);
-        DOMDocument domDocument = null;
-        try {
-            domDocument = Utils.getDOMDocument(file);
-            DOMNode node = Utils.getChildNodeByName(domDocument, Constant.API);
-            if (node != null) {
-                String context = node.getAttribute(Constant.CONTEXT);
-                return context;
-            }
-        } catch (IOException e) {
-            //ignore
+        int node = document.getChildElement(document.getDocument(), Constant.API);
+        if (node != CompactDocument.NONE) {
+            return document.getAttribute(node, Constant.CONTEXT);
         }
         return null;
     }
 
-    private static String getArtifactName(String type, String path) throws IOException {
-
-        File file = new File(path);
-        DOMDocument domDocument = Utils.getDOMDocument(file);
+    private static String getArtifactName(String type, CompactDocument document) throws IOException {
 
         String tag = getArtifactTag(type);
 
-        DOMNode node = Utils.getChildNodeByName(domDocument, tag);
-        if (node != null) {
+        int node = document.getChildElement(document.getDocument(), tag);
+        if (node != CompactDocument.NONE) {
             if (Constant.API.equalsIgnoreCase(type)) {
-                return getApiArtifactName(node);
+                return getApiArtifactName(document, node);
             } else {
-                return getNonApiArtifactName(node);
+                return getNonApiArtifactName(document, node);
             }
         } else {
             throw new IOException("Invalid artifact in the artifact folder: " + type);
         }
     }
 
-    private static String getApiArtifactName(DOMNode node) {
+    private static String getApiArtifactName(CompactDocument document, int node) {
 
         StringBuilder name = new StringBuilder();
-        name.append(node.getAttribute(Constant.NAME));
-        if (node.hasAttribute(Constant.VERSION)) {
-            name.append(":v").append(node.getAttribute(Constant.VERSION));
+        name.append(document.getAttribute(node, Constant.NAME));
+        if (document.hasAttribute(node, Constant.VERSION)) {
+            name.append(":v").append(document.getAttribute(node, Constant.VERSION));
         }
         return name.toString();
     }
 
-    private static String getNonApiArtifactName(DOMNode node) {
+    private static String getNonApiArtifactName(CompactDocument document, int node) {
 
-        String name = node.getAttribute(Constant.NAME);
+        String name = document.getAttribute(node, Constant.NAME);
         if (name == null) {
-            name = node.getAttribute(Constant.KEY);
+            name = document.getAttribute(node, Constant.KEY);
             if (name == null) {
-                DOMNode nameElt = Utils.getChildNodeByName(node, Constant.NAME);
-                if (nameElt != null) {
-                    name = Utils.getInlineString(nameElt.getFirstChild());
+                int nameElt = document.getChildElement(node, Constant.NAME);
+                if (nameElt != CompactDocument.NONE) {
+                    name = document.getInlineString(document.getFirstChild(nameElt));
                 }
             }
         }
         return name;
     }
 
+    private static int getRootElementFromConfigXml(CompactDocument document) {
+
+        for (int child = document.getFirstElement(document.getDocument()); child != CompactDocument.NONE;
+             child = document.getNextElement(child)) {
+            if (Utils.containsIgnoreCase(Constant.SYNAPSE_CONFIG_ELEMENTS, document.getNodeName(child))) {
+                return child;
+            }
+        }
+        return CompactDocument.NONE;
+    }
+
     private static String getArtifactTag(String type) {
 
         if (Constant.PROXY_SERVICE.equalsIgnoreCase(type)) {
@@ -807,15 +792,17 @@ public class DirectoryTreeBuilder {
         return type;
     }
 
-    private static void addResources(DOMElement rootElement, AdvancedNode advancedNode) {
+    private static void addResources(CompactDocument document, int rootElement, AdvancedNode advancedNode) {
 
-        List<DOMNode> apiChildren = rootElement.getChildren();
-        for (DOMNode child : apiChildren) {
-            String name = child.getNodeName();
-            if (Constant.RESOURCE.equalsIgnoreCase(name)) {
-                String methods = child.getAttribute(Constant.METHODS);
-                String uriTemplate = child.getAttribute(Constant.URI_TEMPLATE);
-                String urlMapping = child.getAttribute(Constant.URL_MAPPING);
+        if (rootElement == CompactDocument.NONE) {
+            return;
+        }
+        for (int child = document.getFirstElement(rootElement); child != CompactDocument.NONE;
+             child = document.getNextElement(child)) {
+            if (document.hasNameIgnoreCase(child, Constant.RESOURCE)) {
+                String methods = document.getAttribute(child, Constant.METHODS);
+                String uriTemplate = document.getAttribute(child, Constant.URI_TEMPLATE);
+                String urlMapping = document.getAttribute(child, Constant.URL_MAPPING);
                 APIResource resource = new APIResource(methods, uriTemplate, urlMapping);
                 ((APINode) advancedNode).addResource(resource);
             }
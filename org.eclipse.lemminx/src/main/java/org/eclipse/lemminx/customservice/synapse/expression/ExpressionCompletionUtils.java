@@ -25,7 +25,7 @@ import org.eclipse.lemminx.customservice.synapse.expression.pojo.Functions;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.Property;
 import org.eclipse.lemminx.customservice.synapse.parser.ConfigDetails;
 import org.eclipse.lemminx.customservice.synapse.parser.Node;
-import org.eclipse.lemminx.customservice.synapse.parser.config.ConfigParser;
+import org.eclipse.lemminx.customservice.synapse.parser.ProjectMetadataService;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeGenerator;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.factory.mediators.MediatorFactoryFinder;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
@@ -395,7 +395,8 @@ public class ExpressionCompletionUtils {
      */
     public static List<Property> getConfigs(String projectPath) {
 
-        List<ConfigDetails> configurables = ConfigParser.getConfigDetails(projectPath);
+        List<ConfigDetails> configurables =
+                ProjectMetadataService.getInstance().getMetadata(projectPath).getConfigurables();
         if (configurables != null) {
             List<Property> configs = new ArrayList<>();
             for (ConfigDetails config : configurables) {
@@ -27,11 +27,13 @@ import com.google.gson.JsonParser;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.lemminx.customservice.synapse.parser.Node;
 import org.eclipse.lemminx.customservice.synapse.parser.OverviewPageDetailsResponse;
+import org.eclipse.lemminx.customservice.synapse.parser.ProjectMetadataService;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeGenerator;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.inbound.InboundEndpoint;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
 import org.eclipse.lemminx.customservice.synapse.utils.UISchemaMapper;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.eclipse.lemminx.customservice.synapse.utils.ZipArchive;
 import org.eclipse.lemminx.dom.DOMDocument;
 
 import java.io.BufferedReader;
@@ -41,6 +43,7 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -49,11 +52,10 @@ import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import static org.eclipse.lemminx.customservice.synapse.parser.pom.PomParser.getPomDetails;
-
 public class InboundConnectorHolder {
 
     private static final Logger LOGGER = Logger.getLogger(InboundConnectorHolder.class.getName());
+    public static final String UI_SCHEMA_ENTRY = Constant.RESOURCES + "/" + Constant.UI_SCHEMA_JSON;
     private String projectId;
     private String projectPath;
     private String tempFolderPath;
@@ -82,8 +84,8 @@ public class InboundConnectorHolder {
         this.projectId = Utils.getHash(projectPath);
         // Maintain the original runtime version of the project as the 4.5.0 version has new inbound-connectors
         // TODO: https://github.com/wso2/mi-vscode/issues/1331
-        OverviewPageDetailsResponse pomDetailsResponse = new OverviewPageDetailsResponse();
-        getPomDetails(projectPath, pomDetailsResponse);
+        OverviewPageDetailsResponse pomDetailsResponse =
+                ProjectMetadataService.getInstance().getMetadata(projectPath).getPomDetails();
         Node node = pomDetailsResponse.getPrimaryDetails().getRuntimeVersion();
         if (node != null && Constant.MI_450_VERSION.equals(node.getValue())) {
             this.projectRuntimeVersion = node.getValue();
@@ -128,14 +130,11 @@ public class InboundConnectorHolder {
         List<File> inboundConnectorZips = getInboundConnectorZips(extractFolder);
         for (File zip : inboundConnectorZips) {
             String zipName = zip.getName().replace(Constant.DOT + "zip", StringUtils.EMPTY);
-            File extractToFolder = new File(extractFolder.getAbsolutePath() + File.separator + zipName);
             try {
-                Utils.extractZip(zip, extractToFolder);
-                String schema = Utils.readFile(extractToFolder.toPath().resolve(Constant.RESOURCES)
-                        .resolve(Constant.UI_SCHEMA_JSON).toFile());
-                saveInboundConnector(Utils.getJsonObject(schema).get(Constant.NAME).getAsString(), schema);
+                // Only the UI schema is needed, hence it is read from the zip without extracting the connector
+                JsonObject connectorSchema = ZipArchive.readJsonEntry(zip, UI_SCHEMA_ENTRY);
+                saveInboundConnector(connectorSchema.get(Constant.NAME).getAsString(), connectorSchema.toString());
                 JsonObject newConnector = new JsonObject();
-                JsonObject connectorSchema = Utils.getJsonObject(schema);
                 newConnector.addProperty(Constant.NAME, connectorSchema.get(Constant.TITLE) != null ?
                         connectorSchema.get(Constant.TITLE).getAsString() : StringUtils.EMPTY);
                 newConnector.addProperty(Constant.ID, connectorSchema.get(Constant.ID) != null ?
@@ -148,13 +147,6 @@ public class InboundConnectorHolder {
             } catch (Exception e) {
                 LOGGER.log(Level.SEVERE, "Failed to import custom inbound-connector:" + zipName, e);
             }
-            if (extractToFolder.exists() && extractToFolder.isDirectory()) {
-                try {
-                    Utils.deleteDirectory(extractToFolder.toPath());
-                } catch (IOException e) {
-                    LOGGER.log(Level.SEVERE, "Failed to delete extracted inbound-connector:" + zipName, e);
-                }
-            }
         }
     }
 
@@ -208,6 +200,39 @@ public class InboundConnectorHolder {
         return false;
     }
 
+    /**
+     * Removes the saved UI schema of an inbound connector.
+     *
+     * @param connectorName name of the inbound connector
+     */
+    /**
+     * Removes the inbound connector read from the given zip, when the zip is removed.
+     *
+     * @param connectorName name of the inbound connector
+     * @param zip           removed zip of the inbound connector
+     */
+    public void removeInboundConnector(String connectorName, File zip) {
+
+        ZipArchive.evictJsonEntries(zip);
+        removeInboundConnector(connectorName);
+    }
+
+    public void removeInboundConnector(String connectorName) {
+
+        String id = connectorIdMap.remove(connectorName);
+        if (id != null) {
+            inboundConnectors.remove(id);
+        }
+        if (tempFolderPath == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(Path.of(tempFolderPath, connectorName + ".json"));
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Failed to delete inbound connector schema: " + connectorName, e);
+        }
+    }
+
     public InboundConnectorResponse getInboundConnectorSchema(File inboundEPFile) {
 
         try {
@@ -26,6 +26,10 @@ public class TryOutConstants {
     public static final int DEFAULT_SERVER_INBOUND_PORT = 9201;
 
     public static final Path TEMP_FOLDER_PATH = Path.of(System.getProperty("user.home"), ".wso2-mi", "tryout");
+    public static final Path TRYOUT_WORKSPACE_PATH =
+            Path.of(System.getProperty("user.home"), ".wso2-mi", "tryout_workspace");
+    public static final Path ISOLATED_TRYOUT_WORKSPACE_PATH =
+            Path.of(System.getProperty("user.home"), ".wso2-mi", "tryout_isolated_workspace");
     public static final Path CAPP_CACHE_LOCATION =
             Path.of(System.getProperty("user.home") + "/.wso2-mi/tryout_capp_cache");
     public static final Path API_RELATIVE_PATH = Path.of("src", "main", "wso2mi", "artifacts", "apis");
@@ -23,6 +23,7 @@ import org.eclipse.lemminx.commons.BadLocationException;
 import org.eclipse.lemminx.customservice.synapse.debugger.entity.Breakpoint;
 import org.eclipse.lemminx.customservice.synapse.debugger.entity.debuginfo.IDebugInfo;
 import org.eclipse.lemminx.customservice.synapse.debugger.visitor.VisitorUtils;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.TryOutWorkspace;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.ArtifactDeploymentException;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.Edit;
 import org.eclipse.lemminx.customservice.synapse.InvalidConfigurationException;
@@ -148,10 +149,14 @@ public class TryOutUtils {
 
     /**
      * This method is used to clone and preprocess the project.
+     * <p>
+     * The project is synced to the tryout workspace, without the unwanted artifacts and the target folder. The
+     * mediators below the tried out mediator are removed and the edits from the user are applied in memory, and the
+     * edited file is written once.
      *
      * @param projectUri the project URI
      * @param request   the tryout request
-     * @param tempFolder the temporary folder to clone the project
+     * @param tempFolder the tryout workspace folder
      * @return the path of the file in which the edits are applied
      * @throws IOException
      */
@@ -159,76 +164,59 @@ public class TryOutUtils {
             throws IOException {
 
         Path projectPath = Path.of(projectUri);
-        Utils.copyFolder(projectPath, tempFolder, null);
-        removeUnwantedFiles(tempFolder);
+        TryOutWorkspace.sync(projectPath, tempFolder, TryOutUtils::isTryOutFolder);
         Path editFilePath = TryOutUtils.relativizeAndResolvePath(projectPath, Path.of(request.getFile()), tempFolder);
-        removeBelowMediators(editFilePath, new Position(request.getLine(), request.getColumn()));
-        doEdits(request.getEdits(), editFilePath);         // Apply the edits from user
+        String content = Files.readString(editFilePath);
+        content = removeBelowMediators(content, new Position(request.getLine(), request.getColumn()));
+        content = applyEdits(request.getEdits(), content);         // Apply the edits from user
+        TryOutWorkspace.writeFile(editFilePath, content);
         return editFilePath;
     }
 
-    private static void removeUnwantedFiles(Path tempFolder) {
-
-        removeUnwantedArtifacts(tempFolder);
-        removeTargetFolder(tempFolder);
-    }
-
-    private static void removeUnwantedArtifacts(Path tempFolder) {
-
-        Path targetPath = tempFolder.resolve(TryOutConstants.PROJECT_ARTIFACT_PATH);
-        for (String artifact : UNWANTED_ARTIFACTS) {
-            Path artifactPath = targetPath.resolve(artifact);
-            if (artifactPath.toFile().exists()) {
-                try {
-                    Utils.deleteDirectory(artifactPath);
-                } catch (IOException e) {
-                    // Ignore
-                }
-            }
-        }
-    }
-
-    private static void removeTargetFolder(Path tempFolder) {
+    private static boolean isTryOutFolder(Path relativeFolder) {
 
-        try {
-            Utils.deleteDirectory(tempFolder.resolve(Constant.TARGET));
-        } catch (IOException e) {
-            // Ignore
+        String folderName = relativeFolder.getFileName().toString();
+        if (folderName.startsWith(".") || relativeFolder.equals(Path.of(Constant.TARGET))) {
+            return false;
         }
+        return !(TryOutConstants.PROJECT_ARTIFACT_PATH.equals(relativeFolder.getParent()) &&
+                UNWANTED_ARTIFACTS.contains(folderName));
     }
 
-    private static void removeBelowMediators(Path editFilePath, Position position) throws IOException {
+    private static String removeBelowMediators(String content, Position position) {
 
-        DOMDocument document = Utils.getDOMDocument(editFilePath.toFile());
+        DOMDocument document = Utils.getDOMDocument(content);
         if (document == null) {
-            return;
+            return content;
         }
         STNode root = SyntaxTreeGenerator.buildTree(document.getDocumentElement());
+        Edit edit = null;
         if (root instanceof NamedSequence) {
-            removeBelowMediators((NamedSequence) root, position, editFilePath);
+            edit = getRemoveBelowMediatorsEdit((NamedSequence) root, position);
         } else if (root instanceof API) {
-            removeBelowMediators((API) root, position, editFilePath);
+            edit = getRemoveBelowMediatorsEdit((API) root, position);
         }
+        return edit != null ? editContent(content, edit.getRange(), edit.getText()) : content;
     }
 
-    private static void removeBelowMediators(NamedSequence root, Position position, Path editFilePath)
-            throws IOException {
+    private static Edit getRemoveBelowMediatorsEdit(NamedSequence root, Position position) {
 
         Mediator currentMediator = findCurrentMediator(root.getMediatorList(), position);
         if (currentMediator != null) {
             Position sequenceEndTagStart = root.getRange().getEndTagRange().getStart();
-            removeContentAfterMediator(currentMediator, sequenceEndTagStart, editFilePath);
+            return getRemoveContentAfterMediatorEdit(currentMediator, sequenceEndTagStart);
         }
+        return null;
     }
 
-    private static void removeBelowMediators(API root, Position position, Path editFilePath) throws IOException {
+    private static Edit getRemoveBelowMediatorsEdit(API root, Position position) {
 
         if (root == null) {
-            return;
+            return null;
         }
         APIResource[] resources = root.getResource();
         if (resources == null) {
-            return;
+            return null;
         }
         Mediator mediator = null;
         Position end = null;
@@ -246,21 +234,20 @@ public class TryOutUtils {
                 }
             }
         }
-        removeContentAfterMediator(mediator, end, editFilePath);
+        return getRemoveContentAfterMediatorEdit(mediator, end);
     }
 
-    private static void removeContentAfterMediator(Mediator mediator, Position end, Path editFilePath)
-            throws IOException {
+    private static Edit getRemoveContentAfterMediatorEdit(Mediator mediator, Position end) {
 
         if (mediator == null || end == null) {
-            return;
+            return null;
         }
         Position mediatorEnd =
                 mediator.getRange().getEndTagRange() != null ? mediator.getRange().getEndTagRange().getEnd() :
                         mediator.getRange().getStartTagRange().getEnd();
         mediatorEnd.setCharacter(mediatorEnd.getCharacter() + 1);
         end.setCharacter(end.getCharacter() == 0 ? 0 : end.getCharacter() - 1);
-        doEdit(new Edit(StringUtils.EMPTY, new Range(mediatorEnd, end)), editFilePath);
+        return new Edit(StringUtils.EMPTY, new Range(mediatorEnd, end));
     }
 
     private static boolean isNodeInRange(STNode node, Position position) {
@@ -283,6 +270,8 @@ public class TryOutUtils {
 
     /**
      * This method is used to apply the edits to the file.
+     * <p>
+     * The edits are applied in memory, in the given order, and the file is written once.
      *
      * @param edits        the edits to be applied
      * @param editFilePath the file in which the edits are applied
@@ -291,9 +280,8 @@ public class TryOutUtils {
     public static void doEdits(Edit[] edits, Path editFilePath) throws IOException {
 
         if (edits != null && edits.length > 0) {
-            for (Edit edit : edits) {
-                doEdit(edit, editFilePath);
-            }
+            String fileContent = Files.readString(editFilePath);
+            TryOutWorkspace.writeFile(editFilePath, applyEdits(edits, fileContent));
         }
     }
 
@@ -311,7 +299,17 @@ public class TryOutUtils {
 
         String fileContent = Files.readString(editFilePath);
         String newContent = editContent(fileContent, editRange, editContent);
-        Files.writeString(editFilePath, newContent);
+        TryOutWorkspace.writeFile(editFilePath, newContent);
+    }
+
+    private static String applyEdits(Edit[] edits, String content) {
+
+        if (edits != null) {
+            for (Edit edit : edits) {
+                content = editContent(content, edit.getRange(), edit.getText());
+            }
+        }
+        return content;
     }
 
     private static String editContent(String originalText, Range range, String newText) {
@@ -621,9 +619,26 @@ public class TryOutUtils {
      */
     public static String createAPI(Mediator mediator, String tempPath) throws InvalidConfigurationException {
 
+        if (mediator == null) {
+            return null;
+        }
+        return createAPI(mediator, tempPath, mediator.getTag() + "_tryout_" + UUID.randomUUID());
+    }
+
+    /**
+     * Creates an API with the given name to invoke the given mediator.
+     *
+     * @param mediator the mediator to invoke
+     * @param tempPath the project in which the API is created
+     * @param apiName  the name of the API
+     * @return the path of the created API
+     * @throws InvalidConfigurationException if an error occurs while creating the API
+     */
+    public static String createAPI(Mediator mediator, String tempPath, String apiName)
+            throws InvalidConfigurationException {
+
         try {
             if (mediator != null) {
-                String apiName = mediator.getTag() + "_tryout_" + UUID.randomUUID();
                 API api = new API();
                 api.setName(apiName);
                 api.setContext(TryOutConstants.SLASH + apiName);
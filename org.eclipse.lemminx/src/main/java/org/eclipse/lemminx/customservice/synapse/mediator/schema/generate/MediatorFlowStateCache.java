@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.mediator.schema.generate;
+
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutInfo;
+import org.eclipse.lemminx.customservice.synapse.performance.PerformanceMonitor;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeGenerator;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.eclipse.lsp4j.Range;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the computed mediator flow states of the artifacts for which the input/output schema was requested.
+ * <p>
+ * The state at a mediator position is computed once per version of an artifact and served from the cache for the
+ * following schema and expression completion requests of the same position. The syntax tree of a version is also
+ * built only once. When an artifact is edited, the states computed only from the lines before the first modified
+ * line are kept, while the states whose flow reaches the modified line are dropped. A state depends on every mediator
+ * visited to compute it, including the whole mediator containing its position, so a multi-line mediator such as a
+ * filter is dropped when one of its branches is edited. All the
+ * states of an artifact are dropped when one of the artifacts referred by its flow (sequences, templates or
+ * resources) is modified or an artifact folder of the project changes.
+ */
+public class MediatorFlowStateCache {
+
+    private static final int MAX_DOCUMENTS = 32;
+    private static final int MAX_STATES_PER_DOCUMENT = 256;
+    private static final String[] ARTIFACT_FOLDERS = {"sequences", "templates", "local-entries"};
+    private static final ThreadLocal<FlowDependencies> DEPENDENCY_RECORDER = new ThreadLocal<>();
+    private static final MediatorFlowStateCache INSTANCE = new MediatorFlowStateCache();
+
+    private final Map<String, DocumentFlowStates> documents;
+
+    private MediatorFlowStateCache() {
+
+        this.documents = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, DocumentFlowStates> eldest) {
+
+                return size() > MAX_DOCUMENTS;
+            }
+        };
+    }
+
+    public static MediatorFlowStateCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the flow states of the given version of an artifact.
+     *
+     * @param projectPath project path
+     * @param documentKey key of the artifact
+     * @param content     current content of the artifact
+     * @return the flow states of the artifact version
+     */
+    public synchronized DocumentFlowStates getDocumentStates(String projectPath, String documentKey, String content) {
+
+        DocumentFlowStates states = documents.get(documentKey);
+        if (states != null && states.content.equals(content) && !states.isDependencyModified()) {
+            return states;
+        }
+        DocumentFlowStates newStates = new DocumentFlowStates(content, getArtifactFolderStamps(projectPath));
+        if (states != null && !states.isDependencyModified()) {
+            newStates.retainStatesBefore(states, getFirstModifiedLine(states.content, content));
+        }
+        documents.put(documentKey, newStates);
+        return newStates;
+    }
+
+    /**
+     * Drops all the cached flow states.
+     */
+    public synchronized void clear() {
+
+        documents.clear();
+    }
+
+    /**
+     * Records a file read while computing a flow state, so that the state is dropped when the file is modified.
+     *
+     * @param file file referred by the mediator flow
+     */
+    public static void recordDependency(File file) {
+
+        FlowDependencies dependencies = DEPENDENCY_RECORDER.get();
+        if (dependencies != null && file != null) {
+            dependencies.files.put(file.getAbsolutePath(), file.lastModified());
+        }
+    }
+
+    /**
+     * Records a mediator visited while computing a flow state, so that the state is dropped when a line up to the end
+     * of the mediator is modified.
+     *
+     * @param mediator visited mediator
+     */
+    public static void recordVisitedMediator(STNode mediator) {
+
+        FlowDependencies dependencies = DEPENDENCY_RECORDER.get();
+        if (dependencies != null && mediator != null && mediator.getRange() != null) {
+            Range range = mediator.getRange().getEndTagRange() != null ? mediator.getRange().getEndTagRange() :
+                    mediator.getRange().getStartTagRange();
+            if (range != null) {
+                dependencies.lastLine = Math.max(dependencies.lastLine, range.getEnd().getLine());
+            }
+        }
+    }
+
+    static void startRecording() {
+
+        DEPENDENCY_RECORDER.set(new FlowDependencies());
+    }
+
+    static FlowDependencies stopRecording() {
+
+        FlowDependencies dependencies = DEPENDENCY_RECORDER.get();
+        DEPENDENCY_RECORDER.remove();
+        return dependencies != null ? dependencies : new FlowDependencies();
+    }
+
+    private static Map<String, Long> getArtifactFolderStamps(String projectPath) {
+
+        Map<String, Long> stamps = new HashMap<>();
+        if (projectPath == null) {
+            return stamps;
+        }
+        for (String folder : ARTIFACT_FOLDERS) {
+            File artifactFolder = new File(projectPath, String.join(File.separator, "src", "main", "wso2mi",
+                    "artifacts", folder));
+            stamps.put(artifactFolder.getAbsolutePath(), artifactFolder.lastModified());
+        }
+        return stamps;
+    }
+
+    private static int getFirstModifiedLine(String oldContent, String newContent) {
+
+        int length = Math.min(oldContent.length(), newContent.length());
+        int line = 0;
+        for (int i = 0; i < length; i++) {
+            char c = oldContent.charAt(i);
+            if (c != newContent.charAt(i)) {
+                return line;
+            }
+            if (c == '\n') {
+                line++;
+            }
+        }
+        return line;
+    }
+
+    /**
+     * Computed flow states of a single version of an artifact.
+     */
+    public static class DocumentFlowStates {
+
+        private final String content;
+        private final Map<String, Long> dependencies;
+        private final Map<StateKey, FlowState> states;
+        private STNode syntaxTree;
+
+        private DocumentFlowStates(String content, Map<String, Long> folderStamps) {
+
+            this.content = content;
+            this.dependencies = new ConcurrentHashMap<>(folderStamps);
+            this.states = new ConcurrentHashMap<>();
+        }
+
+        /**
+         * Returns the syntax tree of this version of the artifact.
+         *
+         * @return the syntax tree
+         */
+        public synchronized STNode getSyntaxTree() {
+
+            if (syntaxTree == null) {
+                syntaxTree = SyntaxTreeGenerator.buildTree(Utils.getDOMDocument(content).getDocumentElement());
+            }
+            return syntaxTree;
+        }
+
+        /**
+         * Returns a copy of the flow state at the given position.
+         *
+         * @param line         line of the mediator
+         * @param column       column of the mediator
+         * @param inputPayload input payload of the flow
+         * @return the flow state or null if it is not computed yet
+         */
+        public MediatorTryoutInfo getState(int line, int column, String inputPayload) {
+
+            FlowState state = states.get(new StateKey(line, column, inputPayload));
+            PerformanceMonitor.getInstance().recordCacheAccess("mediatorFlowState", state != null);
+            return state != null ? copy(state.info) : null;
+        }
+
+        /**
+         * Stores a copy of the flow state computed for the given position.
+         *
+         * @param line         line of the mediator
+         * @param column       column of the mediator
+         * @param inputPayload input payload of the flow
+         * @param state        computed flow state
+         * @param dependencies files and mediators visited while computing the state
+         */
+        public void putState(int line, int column, String inputPayload, MediatorTryoutInfo state,
+                             FlowDependencies dependencies) {
+
+            if (state.getError() != null || states.size() >= MAX_STATES_PER_DOCUMENT) {
+                return;
+            }
+            this.dependencies.putAll(dependencies.files);
+            states.put(new StateKey(line, column, inputPayload),
+                    new FlowState(copy(state), Math.max(line, dependencies.lastLine)));
+        }
+
+        private void retainStatesBefore(DocumentFlowStates previous, int line) {
+
+            for (Map.Entry<StateKey, FlowState> entry : previous.states.entrySet()) {
+                if (entry.getValue().lastLine < line) {
+                    states.put(entry.getKey(), entry.getValue());
+                }
+            }
+            dependencies.putAll(previous.dependencies);
+        }
+
+        private boolean isDependencyModified() {
+
+            for (Map.Entry<String, Long> dependency : dependencies.entrySet()) {
+                if (new File(dependency.getKey()).lastModified() != dependency.getValue()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static MediatorTryoutInfo copy(MediatorTryoutInfo state) {
+
+            return new MediatorTryoutInfo(state.getInput(), state.getOutput());
+        }
+    }
+
+    /**
+     * Files read and mediators visited while computing a flow state.
+     */
+    public static class FlowDependencies {
+
+        private final Map<String, Long> files = new HashMap<>();
+        private int lastLine = -1;
+
+        private FlowDependencies() {
+
+        }
+    }
+
+    private static class FlowState {
+
+        private final MediatorTryoutInfo info;
+        private final int lastLine;
+
+        FlowState(MediatorTryoutInfo info, int lastLine) {
+
+            this.info = info;
+            this.lastLine = lastLine;
+        }
+    }
+
+    private static class StateKey {
+
+        private final int line;
+        private final int column;
+        private final String inputPayload;
+
+        StateKey(int line, int column, String inputPayload) {
+
+            this.line = line;
+            this.column = column;
+            this.inputPayload = inputPayload;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof StateKey)) {
+                return false;
+            }
+            StateKey stateKey = (StateKey) o;
+            return line == stateKey.line && column == stateKey.column &&
+                    Objects.equals(inputPayload, stateKey.inputPayload);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(line, column, inputPayload);
+        }
+    }
+}
@@ -21,13 +21,11 @@ import org.eclipse.lemminx.customservice.synapse.mediator.schema.generate.visito
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorInfo;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutInfo;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutRequest;
-import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeGenerator;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
-import org.eclipse.lemminx.dom.DOMDocument;
 
-import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 public class ServerLessTryoutHandler {
@@ -45,6 +43,7 @@ public class ServerLessTryoutHandler {
 
         try {
             String filePath = request.getFile();
+            String documentKey = request.getFile();
             if (request.getEdits() != null) {
                 String documentUri = request.getFile();
                 Utils.copyFile(documentUri, TEMP_FOLDER.toString(), TEMP_FILE_NAME);
@@ -53,11 +52,26 @@ public class ServerLessTryoutHandler {
                 request = new MediatorTryoutRequest(filePath, request.getLine(), request.getColumn() + 1,
                         request.getInputPayload(), null);
             }
-            DOMDocument domDocument = Utils.getDOMDocument(new File(filePath));
-            STNode node = SyntaxTreeGenerator.buildTree(domDocument.getDocumentElement());
+            String content = Files.readString(Path.of(filePath));
+            MediatorFlowStateCache.DocumentFlowStates flowStates =
+                    MediatorFlowStateCache.getInstance().getDocumentStates(projectUri, documentKey, content);
+            MediatorTryoutInfo cachedInfo =
+                    flowStates.getState(request.getLine(), request.getColumn(), request.getInputPayload());
+            if (cachedInfo != null) {
+                return cachedInfo;
+            }
+            STNode node = flowStates.getSyntaxTree();
             MediatorTryoutInfo mediatorTryoutInfo = createInitialMediatorTryoutInfo(request);
             if (node != null) {
-                visitNode(node, request, mediatorTryoutInfo);
+                MediatorFlowStateCache.FlowDependencies dependencies;
+                MediatorFlowStateCache.startRecording();
+                try {
+                    visitNode(node, request, mediatorTryoutInfo);
+                } finally {
+                    dependencies = MediatorFlowStateCache.stopRecording();
+                }
+                flowStates.putState(request.getLine(), request.getColumn(), request.getInputPayload(),
+                        mediatorTryoutInfo, dependencies);
             }
             return mediatorTryoutInfo;
         } catch (IOException e) {
@@ -80,6 +80,7 @@ import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.transf
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.transformation.smooks.Smooks;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.transformation.xquery.Xquery;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.mediator.transformation.xslt.Xslt;
+import org.eclipse.lemminx.customservice.synapse.mediator.schema.generate.MediatorFlowStateCache;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutInfo;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.misc.common.Sequence;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.misc.targets.Target;
@@ -188,7 +189,9 @@ public class MediatorSchemaVisitor extends AbstractMediatorVisitor {
             try {
                 String path =
                         ConfigFinder.findEsbComponentPath(node.getFormat().getKey(), Constant.RESOURCE, projectPath);
-                String regContent = org.eclipse.lemminx.customservice.synapse.utils.Utils.readFile(new File(path));
+                File resourceFile = new File(path);
+                MediatorFlowStateCache.recordDependency(resourceFile);
+                String regContent = org.eclipse.lemminx.customservice.synapse.utils.Utils.readFile(resourceFile);
                 info.setOutputPayload(new JsonPrimitive(regContent));
             } catch (IOException e) {
                 info.setOutputPayload(new JsonPrimitive(StringUtils.EMPTY));
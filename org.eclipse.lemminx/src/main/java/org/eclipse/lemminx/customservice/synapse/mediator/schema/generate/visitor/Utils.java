@@ -21,6 +21,7 @@ import com.google.gson.JsonPrimitive;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.lemminx.customservice.synapse.AbstractMediatorVisitor;
 import org.eclipse.lemminx.customservice.synapse.expression.ExpressionConstants;
+import org.eclipse.lemminx.customservice.synapse.mediator.schema.generate.MediatorFlowStateCache;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutInfo;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutRequest;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.Properties;
@@ -141,6 +142,7 @@ public class Utils {
         MediatorSchemaVisitor mediatorVisitor = new MediatorSchemaVisitor(projectPath, info, position);
         for (Mediator mediator : mediatorList) {
             visitMediator(mediator, mediatorVisitor);
+            MediatorFlowStateCache.recordVisitedMediator(mediator);
             if (needRangeCheck && checkNodeInRange(mediator, position)) {
                 break;
             }
@@ -242,8 +244,10 @@ public class Utils {
         try {
             String sequencePath = getArtifactPath(key, projectPath, "sequences");
             if (sequencePath != null) {
+                File sequenceFile = new File(sequencePath);
+                MediatorFlowStateCache.recordDependency(sequenceFile);
                 DOMDocument domDocument =
-                        org.eclipse.lemminx.customservice.synapse.utils.Utils.getDOMDocument(new File(sequencePath));
+                        org.eclipse.lemminx.customservice.synapse.utils.Utils.getDOMDocument(sequenceFile);
                 NamedSequence sequence =
                         (NamedSequence) SyntaxTreeGenerator.buildTree(domDocument.getDocumentElement());
                 if (sequence != null) {
@@ -270,8 +274,10 @@ public class Utils {
         try {
             String sequencePath = getArtifactPath(target, projectPath, "templates");
             if (sequencePath != null) {
+                File sequenceFile = new File(sequencePath);
+                MediatorFlowStateCache.recordDependency(sequenceFile);
                 DOMDocument domDocument =
-                        org.eclipse.lemminx.customservice.synapse.utils.Utils.getDOMDocument(new File(sequencePath));
+                        org.eclipse.lemminx.customservice.synapse.utils.Utils.getDOMDocument(sequenceFile);
                 NamedSequence sequence =
                         ((Template) SyntaxTreeGenerator.buildTree(domDocument.getDocumentElement())).getSequence();
                 if (sequence != null) {
@@ -406,6 +412,7 @@ public class Utils {
         String seqPath = ConfigFinder.findEsbComponentPath(key, Constant.SEQUENCES, projectPath);
         if (seqPath != null) {
             File seqFile = new File(seqPath);
+            MediatorFlowStateCache.recordDependency(seqFile);
             DOMDocument document = org.eclipse.lemminx.customservice.synapse.utils.Utils.getDOMDocument(seqFile);
             if (document == null) {
                 return;
@@ -14,9 +14,11 @@
 
 package org.eclipse.lemminx.customservice.synapse.mediator.tryout;
 
+import org.eclipse.lemminx.customservice.synapse.dependency.tree.ArtifactType;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.DependencyLookUp;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.Dependency;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.visitor.MediatorDependencyVisitor;
+import org.eclipse.lemminx.customservice.synapse.mediator.TryOutConstants;
 import org.eclipse.lemminx.customservice.synapse.mediator.TryOutUtils;
 import org.eclipse.lemminx.customservice.synapse.InvalidConfigurationException;
 import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutInfo;
@@ -27,26 +29,67 @@ import org.eclipse.lemminx.customservice.synapse.utils.Utils;
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lsp4j.Position;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Properties;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import static org.eclipse.lemminx.customservice.synapse.mediator.TryOutConstants.TEMP_FOLDER_PATH;
-
+/**
+ * Tries out a single mediator in an API created for it.
+ * <p>
+ * The API and the dependencies of the mediator are synced to an isolated tryout workspace which is reused by the
+ * tryouts of the project. The dependency closure of a mediator is cached by the content of the mediator until one of
+ * its files or an artifact folder of the project is modified, and the workspace is deployed again only when the API
+ * or one of its dependencies changed since the previous isolated tryout, so trying the same mediator with another
+ * payload only sends the new request.
+ */
 public class IsolatedTryOutHandler {
 
     private static final Logger LOGGER = Logger.getLogger(IsolatedTryOutHandler.class.getName());
+    private static final int MAX_DEPENDENCY_CLOSURES = 32;
+    private static final Map<ArtifactType, String> ARTIFACT_FOLDERS = new EnumMap<>(ArtifactType.class);
     private String projectRoot;
     private final TryOutHandler tryOutHandler;
+    private final Path workspacePath;
+    private final Map<String, DependencyClosure> dependencyClosures;
+
+    static {
+        ARTIFACT_FOLDERS.put(ArtifactType.API, "apis");
+        ARTIFACT_FOLDERS.put(ArtifactType.ENDPOINT, "endpoints");
+        ARTIFACT_FOLDERS.put(ArtifactType.SEQUENCE, "sequences");
+        ARTIFACT_FOLDERS.put(ArtifactType.TEMPLATE, "templates");
+        ARTIFACT_FOLDERS.put(ArtifactType.CONNECTION, "local-entries");
+        ARTIFACT_FOLDERS.put(ArtifactType.LOCAL_ENTRY, "local-entries");
+        ARTIFACT_FOLDERS.put(ArtifactType.MESSAGE_STORE, "message-stores");
+        ARTIFACT_FOLDERS.put(ArtifactType.DATA_SERVICE, "data-services");
+        ARTIFACT_FOLDERS.put(ArtifactType.DATASOURCE, "datasources");
+        ARTIFACT_FOLDERS.put(ArtifactType.INBOUND_ENDPOINT, "inbound-endpoints");
+        ARTIFACT_FOLDERS.put(ArtifactType.MESSAGE_PROCESSOR, "message-processors");
+    }
 
     public IsolatedTryOutHandler(TryOutHandler tryOutHandler, String projectRoot) {
 
         this.tryOutHandler = tryOutHandler;
         this.projectRoot = projectRoot;
+        this.workspacePath =
+                TryOutConstants.ISOLATED_TRYOUT_WORKSPACE_PATH.resolve(Utils.getHash(String.valueOf(projectRoot)));
+        this.dependencyClosures = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, DependencyClosure> eldest) {
+
+                return size() > MAX_DEPENDENCY_CLOSURES;
+            }
+        };
     }
 
     public MediatorTryoutInfo tryOut(MediatorTryoutRequest request) {
@@ -61,86 +104,114 @@ public class IsolatedTryOutHandler {
         if (mediator == null) {
             return new MediatorTryoutInfo("Invalid mediator content");
         }
-        String tempProjectPath = TEMP_FOLDER_PATH.resolve(mediator.getTag() + "_" + UUID.randomUUID()).toString();
+        String mediatorHash = Utils.getHash(mediatorString);
         String tryoutApi;
+        String deploymentId;
+        try {
+            DependencyClosure dependencyClosure = getDependencyClosure(mediatorHash, mediator);
+            TryOutWorkspace.sync(dependencyClosure.files, workspacePath);
+            deploymentId = mediatorHash + dependencyClosure.getFileStamps();
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error while copying the dependencies for tryout", e);
+            return new MediatorTryoutInfo("Error while copying the dependencies");
+        }
         try {
-            tryoutApi = TryOutUtils.createAPI(mediator, tempProjectPath);
-            copyDependencies(mediator, tempProjectPath);
+            tryoutApi = TryOutUtils.createAPI(mediator, workspacePath.toString(),
+                    mediator.getTag() + "_tryout_" + mediatorHash);
             Position position = TryOutUtils.getMediatorPosition(tryoutApi, 0, 0);
             MediatorTryoutRequest mediatorTryoutRequest =
                     new MediatorTryoutRequest(tryoutApi, position.getLine(), position.getCharacter(),
                             request.getInputPayload(), null);
             mediatorTryoutRequest.setMediatorInfo(request.getMediatorInfo());
-            return tryOutHandler.handleIsolatedTryOut(tempProjectPath, mediatorTryoutRequest, false, new Properties());
-        } catch (InvalidConfigurationException e) {
+            return tryOutHandler.handleIsolatedTryOut(workspacePath.toString(), deploymentId, mediatorTryoutRequest);
+        } catch (InvalidConfigurationException | IOException e) {
             LOGGER.log(Level.SEVERE, "Error while creating the API for the mediator tryout", e);
             return new MediatorTryoutInfo("Error while creating the API for the mediator");
-        } catch (IOException e) {
-            LOGGER.log(Level.SEVERE, "Error while copying the dependencies for tryout", e);
-            return new MediatorTryoutInfo("Error while copying the dependencies");
         }
     }
 
-    private void copyDependencies(Mediator mediator, String tempProjectPath) {
+    private synchronized DependencyClosure getDependencyClosure(String mediatorHash, Mediator mediator) {
+
+        DependencyClosure dependencyClosure = dependencyClosures.get(mediatorHash);
+        if (dependencyClosure == null || dependencyClosure.isModified()) {
+            dependencyClosure = createDependencyClosure(mediator);
+            dependencyClosures.put(mediatorHash, dependencyClosure);
+        }
+        return dependencyClosure;
+    }
+
+    private DependencyClosure createDependencyClosure(Mediator mediator) {
 
         MediatorDependencyVisitor visitor = new MediatorDependencyVisitor(projectRoot, new DependencyLookUp());
         visitor.visit(mediator);
-        List<Dependency> dependencies = visitor.getDependencies();
-        if (dependencies != null && !dependencies.isEmpty()) {
-            for (Dependency dependency : dependencies) {
-                String path = dependency.getPath();
-                String targetPath = null;
-                switch (dependency.getType()) {
-                    case API:
-                        targetPath = Path.of(tempProjectPath, "src", "main", "wso2mi", "artifacts", "apis").toString();
-                        break;
-                    case ENDPOINT:
-                        targetPath =
-                                Path.of(tempProjectPath, "src", "main", "wso2mi", "artifacts", "endpoints").toString();
-                        break;
-                    case SEQUENCE:
-                        targetPath =
-                                Path.of(tempProjectPath, "src", "main", "wso2mi", "artifacts", "sequences").toString();
-                        break;
-                    case TEMPLATE:
-                        targetPath =
-                                Path.of(tempProjectPath, "src", "main", "wso2mi", "artifacts", "templates").toString();
-                        break;
-                    case CONNECTION:
-                    case LOCAL_ENTRY:
-                        targetPath = Path.of(tempProjectPath, "src", "main", "wso2mi", "artifacts", "local-entries")
-                                .toString();
-                        break;
-                    case MESSAGE_STORE:
-                        targetPath = Path.of(tempProjectPath, "src", "main", "wso2mi", "artifacts", "message-stores")
-                                .toString();
-                        break;
-                    case DATA_SERVICE:
-                        targetPath = Path.of(tempProjectPath, "src", "main", "wso2mi", "artifacts", "data-services")
-                                .toString();
-                        break;
-                    case DATASOURCE:
-                        targetPath = Path.of(tempProjectPath, "src", "main", "wso2mi", "artifacts", "datasources")
-                                .toString();
-                        break;
-                    case INBOUND_ENDPOINT:
-                        targetPath = Path.of(tempProjectPath, "src", "main", "wso2mi", "artifacts", "inbound-endpoints")
-                                .toString();
-                        break;
-                    case MESSAGE_PROCESSOR:
-                        targetPath =
-                                Path.of(tempProjectPath, "src", "main", "wso2mi", "artifacts", "message-processors")
-                                        .toString();
-                        break;
+        Map<Path, Path> files = new TreeMap<>();
+        addDependencyFiles(visitor.getDependencies(), files, new HashSet<>());
+        Map<String, Long> stamps = new HashMap<>();
+        for (Path file : files.values()) {
+            stamps.put(file.toString(), file.toFile().lastModified());
+        }
+        File[] artifactFolders = Path.of(String.valueOf(projectRoot)).resolve(TryOutConstants.PROJECT_ARTIFACT_PATH)
+                .toFile().listFiles(File::isDirectory);
+        if (artifactFolders != null) {
+            for (File artifactFolder : artifactFolders) {
+                stamps.put(artifactFolder.getPath(), artifactFolder.lastModified());
+            }
+        }
+        return new DependencyClosure(files, stamps);
+    }
+
+    private static void addDependencyFiles(List<Dependency> dependencies, Map<Path, Path> files,
+                                           Set<Dependency> visited) {
+
+        if (dependencies == null) {
+            return;
+        }
+        for (Dependency dependency : dependencies) {
+            if (!visited.add(dependency)) {
+                continue;
+            }
+            String folder = ARTIFACT_FOLDERS.get(dependency.getType());
+            if (folder != null && dependency.getPath() != null) {
+                Path path = Path.of(dependency.getPath());
+                if (Files.isRegularFile(path)) {
+                    files.put(TryOutConstants.PROJECT_ARTIFACT_PATH.resolve(folder).resolve(path.getFileName()), path);
                 }
-                if (targetPath != null) {
-                    try {
-                        Utils.copyFile(path, targetPath);
-                    } catch (IOException e) {
-                        System.out.println("Error while copying the dependencies");
-                    }
+            }
+            addDependencyFiles(dependency.getDependencyList(), files, visited);
+        }
+    }
+
+    /**
+     * Dependency files of a mediator, by their path in the isolated tryout workspace.
+     */
+    private static class DependencyClosure {
+
+        private final Map<Path, Path> files;
+        private final Map<String, Long> stamps;
+
+        DependencyClosure(Map<Path, Path> files, Map<String, Long> stamps) {
+
+            this.files = files;
+            this.stamps = stamps;
+        }
+
+        boolean isModified() {
+
+            for (Map.Entry<String, Long> stamp : stamps.entrySet()) {
+                if (new File(stamp.getKey()).lastModified() != stamp.getValue()) {
+                    return true;
                 }
             }
+            return false;
+        }
+
+        String getFileStamps() {
+
+            StringBuilder fileStamps = new StringBuilder();
+            for (Path file : files.values()) {
+                fileStamps.append('|').append(file).append('@').append(file.toFile().lastModified());
+            }
+            return fileStamps.toString();
         }
     }
 }
@@ -71,6 +71,7 @@ import java.util.logging.Logger;
 
 import static org.eclipse.lemminx.customservice.synapse.mediator.TryOutConstants.DEFAULT_SERVER_PORT;
 import static org.eclipse.lemminx.customservice.synapse.mediator.TryOutConstants.TEMP_FOLDER_PATH;
+import static org.eclipse.lemminx.customservice.synapse.mediator.TryOutConstants.TRYOUT_WORKSPACE_PATH;
 
 public class TryOutHandler {
 
@@ -90,6 +91,7 @@ public class TryOutHandler {
     private String currentTryoutID;
     private boolean isFault = false;
     private MediatorInfo currentInputInfo;
+    private String deployedIsolatedWorkspaceId;
 
     public TryOutHandler(String projectUri, String miServerPath, SynapseLanguageClientAPI languageClient) {
 
@@ -101,6 +103,7 @@ public class TryOutHandler {
 
     public synchronized void init() {
 
+        deployedIsolatedWorkspaceId = null;
         CAPPCacheManager.init();
         server.startServer();
         commandClient = new DebugCommandClient();
@@ -168,7 +171,7 @@ public class TryOutHandler {
             if (!useSameCAPP) {
                 reset();
                 CAPPCacheManager.validateCAPPCache(projectUri);
-                Path editFilePath = TryOutUtils.cloneAndPreprocessProject(projectUri, request, TEMP_FOLDER_PATH);
+                Path editFilePath = TryOutUtils.cloneAndPreprocessProject(projectUri, request, TRYOUT_WORKSPACE_PATH);
                 boolean needStepOver = checkNeedStepOver(request, editFilePath);
 
                 String serviceUrl = null;
@@ -178,7 +181,7 @@ public class TryOutHandler {
                     serviceUrl = createApiForSequenceInvocation(request);
                     serviceMethod = TryOutConstants.POST;
                 }
-                server.deployProject(TEMP_FOLDER_PATH.toString(), projectUri);
+                server.deployProject(TRYOUT_WORKSPACE_PATH.toString(), projectUri);
 
                 // Get the mediator info
                 registerBreakpoints(request, editFilePath);
@@ -298,6 +301,29 @@ public class TryOutHandler {
     public MediatorTryoutInfo handleIsolatedTryOut(String projectPath, MediatorTryoutRequest request,
                                                    boolean useSameCAPP, Properties context) {
 
+        return handleIsolatedTryOut(projectPath, request, useSameCAPP, null, context);
+    }
+
+    /**
+     * Execute a single mediator of the isolated tryout workspace to get the input and output info.
+     * <p>
+     * The workspace is deployed only if it is not the workspace deployed by the previous isolated tryout, otherwise
+     * only the request with the new payload is sent.
+     *
+     * @param workspacePath the isolated tryout workspace
+     * @param deploymentId  the id of the content of the workspace
+     * @param request       the try-out request
+     * @return the input and output info of the mediator
+     */
+    public MediatorTryoutInfo handleIsolatedTryOut(String workspacePath, String deploymentId,
+                                                   MediatorTryoutRequest request) {
+
+        return handleIsolatedTryOut(workspacePath, request, false, deploymentId, new Properties());
+    }
+
+    private MediatorTryoutInfo handleIsolatedTryOut(String projectPath, MediatorTryoutRequest request,
+                                                    boolean useSameCAPP, String deploymentId, Properties context) {
+
         if (Constants.VALUE_TRUE.equals(context.get(TryOutConstants.IS_CONNECTOR_TEST))) {
             handleServerRestart(request);
         }
@@ -310,7 +336,7 @@ public class TryOutHandler {
         }
         try {
             eventClient.clearEventQueue();
-            if (!useSameCAPP) {
+            if (!useSameCAPP && (deploymentId == null || !deploymentId.equals(deployedIsolatedWorkspaceId))) {
                 CAPPCacheManager.validateCAPPCache(projectUri);
                 reset();
                 // Deploy the dependencies first if the flow is coming from test connection
@@ -325,6 +351,7 @@ public class TryOutHandler {
                 currentInvocationInfo =
                         TryOutUtils.getInvocationInfo(Path.of(request.getFile()), request, activeBreakpoints, MI_HOST,
                                 server.getServerPort());
+                deployedIsolatedWorkspaceId = deploymentId;
             }
             sendRequest(currentInvocationInfo.getServiceUrl(), currentInvocationInfo.getMethod(),
                     request.getContentType(), request.getInputPayload());
@@ -551,7 +578,7 @@ public class TryOutHandler {
                         return null;
                 }
                 String apiContent = APISerializer.serializeAPI(api);
-                Path apiPath = Path.of(TEMP_FOLDER_PATH.toString()).resolve(TryOutConstants.API_RELATIVE_PATH)
+                Path apiPath = TRYOUT_WORKSPACE_PATH.resolve(TryOutConstants.API_RELATIVE_PATH)
                         .resolve(apiName + ".xml");
                 Utils.writeToFile(apiPath.toString(), apiContent);
                 return TryOutConstants.HTTP_PREFIX + TryOutConstants.LOCALHOST + ":" + server.getServerPort() + "/" +
@@ -633,6 +660,7 @@ public class TryOutHandler {
 
     protected void reset() {
 
+        deployedIsolatedWorkspaceId = null;
         if (breakpointEventProcessor == null) {
             return;
         }
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.mediator.tryout;
+
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Mirror of an integration project in which a tryout is prepared.
+ * <p>
+ * The workspace is kept between the tryouts and synced with the project before each tryout. The files of the workspace
+ * are hard links to the project files, so a sync only reads the attributes of the project files and links the files
+ * which were added or replaced since the previous sync, whatever the size of the project. When the file system does
+ * not support hard links, the files are copied, and a copy is kept as long as its size and modification time match
+ * the project file.
+ * <p>
+ * A linked file shares its content with the project file, so the files of the workspace must only be modified with
+ * {@link #writeFile(Path, String)}, which replaces the link with a new file.
+ */
+public class TryOutWorkspace {
+
+    private static final Logger LOGGER = Logger.getLogger(TryOutWorkspace.class.getName());
+    private static final String DS_STORE = ".DS_Store";
+
+    private TryOutWorkspace() {
+
+    }
+
+    /**
+     * Syncs the workspace with the given project.
+     * <p>
+     * The files and folders of the workspace which are not in the project, or which are in a folder rejected by the
+     * folder filter, are deleted.
+     *
+     * @param projectPath   the project folder
+     * @param workspacePath the workspace folder
+     * @param folderFilter  filter for the project folders to sync, tested with the path relative to the project
+     * @throws IOException if an error occurs while syncing the workspace
+     */
+    public static void sync(Path projectPath, Path workspacePath, Predicate<Path> folderFilter) throws IOException {
+
+        Files.createDirectories(workspacePath);
+        Set<Path> syncedPaths = new HashSet<>();
+        FileSyncer fileSyncer = new FileSyncer();
+        Files.walkFileTree(projectPath, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+
+                Path relativePath = projectPath.relativize(dir);
+                if (!dir.equals(projectPath) && !folderFilter.test(relativePath)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                Path targetDir = workspacePath.resolve(relativePath);
+                if (!Files.isDirectory(targetDir, LinkOption.NOFOLLOW_LINKS)) {
+                    Files.deleteIfExists(targetDir);
+                    Files.createDirectories(targetDir);
+                }
+                syncedPaths.add(relativePath);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+
+                if (DS_STORE.equals(file.getFileName().toString())) {
+                    return FileVisitResult.CONTINUE;
+                }
+                Path relativePath = projectPath.relativize(file);
+                fileSyncer.sync(file, attrs, workspacePath.resolve(relativePath));
+                syncedPaths.add(relativePath);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        removeStaleFiles(workspacePath, syncedPaths);
+    }
+
+    /**
+     * Syncs the workspace with the given files.
+     * <p>
+     * The files and folders of the workspace which are not in the given files are deleted.
+     *
+     * @param files         the source files, by their path relative to the workspace
+     * @param workspacePath the workspace folder
+     * @throws IOException if an error occurs while syncing the workspace
+     */
+    public static void sync(Map<Path, Path> files, Path workspacePath) throws IOException {
+
+        Files.createDirectories(workspacePath);
+        Set<Path> syncedPaths = new HashSet<>();
+        FileSyncer fileSyncer = new FileSyncer();
+        for (Map.Entry<Path, Path> file : files.entrySet()) {
+            Path relativePath = file.getKey();
+            Path target = workspacePath.resolve(relativePath);
+            Files.createDirectories(target.getParent());
+            Path source = file.getValue();
+            fileSyncer.sync(source, Files.readAttributes(source, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS),
+                    target);
+            for (Path path = relativePath; path != null; path = path.getParent()) {
+                syncedPaths.add(path);
+            }
+        }
+        removeStaleFiles(workspacePath, syncedPaths);
+    }
+
+    /**
+     * Writes the given content to a file of the workspace.
+     * <p>
+     * The file is deleted before being written, so that the project file to which it may be linked is not modified.
+     *
+     * @param file    the file of the workspace
+     * @param content the content to write
+     * @throws IOException if an error occurs while writing the file
+     */
+    public static void writeFile(Path file, String content) throws IOException {
+
+        Files.deleteIfExists(file);
+        Files.writeString(file, content);
+    }
+
+    private static void removeStaleFiles(Path workspacePath, Set<Path> syncedPaths) throws IOException {
+
+        Files.walkFileTree(workspacePath, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+
+                if (!syncedPaths.contains(workspacePath.relativize(file))) {
+                    Files.delete(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException e) throws IOException {
+
+                if (e != null) {
+                    throw e;
+                }
+                if (!dir.equals(workspacePath) && !syncedPaths.contains(workspacePath.relativize(dir))) {
+                    Files.delete(dir);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static class FileSyncer {
+
+        private boolean linkSupported = true;
+
+        void sync(Path source, BasicFileAttributes sourceAttrs, Path target) throws IOException {
+
+            if (sourceAttrs.isSymbolicLink()) {
+                // Copy the content of the file the symbolic link points to
+                Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+                return;
+            }
+            BasicFileAttributes targetAttrs = readAttributes(target);
+            if (targetAttrs != null) {
+                if (isSameFile(sourceAttrs, targetAttrs)) {
+                    return;
+                }
+                if (targetAttrs.isDirectory()) {
+                    Utils.deleteDirectory(target);
+                } else {
+                    Files.delete(target);
+                }
+            }
+            if (linkSupported) {
+                try {
+                    Files.createLink(target, source);
+                    return;
+                } catch (IOException | UnsupportedOperationException e) {
+                    LOGGER.log(Level.INFO, "Hard links are not supported for the tryout workspace, " +
+                            "the project files will be copied", e);
+                    linkSupported = false;
+                }
+            }
+            Files.copy(source, target, StandardCopyOption.COPY_ATTRIBUTES);
+        }
+
+        private static boolean isSameFile(BasicFileAttributes sourceAttrs, BasicFileAttributes targetAttrs) {
+
+            Object fileKey = sourceAttrs.fileKey();
+            if (fileKey != null && fileKey.equals(targetAttrs.fileKey())) {
+                return true;
+            }
+            return targetAttrs.isRegularFile() && sourceAttrs.size() == targetAttrs.size() &&
+                    sourceAttrs.lastModifiedTime().equals(targetAttrs.lastModifiedTime());
+        }
+
+        private static BasicFileAttributes readAttributes(Path path) throws IOException {
+
+            try {
+                return Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            } catch (NoSuchFileException e) {
+                return null;
+            }
+        }
+    }
+}
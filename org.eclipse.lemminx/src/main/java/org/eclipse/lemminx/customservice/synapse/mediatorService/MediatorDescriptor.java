@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.mediatorService;
+
+import com.google.gson.JsonObject;
+import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolved processing details of a mediator in the mediator list.
+ * <p>
+ * The processing class, its instance and the store/retrieve methods are resolved once when the mediator list is
+ * loaded, so that opening or saving a mediator form does not need any class loading or reflective lookups.
+ */
+public class MediatorDescriptor {
+
+    private final String tag;
+    private final Class<?> mediatorClass;
+    private final MethodHandle storeMethod;
+    private final MethodHandle retrieveMethod;
+
+    private MediatorDescriptor(String tag, Class<?> mediatorClass, MethodHandle storeMethod,
+                               MethodHandle retrieveMethod) {
+
+        this.tag = tag;
+        this.mediatorClass = mediatorClass;
+        this.storeMethod = storeMethod;
+        this.retrieveMethod = retrieveMethod;
+    }
+
+    /**
+     * Creates the descriptor of the given mediator list entry.
+     *
+     * @param mediator mediator list entry
+     * @return the mediator descriptor
+     * @throws ReflectiveOperationException if the processing class or methods cannot be resolved
+     */
+    public static MediatorDescriptor create(JsonObject mediator) throws ReflectiveOperationException {
+
+        String tag = mediator.get(Constant.TAG).getAsString();
+        Class<?> mediatorClass = Class.forName(mediator.get(Constant.MEDIATOR_CLASS).getAsString());
+        Class<?> processingClass = Class.forName(mediator.get(Constant.PROCESSING_CLASS).getAsString());
+        Object processorInstance = processingClass.getDeclaredConstructor().newInstance();
+        Method storeMethod = processingClass.getMethod(mediator.get(Constant.STORE_METHOD).getAsString(), Map.class,
+                mediatorClass, List.class);
+        Method retrieveMethod = processingClass.getMethod(mediator.get(Constant.RETRIEVE_METHOD).getAsString(),
+                mediatorClass);
+        return new MediatorDescriptor(tag, mediatorClass, toHandle(storeMethod, processorInstance),
+                toHandle(retrieveMethod, processorInstance));
+    }
+
+    private static MethodHandle toHandle(Method method, Object processorInstance) throws IllegalAccessException {
+
+        MethodHandle handle = MethodHandles.publicLookup().unreflect(method);
+        if (!Modifier.isStatic(method.getModifiers())) {
+            handle = handle.bindTo(processorInstance);
+        }
+        return handle;
+    }
+
+    /**
+     * Checks whether the given node is of the syntax tree type of this mediator.
+     *
+     * @param node syntax tree node
+     * @return true if the node is an instance of the mediator class
+     */
+    public boolean isMediatorNode(Object node) {
+
+        return mediatorClass.isInstance(node);
+    }
+
+    /**
+     * Invokes the store method of the mediator processor with the given form data.
+     *
+     * @param data        form data
+     * @param node        existing mediator node or null
+     * @param dirtyFields modified form fields
+     * @return the processed template data
+     */
+    public Object processData(Map<String, Object> data, Object node, List<String> dirtyFields) throws Exception {
+
+        try {
+            return storeMethod.invoke(data, node, dirtyFields);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Invokes the retrieve method of the mediator processor with the given mediator node.
+     *
+     * @param node mediator node
+     * @return the form data of the mediator
+     */
+    public Object getDataFromST(Object node) throws Exception {
+
+        try {
+            return retrieveMethod.invoke(node);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public String getTag() {
+
+        return tag;
+    }
+}
@@ -46,8 +46,6 @@ import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import java.io.File;
 import java.io.IOException;
 import java.io.StringWriter;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -56,6 +54,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -75,6 +74,8 @@ public class MediatorHandler {
     private String miServerVersion;
     private AIConnectorHandler aiConnectorHandler;
     private String projectUri;
+    private Map<String, MediatorDescriptor> mediatorDescriptors = new HashMap<>();
+    private Function<String, DOMDocument> openDocumentProvider;
 
     public void init(String projectUri, String projectServerVersion, ConnectorHolder connectorHolder) {
 
@@ -83,6 +84,7 @@ public class MediatorHandler {
             this.connectorHolder = connectorHolder;
             this.mediatorList = Utils.getMediatorList(projectServerVersion, connectorHolder);
             this.agentToolList = Utils.getAgentToolList(mediatorList, connectorHolder);
+            this.mediatorDescriptors = createMediatorDescriptors(mediatorList);
             gson = new Gson();
             this.aiConnectorHandler = new AIConnectorHandler(this, projectUri);
             this.projectUri = projectUri;
@@ -92,6 +94,7 @@ public class MediatorHandler {
             LOGGER.warning(String.format("Falling back to default mediators (MI %s).", Constant.DEFAULT_MI_VERSION));
             try {
                 this.mediatorList = Utils.getMediatorList(Constant.DEFAULT_MI_VERSION, connectorHolder);
+                this.mediatorDescriptors = createMediatorDescriptors(mediatorList);
             } catch (IOException ex) {
                 // This should not happen
             }
@@ -103,13 +106,63 @@ public class MediatorHandler {
         this.isInitialized = true;
     }
 
+    /**
+     * Sets the provider used to get the parsed model of a document that is open in the editor. When the document is
+     * not open, the document is parsed from the file system.
+     *
+     * @param openDocumentProvider provider that returns the open document model of a file path or null
+     */
+    public void setOpenDocumentProvider(Function<String, DOMDocument> openDocumentProvider) {
+
+        this.openDocumentProvider = openDocumentProvider;
+    }
+
+    private Map<String, MediatorDescriptor> createMediatorDescriptors(JsonObject mediatorList) {
+
+        Map<String, MediatorDescriptor> descriptors = new HashMap<>();
+        for (Map.Entry<String, JsonElement> entry : mediatorList.entrySet()) {
+            if (Constant.AI.equalsIgnoreCase(entry.getKey())) {
+                // Skip AI mediators as that is handled by {@link AIConnectorHandler}
+                continue;
+            }
+            JsonArray mediatorsArray = getMediatorsArrayForCategory(entry.getValue());
+            for (JsonElement mediatorElement : mediatorsArray) {
+                JsonObject mediator = mediatorElement.getAsJsonObject();
+                if (!mediator.has(Constant.PROCESSING_CLASS)) {
+                    continue;
+                }
+                String tag = mediator.get(Constant.TAG).getAsString();
+                if (descriptors.containsKey(tag)) {
+                    continue;
+                }
+                try {
+                    descriptors.put(tag, MediatorDescriptor.create(mediator));
+                } catch (ReflectiveOperationException e) {
+                    LOGGER.log(Level.SEVERE, "Failed to load the processing class of the mediator: " + tag, e);
+                }
+            }
+        }
+        return descriptors;
+    }
+
+    private DOMDocument getDocument(String documentPath) throws IOException {
+
+        if (openDocumentProvider != null) {
+            DOMDocument openDocument = openDocumentProvider.apply(documentPath);
+            if (openDocument != null) {
+                return openDocument;
+            }
+        }
+        return Utils.getDOMDocument(new File(documentPath));
+    }
+
     public JsonObject getSupportedMediators(TextDocumentIdentifier documentIdentifier, Position position) {
 
         try {
-            if (isRequestedForAgentTool(documentIdentifier.getUri(), position)) {
+            DOMDocument document = getDocument(Path.of(new URI(documentIdentifier.getUri())).toString());
+            if (isRequestedForAgentTool(document, position)) {
                 return agentToolList;
             }
-            DOMDocument document = Utils.getDOMDocument(new File(new URI(documentIdentifier.getUri())));
             List<String> lastMediators = Arrays.asList("send", "drop", "loopback", "respond");
             List<String> iterateMediators = Arrays.asList("iterate", "foreach");
             int offset = document.offsetAt(position);
@@ -135,11 +188,12 @@ public class MediatorHandler {
         try {
             boolean isUpdate = !range.getEnd().equals(range.getStart());
             STNode node = null;
+            DOMDocument document = null;
             if (StringUtils.isNotEmpty(documentUri) && Files.exists(Path.of(documentUri))) {
-                node = getMediatorNodeAtPosition(Utils.getDOMDocument(new File(documentUri)), range.getStart(),
-                        isUpdate);
+                document = getDocument(documentUri);
+                node = getMediatorNodeAtPosition(document, range.getStart(), isUpdate);
             }
-            if (isRequestedForAgentTool(documentUri, range.getStart())) {
+            if (document != null && isRequestedForAgentTool(document, range.getStart())) {
                 return aiConnectorHandler.generateAgentToolConfig(documentUri, range, mediator, data, dirtyFields,
                         isUpdate);
             } else if (isAIConnector(node, mediator)) {
@@ -325,70 +379,48 @@ public class MediatorHandler {
 
     private SynapseConfigResponse generateMediatorSynapseConfig(STNode node, String mediator, Map<String, Object> data,
                                                                 List<String> dirtyFields,
-                                                                Range range)
-            throws ClassNotFoundException, NoSuchMethodException, InvocationTargetException, InstantiationException,
-            IllegalAccessException {
+                                                                Range range) throws Exception {
 
-        for (Map.Entry<String, JsonElement> entry : mediatorList.entrySet()) {
-            if (Constant.AI.equalsIgnoreCase(entry.getKey())) {
-                // Skip AI mediators as that is handled by {@link AIConnectorHandler}
-                continue;
+        MediatorDescriptor descriptor = mediatorDescriptors.get(mediator);
+        if (descriptor == null) {
+            return null;
+        }
+        if (mediator.equals(Constant.DATA_MAPPER) && data.get(Constant.NAME).toString().contains("gov:datamapper")) {
+            String name = (String) data.get(Constant.NAME);
+            String dmName = name.substring(name.lastIndexOf("/") + 1);
+            String dmcPath = Path.of(projectUri, Constant.SRC, Constant.MAIN, Constant.WSO2MI,
+                    Constant.RESOURCES, Constant.REGISTRY, Constant.GOV,
+                    Constant.DATA_MAPPER, dmName + ".dmc").toString();
+            if (Files.exists(Path.of(dmcPath))) {
+                data.put(Constant.NAME, data.get(Constant.NAME) + ".dmc");
             }
-            JsonArray mediatorsArray = getMediatorsArrayForCategory(entry.getValue());
-            for (JsonElement mediatorElement : mediatorsArray) {
-                JsonObject mediatorObject = mediatorElement.getAsJsonObject();
-                if (mediator.equals(mediatorObject.get(Constant.TAG).getAsString())) {
-                    String mediatorClass = mediatorObject.get(Constant.MEDIATOR_CLASS).getAsString();
-                    String processingClass = mediatorObject.get(Constant.PROCESSING_CLASS).getAsString();
-                    String processingMethod = mediatorObject.get(Constant.STORE_METHOD).getAsString();
-                    if(mediator.equals(Constant.DATA_MAPPER) && data.get(Constant.NAME).toString().contains("gov:datamapper")){
-                        String name = (String) data.get(Constant.NAME);
-                        String dmName = name.substring(name.lastIndexOf("/") + 1);
-                        String dmcPath = Path.of(projectUri, Constant.SRC, Constant.MAIN, Constant.WSO2MI,
-                                Constant.RESOURCES, Constant.REGISTRY, Constant.GOV,
-                                Constant.DATA_MAPPER, dmName + ".dmc").toString();
-                        if(Files.exists(Path.of(dmcPath))){
-                            data.put(Constant.NAME, data.get(Constant.NAME) + ".dmc");
-                        }
-                    }
-                    Class<?> mediatorProcessor = Class.forName(processingClass);
-                    Object processorInstance = mediatorProcessor.getDeclaredConstructor().newInstance();
-                    Method processorMethod =
-                            mediatorProcessor.getMethod(processingMethod, Map.class, Class.forName(mediatorClass),
-                                    List.class);
-                    if (!Class.forName(mediatorClass).isInstance(node)) {
-                        node = null;
-                    }
-                    @SuppressWarnings("unchecked")
-                    Either<Map<String, Object>, Map<Range, Map<String, Object>>>
-                            processedData =
-                            (Either<Map<String, Object>, Map<Range, Map<String, Object>>>) processorMethod.invoke(
-                                    processorInstance, data, node, dirtyFields);
-                    if (processedData.isLeft()) {
-                        StringWriter writer = new StringWriter();
-                        String edit =
-                                templateMap.get(mediator).execute(writer, processedData.getLeft()).toString().trim();
-                        TextEdit textEdit = new TextEdit(range, edit);
-                        return new SynapseConfigResponse(textEdit);
-                    } else {
-                        Map<Range, Map<String, Object>> editsData = processedData.getRight();
-                        SynapseConfigResponse edits = new SynapseConfigResponse();
-                        for (Map.Entry<Range, Map<String, Object>> entry1 : editsData.entrySet()) {
-                            StringWriter writer = new StringWriter();
-                            String edit =
-                                    templateMap.get(mediator).execute(writer, entry1.getValue()).toString().trim();
-                            if (isBlankEdit(entry1.getKey(), edit)) {
-                                continue;
-                            }
-                            TextEdit textEdit = new TextEdit(entry1.getKey(), edit);
-                            edits.addTextEdit(textEdit);
-                        }
-                        return edits;
-                    }
+        }
+        if (!descriptor.isMediatorNode(node)) {
+            node = null;
+        }
+        @SuppressWarnings("unchecked")
+        Either<Map<String, Object>, Map<Range, Map<String, Object>>> processedData =
+                (Either<Map<String, Object>, Map<Range, Map<String, Object>>>) descriptor.processData(data, node,
+                        dirtyFields);
+        if (processedData.isLeft()) {
+            StringWriter writer = new StringWriter();
+            String edit = templateMap.get(mediator).execute(writer, processedData.getLeft()).toString().trim();
+            TextEdit textEdit = new TextEdit(range, edit);
+            return new SynapseConfigResponse(textEdit);
+        } else {
+            Map<Range, Map<String, Object>> editsData = processedData.getRight();
+            SynapseConfigResponse edits = new SynapseConfigResponse();
+            for (Map.Entry<Range, Map<String, Object>> entry : editsData.entrySet()) {
+                StringWriter writer = new StringWriter();
+                String edit = templateMap.get(mediator).execute(writer, entry.getValue()).toString().trim();
+                if (isBlankEdit(entry.getKey(), edit)) {
+                    continue;
                 }
+                TextEdit textEdit = new TextEdit(entry.getKey(), edit);
+                edits.addTextEdit(textEdit);
             }
+            return edits;
         }
-        return null;
     }
 
     private boolean isBlankEdit(Range range, String edit) {
@@ -418,8 +450,8 @@ public class MediatorHandler {
     public JsonObject getUISchemaWithValues(TextDocumentIdentifier documentIdentifier, Position position) {
 
         try {
-            DOMDocument document = Utils.getDOMDocumentFromPath(documentIdentifier.getUri());
-            if (isRequestedForAgentTool(documentIdentifier.getUri(), position)) {
+            DOMDocument document = getDocument(Utils.getAbsolutePath(documentIdentifier.getUri()));
+            if (isRequestedForAgentTool(document, position)) {
                 return aiConnectorHandler.getToolSchemaWithValues(document, position);
             }
             STNode node = getMediatorNodeAtPosition(document, position, Boolean.TRUE);
@@ -448,33 +480,15 @@ public class MediatorHandler {
         return UISchemaMapper.mapInputToUISchemaForConnector(connector, uiSchema);
     }
 
-    private JsonObject getUISchemaWithValuesForMediator(STNode node)
-            throws InvocationTargetException, IllegalAccessException, NoSuchMethodException, ClassNotFoundException,
-            InstantiationException {
+    private JsonObject getUISchemaWithValuesForMediator(STNode node) throws Exception {
 
         String mediatorName = node.getTag();
-        for (Map.Entry<String, JsonElement> entry : mediatorList.entrySet()) {
-            if (Constant.AI.equalsIgnoreCase(entry.getKey())) {
-                // Skip AI mediators as that is handled by {@link AIConnectorHandler}
-                continue;
-            }
-            JsonArray mediatorsArray = getMediatorsArrayForCategory(entry.getValue());
-            for (JsonElement mediatorElement : mediatorsArray) {
-                JsonObject mediator = mediatorElement.getAsJsonObject();
-                if (mediatorName.equals(mediator.get(Constant.TAG).getAsString())) {
-                    String mediatorClass = mediator.get(Constant.MEDIATOR_CLASS).getAsString();
-                    String processingClass = mediator.get(Constant.PROCESSING_CLASS).getAsString();
-                    String processingMethod = mediator.get(Constant.RETRIEVE_METHOD).getAsString();
-                    Class<?> mediatorProcessor = Class.forName(processingClass);
-                    Object processorInstance = mediatorProcessor.getDeclaredConstructor().newInstance();
-                    Method processorMethod =
-                            mediatorProcessor.getMethod(processingMethod, Class.forName(mediatorClass));
-                    Object data = processorMethod.invoke(processorInstance, node);
-                    JsonObject dataJson = gson.toJsonTree(data).getAsJsonObject();
-                    return UISchemaMapper.mapInputToUISchema(dataJson,
-                            findUISchema(mediatorName, dataJson.get(Constant.UI_SCHEMA_NAME)));
-                }
-            }
+        MediatorDescriptor descriptor = mediatorDescriptors.get(mediatorName);
+        if (descriptor != null) {
+            Object data = descriptor.getDataFromST(node);
+            JsonObject dataJson = gson.toJsonTree(data).getAsJsonObject();
+            return UISchemaMapper.mapInputToUISchema(dataJson,
+                    findUISchema(mediatorName, dataJson.get(Constant.UI_SCHEMA_NAME)));
         }
         return uiSchemaMap.get(mediatorName);
     }
@@ -597,7 +611,19 @@ public class MediatorHandler {
             if (StringUtils.isEmpty(documentPath) || Files.notExists(Path.of(documentPath))) {
                 return false;
             }
-            DOMDocument document = Utils.getDOMDocument(new File(documentPath));
+            return isRequestedForAgentTool(getDocument(documentPath), position);
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error occurred while checking if the tool schema is requested.", e);
+        }
+        return false;
+    }
+
+    private boolean isRequestedForAgentTool(DOMDocument document, Position position) {
+
+        if (position == null) {
+            return false;
+        }
+        try {
             int offset = document.offsetAt(position);
             DOMNode currentNode = document.findNodeAt(offset);
             if (isInsideAiAgent(currentNode)) {
@@ -635,9 +661,11 @@ public class MediatorHandler {
                     connector = connectorHolder.getConnector(connectorName);
             ConnectorAction operation = connector.getAction(operationName);
             if (operation != null) {
-                String uiSchemaPath = operation.getUiSchemaPath();
                 try {
-                    JsonObject uiSchemaObject = Utils.getJsonObject(Utils.readFile(new File(uiSchemaPath)));
+                    JsonObject uiSchemaObject = connectorHolder.getUiSchema(operation.getUiSchemaPath());
+                    if (uiSchemaObject == null) {
+                        return null;
+                    }
                     boolean isTryoutSupported = Utils.compareVersions(miServerVersion, Constant.MI_430_VERSION) > 0;
                     uiSchemaObject.addProperty(Constant.CAN_TRY_OUT, isTryoutSupported);
                     JsonObject resultObject = new JsonObject();
@@ -664,6 +692,7 @@ public class MediatorHandler {
         try {
             this.mediatorList = Utils.getMediatorList(projectServerVersion, connectorHolder);
             this.agentToolList = Utils.getAgentToolList(mediatorList, connectorHolder);
+            this.mediatorDescriptors = createMediatorDescriptors(mediatorList);
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, "Failed to reload mediators.", e);
         }
@@ -20,6 +20,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.eclipse.lemminx.customservice.synapse.connectors.ConnectorHolder;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.Connector;
 import org.eclipse.lemminx.customservice.synapse.mediator.TryOutConstants;
+import org.eclipse.lemminx.customservice.synapse.utils.ArtifactDownloader;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
 
@@ -32,6 +33,8 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -64,31 +67,69 @@ public class ConnectorDownloadManager {
         deleteRemovedConnectors(downloadDirectory, dependencies, projectPath);
         List<String> failedDependencies = new ArrayList<>();
 
+        if (Utils.useLocalMaven(projectPath)) {
+            // Resolve all the missing connectors into the local repository with a single maven invocation. The
+            // ones that could not be resolved are downloaded from the remote repository.
+            MavenDependencyResolver.getInstance().resolve(getMissingDependencies(dependencies, downloadDirectory));
+        }
+        Executor executor = ArtifactDownloader.getInstance().getExecutor();
+        List<CompletableFuture<String>> downloads = new ArrayList<>();
         for (DependencyDetails dependency : dependencies) {
-            try {
-                File connector = Path.of(downloadDirectory.getAbsolutePath(),
-                        dependency.getArtifact() + "-" + dependency.getVersion() + Constant.ZIP_EXTENSION).toFile();
-                File existingArtifact = null;
-                if (connector.exists() && connector.isFile()) {
-                    LOGGER.log(Level.INFO, "Dependency already downloaded: " + connector.getName());
-                } else if ((existingArtifact = getDependencyFromLocalRepo(dependency.getGroupId(),
-                        dependency.getArtifact(), dependency.getVersion(), dependency.getType())) != null ) {
-                    LOGGER.log(Level.INFO, "Copying dependency from local repository: " + connector.getName());
-                    copyFile(existingArtifact.getPath(), downloadDirectory.getPath());
-                } else {
-                    LOGGER.log(Level.INFO, "Downloading dependency: " + connector.getName());
-                    Utils.downloadConnector(dependency.getGroupId(), dependency.getArtifact(),
-                            dependency.getVersion(), downloadDirectory, Constant.ZIP_EXTENSION_NO_DOT, projectPath);
-                }
-            } catch (Exception e) {
-                String failedDependency = dependency.getGroupId() + "-" + dependency.getArtifact() + "-" + dependency.getVersion();
-                LOGGER.log(Level.WARNING, "Error occurred while downloading dependency " + failedDependency + ": " + e.getMessage());
+            downloads.add(CompletableFuture.supplyAsync(
+                    () -> downloadDependency(dependency, downloadDirectory), executor));
+        }
+        for (CompletableFuture<String> download : downloads) {
+            String failedDependency = download.join();
+            if (failedDependency != null) {
                 failedDependencies.add(failedDependency);
             }
         }
         return failedDependencies;
     }
 
+    /**
+     * Downloads the given connector dependency unless it is already downloaded or available in the local
+     * repository.
+     *
+     * @return the identifier of the dependency if the download failed, null otherwise
+     */
+    private static String downloadDependency(DependencyDetails dependency, File downloadDirectory) {
+
+        try {
+            File connector = getDownloadedFile(dependency, downloadDirectory);
+            File existingArtifact = null;
+            if (connector.exists() && connector.isFile()) {
+                LOGGER.log(Level.INFO, "Dependency already downloaded: " + connector.getName());
+            } else if ((existingArtifact = getDependencyFromLocalRepo(dependency.getGroupId(),
+                    dependency.getArtifact(), dependency.getVersion(), dependency.getType())) != null ) {
+                LOGGER.log(Level.INFO, "Copying dependency from local repository: " + connector.getName());
+                copyFile(existingArtifact.getPath(), downloadDirectory.getPath());
+            } else {
+                LOGGER.log(Level.INFO, "Downloading dependency: " + connector.getName());
+                Utils.downloadConnector(dependency.getGroupId(), dependency.getArtifact(),
+                        dependency.getVersion(), downloadDirectory, Constant.ZIP_EXTENSION_NO_DOT, null);
+            }
+        } catch (Exception e) {
+            String failedDependency = dependency.getGroupId() + "-" + dependency.getArtifact() + "-" + dependency.getVersion();
+            LOGGER.log(Level.WARNING, "Error occurred while downloading dependency " + failedDependency + ": " + e.getMessage());
+            return failedDependency;
+        }
+        return null;
+    }
+
+    private static List<DependencyDetails> getMissingDependencies(List<DependencyDetails> dependencies,
+                                                                  File downloadDirectory) {
+
+        return dependencies.stream().filter(dependency -> !getDownloadedFile(dependency, downloadDirectory).isFile())
+                .collect(Collectors.toList());
+    }
+
+    private static File getDownloadedFile(DependencyDetails dependency, File downloadDirectory) {
+
+        return Path.of(downloadDirectory.getAbsolutePath(),
+                dependency.getArtifact() + "-" + dependency.getVersion() + Constant.ZIP_EXTENSION).toFile();
+    }
+
     private static void deleteRemovedConnectors(File downloadDirectory, List<DependencyDetails> dependencies,
                                                 String projectPath) {
 
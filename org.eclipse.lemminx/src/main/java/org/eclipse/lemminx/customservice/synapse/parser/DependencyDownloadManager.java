@@ -24,8 +24,6 @@ import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import static org.eclipse.lemminx.customservice.synapse.parser.pom.PomParser.getPomDetails;
-
 /**
  * Manages the downloading of project dependencies defined in a Maven pom.xml file.
  * Handles both connector and integration project dependencies, logging failures if any occur.
@@ -44,8 +42,8 @@ public class DependencyDownloadManager {
 
         StringBuilder errorMessage = new StringBuilder();
         boolean hasErrors = false;
-        OverviewPageDetailsResponse pomDetailsResponse = new OverviewPageDetailsResponse();
-        getPomDetails(projectPath, pomDetailsResponse);
+        OverviewPageDetailsResponse pomDetailsResponse =
+                ProjectMetadataService.getInstance().getMetadata(projectPath).getPomDetails();
         List<DependencyDetails> connectorDependencies =
                 pomDetailsResponse.getDependenciesDetails().getConnectorDependencies();
         List<DependencyDetails> integrationProjectDependencies =
@@ -107,8 +105,8 @@ public class DependencyDownloadManager {
     }
 
     public static DependencyStatusResponse getDependencyStatusList(String projectPath) {
-        OverviewPageDetailsResponse pomDetailsResponse = new OverviewPageDetailsResponse();
-        getPomDetails(projectPath, pomDetailsResponse);
+        OverviewPageDetailsResponse pomDetailsResponse =
+                ProjectMetadataService.getInstance().getMetadata(projectPath).getPomDetails();
         List<DependencyDetails> dependencies = new ArrayList<>(
                 pomDetailsResponse.getDependenciesDetails().getConnectorDependencies()
         );
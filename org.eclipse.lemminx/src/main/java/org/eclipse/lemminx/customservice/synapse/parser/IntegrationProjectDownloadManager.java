@@ -15,6 +15,7 @@
 package org.eclipse.lemminx.customservice.synapse.parser;
 
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.lemminx.customservice.synapse.utils.ArtifactDownloader;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
 import org.w3c.dom.Document;
@@ -27,11 +28,17 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -90,27 +97,26 @@ public class IntegrationProjectDownloadManager {
         List<String> failedDependencies = new ArrayList<>();
         List<String> noDescriptorDependencies = new ArrayList<>();
         List<String> versioningMismatchDependencies = new ArrayList<>();
-        Set<String> fetchedDependencies = new HashSet<>();
+        Map<DependencyDetails, Exception> failures = fetchDependencyGraph(dependencies, downloadDirectory,
+                isVersionedDeploymentEnabled, Utils.useLocalMaven(projectPath));
 
         for (DependencyDetails dependency : dependencies) {
-            try {
-                fetchDependencyRecursively(dependency, downloadDirectory, fetchedDependencies, isVersionedDeploymentEnabled);
-            } catch (NoDescriptorException e) {
-                String failedDependency =
-                        dependency.getGroupId() + HYPHEN + dependency.getArtifact() + HYPHEN + dependency.getVersion();
+            Exception e = failures.get(dependency);
+            if (e == null) {
+                continue;
+            }
+            String failedDependency =
+                    dependency.getGroupId() + HYPHEN + dependency.getArtifact() + HYPHEN + dependency.getVersion();
+            if (e instanceof NoDescriptorException) {
                 LOGGER.log(Level.WARNING,
                         "Descriptor file not found for dependency " + failedDependency + ": " + e.getMessage());
                 noDescriptorDependencies.add(failedDependency);
-            } catch (VersioningTypeMismatchException e) {
-                String failedDependency =
-                        dependency.getGroupId() + HYPHEN + dependency.getArtifact() + HYPHEN + dependency.getVersion();
+            } else if (e instanceof VersioningTypeMismatchException) {
                 LOGGER.log(Level.WARNING,
                         "Versioned deployment status does not match with the parent project "
                                 + failedDependency + ": " + e.getMessage());
                 versioningMismatchDependencies.add(failedDependency);
-            } catch (Exception e) {
-                String failedDependency =
-                        dependency.getGroupId() + HYPHEN + dependency.getArtifact() + HYPHEN + dependency.getVersion();
+            } else {
                 LOGGER.log(Level.WARNING,
                         "Error occurred while downloading dependency " + failedDependency + ": " + e.getMessage());
                 failedDependencies.add(failedDependency);
@@ -120,47 +126,92 @@ public class IntegrationProjectDownloadManager {
     }
 
     /**
-     * Recursively fetches the specified dependency and its transitive dependencies.
+     * Fetches the given dependencies and their transitive dependencies.
      * <p>
-     * Downloads the .car file for the given dependency, parses its descriptor.xml for additional
-     * dependencies, and recursively fetches those as well. Ensures that each dependency is only
-     * fetched once per invocation to avoid redundant downloads and infinite loops.
+     * The dependency graph is resolved level by level. All the dependencies of a level are fetched and their
+     * descriptor.xml files are parsed in parallel, and the transitive dependencies found become the next level.
+     * Each dependency is fetched only once per invocation to avoid redundant downloads and infinite loops. A failure
+     * of a transitive dependency is reported against the top level dependency it was reached from. When the local
+     * maven is used, the missing .car files of a level are resolved with a single maven invocation.
      * </p>
      *
-     * @param dependency          the dependency to fetch
-     * @param downloadDirectory   the directory to store downloaded .car files
-     * @param fetchedDependencies a set of dependency keys already fetched to prevent duplication
+     * @param dependencies                 the top level dependencies
+     * @param downloadDirectory            the directory to store downloaded .car files
      * @param isVersionedDeploymentEnabled indicates if versioned deployment is enabled in the parent project
-     * @throws Exception if fetching or parsing fails
+     * @param useLocalMaven                indicates if the dependencies should be resolved via the local maven
+     * @return the first failure of each top level dependency that could not be fetched completely
      */
-    static void fetchDependencyRecursively(DependencyDetails dependency, File downloadDirectory,
-                                           Set<String> fetchedDependencies, boolean isVersionedDeploymentEnabled)
-            throws Exception {
+    static Map<DependencyDetails, Exception> fetchDependencyGraph(List<DependencyDetails> dependencies,
+                                                                  File downloadDirectory,
+                                                                  boolean isVersionedDeploymentEnabled,
+                                                                  boolean useLocalMaven) {
 
-        String dependencyKey = dependency.getGroupId() + ":" + dependency.getArtifact() + ":" + dependency.getVersion();
-        if (fetchedDependencies.contains(dependencyKey)) {
-            return; // Skip already fetched dependencies
+        Map<DependencyDetails, Exception> failures = new ConcurrentHashMap<>();
+        Set<String> fetchedDependencies = new HashSet<>();
+        Executor executor = ArtifactDownloader.getInstance().getExecutor();
+        List<PendingDependency> level = new ArrayList<>();
+        for (DependencyDetails dependency : dependencies) {
+            level.add(new PendingDependency(dependency, dependency));
         }
-
-        fetchedDependencies.add(dependencyKey);
-
-        File carFile = fetchDependencyFile(dependency, downloadDirectory);
-        if (!carFile.exists()) {
-            throw new Exception("Failed to fetch .car file for dependency: " + dependencyKey);
+        while (!level.isEmpty()) {
+            List<PendingDependency> toFetch = new ArrayList<>();
+            for (PendingDependency pending : level) {
+                if (failures.containsKey(pending.root) || !fetchedDependencies.add(pending.getKey())) {
+                    continue; // Skip already fetched dependencies and the ones of failed top level dependencies
+                }
+                toFetch.add(pending);
+            }
+            if (useLocalMaven) {
+                MavenDependencyResolver.getInstance().resolve(toFetch.stream().map(pending -> pending.dependency)
+                        .filter(dependency -> !getDependencyFile(dependency, downloadDirectory).isFile())
+                        .collect(Collectors.toList()));
+            }
+            List<CompletableFuture<List<PendingDependency>>> fetches = new ArrayList<>();
+            for (PendingDependency pending : toFetch) {
+                fetches.add(CompletableFuture.supplyAsync(
+                        () -> fetchDependency(pending, downloadDirectory, isVersionedDeploymentEnabled, failures),
+                        executor));
+            }
+            List<PendingDependency> nextLevel = new ArrayList<>();
+            for (CompletableFuture<List<PendingDependency>> fetch : fetches) {
+                nextLevel.addAll(fetch.join());
+            }
+            level = nextLevel;
         }
+        return failures;
+    }
+
+    /**
+     * Fetches the .car file of the given dependency and parses its descriptor.xml for transitive dependencies.
+     *
+     * @return the transitive dependencies or an empty list if the dependency could not be fetched
+     */
+    private static List<PendingDependency> fetchDependency(PendingDependency pending, File downloadDirectory,
+                                                           boolean isVersionedDeploymentEnabled,
+                                                           Map<DependencyDetails, Exception> failures) {
 
-        // Parse the descriptor.xml to find transitive dependencies
-        List<DependencyDetails> transitiveDependencies;
         try {
-            transitiveDependencies = parseDescriptorFile(carFile, isVersionedDeploymentEnabled);
-        } catch (Exception e) {
-            Files.deleteIfExists(carFile.toPath());
-            throw e;
-        }
+            File carFile = fetchDependencyFile(pending.dependency, downloadDirectory);
+            if (!carFile.exists()) {
+                throw new Exception("Failed to fetch .car file for dependency: " + pending.getKey());
+            }
 
-        // Recursively fetch transitive dependencies
-        for (DependencyDetails transitiveDependency : transitiveDependencies) {
-            fetchDependencyRecursively(transitiveDependency, downloadDirectory, fetchedDependencies, isVersionedDeploymentEnabled);
+            // Parse the descriptor.xml to find transitive dependencies
+            List<DependencyDetails> transitiveDependencies;
+            try {
+                transitiveDependencies = parseDescriptorFile(carFile, isVersionedDeploymentEnabled);
+            } catch (Exception e) {
+                Files.deleteIfExists(carFile.toPath());
+                throw e;
+            }
+            List<PendingDependency> pendingDependencies = new ArrayList<>();
+            for (DependencyDetails transitiveDependency : transitiveDependencies) {
+                pendingDependencies.add(new PendingDependency(transitiveDependency, pending.root));
+            }
+            return pendingDependencies;
+        } catch (Exception e) {
+            failures.putIfAbsent(pending.root, e);
+            return Collections.emptyList();
         }
     }
 
@@ -178,9 +229,7 @@ public class IntegrationProjectDownloadManager {
      */
     private static File fetchDependencyFile(DependencyDetails dependency, File downloadDirectory) {
 
-        File dependencyFile = new File(downloadDirectory,
-                dependency.getGroupId() + HYPHEN + dependency.getArtifact() + HYPHEN + dependency.getVersion() + DOT +
-                        dependency.getType());
+        File dependencyFile = getDependencyFile(dependency, downloadDirectory);
         if (dependencyFile.exists() && dependencyFile.isFile()) {
             LOGGER.log(Level.INFO, "Dependency already downloaded: " + dependencyFile.getName());
         } else {
@@ -199,12 +248,26 @@ public class IntegrationProjectDownloadManager {
                             "Error occurred while downloading dependency " + failedDependency + ": " + e.getMessage());
                 }
             } else {
-                // TODO: Download the dependency from the remote repository if not found in the local repository
+                LOGGER.log(Level.INFO, "Downloading dependency: " + dependencyFile.getName());
+                try {
+                    ArtifactDownloader.getInstance().download(dependency.getGroupId(), dependency.getArtifact(),
+                            dependency.getVersion(), dependency.getType(), dependencyFile);
+                } catch (IOException e) {
+                    LOGGER.log(Level.WARNING, "Error occurred while downloading dependency "
+                            + dependencyFile.getName() + ": " + e.getMessage());
+                }
             }
         }
         return dependencyFile;
     }
 
+    private static File getDependencyFile(DependencyDetails dependency, File downloadDirectory) {
+
+        return new File(downloadDirectory,
+                dependency.getGroupId() + HYPHEN + dependency.getArtifact() + HYPHEN + dependency.getVersion() + DOT +
+                        dependency.getType());
+    }
+
     /**
      * Parses the `descriptor.xml` file inside the given .car file to extract dependency information.
      * <p>
@@ -267,4 +330,24 @@ public class IntegrationProjectDownloadManager {
         }
         return dependencies;
     }
+
+    /**
+     * A dependency to be fetched along with the top level dependency it was reached from.
+     */
+    private static class PendingDependency {
+
+        private final DependencyDetails dependency;
+        private final DependencyDetails root;
+
+        PendingDependency(DependencyDetails dependency, DependencyDetails root) {
+
+            this.dependency = dependency;
+            this.root = root;
+        }
+
+        String getKey() {
+
+            return dependency.getGroupId() + ":" + dependency.getArtifact() + ":" + dependency.getVersion();
+        }
+    }
 }
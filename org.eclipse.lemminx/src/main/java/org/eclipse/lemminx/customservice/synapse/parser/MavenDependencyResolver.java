@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.parser;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.text.StringEscapeUtils;
+import org.apache.maven.shared.invoker.DefaultInvocationRequest;
+import org.apache.maven.shared.invoker.DefaultInvoker;
+import org.apache.maven.shared.invoker.InvocationRequest;
+import org.apache.maven.shared.invoker.InvocationResult;
+import org.apache.maven.shared.invoker.Invoker;
+import org.eclipse.lemminx.customservice.synapse.utils.ArtifactDownloader;
+import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Resolves dependencies into the local Maven repository using the local Maven installation.
+ * <p>
+ * All the dependencies that are not already available in the local repository are resolved with a single Maven
+ * invocation of a generated pom, instead of starting a Maven build per dependency. The outcome of each dependency is
+ * checked in the local repository afterwards. Dependencies that could not be resolved are remembered for a while, so
+ * that a repeated dependency sync does not start Maven again for artifacts that are known to be unavailable.
+ */
+public class MavenDependencyResolver {
+
+    private static final Logger LOGGER = Logger.getLogger(MavenDependencyResolver.class.getName());
+    private static final String CACHE_FILE_NAME = "maven-resolution-failures.json";
+    private static final long FAILURE_EXPIRY_MILLIS = TimeUnit.MINUTES.toMillis(15);
+    private static final String DEFAULT_TYPE = "jar";
+    private static MavenDependencyResolver instance;
+
+    private final File cacheFile;
+    private final Clock clock;
+    private final Gson gson;
+    private Map<String, Long> failedResolutions;
+    private String mavenHome;
+
+    private MavenDependencyResolver() {
+
+        this(Path.of(System.getProperty(Constant.USER_HOME), Constant.WSO2_MI, CACHE_FILE_NAME).toFile(),
+                Clock.systemUTC());
+    }
+
+    /**
+     * Creates a resolver which records the failed resolutions in the given file and uses the given clock to expire
+     * them.
+     *
+     * @param cacheFile file of the failed resolutions
+     * @param clock     clock of the failure times
+     */
+    protected MavenDependencyResolver(File cacheFile, Clock clock) {
+
+        this.cacheFile = cacheFile;
+        this.clock = clock;
+        this.gson = new Gson();
+    }
+
+    public static synchronized MavenDependencyResolver getInstance() {
+
+        if (instance == null) {
+            instance = new MavenDependencyResolver();
+        }
+        return instance;
+    }
+
+    /**
+     * Resolves the given dependencies into the local Maven repository.
+     *
+     * @param dependencies dependencies to resolve
+     * @return the local repository file of each dependency, or null for the dependencies that could not be resolved
+     */
+    public synchronized Map<DependencyDetails, File> resolve(List<DependencyDetails> dependencies) {
+
+        loadFailedResolutions();
+        Map<DependencyDetails, File> results = new LinkedHashMap<>();
+        List<DependencyDetails> pendingDependencies = new ArrayList<>();
+        for (DependencyDetails dependency : dependencies) {
+            File localFile = getFromLocalRepo(dependency);
+            results.put(dependency, localFile);
+            if (localFile == null && !isRecentlyFailed(dependency)) {
+                pendingDependencies.add(dependency);
+            }
+        }
+        if (pendingDependencies.isEmpty()) {
+            return results;
+        }
+        invokeMaven(pendingDependencies);
+        long now = clock.millis();
+        for (DependencyDetails dependency : pendingDependencies) {
+            File localFile = getFromLocalRepo(dependency);
+            results.put(dependency, localFile);
+            if (localFile == null) {
+                failedResolutions.put(getKey(dependency), now);
+            } else {
+                failedResolutions.remove(getKey(dependency));
+            }
+        }
+        saveFailedResolutions();
+        return results;
+    }
+
+    /**
+     * Resolves the given dependencies into the local Maven repository with a single Maven invocation.
+     *
+     * @param dependencies dependencies to resolve
+     */
+    protected void invokeMaven(List<DependencyDetails> dependencies) {
+
+        Path workingDirectory = null;
+        try {
+            workingDirectory = Files.createTempDirectory("mi-dependency-resolver-");
+            File pomFile = workingDirectory.resolve(Constant.POM).toFile();
+            Files.writeString(pomFile.toPath(), createResolverPom(dependencies));
+
+            InvocationRequest request = new DefaultInvocationRequest();
+            request.setPomFile(pomFile);
+            request.setBatchMode(true);
+            request.setGoals(Collections.singletonList("dependency:resolve"));
+            Invoker invoker = new DefaultInvoker();
+            invoker.setMavenHome(new File(getMavenHome()));
+            InvocationResult result = invoker.execute(request);
+            if (result.getExitCode() != 0) {
+                LOGGER.log(Level.WARNING, "Some dependencies could not be resolved via local maven. Exit code: "
+                        + result.getExitCode());
+            } else {
+                LOGGER.log(Level.INFO, dependencies.size() + " dependencies resolved via local maven");
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error occurred while resolving dependencies via local maven: "
+                    + e.getMessage());
+        } finally {
+            if (workingDirectory != null) {
+                FileUtils.deleteQuietly(workingDirectory.toFile());
+            }
+        }
+    }
+
+    private String createResolverPom(List<DependencyDetails> dependencies) {
+
+        StringBuilder pom = new StringBuilder();
+        pom.append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n")
+                .append("  <modelVersion>4.0.0</modelVersion>\n")
+                .append("  <groupId>org.wso2.integration</groupId>\n")
+                .append("  <artifactId>mi-dependency-resolver</artifactId>\n")
+                .append("  <version>1.0.0</version>\n")
+                .append("  <packaging>pom</packaging>\n")
+                .append("  <repositories>\n")
+                .append("    <repository>\n")
+                .append("      <id>wso2-nexus</id>\n")
+                .append("      <url>").append(escape(ArtifactDownloader.getRepositoryUrl())).append("</url>\n")
+                .append("    </repository>\n")
+                .append("  </repositories>\n")
+                .append("  <dependencies>\n");
+        for (DependencyDetails dependency : dependencies) {
+            pom.append("    <dependency>\n")
+                    .append("      <groupId>").append(escape(dependency.getGroupId())).append("</groupId>\n")
+                    .append("      <artifactId>").append(escape(dependency.getArtifact())).append("</artifactId>\n")
+                    .append("      <version>").append(escape(dependency.getVersion())).append("</version>\n")
+                    .append("      <type>").append(escape(getType(dependency))).append("</type>\n")
+                    .append("      <exclusions>\n")
+                    .append("        <exclusion>\n")
+                    .append("          <groupId>*</groupId>\n")
+                    .append("          <artifactId>*</artifactId>\n")
+                    .append("        </exclusion>\n")
+                    .append("      </exclusions>\n")
+                    .append("    </dependency>\n");
+        }
+        pom.append("  </dependencies>\n").append("</project>\n");
+        return pom.toString();
+    }
+
+    private String escape(String value) {
+
+        return StringEscapeUtils.escapeXml10(value);
+    }
+
+    private File getFromLocalRepo(DependencyDetails dependency) {
+
+        return Utils.getDependencyFromLocalRepo(dependency.getGroupId(), dependency.getArtifact(),
+                dependency.getVersion(), getType(dependency));
+    }
+
+    private String getType(DependencyDetails dependency) {
+
+        return StringUtils.isEmpty(dependency.getType()) ? DEFAULT_TYPE : dependency.getType();
+    }
+
+    private boolean isRecentlyFailed(DependencyDetails dependency) {
+
+        Long failedTime = failedResolutions.get(getKey(dependency));
+        return failedTime != null && clock.millis() - failedTime < FAILURE_EXPIRY_MILLIS;
+    }
+
+    private String getKey(DependencyDetails dependency) {
+
+        return dependency.getGroupId() + ":" + dependency.getArtifact() + ":" + dependency.getVersion() + ":" +
+                getType(dependency);
+    }
+
+    private String getMavenHome() {
+
+        if (mavenHome == null) {
+            mavenHome = Utils.getMavenHome();
+        }
+        return mavenHome;
+    }
+
+    private void loadFailedResolutions() {
+
+        if (failedResolutions != null) {
+            return;
+        }
+        failedResolutions = new HashMap<>();
+        if (!cacheFile.exists()) {
+            return;
+        }
+        try {
+            Map<String, Long> cached = gson.fromJson(Utils.readFile(cacheFile),
+                    new TypeToken<Map<String, Long>>() {
+                    }.getType());
+            if (cached != null) {
+                failedResolutions.putAll(cached);
+            }
+        } catch (IOException | JsonSyntaxException e) {
+            LOGGER.log(Level.WARNING, "Failed to read the maven resolution cache.", e);
+        }
+    }
+
+    private void saveFailedResolutions() {
+
+        long now = clock.millis();
+        failedResolutions.values().removeIf(failedTime -> now - failedTime >= FAILURE_EXPIRY_MILLIS);
+        try {
+            Utils.writeToFile(cacheFile.getAbsolutePath(), gson.toJson(failedResolutions));
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to save the maven resolution cache.", e);
+        }
+    }
+}
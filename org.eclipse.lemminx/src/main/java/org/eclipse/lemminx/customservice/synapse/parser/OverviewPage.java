@@ -22,7 +22,6 @@ import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.Dependency
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.pojo.DependencyTree;
 import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryMapResponse;
 import org.eclipse.lemminx.customservice.synapse.directoryTree.DirectoryTreeBuilder;
-import org.eclipse.lemminx.customservice.synapse.parser.config.ConfigParser;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
 import org.eclipse.lsp4j.WorkspaceFolder;
@@ -42,7 +41,8 @@ public class OverviewPage {
     public static OverviewPageDetailsResponse getDetails(String projectUri) {
         OverviewPageDetailsResponse pomDetailsResponse = new OverviewPageDetailsResponse();
         getPomDetails(projectUri, pomDetailsResponse);
-        pomDetailsResponse.setConfigurables(ConfigParser.getConfigDetails(projectUri));
+        pomDetailsResponse.setConfigurables(
+                ProjectMetadataService.getInstance().getMetadata(projectUri).getConfigurables());
         return pomDetailsResponse;
     }
 
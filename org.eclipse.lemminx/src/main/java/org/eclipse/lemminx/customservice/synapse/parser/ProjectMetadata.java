@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.customservice.synapse.parser;
+
+import org.eclipse.lemminx.customservice.synapse.directoryTree.legacyBuilder.utils.ProjectType;
+import org.eclipse.lemminx.customservice.synapse.parser.config.ConfigParser;
+import org.eclipse.lemminx.customservice.synapse.parser.pom.PomParser;
+import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * The facts of a project derived from its pom.xml, .project, config.properties and .env files.
+ * <p>
+ * Each fact is read from its files the first time it is requested and kept until the files change. A change is
+ * detected from the modification time and size of the files, and notified changes, see
+ * {@link ProjectMetadataService#fileChanged(String)}, drop the fact right away. The returned objects are shared by all
+ * the callers and must not be modified.
+ */
+public class ProjectMetadata {
+
+    private static final Pattern RUNTIME_VERSION_PATTERN = Pattern.compile("^\\d+\\.\\d+\\.\\d+$");
+
+    private final Path projectPath;
+    private final CachedFact<Boolean> legacyProject;
+    private final CachedFact<OverviewPageDetailsResponse> pomDetails;
+    private final CachedFact<List<ConfigDetails>> configurables;
+
+    ProjectMetadata(Path projectPath) {
+
+        this.projectPath = projectPath;
+        this.legacyProject = new CachedFact<>(this::readLegacyProject, projectPath.resolve(Constant.DOT_PROJECT));
+        this.pomDetails = new CachedFact<>(this::readPomDetails, projectPath.resolve(Constants.POM_FILE));
+        this.configurables = new CachedFact<>(
+                () -> Collections.unmodifiableList(ConfigParser.getConfigDetails(projectPath.toString())),
+                getConfigFile(), projectPath.resolve(".env"));
+    }
+
+    public Path getProjectPath() {
+
+        return projectPath;
+    }
+
+    /**
+     * Returns whether the project is a legacy multi-module project, from the natures of its .project file.
+     *
+     * @return true if the project is a legacy project
+     */
+    public boolean isLegacyProject() {
+
+        return legacyProject.get();
+    }
+
+    /**
+     * Returns the details read from the pom.xml of the project, which must not be modified.
+     *
+     * @return the details read from the pom.xml of the project
+     */
+    public OverviewPageDetailsResponse getPomDetails() {
+
+        return pomDetails.get();
+    }
+
+    /**
+     * Returns the configurables of the project, read from its config.properties with the values of its .env file.
+     *
+     * @return the unmodifiable list of the configurables of the project
+     */
+    public List<ConfigDetails> getConfigurables() {
+
+        return configurables.get();
+    }
+
+    /**
+     * Returns the value of the project.runtime.version property of the pom.xml.
+     *
+     * @return the runtime version of the project or null if it is not defined
+     */
+    public String getRuntimeVersion() {
+
+        return getValue(getPomDetails().getPrimaryDetails().getRuntimeVersion());
+    }
+
+    public String getGroupId() {
+
+        return getValue(getPomDetails().getBuildDetails().getAdvanceDetails().getProjectGroupId());
+    }
+
+    public String getArtifactId() {
+
+        return getValue(getPomDetails().getBuildDetails().getAdvanceDetails().getProjectArtifactId());
+    }
+
+    public String getVersion() {
+
+        return getValue(getPomDetails().getPrimaryDetails().getProjectVersion());
+    }
+
+    public List<DependencyDetails> getConnectorDependencies() {
+
+        return getPomDetails().getDependenciesDetails().getConnectorDependencies();
+    }
+
+    public List<DependencyDetails> getIntegrationProjectDependencies() {
+
+        return getPomDetails().getDependenciesDetails().getIntegrationProjectDependencies();
+    }
+
+    /**
+     * Returns the MI server version supported for the runtime version of the project.
+     *
+     * @param defaultVersion the version used when the runtime version is not defined or not valid
+     * @return the supported MI server version
+     */
+    public String getServerVersion(String defaultVersion) {
+
+        String version = getRuntimeVersion();
+        if (version != null && RUNTIME_VERSION_PATTERN.matcher(version).matches()) {
+            if (Integer.parseInt(version.replace(".", "")) <
+                    Integer.parseInt(Constant.MI_430_VERSION.replace(".", ""))) {
+                return Constant.MI_430_VERSION;
+            }
+            return Constant.MI_SUPPORTED_VERSION_MAP.get(version);
+        }
+        return Constant.MI_SUPPORTED_VERSION_MAP.get(defaultVersion);
+    }
+
+    /**
+     * Forgets the facts derived from the given file of the project.
+     *
+     * @param file the changed file
+     * @return true if the file is one of the files of the project metadata
+     */
+    boolean fileChanged(Path file) {
+
+        if (file.equals(projectPath.resolve(Constants.POM_FILE))) {
+            pomDetails.invalidate();
+        } else if (file.equals(projectPath.resolve(Constant.DOT_PROJECT))) {
+            legacyProject.invalidate();
+        } else if (file.equals(projectPath.resolve(".env")) || file.equals(getConfigFile())) {
+            configurables.invalidate();
+        } else if (projectPath.startsWith(file)) {
+            // The project folder or one of its parents was deleted or renamed
+            invalidate();
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    void invalidate() {
+
+        legacyProject.invalidate();
+        pomDetails.invalidate();
+        configurables.invalidate();
+    }
+
+    private Path getConfigFile() {
+
+        return projectPath.resolve(Path.of(Constants.SRC, Constants.MAIN, Constants.WSO2_MI, Constants.RESOURCES,
+                Constants.CONF, Constants.CONFIG_FILE));
+    }
+
+    private Boolean readLegacyProject() {
+
+        File dotProjectFile = projectPath.resolve(Constant.DOT_PROJECT).toFile();
+        if (dotProjectFile.exists()) {
+            try {
+                DOMDocument projectDOM = Utils.getDOMDocument(dotProjectFile);
+                DOMNode descriptionNode = Utils.findDescriptionNode(projectDOM);
+                if (descriptionNode != null) {
+                    DOMNode naturesNode = Utils.findNaturesNode(descriptionNode);
+                    if (naturesNode != null) {
+                        for (DOMNode child : naturesNode.getChildren()) {
+                            String nature = Utils.getInlineString(child.getFirstChild());
+                            if (ProjectType.ROOT_PROJECT.value.equalsIgnoreCase(nature)) {
+                                return Boolean.TRUE;
+                            }
+                        }
+                    }
+                }
+            } catch (IOException e) {
+            }
+        }
+        return Boolean.FALSE;
+    }
+
+    private OverviewPageDetailsResponse readPomDetails() {
+
+        OverviewPageDetailsResponse details = new OverviewPageDetailsResponse();
+        PomParser.getPomDetails(projectPath.toString(), details);
+        return details;
+    }
+
+    private static String getValue(Node node) {
+
+        return node != null ? node.getValue() : null;
+    }
+
+    /**
+     * A fact read from files on the first request until it is invalidated or the modification time or size of one of
+     * the files changes. The fact is read while holding the lock, so that a fact read before an invalidation is never
+     * kept.
+     */
+    private static class CachedFact<T> {
+
+        private final Supplier<T> reader;
+        private final File[] files;
+        private T value;
+        private long[] stamp;
+
+        CachedFact(Supplier<T> reader, Path... files) {
+
+            this.reader = reader;
+            this.files = Arrays.stream(files).map(Path::toFile).toArray(File[]::new);
+        }
+
+        synchronized T get() {
+
+            long[] currentStamp = getStamp();
+            if (value == null || !Arrays.equals(stamp, currentStamp)) {
+                // The stamp is taken before reading, so that a change while reading is seen on the next request
+                stamp = currentStamp;
+                value = reader.get();
+            }
+            return value;
+        }
+
+        synchronized void invalidate() {
+
+            value = null;
+        }
+
+        private long[] getStamp() {
+
+            long[] currentStamp = new long[files.length * 2];
+            for (int i = 0; i < files.length; i++) {
+                // Both are 0 when the file does not exist
+                currentStamp[i * 2] = files[i].lastModified();
+                currentStamp[i * 2 + 1] = files[i].length();
+            }
+            return currentStamp;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.customservice.synapse.parser;
+
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shares the metadata of the projects (runtime version, legacy flag, group and artifact IDs, dependencies and
+ * configurables) between all the features of the language server.
+ * <p>
+ * The metadata of a project is read once from its files and kept until one of those files changes, instead of parsing
+ * the files again for each request. The changes notified by the client through the watched file events drop the
+ * metadata right away, and the other changes are detected from the modification time and size of the files.
+ */
+public class ProjectMetadataService {
+
+    private static final ProjectMetadataService INSTANCE = new ProjectMetadataService();
+
+    private final Map<Path, ProjectMetadata> projects = new ConcurrentHashMap<>();
+
+    public static ProjectMetadataService getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the metadata of the given project.
+     *
+     * @param projectPath the project folder
+     * @return the metadata of the given project
+     */
+    public ProjectMetadata getMetadata(String projectPath) {
+
+        Path path = Path.of(projectPath).toAbsolutePath().normalize();
+        return projects.computeIfAbsent(path, ProjectMetadata::new);
+    }
+
+    /**
+     * Forgets the metadata derived from the given file, which was created, changed or deleted.
+     *
+     * @param uri the URI of the file
+     * @return true if the metadata of a project was derived from the file
+     */
+    public boolean fileChanged(String uri) {
+
+        Path file;
+        try {
+            file = Path.of(Utils.getAbsolutePath(uri)).normalize();
+        } catch (InvalidPathException e) {
+            return false;
+        }
+        boolean changed = false;
+        for (ProjectMetadata metadata : projects.values()) {
+            changed |= metadata.fileChanged(file);
+        }
+        return changed;
+    }
+
+    /**
+     * Forgets the metadata of all the projects.
+     */
+    public void invalidate() {
+
+        projects.values().forEach(ProjectMetadata::invalidate);
+    }
+}
@@ -64,15 +64,13 @@ import java.util.logging.Logger;
 public class PomParser {
 
     private static final Logger LOGGER = Logger.getLogger(PomParser.class.getName());
-    private static OverviewPageDetailsResponse pomDetailsResponse;
     private static DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
     private static TransformerFactory transformerFactory = TransformerFactory.newInstance();
     private static boolean hasDependencies = false;
     private static boolean hasProperties = false;
 
     public static void getPomDetails(String projectUri, OverviewPageDetailsResponse detailsResponse) {
-        pomDetailsResponse = detailsResponse;
-        extractPomContent(projectUri);
+        extractPomContent(projectUri, detailsResponse);
     }
 
     public static UpdateResponse updateProperty(String projectUri, UpdatePropertyRequest request) {
@@ -487,7 +485,7 @@ public class PomParser {
         return dependency;
     }
 
-    private static void extractPomContent(String projectUri) {
+    private static void extractPomContent(String projectUri, OverviewPageDetailsResponse pomDetailsResponse) {
         try {
             File pomFile = new File(projectUri + File.separator + Constants.POM_FILE);
             if (!isPomFileExist(pomFile)) {
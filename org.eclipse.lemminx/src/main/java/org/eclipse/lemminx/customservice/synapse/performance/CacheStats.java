@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.performance;
+
+public class CacheStats {
+
+    private final String name;
+    private final long hits;
+    private final long misses;
+    private final double hitRatio;
+
+    public CacheStats(String name, long hits, long misses) {
+
+        this.name = name;
+        this.hits = hits;
+        this.misses = misses;
+        this.hitRatio = hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+    }
+
+    public String getName() {
+
+        return name;
+    }
+
+    public long getHits() {
+
+        return hits;
+    }
+
+    public long getMisses() {
+
+        return misses;
+    }
+
+    public double getHitRatio() {
+
+        return hitRatio;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.performance;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies in microseconds.
+ * <p>
+ * Each power of two is split into four buckets, so a percentile is reported with an error of at most 25%, while
+ * recording a value only increments a single counter.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(Long.SIZE * SUB_BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a latency.
+     *
+     * @param micros latency in microseconds
+     */
+    public void record(long micros) {
+
+        long value = Math.max(micros, 0);
+        buckets.incrementAndGet(getBucketIndex(value));
+        count.increment();
+        total.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    public long getCount() {
+
+        return count.sum();
+    }
+
+    public long getMax() {
+
+        return max.get();
+    }
+
+    public double getMean() {
+
+        long samples = count.sum();
+        return samples == 0 ? 0 : (double) total.sum() / samples;
+    }
+
+    /**
+     * Returns the given percentile of the recorded latencies.
+     *
+     * @param percentile percentile between 0 and 100
+     * @return the upper bound of the bucket of the percentile in microseconds
+     */
+    public long getPercentile(double percentile) {
+
+        long samples = count.sum();
+        if (samples == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(samples * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(getBucketUpperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    static int getBucketIndex(long value) {
+
+        if (value <= 1) {
+            return 0;
+        }
+        int msb = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        long subBucket = msb >= SUB_BUCKET_BITS ? value >>> (msb - SUB_BUCKET_BITS) :
+                value << (SUB_BUCKET_BITS - msb);
+        return msb * SUB_BUCKETS + (int) (subBucket & (SUB_BUCKETS - 1));
+    }
+
+    static long getBucketUpperBound(int index) {
+
+        int msb = index / SUB_BUCKETS;
+        int subBucket = index % SUB_BUCKETS;
+        if (msb < SUB_BUCKET_BITS) {
+            return (SUB_BUCKETS + subBucket) >> (SUB_BUCKET_BITS - msb);
+        }
+        if (msb == Long.SIZE - 2 && subBucket == SUB_BUCKETS - 1) {
+            return Long.MAX_VALUE;
+        }
+        return ((long) (SUB_BUCKETS + subBucket + 1) << (msb - SUB_BUCKET_BITS)) - 1;
+    }
+}
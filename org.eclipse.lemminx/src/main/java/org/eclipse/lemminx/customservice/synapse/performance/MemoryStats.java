@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.customservice.synapse.performance;
+
+public class MemoryStats {
+
+    private final long heapUsedBytes;
+    private final long heapMaxBytes;
+    private final int openDocuments;
+    private final int parsedModels;
+    private final long modelBytes;
+    private final long releasedModels;
+    private final int cmDocuments;
+    private final long cmDocumentBytes;
+    private final long evictedCMDocuments;
+    private final long evictedGrammars;
+
+    public MemoryStats(long heapUsedBytes, long heapMaxBytes, int openDocuments, int parsedModels, long modelBytes,
+                       long releasedModels, int cmDocuments, long cmDocumentBytes, long evictedCMDocuments,
+                       long evictedGrammars) {
+
+        this.heapUsedBytes = heapUsedBytes;
+        this.heapMaxBytes = heapMaxBytes;
+        this.openDocuments = openDocuments;
+        this.parsedModels = parsedModels;
+        this.modelBytes = modelBytes;
+        this.releasedModels = releasedModels;
+        this.cmDocuments = cmDocuments;
+        this.cmDocumentBytes = cmDocumentBytes;
+        this.evictedCMDocuments = evictedCMDocuments;
+        this.evictedGrammars = evictedGrammars;
+    }
+
+    public long getHeapUsedBytes() {
+
+        return heapUsedBytes;
+    }
+
+    public long getHeapMaxBytes() {
+
+        return heapMaxBytes;
+    }
+
+    public int getOpenDocuments() {
+
+        return openDocuments;
+    }
+
+    public int getParsedModels() {
+
+        return parsedModels;
+    }
+
+    public long getModelBytes() {
+
+        return modelBytes;
+    }
+
+    public long getReleasedModels() {
+
+        return releasedModels;
+    }
+
+    public int getCmDocuments() {
+
+        return cmDocuments;
+    }
+
+    public long getCmDocumentBytes() {
+
+        return cmDocumentBytes;
+    }
+
+    public long getEvictedCMDocuments() {
+
+        return evictedCMDocuments;
+    }
+
+    public long getEvictedGrammars() {
+
+        return evictedGrammars;
+    }
+}
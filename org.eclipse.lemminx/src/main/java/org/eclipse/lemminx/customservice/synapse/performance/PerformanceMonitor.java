@@ -0,0 +1,358 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.performance;
+
+import org.eclipse.lemminx.telemetry.PerformanceListener;
+import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.RemoteEndpoint;
+import org.eclipse.lsp4j.jsonrpc.messages.CancelParams;
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.RequestMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the latencies of the requests served by the language server, the hit ratios of its caches, the counts of
+ * the document validations and the memory used by the parsed models and grammars.
+ * <p>
+ * The monitor is plugged into the JSON-RPC message streams, so every request is measured from the time it is read
+ * until its response is written, without instrumenting the individual endpoints.
+ * <p>
+ * The monitor is registered as the performance listener of the language server, which reports the events of the core
+ * services to it.
+ */
+public class PerformanceMonitor implements PerformanceListener {
+
+    private static final String CANCEL_METHOD = "$/cancelRequest";
+    private static final PerformanceMonitor INSTANCE = new PerformanceMonitor();
+
+    private final long startTime = System.currentTimeMillis();
+    private final Map<String, MethodStats> methods = new ConcurrentHashMap<>();
+    private final Map<String, PendingRequest> pendingRequests = new ConcurrentHashMap<>();
+    private final Map<String, CacheCounter> caches = new ConcurrentHashMap<>();
+    private final ValidationCounter validations = new ValidationCounter();
+    private final MemoryCounter memory = new MemoryCounter();
+
+    public static PerformanceMonitor getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Wraps a message stream of the language server.
+     * <p>
+     * The incoming stream is the one consumed by the {@link RemoteEndpoint}. The requests and the cancellations are
+     * recorded from it, while the responses are recorded from the outgoing stream.
+     *
+     * @param consumer message stream
+     * @return the wrapped message stream
+     */
+    @Override
+    public MessageConsumer wrap(MessageConsumer consumer) {
+
+        if (consumer instanceof RemoteEndpoint) {
+            return message -> {
+                if (message instanceof RequestMessage) {
+                    RequestMessage request = (RequestMessage) message;
+                    requestStarted(request.getId(), request.getMethod());
+                } else if (message instanceof NotificationMessage &&
+                        CANCEL_METHOD.equals(((NotificationMessage) message).getMethod()) &&
+                        ((NotificationMessage) message).getParams() instanceof CancelParams) {
+                    requestCancelled(((CancelParams) ((NotificationMessage) message).getParams()).getId());
+                }
+                consumer.consume(message);
+            };
+        }
+        return message -> {
+            consumer.consume(message);
+            if (message instanceof ResponseMessage) {
+                ResponseMessage response = (ResponseMessage) message;
+                requestCompleted(response.getId(), response.getError() != null);
+            }
+        };
+    }
+
+    /**
+     * Records the start of a request.
+     *
+     * @param id     request id
+     * @param method request method
+     */
+    public void requestStarted(String id, String method) {
+
+        if (id == null || method == null) {
+            return;
+        }
+        MethodStats stats = methods.computeIfAbsent(method, key -> new MethodStats());
+        stats.inFlight.incrementAndGet();
+        pendingRequests.put(id, new PendingRequest(stats, System.nanoTime()));
+    }
+
+    /**
+     * Records the cancellation of a request by the client.
+     *
+     * @param id request id
+     */
+    public void requestCancelled(String id) {
+
+        PendingRequest request = id != null ? pendingRequests.get(id) : null;
+        if (request != null) {
+            request.stats.cancelled.increment();
+        }
+    }
+
+    /**
+     * Records the completion of a request.
+     *
+     * @param id     request id
+     * @param failed whether the request completed with an error
+     */
+    public void requestCompleted(String id, boolean failed) {
+
+        PendingRequest request = id != null ? pendingRequests.remove(id) : null;
+        if (request == null) {
+            return;
+        }
+        request.stats.inFlight.decrementAndGet();
+        request.stats.latency.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - request.startTime));
+        if (failed) {
+            request.stats.failed.increment();
+        }
+    }
+
+    /**
+     * Records a lookup of a cache.
+     *
+     * @param cache name of the cache
+     * @param hit   whether the value was served from the cache
+     */
+    @Override
+    public void recordCacheAccess(String cache, boolean hit) {
+
+        CacheCounter counter = caches.computeIfAbsent(cache, key -> new CacheCounter());
+        if (hit) {
+            counter.hits.increment();
+        } else {
+            counter.misses.increment();
+        }
+    }
+
+    /**
+     * Records a validation of a document which ran to completion.
+     *
+     * @param micros duration of the validation in microseconds
+     */
+    @Override
+    public void recordValidation(long micros) {
+
+        validations.validated.increment();
+        validations.totalMicros.add(micros);
+    }
+
+    /**
+     * Records a validation of a document which was replaced by the validation of a newer version before it started.
+     */
+    @Override
+    public void recordValidationCoalesced() {
+
+        validations.coalesced.increment();
+    }
+
+    /**
+     * Records a validation of a document which was stopped because a newer version of the document exists.
+     */
+    @Override
+    public void recordValidationCancelled() {
+
+        validations.cancelled.increment();
+    }
+
+    /**
+     * Records diagnostics which were not published because they are the same as the last ones published.
+     */
+    @Override
+    public void recordUnchangedDiagnostics() {
+
+        validations.unchangedDiagnostics.increment();
+    }
+
+    /**
+     * Records the parsed models of the open documents after the inactive models were released.
+     *
+     * @param openDocuments  number of open documents
+     * @param parsedModels   number of open documents which have a parsed model
+     * @param modelBytes     estimated memory used by the parsed models
+     * @param releasedModels number of models which were released
+     */
+    @Override
+    public void recordModelMemory(int openDocuments, int parsedModels, long modelBytes, int releasedModels) {
+
+        memory.openDocuments.set(openDocuments);
+        memory.parsedModels.set(parsedModels);
+        memory.modelBytes.set(modelBytes);
+        memory.releasedModels.add(releasedModels);
+    }
+
+    /**
+     * Records the content model documents (XSD, DTD) which are cached.
+     *
+     * @param cmDocuments     number of cached content model documents
+     * @param cmDocumentBytes estimated memory used by the cached content model documents
+     */
+    @Override
+    public void recordCMDocumentMemory(int cmDocuments, long cmDocumentBytes) {
+
+        memory.cmDocuments.set(cmDocuments);
+        memory.cmDocumentBytes.set(cmDocumentBytes);
+    }
+
+    /**
+     * Records a content model document which was evicted from the cache to stay within the memory budget.
+     */
+    @Override
+    public void recordCMDocumentEvicted() {
+
+        memory.evictedCMDocuments.increment();
+    }
+
+    /**
+     * Records grammars which were dropped from the grammar pool since they were not used recently.
+     *
+     * @param count number of dropped grammars
+     */
+    @Override
+    public void recordGrammarsEvicted(int count) {
+
+        memory.evictedGrammars.add(count);
+    }
+
+    /**
+     * Returns the collected statistics, with the slowest requests first.
+     *
+     * @return the performance statistics
+     */
+    @Override
+    public PerformanceStats getPerformanceStats() {
+
+        List<RequestStats> requests = new ArrayList<>();
+        for (Map.Entry<String, MethodStats> entry : methods.entrySet()) {
+            MethodStats stats = entry.getValue();
+            requests.add(new RequestStats(entry.getKey(), stats.latency, stats.inFlight.get(),
+                    stats.cancelled.sum(), stats.failed.sum()));
+        }
+        requests.sort(Comparator.comparingDouble(RequestStats::getP95).reversed()
+                .thenComparing(RequestStats::getMethod));
+        List<CacheStats> cacheStats = new ArrayList<>();
+        for (Map.Entry<String, CacheCounter> entry : caches.entrySet()) {
+            cacheStats.add(new CacheStats(entry.getKey(), entry.getValue().hits.sum(), entry.getValue().misses.sum()));
+        }
+        cacheStats.sort(Comparator.comparing(CacheStats::getName));
+        ValidationStats validationStats = new ValidationStats(validations.validated.sum(),
+                validations.coalesced.sum(), validations.cancelled.sum(), validations.unchangedDiagnostics.sum(),
+                validations.totalMicros.sum());
+        Runtime runtime = Runtime.getRuntime();
+        MemoryStats memoryStats = new MemoryStats(runtime.totalMemory() - runtime.freeMemory(), runtime.maxMemory(),
+                memory.openDocuments.get(), memory.parsedModels.get(), memory.modelBytes.get(),
+                memory.releasedModels.sum(), memory.cmDocuments.get(), memory.cmDocumentBytes.get(),
+                memory.evictedCMDocuments.sum(), memory.evictedGrammars.sum());
+        return new PerformanceStats(System.currentTimeMillis() - startTime, requests, cacheStats, validationStats,
+                memoryStats);
+    }
+
+    /**
+     * Drops the collected statistics.
+     */
+    public void reset() {
+
+        methods.clear();
+        pendingRequests.clear();
+        caches.clear();
+        validations.reset();
+        memory.reset();
+    }
+
+    private static class MethodStats {
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final LongAdder cancelled = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+    }
+
+    private static class PendingRequest {
+
+        private final MethodStats stats;
+        private final long startTime;
+
+        PendingRequest(MethodStats stats, long startTime) {
+
+            this.stats = stats;
+            this.startTime = startTime;
+        }
+    }
+
+    private static class CacheCounter {
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+    }
+
+    private static class ValidationCounter {
+
+        private final LongAdder validated = new LongAdder();
+        private final LongAdder totalMicros = new LongAdder();
+        private final LongAdder coalesced = new LongAdder();
+        private final LongAdder cancelled = new LongAdder();
+        private final LongAdder unchangedDiagnostics = new LongAdder();
+
+        void reset() {
+
+            validated.reset();
+            totalMicros.reset();
+            coalesced.reset();
+            cancelled.reset();
+            unchangedDiagnostics.reset();
+        }
+    }
+
+    private static class MemoryCounter {
+
+        private final AtomicInteger openDocuments = new AtomicInteger();
+        private final AtomicInteger parsedModels = new AtomicInteger();
+        private final AtomicLong modelBytes = new AtomicLong();
+        private final LongAdder releasedModels = new LongAdder();
+        private final AtomicInteger cmDocuments = new AtomicInteger();
+        private final AtomicLong cmDocumentBytes = new AtomicLong();
+        private final LongAdder evictedCMDocuments = new LongAdder();
+        private final LongAdder evictedGrammars = new LongAdder();
+
+        void reset() {
+
+            // The sizes are kept since they describe the current state of the caches
+            releasedModels.reset();
+            evictedCMDocuments.reset();
+            evictedGrammars.reset();
+        }
+    }
+}
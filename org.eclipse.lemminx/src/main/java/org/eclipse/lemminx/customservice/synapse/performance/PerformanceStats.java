@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.performance;
+
+import java.util.List;
+
+public class PerformanceStats {
+
+    private final long uptimeMillis;
+    private final List<RequestStats> requests;
+    private final List<CacheStats> caches;
+    private final ValidationStats validations;
+    private final MemoryStats memory;
+
+    public PerformanceStats(long uptimeMillis, List<RequestStats> requests, List<CacheStats> caches,
+                            ValidationStats validations, MemoryStats memory) {
+
+        this.uptimeMillis = uptimeMillis;
+        this.requests = requests;
+        this.caches = caches;
+        this.validations = validations;
+        this.memory = memory;
+    }
+
+    public long getUptimeMillis() {
+
+        return uptimeMillis;
+    }
+
+    public List<RequestStats> getRequests() {
+
+        return requests;
+    }
+
+    public List<CacheStats> getCaches() {
+
+        return caches;
+    }
+
+    public ValidationStats getValidations() {
+
+        return validations;
+    }
+
+    public MemoryStats getMemory() {
+
+        return memory;
+    }
+}
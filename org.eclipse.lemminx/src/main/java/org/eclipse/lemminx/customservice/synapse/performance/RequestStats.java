@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.performance;
+
+/**
+ * Latency statistics of a request method. The latencies are in milliseconds.
+ */
+public class RequestStats {
+
+    private final String method;
+    private final long count;
+    private final int inFlight;
+    private final long cancelled;
+    private final long failed;
+    private final double mean;
+    private final double p50;
+    private final double p95;
+    private final double p99;
+    private final double max;
+
+    public RequestStats(String method, LatencyHistogram histogram, int inFlight, long cancelled, long failed) {
+
+        this.method = method;
+        this.count = histogram.getCount();
+        this.inFlight = inFlight;
+        this.cancelled = cancelled;
+        this.failed = failed;
+        this.mean = toMillis(histogram.getMean());
+        this.p50 = toMillis(histogram.getPercentile(50));
+        this.p95 = toMillis(histogram.getPercentile(95));
+        this.p99 = toMillis(histogram.getPercentile(99));
+        this.max = toMillis(histogram.getMax());
+    }
+
+    private static double toMillis(double micros) {
+
+        return Math.round(micros) / 1000.0;
+    }
+
+    public String getMethod() {
+
+        return method;
+    }
+
+    public long getCount() {
+
+        return count;
+    }
+
+    public int getInFlight() {
+
+        return inFlight;
+    }
+
+    public long getCancelled() {
+
+        return cancelled;
+    }
+
+    public long getFailed() {
+
+        return failed;
+    }
+
+    public double getMean() {
+
+        return mean;
+    }
+
+    public double getP50() {
+
+        return p50;
+    }
+
+    public double getP95() {
+
+        return p95;
+    }
+
+    public double getP99() {
+
+        return p99;
+    }
+
+    public double getMax() {
+
+        return max;
+    }
+}
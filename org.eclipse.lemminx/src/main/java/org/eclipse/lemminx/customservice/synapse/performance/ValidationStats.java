@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.performance;
+
+public class ValidationStats {
+
+    private final long validated;
+    private final long coalesced;
+    private final long cancelled;
+    private final long unchangedDiagnostics;
+    private final double meanMillis;
+
+    public ValidationStats(long validated, long coalesced, long cancelled, long unchangedDiagnostics,
+                           long totalMicros) {
+
+        this.validated = validated;
+        this.coalesced = coalesced;
+        this.cancelled = cancelled;
+        this.unchangedDiagnostics = unchangedDiagnostics;
+        this.meanMillis = validated == 0 ? 0 : totalMicros / 1000.0 / validated;
+    }
+
+    public long getValidated() {
+
+        return validated;
+    }
+
+    public long getCoalesced() {
+
+        return coalesced;
+    }
+
+    public long getCancelled() {
+
+        return cancelled;
+    }
+
+    public long getUnchangedDiagnostics() {
+
+        return unchangedDiagnostics;
+    }
+
+    public double getMeanMillis() {
+
+        return meanMillis;
+    }
+}
@@ -17,6 +17,7 @@ package org.eclipse.lemminx.customservice.synapse.resourceFinder;
 import org.eclipse.lemminx.customservice.synapse.dependency.tree.ArtifactType;
 import org.eclipse.lemminx.customservice.synapse.parser.Node;
 import org.eclipse.lemminx.customservice.synapse.parser.OverviewPageDetailsResponse;
+import org.eclipse.lemminx.customservice.synapse.parser.ProjectMetadataService;
 import org.eclipse.lemminx.customservice.synapse.parser.pom.PomParser;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.ArtifactResource;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.RegistryResource;
@@ -28,11 +29,10 @@ import org.eclipse.lemminx.customservice.synapse.resourceFinder.registryHander.N
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.registryHander.SchemaResourceHandler;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.registryHander.SimpleResourceHandler;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.registryHander.SwaggerResourceHandler;
+import org.eclipse.lemminx.customservice.synapse.utils.CompactDocument;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+import org.eclipse.lemminx.customservice.synapse.utils.ParallelFileScanner;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
-import org.eclipse.lemminx.dom.DOMDocument;
-import org.eclipse.lemminx.dom.DOMElement;
-import org.eclipse.lemminx.dom.DOMNode;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 
 import java.io.File;
@@ -58,6 +58,9 @@ public abstract class AbstractResourceFinder {
     protected static final String LOCAL_ENTRY = "LOCAL_ENTRY";
     protected static final List<String> resourceFromRegistryOnly = List.of("dataMapper", "js", "json", "smooksConfig",
             "wsdl", "ws_policy", "xsd", "xsl", "xslt", "yaml", "registry", "unitTestRegistry", "schema", "swagger");
+    // Resources are identified by the root element and its children, so the mediators inside them are not scanned
+    private static final CompactDocument.ScanLimit HEADER_SCAN_LIMIT = CompactDocument.ScanLimit.depth(2);
+    private static final Pattern FILE_EXTENSION_PATTERN = Pattern.compile(".*\\.(.*)$");
 
     // This has the xml tag mapping for each artifact type
     private static final Map<String, String> typeToXmlTagMap = new HashMap<>();
@@ -127,8 +130,8 @@ public abstract class AbstractResourceFinder {
 
         try (var dependentProjects = list(extractedDir)) {
             // Iterate over each dependent project directory
-            OverviewPageDetailsResponse parentProjectDetails = new OverviewPageDetailsResponse();
-            PomParser.getPomDetails(projectPath, parentProjectDetails);
+            OverviewPageDetailsResponse parentProjectDetails =
+                    ProjectMetadataService.getInstance().getMetadata(projectPath).getPomDetails();
             for (Path dependentProject : dependentProjects.toArray(Path[]::new)) {
                 if (isDirectory(dependentProject)) {
                     String projectNameDep = dependentProject.getFileName().toString();
@@ -342,42 +345,17 @@ public abstract class AbstractResourceFinder {
      */
     protected void findAllRegistryResources(Path registryPath, Map<String, ResourceResponse> allResources) {
 
-        File folder = registryPath.toFile();
-        if (!folder.exists()) {
-            return;
-        }
-        traverseRegistryFolder(folder, allResources);
-    }
-
-    /**
-     * Recursively traverses the given registry folder and populates the provided map with all registry resources found.
-     *
-     * @param folder       the root folder to traverse for registry resources
-     * @param allResources the map to populate with found resources, keyed by resource type
-     */
-    private void traverseRegistryFolder(File folder, Map<String, ResourceResponse> allResources) {
-
-        File[] files = folder.listFiles();
-        if (files == null) {
-            return;
-        }
-
-        for (File file : files) {
-            if (file.isDirectory()) {
-                traverseRegistryFolder(file, allResources); // recursive
-            } else {
-                Resource resource = createRegistryResourceFromFile(file);
-                if (resource != null) {
-                    String type = resource.getType();
-                    ResourceResponse response = allResources.computeIfAbsent(type, k -> new ResourceResponse());
-                    List<Resource> resources = response.getRegistryResources();
-                    if (resources == null) {
-                        resources = new ArrayList<>();
-                        response.setRegistryResources(resources);
-                    }
-                    resources.add(resource);
-                }
+        List<Resource> registryResources = ParallelFileScanner.scan(registryPath, folder -> true, file -> true,
+                file -> createRegistryResourceFromFile(file.toFile()));
+        for (Resource resource : registryResources) {
+            String type = resource.getType();
+            ResourceResponse response = allResources.computeIfAbsent(type, k -> new ResourceResponse());
+            List<Resource> resources = response.getRegistryResources();
+            if (resources == null) {
+                resources = new ArrayList<>();
+                response.setRegistryResources(resources);
             }
+            resources.add(resource);
         }
     }
 
@@ -400,12 +378,7 @@ public abstract class AbstractResourceFinder {
                 String resourceTypeFolder = getArtifactFolder(type);
                 if (resourceTypeFolder != null) {
                     Path resourceFolderPath = Path.of(artifactsPath.toString(), resourceTypeFolder);
-                    File folder = new File(resourceFolderPath.toString());
-                    File[] listOfFiles = folder.listFiles();
-                    if (listOfFiles != null) {
-                        List<Resource> resources1 = createResources(List.of(listOfFiles), type, ARTIFACTS);
-                        resources.addAll(resources1);
-                    }
+                    resources.addAll(createResources(resourceFolderPath, type, ARTIFACTS));
                 }
             }
         }
@@ -415,18 +388,8 @@ public abstract class AbstractResourceFinder {
     protected List<Resource> findResourceInLocalEntry(Path localEntryPath, List<RequestedResource> types) {
 
         List<Resource> resources = new ArrayList<>();
-        File folder = localEntryPath.toFile();
-
-        if (folder.exists()) {
-            for (RequestedResource requestedResource : types) {
-                File[] listOfFiles = folder.listFiles();
-                if (listOfFiles != null) {
-                    List<Resource> resources1 = createResources(List.of(listOfFiles), requestedResource.type,
-                            LOCAL_ENTRY);
-                    resources.addAll(resources1);
-                }
-
-            }
+        for (RequestedResource requestedResource : types) {
+            resources.addAll(createResources(localEntryPath, requestedResource.type, LOCAL_ENTRY));
         }
         return resources;
     }
@@ -439,31 +402,18 @@ public abstract class AbstractResourceFinder {
      * @param allResources   the map to populate with found resources, keyed by resource type
      */
     protected void findAllLocalEntryResources(Path localEntryPath, Map<String, ResourceResponse> allResources) {
-        File folder = localEntryPath.toFile();
-        if (!folder.exists()) {
-            return;
-        }
-
-        File[] files = folder.listFiles();
-        if (files == null) {
-            return;
-        }
 
-        for (File file : files) {
-            if (!file.isFile()) {
-                continue;
-            }
-            Resource resource = createLocalEntryResource(file);
-            if (resource != null) {
-                String type = resource.getType();
-                ResourceResponse response = allResources.computeIfAbsent(type, k -> new ResourceResponse());
-                List<Resource> resources = response.getResources();
-                if (resources == null) {
-                    resources = new ArrayList<>();
-                    response.setResources(resources);
-                }
-                resources.add(resource);
+        List<Resource> localEntries = ParallelFileScanner.scan(localEntryPath, folder -> false, file -> true,
+                file -> createLocalEntryResource(file.toFile()));
+        for (Resource resource : localEntries) {
+            String type = resource.getType();
+            ResourceResponse response = allResources.computeIfAbsent(type, k -> new ResourceResponse());
+            List<Resource> resources = response.getResources();
+            if (resources == null) {
+                resources = new ArrayList<>();
+                response.setResources(resources);
             }
+            resources.add(resource);
         }
     }
 
@@ -480,19 +430,19 @@ public abstract class AbstractResourceFinder {
     private Resource createLocalEntryResource(File file) {
 
         try {
-            DOMDocument document = Utils.getDOMDocument(file);
-            DOMElement rootElement = document.getDocumentElement();
-            if (rootElement == null) {
+            CompactDocument document = CompactDocument.parse(file, HEADER_SCAN_LIMIT);
+            int rootElement = document.getDocumentElement();
+            if (rootElement == CompactDocument.NONE) {
                 return null;
             }
 
             // Get first artifact element and identify type
-            DOMElement artifactElt = Utils.getFirstElement(rootElement);
-            if (artifactElt == null) {
+            int artifactElt = document.getFirstElement(rootElement);
+            if (artifactElt == CompactDocument.NONE) {
                 return null;
             }
 
-            String artifactType = artifactElt.getNodeName();
+            String artifactType = document.getNodeName(artifactElt);
             return createResource(file, artifactType, Constant.LOCAL_ENTRY);
         } catch (IOException e) {
             LOGGER.warning("Error reading local entry file: " + file.getName());
@@ -505,16 +455,15 @@ public abstract class AbstractResourceFinder {
     protected List<Resource> findResourceInRegistry(Path registryPath, List<RequestedResource> requestedResources) {
 
         List<Resource> resources = new ArrayList<>();
-        File folder = registryPath.toFile();
         boolean isRegistryTypeRequested =
                 requestedResources.stream().anyMatch(requestedResource -> "registry".equals(requestedResource.type) ||
                         "unitTestRegistry".equals(requestedResource.type));
         if (isRegistryTypeRequested) {
-            traverseFolder(folder, null, null, resources);
+            traverseFolder(registryPath, null, null, resources);
         } else {
             HashMap<String, String> requestedTypeToXmlTagMap = getRequestedTypeToXmlTagMap(requestedResources);
             NonXMLRegistryHandler nonXMLRegistryHandler = getNonXMLRegistryHandler(requestedResources, resources);
-            traverseFolder(folder, requestedTypeToXmlTagMap, nonXMLRegistryHandler, resources);
+            traverseFolder(registryPath, requestedTypeToXmlTagMap, nonXMLRegistryHandler, resources);
         }
         return resources;
     }
@@ -573,51 +522,53 @@ public abstract class AbstractResourceFinder {
         return requestedTypeToXmlTagMap;
     }
 
-    private void traverseFolder(File folder, HashMap<String, String> requestedTypeToXmlTagMap,
+    private void traverseFolder(Path folder, HashMap<String, String> requestedTypeToXmlTagMap,
                                 NonXMLRegistryHandler handler, List<Resource> resources) {
 
-        File[] listOfFiles = folder.listFiles();
-        if (listOfFiles != null) {
-            for (File file : listOfFiles) {
-                if (file.isDirectory()) {
-                    if (!".meta".equals(file.getName())) {
-                        traverseFolder(file, requestedTypeToXmlTagMap, handler, resources);
-                    }
-                } else if (file.isFile()) {
-                    if (Utils.isRegistryPropertiesFile(file)) {
-                        continue;
-                    }
-                    if (file.getAbsolutePath().endsWith(Path.of(Constant.RESOURCES, Constant.ARTIFACT_XML).toString()) ||
-                            file.getAbsolutePath().endsWith(Path.of(Constant.RESOURCES, Constant.REGISTRY, Constant.ARTIFACT_XML).toString())) {
-                        continue;
-                    }
-                    if (handler == null && requestedTypeToXmlTagMap == null) {
-                        Resource resource = createNonXmlResource(file, Constant.REGISTRY, REGISTRY);
-                        if (resource != null) {
-                            resources.add(resource);
-                        }
-                        continue;
-                    }
-                    Pattern pattern = Pattern.compile(".*\\.(.*)$");
-                    Matcher matcher = pattern.matcher(file.getName());
-                    if (matcher.find()) {
-                        String fileExtension = matcher.group(1);
-                        if (Constant.XML.equals(fileExtension)) {
-                            Resource resource = createResource(file, requestedTypeToXmlTagMap, REGISTRY);
-                            if (resource != null) {
-                                resources.add(resource);
-                            } else {
-                                handler.handleFile(file);
-                            }
-                        } else {
-                            handler.handleFile(file);
-                        }
-                    }
-                }
+        // The XML files are parsed by the scan workers, while the non-XML files are passed to the handler in order
+        List<RegistryFile> registryFiles = ParallelFileScanner.scan(folder, AbstractResourceFinder::isNotMetaFolder,
+                file -> !isSkippedRegistryFile(file.toFile()),
+                file -> scanRegistryFile(file.toFile(), requestedTypeToXmlTagMap, handler));
+        for (RegistryFile registryFile : registryFiles) {
+            if (registryFile.resource != null) {
+                resources.add(registryFile.resource);
+            } else {
+                handler.handleFile(registryFile.file);
             }
         }
     }
 
+    private static boolean isNotMetaFolder(Path folder) {
+
+        return !".meta".equals(folder.getFileName().toString());
+    }
+
+    private static boolean isSkippedRegistryFile(File file) {
+
+        String path = file.getAbsolutePath();
+        return Utils.isRegistryPropertiesFile(file) ||
+                path.endsWith(Path.of(Constant.RESOURCES, Constant.ARTIFACT_XML).toString()) ||
+                path.endsWith(Path.of(Constant.RESOURCES, Constant.REGISTRY, Constant.ARTIFACT_XML).toString());
+    }
+
+    private RegistryFile scanRegistryFile(File file, HashMap<String, String> requestedTypeToXmlTagMap,
+                                          NonXMLRegistryHandler handler) {
+
+        if (handler == null && requestedTypeToXmlTagMap == null) {
+            Resource resource = createNonXmlResource(file, Constant.REGISTRY, REGISTRY);
+            return resource != null ? new RegistryFile(file, resource) : null;
+        }
+        Matcher matcher = FILE_EXTENSION_PATTERN.matcher(file.getName());
+        if (matcher.find()) {
+            String fileExtension = matcher.group(1);
+            if (Constant.XML.equals(fileExtension)) {
+                return new RegistryFile(file, createResource(file, requestedTypeToXmlTagMap, REGISTRY));
+            }
+            return new RegistryFile(file, null);
+        }
+        return null;
+    }
+
     private boolean isFileInRegistry(File file) {
 
         return file.getAbsolutePath().contains(Constant.GOV) || file.getAbsolutePath().contains(Constant.CONF);
@@ -626,20 +577,18 @@ public abstract class AbstractResourceFinder {
     private Resource createResource(File file, HashMap<String, String> requestedTypeToXmlTagMap, String from) {
 
         try {
-            DOMDocument document = Utils.getDOMDocument(file);
-            if (document != null && document.getDocumentElement() != null) {
-                DOMElement rootElement = Utils.getRootElement(document);
-                if (rootElement != null) {
-                    String type = rootElement.getNodeName();
-                    if (type != null && requestedTypeToXmlTagMap.containsValue(type)) {
-                        Resource resource = null;
-                        if (ARTIFACTS.equals(from)) {
-                            resource = createArtifactResource(file, rootElement, type, Boolean.FALSE);
-                        } else if (REGISTRY.equals(from)) {
-                            resource = createRegistryResource(file, rootElement, type);
-                        }
-                        return resource;
+            CompactDocument document = CompactDocument.parse(file, HEADER_SCAN_LIMIT);
+            int rootElement = document.getDocumentElement();
+            if (rootElement != CompactDocument.NONE) {
+                String type = document.getNodeName(rootElement);
+                if (type != null && requestedTypeToXmlTagMap.containsValue(type)) {
+                    Resource resource = null;
+                    if (ARTIFACTS.equals(from)) {
+                        resource = createArtifactResource(file, document, rootElement, type, Boolean.FALSE);
+                    } else if (REGISTRY.equals(from)) {
+                        resource = createRegistryResource(file, document, rootElement, type);
                     }
+                    return resource;
                 }
             }
         } catch (IOException e) {
@@ -648,38 +597,32 @@ public abstract class AbstractResourceFinder {
         return null;
     }
 
-    protected List<Resource> createResources(List<File> files, String type, String from) {
+    protected List<Resource> createResources(Path folder, String type, String from) {
 
-        List<Resource> resources = new ArrayList<>();
-        for (File file : files) {
-            Resource resource = createResource(file, type, from);
-            if (resource != null) {
-                resources.add(resource);
-            }
-        }
-        return resources;
+        return ParallelFileScanner.scan(folder, subFolder -> false, file -> true,
+                file -> createResource(file.toFile(), type, from));
     }
 
     private Resource createResource(File file, String type, String from) {
 
         try {
-            DOMDocument document = Utils.getDOMDocument(file);
-            DOMElement rootElement;
+            CompactDocument document = CompactDocument.parse(file, HEADER_SCAN_LIMIT);
+            int rootElement;
             String nodeName;
             if (LOCAL_ENTRY.equals(from)) {
                 nodeName = Constant.LOCAL_ENTRY;
             } else {
                 nodeName = typeToXmlTagMap.get(type);
             }
-            rootElement = (DOMElement) Utils.getChildNodeByName(document, nodeName);
-            if (rootElement != null && checkValid(rootElement, type, from)) {
+            rootElement = document.getChildElement(document.getDocument(), nodeName);
+            if (rootElement != CompactDocument.NONE && checkValid(document, rootElement, type, from)) {
                 Resource resource = null;
                 if (ARTIFACTS.equals(from)) {
-                    resource = createArtifactResource(file, rootElement, type, Boolean.FALSE);
+                    resource = createArtifactResource(file, document, rootElement, type, Boolean.FALSE);
                 } else if (REGISTRY.equals(from)) {
-                    resource = createRegistryResource(file, rootElement, type);
+                    resource = createRegistryResource(file, document, rootElement, type);
                 } else if (LOCAL_ENTRY.equals(from)) {
-                    resource = createArtifactResource(file, rootElement, type, Boolean.TRUE);
+                    resource = createArtifactResource(file, document, rootElement, type, Boolean.TRUE);
                 }
                 return resource;
             }
@@ -706,26 +649,26 @@ public abstract class AbstractResourceFinder {
         return resource;
     }
 
-    private boolean checkValid(DOMElement rootElement, String type, String from) {
+    private boolean checkValid(CompactDocument document, int rootElement, String type, String from) {
 
-        String nodeName = rootElement.getNodeName();
+        String nodeName = document.getNodeName(rootElement);
         if (LOCAL_ENTRY.equals(from)) {
             String xmlTag = typeToXmlTagMap.containsKey(type) ? typeToXmlTagMap.get(type) : type;
-            DOMElement artifactElt = Utils.getFirstElement(rootElement);
-            if (artifactElt != null) {
-                String artifactType = artifactElt.getNodeName();
+            int artifactElt = document.getFirstElement(rootElement);
+            if (artifactElt != CompactDocument.NONE) {
+                String artifactType = document.getNodeName(artifactElt);
                 return xmlTag.equals(artifactType);
             }
             return false;
         } else if (Constant.TEMPLATE.equals(nodeName)) {
             if ("sequenceTemplate".equals(type)) {
-                DOMElement sequenceElement = (DOMElement) Utils.getChildNodeByName(rootElement, Constant.SEQUENCE);
-                if (sequenceElement != null) {
+                int sequenceElement = document.getChildElement(rootElement, Constant.SEQUENCE);
+                if (sequenceElement != CompactDocument.NONE) {
                     return true;
                 }
             } else if ("endpointTemplate".equals(type)) {
-                DOMElement endpointElement = (DOMElement) Utils.getChildNodeByName(rootElement, Constant.ENDPOINT);
-                if (endpointElement != null) {
+                int endpointElement = document.getChildElement(rootElement, Constant.ENDPOINT);
+                if (endpointElement != CompactDocument.NONE) {
                     return true;
                 }
             }
@@ -734,10 +677,11 @@ public abstract class AbstractResourceFinder {
         return true;
     }
 
-    private Resource createArtifactResource(File file, DOMElement rootElement, String type, boolean isLocalEntry) {
+    private Resource createArtifactResource(File file, CompactDocument document, int rootElement, String type,
+                                            boolean isLocalEntry) {
 
         Resource artifact = new ArtifactResource();
-        String name = getArtifactName(rootElement);
+        String name = getArtifactName(document, rootElement);
         if (name != null) {
             artifact.setName(name);
             artifact.setType(type);
@@ -750,10 +694,10 @@ public abstract class AbstractResourceFinder {
         return null;
     }
 
-    private Resource createRegistryResource(File file, DOMElement rootElement, String type) {
+    private Resource createRegistryResource(File file, CompactDocument document, int rootElement, String type) {
 
         Resource registry = new RegistryResource();
-        String name = getArtifactName(rootElement);
+        String name = getArtifactName(document, rootElement);
         if (name == null) {
             name = file.getName();
         }
@@ -772,40 +716,40 @@ public abstract class AbstractResourceFinder {
         return registry;
     }
 
-    private String getArtifactName(DOMElement rootElement) {
+    private String getArtifactName(CompactDocument document, int rootElement) {
 
-        if (isApiArtifact(rootElement)) {
-            return getApiArtifactName(rootElement);
+        if (isApiArtifact(document, rootElement)) {
+            return getApiArtifactName(document, rootElement);
         } else {
-            return getNonApiArtifactName(rootElement);
+            return getNonApiArtifactName(document, rootElement);
         }
     }
 
-    private boolean isApiArtifact(DOMElement rootElement) {
+    private boolean isApiArtifact(CompactDocument document, int rootElement) {
 
-        return Constant.API.equalsIgnoreCase(rootElement.getNodeName());
+        return document.hasNameIgnoreCase(rootElement, Constant.API);
     }
 
-    private String getApiArtifactName(DOMElement rootElement) {
+    private String getApiArtifactName(CompactDocument document, int rootElement) {
 
         StringBuilder name = new StringBuilder();
-        name.append(rootElement.getAttribute(Constant.NAME));
-        if (rootElement.hasAttribute(Constant.VERSION)) {
-            name.append(":v").append(rootElement.getAttribute(Constant.VERSION));
+        name.append(document.getAttribute(rootElement, Constant.NAME));
+        if (document.hasAttribute(rootElement, Constant.VERSION)) {
+            name.append(":v").append(document.getAttribute(rootElement, Constant.VERSION));
         }
         return name.toString();
     }
 
-    private String getNonApiArtifactName(DOMElement rootElement) {
+    private String getNonApiArtifactName(CompactDocument document, int rootElement) {
 
-        if (rootElement.hasAttribute(Constant.NAME)) {
-            return rootElement.getAttribute(Constant.NAME);
-        } else if (rootElement.hasAttribute(Constant.KEY)) {
-            return rootElement.getAttribute(Constant.KEY);
+        if (document.hasAttribute(rootElement, Constant.NAME)) {
+            return document.getAttribute(rootElement, Constant.NAME);
+        } else if (document.hasAttribute(rootElement, Constant.KEY)) {
+            return document.getAttribute(rootElement, Constant.KEY);
         } else {
-            DOMNode nameNode = Utils.getChildNodeByName(rootElement, Constant.NAME);
-            if (nameNode != null) {
-                return Utils.getInlineString(nameNode.getFirstChild());
+            int nameNode = document.getChildElement(rootElement, Constant.NAME);
+            if (nameNode != CompactDocument.NONE) {
+                return document.getInlineString(document.getFirstChild(nameNode));
             }
             return null;
         }
@@ -828,17 +772,17 @@ public abstract class AbstractResourceFinder {
 
             if (fileName.endsWith(Constant.XML_EXTENSION)) {
                 // Handle XML files: parse and detect type
-                DOMDocument document = Utils.getDOMDocument(file);
-                DOMElement rootElement = document.getDocumentElement();
-                if (rootElement == null) {
+                CompactDocument document = CompactDocument.parse(file, HEADER_SCAN_LIMIT);
+                int rootElement = document.getDocumentElement();
+                if (rootElement == CompactDocument.NONE) {
                     return null;
                 }
 
                 // Look for a matching type in typeToXmlTagMap
                 for (Map.Entry<String, String> entry : typeToXmlTagMap.entrySet()) {
-                    if (entry.getValue().equals(rootElement.getNodeName())) {
+                    if (document.hasName(rootElement, entry.getValue())) {
                         if (entry.getValue().equals(Constant.TEMPLATE)) {
-                            detectedType = getTemplateType(rootElement);
+                            detectedType = getTemplateType(document, rootElement);
                         } else {
                             detectedType = entry.getKey();
                         }
@@ -847,10 +791,10 @@ public abstract class AbstractResourceFinder {
 
                 if (detectedType == null) {
                     // fallback: use root element name as type
-                    detectedType = rootElement.getNodeName();
+                    detectedType = document.getNodeName(rootElement);
                 }
 
-                return createRegistryResource(file, rootElement, detectedType);
+                return createRegistryResource(file, document, rootElement, detectedType);
 
             } else {
                 // Handle non-XML files: use file extension as type
@@ -880,13 +824,15 @@ public abstract class AbstractResourceFinder {
      *   <li>Returns "template" in all other cases</li>
      * </ul>
      *
-     * @param rootElement the root DOM element representing the template
+     * @param document    the document of the template
+     * @param rootElement the root element representing the template
      * @return a string indicating the template type ("sequenceTemplate", "endpointTemplate", or "template")
      */
-    private String getTemplateType(DOMElement rootElement) {
-        if (rootElement != null && Constant.TEMPLATE.equals(rootElement.getNodeName())) {
-            if (rootElement.getChildren() != null && !rootElement.getChildren().isEmpty()) {
-                String firstChildNodeName = rootElement.getChildren().get(0).getNodeName();
+    private String getTemplateType(CompactDocument document, int rootElement) {
+        if (document.hasName(rootElement, Constant.TEMPLATE)) {
+            int firstChild = document.getFirstChild(rootElement);
+            if (firstChild != CompactDocument.NONE) {
+                String firstChildNodeName = document.getNodeName(firstChild);
                 if (Constant.SEQUENCE.equals(firstChildNodeName)) {
                     return Constant.SEQUENCE_TEMPLATE;
                 } else if (Constant.ENDPOINT.equals(firstChildNodeName)) {
@@ -896,4 +842,16 @@ public abstract class AbstractResourceFinder {
         }
         return Constant.TEMPLATE;
     }
+
+    private static class RegistryFile {
+
+        private final File file;
+        private final Resource resource;
+
+        RegistryFile(File file, Resource resource) {
+
+            this.file = file;
+            this.resource = resource;
+        }
+    }
 }
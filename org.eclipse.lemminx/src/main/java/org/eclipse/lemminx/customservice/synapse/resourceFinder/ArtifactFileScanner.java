@@ -14,6 +14,9 @@
 
 package org.eclipse.lemminx.customservice.synapse.resourceFinder;
 
+import org.eclipse.lemminx.customservice.synapse.utils.ParallelFileScanner;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
 import java.io.File;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -23,6 +26,9 @@ import java.util.regex.Pattern;
 
 public class ArtifactFileScanner {
 
+    private static final Pattern ARTIFACT_FILE_PATTERN =
+            Pattern.compile(".*" + Pattern.quote(File.separator) + "(.*)\\.(xml|dbs)");
+
     public static List<String> scanArtifactFiles(String projectPath) {
 
         return scanArtifactFiles(projectPath, false);
@@ -30,39 +36,28 @@ public class ArtifactFileScanner {
 
     public static List<String> scanArtifactFiles(String projectPath, boolean needFilePath) {
 
-        List<String> artifactFiles = new ArrayList<>();
-        if (projectPath != null) {
-            String artifactPath = Path.of(projectPath, "src", "main", "wso2mi", "artifacts").toString();
-            traverseFiles(artifactPath, artifactFiles, needFilePath);
-        }
-        return artifactFiles;
+        return scanArtifactFiles(projectPath, needFilePath, ParallelFileScanner.NOT_CANCELLED);
     }
 
-    private static void traverseFiles(String projectPath, List<String> artifactFiles, boolean needFilePath) {
+    public static List<String> scanArtifactFiles(String projectPath, boolean needFilePath,
+                                                 CancelChecker cancelChecker) {
 
-        File folder = new File(projectPath);
-        File[] listOfFiles = folder.listFiles();
-        if (listOfFiles != null) {
-            for (File file : listOfFiles) {
-                if (file.isFile() && !file.isHidden()) {
-                    if (needFilePath) {
-                        artifactFiles.add(file.getAbsolutePath());
-                    } else {
-                        String artifactFilePath = extractArtifactFile(file);
-                        artifactFiles.add(artifactFilePath);
-                    }
-                } else if (file.isDirectory()) {
-                    traverseFiles(file.getAbsolutePath(), artifactFiles, needFilePath);
-                }
+        List<String> artifactFiles = new ArrayList<>();
+        if (projectPath != null) {
+            Path artifactPath = Path.of(projectPath, "src", "main", "wso2mi", "artifacts");
+            List<File> files = ParallelFileScanner.scan(artifactPath, folder -> true,
+                    file -> !ParallelFileScanner.isHidden(file), Path::toFile, cancelChecker);
+            for (File file : files) {
+                artifactFiles.add(needFilePath ? file.getAbsolutePath() : extractArtifactFile(file));
             }
         }
+        return artifactFiles;
     }
 
     private static String extractArtifactFile(File file) {
 
         String artifactFilePath = file.getAbsolutePath();
-        Pattern pattern = Pattern.compile(".*" + Pattern.quote(File.separator) + "(.*)\\.(xml|dbs)");
-        Matcher matcher = pattern.matcher(artifactFilePath);
+        Matcher matcher = ARTIFACT_FILE_PATTERN.matcher(artifactFilePath);
         if (matcher.find()) {
             artifactFilePath = matcher.group(1);
         } else {
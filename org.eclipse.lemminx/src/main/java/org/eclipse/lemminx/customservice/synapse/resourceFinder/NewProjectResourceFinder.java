@@ -20,7 +20,6 @@ import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.Resource;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.ResourceResponse;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
 
-import java.io.File;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
@@ -112,14 +111,10 @@ public class NewProjectResourceFinder extends AbstractResourceFinder {
             String folderName = getArtifactFolder(type);
             if (folderName != null) {
                 Path folderPath = artifactsPath.resolve(folderName);
-                File folder = folderPath.toFile();
-                File[] listOfFiles = folder.listFiles();
-                if (listOfFiles != null) {
-                    List<Resource> resources = createResources(List.of(listOfFiles), type, ARTIFACTS);
-                    if (!resources.isEmpty()) {
-                        ResourceResponse response = allResources.computeIfAbsent(type, k -> new ResourceResponse());
-                        response.setResources(resources);
-                    }
+                List<Resource> resources = createResources(folderPath, type, ARTIFACTS);
+                if (!resources.isEmpty()) {
+                    ResourceResponse response = allResources.computeIfAbsent(type, k -> new ResourceResponse());
+                    response.setResources(resources);
                 }
             }
         }
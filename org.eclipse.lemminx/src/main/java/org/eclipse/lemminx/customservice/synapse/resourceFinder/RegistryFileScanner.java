@@ -14,6 +14,9 @@
 
 package org.eclipse.lemminx.customservice.synapse.resourceFinder;
 
+import org.eclipse.lemminx.customservice.synapse.utils.ParallelFileScanner;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
 import java.io.File;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -23,41 +26,37 @@ import java.util.regex.Pattern;
 
 public class RegistryFileScanner {
 
+    private static final Pattern REGISTRY_FILE_PATTERN = Pattern.compile(
+            Path.of("src", "main", "wso2mi", "resources", "registry").toString()
+                    .replace(File.separator, Pattern.quote(File.separator)) + Pattern.quote(File.separator) + "(.*)");
+
     public static List<String> scanRegistryFiles(String path) {
 
-        String registryPath = getRegistryPath(path);
-        File folder = new File(registryPath);
-        File[] listOfFiles = folder.listFiles();
-        List<String> registryFiles = new ArrayList<>();
-        if (listOfFiles != null) {
-            traverseFiles(listOfFiles, registryFiles);
-        }
-        return registryFiles;
+        return scanRegistryFiles(path, ParallelFileScanner.NOT_CANCELLED);
     }
 
-    private static void traverseFiles(File[] listOfFiles, List<String> registryFiles) {
+    public static List<String> scanRegistryFiles(String path, CancelChecker cancelChecker) {
 
-        for (File file : listOfFiles) {
-            if (file.isFile() && !file.isHidden()) {
-                String regFilePath = extractRegistryFilePath(file);
-                if (regFilePath.contains("gov") || regFilePath.contains("conf")) {
-                    registryFiles.add(regFilePath);
-                }
-            } else if (file.isDirectory()) {
-                if (!".meta".equals(file.getName())) {
-                    traverseFiles(file.listFiles(), registryFiles);
-                }
-            }
+        if (path == null) {
+            return new ArrayList<>();
         }
+        Path registryPath = Path.of(getRegistryPath(path));
+        return ParallelFileScanner.scan(registryPath, RegistryFileScanner::isNotMetaFolder,
+                file -> !ParallelFileScanner.isHidden(file), file -> {
+                    String regFilePath = extractRegistryFilePath(file.toFile());
+                    return regFilePath.contains("gov") || regFilePath.contains("conf") ? regFilePath : null;
+                }, cancelChecker);
+    }
+
+    private static boolean isNotMetaFolder(Path folder) {
+
+        return !".meta".equals(folder.getFileName().toString());
     }
 
     private static String extractRegistryFilePath(File file) {
 
         String path = file.getAbsolutePath();
-        String regFolderPath = Path.of("src", "main", "wso2mi", "resources", "registry").toString();
-        regFolderPath = regFolderPath.replace(File.separator, Pattern.quote(File.separator));
-        Pattern pattern = Pattern.compile(regFolderPath + Pattern.quote(File.separator) + "(.*)");
-        Matcher matcher = pattern.matcher(path);
+        Matcher matcher = REGISTRY_FILE_PATTERN.matcher(path);
         if (matcher.find()) {
             return matcher.group(1).replaceAll("\\\\", "/");
         }
@@ -15,6 +15,8 @@
 package org.eclipse.lemminx.customservice.synapse.resourceFinder;
 
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+import org.eclipse.lemminx.customservice.synapse.utils.ParallelFileScanner;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 
 import java.io.File;
 import java.nio.file.Path;
@@ -25,32 +27,32 @@ import java.util.regex.Pattern;
 
 public class ResourceFileScanner {
 
+    private static final Pattern RESOURCE_FILE_PATTERN = Pattern.compile(
+            Path.of("src", "main", "wso2mi", "resources").toString()
+                    .replace(File.separator, Pattern.quote(File.separator)) + Pattern.quote(File.separator) + "(.*)");
+
     public static List<String> scanResourceFiles(String path) {
 
-        String resourcePath = getResourcePath(path);
-        File folder = new File(resourcePath);
-        File[] listOfFiles = folder.listFiles();
-        List<String> resourceFiles = new ArrayList<>();
-        if (listOfFiles != null) {
-            traverseFiles(listOfFiles, resourceFiles);
-        }
-        return resourceFiles;
+        return scanResourceFiles(path, ParallelFileScanner.NOT_CANCELLED);
     }
 
-    private static void traverseFiles(File[] listOfFiles, List<String> resourceFiles) {
-
-        for (File file : listOfFiles) {
-            if (file.isFile() && !file.isHidden()) {
-                String resourceFilePath = extractResourceFilePath(file);
-                if (!isDedicatedArtifactXMLFile(resourceFilePath)) {
-                    resourceFiles.add(Constant.RESOURCES + ":" + resourceFilePath);
-                }
-            } else if (file.isDirectory()) {
-                if (!".meta".equals(file.getName())) {
-                    traverseFiles(file.listFiles(), resourceFiles);
-                }
-            }
+    public static List<String> scanResourceFiles(String path, CancelChecker cancelChecker) {
+
+        if (path == null) {
+            return new ArrayList<>();
         }
+        Path resourcePath = Path.of(getResourcePath(path));
+        return ParallelFileScanner.scan(resourcePath, ResourceFileScanner::isNotMetaFolder,
+                file -> !ParallelFileScanner.isHidden(file), file -> {
+                    String resourceFilePath = extractResourceFilePath(file.toFile());
+                    return isDedicatedArtifactXMLFile(resourceFilePath) ? null :
+                            Constant.RESOURCES + ":" + resourceFilePath;
+                }, cancelChecker);
+    }
+
+    private static boolean isNotMetaFolder(Path folder) {
+
+        return !".meta".equals(folder.getFileName().toString());
     }
 
     private static boolean isDedicatedArtifactXMLFile(String resourceFilePath) {
@@ -62,10 +64,7 @@ public class ResourceFileScanner {
     private static String extractResourceFilePath(File file) {
 
         String path = file.getAbsolutePath();
-        String resourceFolderPath = Path.of("src", "main", "wso2mi", "resources").toString();
-        resourceFolderPath = resourceFolderPath.replace(File.separator, Pattern.quote(File.separator));
-        Pattern pattern = Pattern.compile(resourceFolderPath + Pattern.quote(File.separator) + "(.*)");
-        Matcher matcher = pattern.matcher(path);
+        Matcher matcher = RESOURCE_FILE_PATTERN.matcher(path);
         if (matcher.find()) {
             return matcher.group(1).replaceAll("\\\\", "/");
         }
@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.customservice.synapse.schemagen.util;
+
+import org.eclipse.lemminx.customservice.synapse.performance.PerformanceMonitor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Cache of the JSON schemas generated from sample files and XSDs.
+ * <p>
+ * A schema is keyed by a SHA-256 digest of the input content, the {@link FileType}, the delimiter and whether the
+ * content was read from a file, since the generators read a file differently from a given content. The same sample
+ * is converted once whichever file or request it comes from. The most recently used schemas are kept in
+ * memory within a character budget, and every generated schema is also stored in the cache folder, so that the
+ * schemas survive a restart of the language server. The cache folder is kept within a size budget by deleting the
+ * least recently used schemas, on the first store after the start and whenever a store exceeds the budget.
+ */
+public class SchemaGenerationCache {
+
+    private static final Logger LOGGER = Logger.getLogger(SchemaGenerationCache.class.getName());
+    private static final String CACHE_NAME = "schemaGeneration";
+    // Changes the keys of the cached schemas when the generated schemas change
+    private static final String CACHE_VERSION = "1";
+    private static final String SCHEMA_FILE_EXTENSION = ".json";
+    private static final long DEFAULT_MAX_MEMORY_CHARACTERS = 16 * 1024 * 1024;
+    private static final long DEFAULT_MAX_DISK_BYTES = 64 * 1024 * 1024;
+    private static final SchemaGenerationCache INSTANCE = new SchemaGenerationCache(
+            Path.of(System.getProperty("user.home"), ".wso2-mi", "schema_cache"), DEFAULT_MAX_MEMORY_CHARACTERS);
+
+    private final Path cacheFolder;
+    private final long maxMemoryCharacters;
+    private final long maxDiskBytes;
+    // Access order, the eldest entry is the least recently used schema
+    private final Map<String, String> schemas = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryCharacters;
+    private final Object diskLock = new Object();
+    // Size of the stored schemas, unknown until the cache folder is pruned for the first time
+    private long diskBytes = -1;
+
+    /**
+     * Creates a cache with the default size budget of the cache folder.
+     *
+     * @param cacheFolder         the folder of the stored schemas, or null to keep the schemas in memory only
+     * @param maxMemoryCharacters the maximum number of characters of the schemas kept in memory
+     */
+    public SchemaGenerationCache(Path cacheFolder, long maxMemoryCharacters) {
+
+        this(cacheFolder, maxMemoryCharacters, DEFAULT_MAX_DISK_BYTES);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param cacheFolder         the folder of the stored schemas, or null to keep the schemas in memory only
+     * @param maxMemoryCharacters the maximum number of characters of the schemas kept in memory
+     * @param maxDiskBytes        the maximum size in bytes of the schemas stored in the cache folder
+     */
+    public SchemaGenerationCache(Path cacheFolder, long maxMemoryCharacters, long maxDiskBytes) {
+
+        this.cacheFolder = cacheFolder;
+        this.maxMemoryCharacters = maxMemoryCharacters;
+        this.maxDiskBytes = maxDiskBytes;
+    }
+
+    public static SchemaGenerationCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the schema generated from the given content, generating it with the given generator if it is not
+     * cached.
+     *
+     * @param content   the content of the sample file or XSD
+     * @param type      the type of the content
+     * @param delimiter the delimiter of a CSV content
+     * @param fromFile  whether the content was read from a file by the generator
+     * @param generator the generator of the schema
+     * @return the generated schema, or null if the generator did not return a schema
+     * @throws IOException if the schema could not be generated
+     */
+    public String getSchema(String content, FileType type, String delimiter, boolean fromFile,
+                            SchemaSupplier generator) throws IOException {
+
+        String key = digest(CACHE_VERSION, type.name(), delimiter, String.valueOf(fromFile), content);
+        String schema = getCachedSchema(key);
+        PerformanceMonitor.getInstance().recordCacheAccess(CACHE_NAME, schema != null);
+        if (schema != null) {
+            return schema;
+        }
+        schema = generator.get();
+        if (schema != null) {
+            putInMemory(key, schema);
+            store(key, schema);
+        }
+        return schema;
+    }
+
+    /**
+     * Removes the schemas kept in memory. The stored schemas are kept.
+     */
+    public synchronized void clearMemory() {
+
+        schemas.clear();
+        memoryCharacters = 0;
+    }
+
+    public synchronized int getMemorySize() {
+
+        return schemas.size();
+    }
+
+    /**
+     * Returns the SHA-256 digest of the given content, in hexadecimal.
+     *
+     * @param content the content
+     * @return the digest of the content
+     */
+    static String digest(String... content) {
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : content) {
+                digest.update((part != null ? part : "").getBytes(StandardCharsets.UTF_8));
+                // Separates the parts so that ("ab", "c") and ("a", "bc") have different digests
+                digest.update((byte) 0);
+            }
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private String getCachedSchema(String key) {
+
+        synchronized (this) {
+            String schema = schemas.get(key);
+            if (schema != null) {
+                return schema;
+            }
+        }
+        String schema = load(key);
+        if (schema != null) {
+            putInMemory(key, schema);
+        }
+        return schema;
+    }
+
+    private synchronized void putInMemory(String key, String schema) {
+
+        String old = schemas.put(key, schema);
+        if (old != null) {
+            memoryCharacters -= old.length();
+        }
+        memoryCharacters += schema.length();
+        Iterator<String> eldest = schemas.values().iterator();
+        while (memoryCharacters > maxMemoryCharacters && schemas.size() > 1 && eldest.hasNext()) {
+            memoryCharacters -= eldest.next().length();
+            eldest.remove();
+        }
+    }
+
+    private String load(String key) {
+
+        if (cacheFolder == null) {
+            return null;
+        }
+        Path schemaFile = cacheFolder.resolve(key + SCHEMA_FILE_EXTENSION);
+        if (!Files.isRegularFile(schemaFile)) {
+            return null;
+        }
+        try {
+            String schema = Files.readString(schemaFile);
+            // The modification time tells the last use of the schema when the cache folder is pruned
+            Files.setLastModifiedTime(schemaFile, FileTime.fromMillis(System.currentTimeMillis()));
+            return schema;
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not read the cached schema " + schemaFile, e);
+            return null;
+        }
+    }
+
+    private void store(String key, String schema) {
+
+        if (cacheFolder == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(cacheFolder);
+            // Written to a temporary file first, so that a partly written schema is never read
+            Path tempFile = Files.createTempFile(cacheFolder, key, ".tmp");
+            try {
+                Files.writeString(tempFile, schema);
+                long size = Files.size(tempFile);
+                Files.move(tempFile, cacheFolder.resolve(key + SCHEMA_FILE_EXTENSION),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                synchronized (diskLock) {
+                    if (diskBytes >= 0) {
+                        diskBytes += size;
+                    }
+                    if (diskBytes < 0 || diskBytes > maxDiskBytes) {
+                        prune();
+                    }
+                }
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not store the generated schema in " + cacheFolder, e);
+        }
+    }
+
+    /**
+     * Deletes the least recently used schemas of the cache folder until the stored schemas fit in the budget.
+     *
+     * @throws IOException if the cache folder could not be listed
+     */
+    private void prune() throws IOException {
+
+        List<SchemaFile> files;
+        try (Stream<Path> paths = Files.list(cacheFolder)) {
+            files = paths.filter(path -> path.getFileName().toString().endsWith(SCHEMA_FILE_EXTENSION))
+                    .map(SchemaFile::read)
+                    .filter(file -> file != null)
+                    .sorted(Comparator.comparingLong(file -> file.lastModified))
+                    .collect(Collectors.toList());
+        }
+        diskBytes = files.stream().mapToLong(file -> file.size).sum();
+        for (SchemaFile file : files) {
+            if (diskBytes <= maxDiskBytes) {
+                break;
+            }
+            try {
+                Files.deleteIfExists(file.path);
+                diskBytes -= file.size;
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Could not delete the cached schema " + file.path, e);
+            }
+        }
+    }
+
+    /**
+     * A schema stored in the cache folder.
+     */
+    private static class SchemaFile {
+
+        private final Path path;
+        private final long size;
+        private final long lastModified;
+
+        private SchemaFile(Path path, long size, long lastModified) {
+
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        /**
+         * Reads the size and modification time of the given schema file.
+         *
+         * @param path the schema file
+         * @return the schema file, or null if it was deleted meanwhile
+         */
+        private static SchemaFile read(Path path) {
+
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                return new SchemaFile(path, attributes.size(), attributes.lastModifiedTime().toMillis());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Generates a schema on a cache miss.
+     */
+    @FunctionalInterface
+    public interface SchemaSupplier {
+
+        String get() throws IOException;
+    }
+}
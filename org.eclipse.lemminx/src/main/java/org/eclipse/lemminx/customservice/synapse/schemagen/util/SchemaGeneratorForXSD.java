@@ -27,18 +27,35 @@ import org.apache.xerces.xs.XSConstants;
 import org.apache.xerces.xs.XSElementDeclaration;
 import org.apache.xerces.xs.XSModel;
 import org.apache.xerces.xs.XSNamedMap;
+import org.eclipse.lemminx.customservice.synapse.performance.PerformanceMonitor;
+import org.eclipse.lemminx.customservice.synapse.schemagen.xsd.ProcessedComplexTypes;
 import org.eclipse.lemminx.customservice.synapse.schemagen.xsd.TypeProcessor;
 import org.eclipse.lemminx.customservice.synapse.schemagen.xsd.TypeProcessorFactory;
 import org.eclipse.lemminx.customservice.synapse.schemagen.xsd.Utils;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class SchemaGeneratorForXSD extends SchemaGeneratorForXML implements ISchemaGenerator {
 
     private static final String SCHEMA_ID = "$schema";
     private static final String SCHEMA_URL = "http://wso2.org/json-schema/wso2-data-mapper-v5.0.0/schema#";
     private static final String ROOT_ID = "http://wso2jsonschema.org";
+    private static final String XS_MODEL_CACHE = "xsModel";
+    private static final int MAX_CACHED_XS_MODELS = 8;
+
+    // The compiled XSDs by the digest of their content, the eldest entry is the least recently used model
+    private static final Map<String, XSModel> XS_MODELS =
+            new LinkedHashMap<String, XSModel>(16, 0.75f, true) {
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, XSModel> eldest) {
+
+                    return size() > MAX_CACHED_XS_MODELS;
+                }
+            };
 
     @Override
     public String getSchemaResourcePath(String filePath, FileType type, String delimiter) throws IOException {
@@ -55,9 +72,12 @@ public class SchemaGeneratorForXSD extends SchemaGeneratorForXML implements ISch
 
     public String generateJsonSchemaFromXsd(String xsdContent) throws JsonProcessingException {
 
-        XMLSchemaLoader schemaLoader = new XMLSchemaLoader();
-        XSModel xsModel = schemaLoader.load(new DOMInputImpl(null, null, null, xsdContent, null));
-        JsonNode jsonSchemaElements = convertXsModelToJsonSchemaElements(xsModel);
+        XSModel xsModel = getXSModel(xsdContent);
+        JsonNode jsonSchemaElements;
+        // The components of a model are built lazily, so a model is not walked by two conversions at once
+        synchronized (xsModel) {
+            jsonSchemaElements = convertXsModelToJsonSchemaElements(xsModel);
+        }
 
         ObjectMapper mapper = new ObjectMapper();
         return mapper.writeValueAsString(jsonSchemaElements);
@@ -68,23 +88,50 @@ public class SchemaGeneratorForXSD extends SchemaGeneratorForXML implements ISch
         ObjectNode rootNode = JsonNodeFactory.instance.objectNode();
         rootNode.put(SCHEMA_ID, SCHEMA_URL);
 
+        // The complex types used by many elements are processed once
+        ProcessedComplexTypes processedTypes = new ProcessedComplexTypes();
         XSNamedMap elements = xsModel.getComponents(XSConstants.ELEMENT_DECLARATION);
         if (elements.getLength() == 1) {
             XSElementDeclaration rootElement = (XSElementDeclaration) elements.item(0);
-            processRootElement(rootElement, rootNode);
+            processRootElement(rootElement, rootNode, processedTypes);
         } else if (elements.getLength() > 1) {
-            processMultipleRootElements(elements, rootNode);
+            processMultipleRootElements(elements, rootNode, processedTypes);
         }
         return rootNode;
     }
 
-    private void processRootElement(XSElementDeclaration rootElement, ObjectNode rootNode) {
+    /**
+     * Returns the compiled model of the given XSD, which is reused while the XSD content is unchanged.
+     */
+    private static XSModel getXSModel(String xsdContent) {
+
+        String digest = SchemaGenerationCache.digest(xsdContent);
+        XSModel xsModel;
+        synchronized (XS_MODELS) {
+            xsModel = XS_MODELS.get(digest);
+        }
+        PerformanceMonitor.getInstance().recordCacheAccess(XS_MODEL_CACHE, xsModel != null);
+        if (xsModel == null) {
+            XMLSchemaLoader schemaLoader = new XMLSchemaLoader();
+            xsModel = schemaLoader.load(new DOMInputImpl(null, null, null, xsdContent, null));
+            if (xsModel != null) {
+                synchronized (XS_MODELS) {
+                    XS_MODELS.put(digest, xsModel);
+                }
+            }
+        }
+        return xsModel;
+    }
+
+    private void processRootElement(XSElementDeclaration rootElement, ObjectNode rootNode,
+                                    ProcessedComplexTypes processedTypes) {
 
-        TypeProcessor processor = TypeProcessorFactory.getTypeProcessor(rootElement);
+        TypeProcessor processor = TypeProcessorFactory.getTypeProcessor(rootElement, processedTypes);
         processor.processRootType(rootElement, rootNode, ROOT_ID, true);
     }
 
-    private void processMultipleRootElements(XSNamedMap elements, ObjectNode rootNode) {
+    private void processMultipleRootElements(XSNamedMap elements, ObjectNode rootNode,
+                                             ProcessedComplexTypes processedTypes) {
 
         ArrayNode oneOfArray = JsonNodeFactory.instance.arrayNode();
         for (Object elementObj : elements.values()) {
@@ -92,7 +139,7 @@ public class SchemaGeneratorForXSD extends SchemaGeneratorForXML implements ISch
                 XSElementDeclaration element = (XSElementDeclaration) elementObj;
                 ObjectNode elementNode = JsonNodeFactory.instance.objectNode();
 
-                TypeProcessor processor = TypeProcessorFactory.getTypeProcessor(element);
+                TypeProcessor processor = TypeProcessorFactory.getTypeProcessor(element, processedTypes);
                 processor.processType(element, null, elementNode,
                         ROOT_ID + Utils.ID_VALUE_SEPERATOR + element.getName(), false);
                 elementNode.put(Utils.TITLE, element.getName());
@@ -14,7 +14,11 @@
 
 package org.eclipse.lemminx.customservice.synapse.schemagen.util;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.FileUtils;
 
 /**
  * TODO
@@ -26,6 +30,8 @@ public class SchemaGeneratorHelper {
 	 * This method returns the generated schema as a string. It will load the
 	 * schema generator class depending on the file type of the file and pass
 	 * the file to the schema generator class which would generate the schema.
+	 * The schemas are cached by the content of the file, see
+	 * {@link SchemaGenerationCache}.
 	 * 
 	 * @param option
 	 * @param filePath
@@ -37,7 +43,12 @@ public class SchemaGeneratorHelper {
 		ISchemaGenerator schemaGenerator = schemaGenFactory.getSchemaGenerator(option);
 
 		try {
-			return schemaGenerator.getSchemaResourcePath(filePath, option, delimiter);
+			if (option == FileType.JSONSCHEMA) {
+				return schemaGenerator.getSchemaResourcePath(filePath, option, delimiter);
+			}
+			String fileContent = FileUtils.readFileToString(new File(filePath), StandardCharsets.UTF_8);
+			return SchemaGenerationCache.getInstance().getSchema(fileContent, option, delimiter, true,
+					() -> schemaGenerator.getSchemaResourcePath(filePath, option, delimiter));
 		} catch (IOException e) {
 			// log.error("Error while generating schema", e);
 		}
@@ -51,7 +62,11 @@ public class SchemaGeneratorHelper {
 		ISchemaGenerator schemaGenerator = schemaGenFactory.getSchemaGenerator(option);
 
 		try {
-			return schemaGenerator.getSchemaContent(fileContent, option, delimiter);
+			if (option == FileType.JSONSCHEMA) {
+				return schemaGenerator.getSchemaContent(fileContent, option, delimiter);
+			}
+			return SchemaGenerationCache.getInstance().getSchema(fileContent, option, delimiter, false,
+					() -> schemaGenerator.getSchemaContent(fileContent, option, delimiter));
 		} catch (IOException e) {
 			// ignore
 		}
@@ -17,6 +17,7 @@ package org.eclipse.lemminx.customservice.synapse.schemagen.xsd;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.xerces.xs.StringList;
 import org.apache.xerces.xs.XSAttributeDeclaration;
 import org.apache.xerces.xs.XSAttributeUse;
@@ -32,10 +33,23 @@ import static org.eclipse.lemminx.customservice.synapse.schemagen.xsd.Utils.isEl
 
 /**
  * The ComplexTypeProcessor class is responsible for processing complex types in an XML Schema
- * and converting them to JSON Schema.
+ * and converting them to JSON Schema. Each complex type is processed once per conversion, see
+ * {@link ProcessedComplexTypes}.
  */
 public class ComplexTypeProcessor implements TypeProcessor {
 
+    private final ProcessedComplexTypes processedTypes;
+
+    public ComplexTypeProcessor() {
+
+        this(new ProcessedComplexTypes());
+    }
+
+    public ComplexTypeProcessor(ProcessedComplexTypes processedTypes) {
+
+        this.processedTypes = processedTypes;
+    }
+
     /**
      * Processes a complex type element and adds it to the JSON Schema node.
      *
@@ -49,7 +63,7 @@ public class ComplexTypeProcessor implements TypeProcessor {
     public void processType(XSElementDeclaration element, XSParticle elementStructure, ObjectNode node, String id,
                             boolean addTitle) {
 
-        ComplexTypeProcessor.processComplexType(element, elementStructure, node, id, addTitle);
+        processComplexType(element, elementStructure, node, id, addTitle);
     }
 
     /**
@@ -63,7 +77,7 @@ public class ComplexTypeProcessor implements TypeProcessor {
     @Override
     public void processRootType(XSElementDeclaration element, ObjectNode node, String id, boolean addTitle) {
 
-        ComplexTypeProcessor.processComplexType(element, null, node, id, addTitle);
+        processComplexType(element, null, node, id, addTitle);
     }
 
     /**
@@ -75,16 +89,27 @@ public class ComplexTypeProcessor implements TypeProcessor {
      * @param id               The ID of the node.
      * @param addTitle         Flag indicating whether to add a title to the JSON Schema node.
      */
-    private static void processComplexType(XSElementDeclaration element, XSParticle elementStructure, ObjectNode node,
-                                          String id, boolean addTitle) {
+    private void processComplexType(XSElementDeclaration element, XSParticle elementStructure, ObjectNode node,
+                                    String id, boolean addTitle) {
 
         String name = element.getName();
         XSComplexTypeDefinition complexType = (XSComplexTypeDefinition) element.getTypeDefinition();
-        XSParticle childElementStructure = complexType.getParticle();
-        if (isElementArray(elementStructure)) {
-            processArrayType(node, id, childElementStructure, complexType);
-        } else {
-            processObjectType(node, id, childElementStructure, complexType, addTitle, name);
+        boolean isArray = isElementArray(elementStructure);
+        ObjectNode typeNode = processedTypes.get(complexType, isArray, id);
+        if (typeNode == null) {
+            typeNode = JsonNodeFactory.instance.objectNode();
+            XSParticle childElementStructure = complexType.getParticle();
+            if (isArray) {
+                processArrayType(typeNode, id, childElementStructure, complexType);
+            } else {
+                // The title depends on the element, so it is not part of the processed type
+                processObjectType(typeNode, id, childElementStructure, complexType, false, name);
+            }
+            processedTypes.put(complexType, isArray, id, typeNode);
+        }
+        node.setAll(typeNode);
+        if (!isArray && addTitle && StringUtils.isNotEmpty(name)) {
+            node.put(Utils.TITLE, name);
         }
     }
 
@@ -119,8 +144,8 @@ public class ComplexTypeProcessor implements TypeProcessor {
      * @param elementStructure The particle associated with the array type.
      * @param complexType      The complex type definition.
      */
-    private static void processArrayType(ObjectNode node, String id, XSParticle elementStructure,
-                                         XSComplexTypeDefinition complexType) {
+    private void processArrayType(ObjectNode node, String id, XSParticle elementStructure,
+                                  XSComplexTypeDefinition complexType) {
 
         JsonSchemaArrayNode jsonSchemaArray = new JsonSchemaArrayNode(id, node);
         if (hasChoiceGroup(elementStructure)) {
@@ -145,8 +170,8 @@ public class ComplexTypeProcessor implements TypeProcessor {
      * @param addTitle         Flag indicating whether to add a title to the JSON Schema node.
      * @param name             The name of the object type.
      */
-    private static void processObjectType(ObjectNode node, String id, XSParticle elementStructure,
-                                          XSComplexTypeDefinition complexType, boolean addTitle, String name) {
+    private void processObjectType(ObjectNode node, String id, XSParticle elementStructure,
+                                   XSComplexTypeDefinition complexType, boolean addTitle, String name) {
 
         if (hasChoiceGroup(elementStructure)) {
             JsonSchemaOneOfNode schemaNode = new JsonSchemaOneOfNode(node, name);
@@ -166,8 +191,8 @@ public class ComplexTypeProcessor implements TypeProcessor {
      * @param complexType      The complex type definition.
      * @param jsonSchemaObject The JSON Schema object node.
      */
-    private static void processInnerContent(XSParticle elementStructure, XSComplexTypeDefinition complexType,
-                                            JsonSchemaObjectNode jsonSchemaObject) {
+    private void processInnerContent(XSParticle elementStructure, XSComplexTypeDefinition complexType,
+                                     JsonSchemaObjectNode jsonSchemaObject) {
 
         handleAttributes(complexType, jsonSchemaObject);
         if (hasSimpleContent(complexType)) {
@@ -184,7 +209,7 @@ public class ComplexTypeProcessor implements TypeProcessor {
      * @param schemaNode       The JSON Schema one of node.
      * @param id               The ID of the node.
      */
-    private static void processChoiceGroup(XSParticle elementStructure, JsonSchemaOneOfNode schemaNode, String id) {
+    private void processChoiceGroup(XSParticle elementStructure, JsonSchemaOneOfNode schemaNode, String id) {
 
         XSModelGroup choiceGroup = (XSModelGroup) elementStructure.getTerm();
         XSObjectList choices = choiceGroup.getParticles();
@@ -259,7 +284,7 @@ public class ComplexTypeProcessor implements TypeProcessor {
      * @param elementStructure the XML Schema particle to process
      * @param jsonSchemaObject the JSON Schema object node to update
      */
-    private static void processParticle(XSParticle elementStructure, JsonSchemaObjectNode jsonSchemaObject) {
+    private void processParticle(XSParticle elementStructure, JsonSchemaObjectNode jsonSchemaObject) {
 
         if (elementStructure != null) {
             XSTerm term = elementStructure.getTerm();
@@ -277,7 +302,7 @@ public class ComplexTypeProcessor implements TypeProcessor {
                 ObjectNode emptyObjectNode = JsonNodeFactory.instance.objectNode();
                 jsonSchemaObject.addProperty(element.getName(), emptyObjectNode);
 
-                TypeProcessor processor = TypeProcessorFactory.getTypeProcessor(element);
+                TypeProcessor processor = TypeProcessorFactory.getTypeProcessor(element, processedTypes);
                 processor.processType(element, elementStructure, emptyObjectNode,
                         jsonSchemaObject.getId() + Utils.ID_VALUE_SEPERATOR + element.getName(), false);
 
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.schemagen.xsd;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.xerces.xs.XSComplexTypeDefinition;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The ProcessedComplexTypes class keeps the JSON Schema nodes of the complex types processed during the conversion of
+ * an XML Schema, so that a complex type used by many elements is processed once.
+ * <p>
+ * The node of a complex type only differs between its uses by the identifiers, which are derived from the identifier
+ * of the element using the type. A processed node is reused through a copy whose identifiers are prefixed with the
+ * identifier of the new element.
+ */
+public class ProcessedComplexTypes {
+
+    private final Map<XSComplexTypeDefinition, ProcessedType> objectTypes = new IdentityHashMap<>();
+    private final Map<XSComplexTypeDefinition, ProcessedType> arrayTypes = new IdentityHashMap<>();
+
+    /**
+     * Returns a copy of the JSON Schema node processed for the given complex type, with the given identifier.
+     *
+     * @param complexType the complex type
+     * @param array       flag indicating if the node is the node of an array of the type
+     * @param id          the identifier of the node
+     * @return the copy of the processed node, or null if the type was not processed
+     */
+    public ObjectNode get(XSComplexTypeDefinition complexType, boolean array, String id) {
+
+        ProcessedType processedType = (array ? arrayTypes : objectTypes).get(complexType);
+        if (processedType == null) {
+            return null;
+        }
+        ObjectNode node = processedType.node.deepCopy();
+        if (!processedType.id.equals(id)) {
+            replaceIdPrefix(node, processedType.id, id);
+        }
+        return node;
+    }
+
+    /**
+     * Keeps the JSON Schema node processed for the given complex type. The node must not be modified afterwards.
+     *
+     * @param complexType the complex type
+     * @param array       flag indicating if the node is the node of an array of the type
+     * @param id          the identifier of the node
+     * @param node        the processed node
+     */
+    public void put(XSComplexTypeDefinition complexType, boolean array, String id, ObjectNode node) {
+
+        (array ? arrayTypes : objectTypes).put(complexType, new ProcessedType(id, node));
+    }
+
+    /**
+     * Replaces the given prefix of the identifiers of the given node and of its nested nodes. The nested nodes are
+     * walked through the schema keywords only, since a property may be named like a keyword.
+     */
+    private static void replaceIdPrefix(ObjectNode node, String oldPrefix, String newPrefix) {
+
+        JsonNode id = node.get(Utils.ID);
+        if (id != null && id.isTextual() && id.asText().startsWith(oldPrefix)) {
+            node.put(Utils.ID, newPrefix + id.asText().substring(oldPrefix.length()));
+        }
+        JsonNode properties = node.get(Utils.PROPERTIES);
+        if (properties != null) {
+            properties.forEach(property -> replaceNestedIdPrefix(property, oldPrefix, newPrefix));
+        }
+        JsonNode items = node.get(Utils.ITEMS);
+        if (items != null) {
+            items.forEach(item -> replaceNestedIdPrefix(item, oldPrefix, newPrefix));
+        }
+        JsonNode oneOf = node.get(Utils.ONE_OF);
+        if (oneOf != null) {
+            oneOf.forEach(choice -> replaceNestedIdPrefix(choice, oldPrefix, newPrefix));
+        }
+    }
+
+    private static void replaceNestedIdPrefix(JsonNode node, String oldPrefix, String newPrefix) {
+
+        if (node instanceof ObjectNode) {
+            replaceIdPrefix((ObjectNode) node, oldPrefix, newPrefix);
+        }
+    }
+
+    private static class ProcessedType {
+
+        private final String id;
+        private final ObjectNode node;
+
+        ProcessedType(String id, ObjectNode node) {
+
+            this.id = id;
+            this.node = node;
+        }
+    }
+}
@@ -31,8 +31,21 @@ public class TypeProcessorFactory {
      */
     public static TypeProcessor getTypeProcessor(XSElementDeclaration element) {
 
+        return getTypeProcessor(element, new ProcessedComplexTypes());
+    }
+
+    /**
+     * Returns the appropriate TypeProcessor for the given XML Schema element declaration, which reuses the given
+     * processed complex types.
+     *
+     * @param element        the XML Schema element declaration
+     * @param processedTypes the complex types processed during the current conversion
+     * @return the TypeProcessor for the given element
+     */
+    public static TypeProcessor getTypeProcessor(XSElementDeclaration element, ProcessedComplexTypes processedTypes) {
+
         if (element.getTypeDefinition() instanceof XSComplexTypeDefinition) {
-            return new ComplexTypeProcessor();
+            return new ComplexTypeProcessor(processedTypes);
         } else {
             return new SimpleTypeProcessor();
         }
@@ -36,8 +36,8 @@ import org.eclipse.lemminx.customservice.synapse.syntaxTree.factory.endpoint.End
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.factory.misc.Wsdl11Factory;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.factory.misc.Wsdl20Factory;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.ArtifactTypeResponse;
-import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.LocalEntry;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
+import org.eclipse.lemminx.customservice.synapse.utils.CompactDocument;
 import org.eclipse.lemminx.customservice.synapse.utils.Constant;
 import org.eclipse.lemminx.customservice.synapse.utils.EnumTypeAdapter;
 import org.eclipse.lemminx.customservice.synapse.utils.OptionalTypeAdapter;
@@ -152,12 +152,14 @@ public class SyntaxTreeGenerator {
             return new ArtifactTypeResponse("File not found in the given path: " + artifactPath);
         }
         try {
-            DOMDocument document = Utils.getDOMDocument(file);
-            STNode node = buildTree(document.getDocumentElement());
-            if (node == null || node.getTag() == null) {
+            // The type is identified from the root element and its first child, so the rest of the file is not read
+            CompactDocument document = CompactDocument.parse(file, CompactDocument.ScanLimit.elements(2));
+            int rootElement = document.getDocumentElement();
+            String tag = document.getNodeName(rootElement);
+            if (tag == null || !Utils.containsIgnoreCase(componentNames, tag)) {
                 return new ArtifactTypeResponse("Invalid artifact file: " + artifactPath);
             }
-            switch (node.getTag()) {
+            switch (tag) {
                 case Constant.API:
                     return new ArtifactTypeResponse(ArtifactTypeResponse.ArtifactType.API);
                 case Constant.ENDPOINT:
@@ -167,8 +169,8 @@ public class SyntaxTreeGenerator {
                 case Constant.MESSAGE_PROCESSOR:
                     return new ArtifactTypeResponse(ArtifactTypeResponse.ArtifactType.MESSAGE_PROCESSOR);
                 case Constant.LOCAL_ENTRY:
-                    LocalEntry localEntry = (LocalEntry) node;
-                    if (localEntry.getSubType() != null && localEntry.getSubType().endsWith(".INIT")) {
+                    String subType = document.getNodeName(document.getFirstChild(rootElement));
+                    if (subType != null && subType.toUpperCase().endsWith(".INIT")) {
                         return new ArtifactTypeResponse(ArtifactTypeResponse.ArtifactType.CONNECTIONS);
                     }
                     return new ArtifactTypeResponse(ArtifactTypeResponse.ArtifactType.LOCAL_ENTRY);
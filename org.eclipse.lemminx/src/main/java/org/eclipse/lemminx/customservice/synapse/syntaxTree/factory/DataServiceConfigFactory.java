@@ -68,43 +68,61 @@ public class DataServiceConfigFactory extends AbstractFactory {
 
         List<DOMNode> children = element.getChildren();
         if (children != null && !children.isEmpty()) {
-            for (DOMNode child : children) {
-                String childName = child.getNodeName();
+            // The queries, operations and resources are independent, so they are built in parallel for large data
+            // services and added in the document order
+            List<STNode> nodes = SubtreeBuilder.build(children, this::createChild);
+            for (int i = 0; i < children.size(); i++) {
+                String childName = children.get(i).getNodeName();
+                STNode node = nodes.get(i);
                 if (Constant.DESCRIPTION.equalsIgnoreCase(childName)) {
-                    STNode description = new STNode();
-                    description.elementNode((DOMElement) child);
-                    dataService.setDescription(description);
+                    dataService.setDescription(node);
                 } else if (Constant.CONFIG.equalsIgnoreCase(childName)) {
-                    Config config = createConfig(child);
-                    dataService.addConfig(config);
+                    dataService.addConfig((Config) node);
                 } else if (Constant.QUERY.equalsIgnoreCase(childName)) {
-                    Query query = createQuery(child);
-                    dataService.addQuery(query);
+                    dataService.addQuery((Query) node);
                 } else if (Constant.OPERATION.equalsIgnoreCase(childName)) {
-                    Operation operation = createOperation(child);
-                    dataService.addOperation(operation);
+                    dataService.addOperation((Operation) node);
                 } else if (Constant.RESOURCE.equalsIgnoreCase(childName)) {
-                    Resource resource = createResource(child);
-                    dataService.addResource(resource);
+                    dataService.addResource((Resource) node);
                 } else if (Constant.POLICY.equalsIgnoreCase(childName)) {
-                    DataPolicy policy = createPolicy(child);
-                    dataService.setPolicy(policy);
+                    dataService.setPolicy((DataPolicy) node);
                 } else if (Constant.EVENT_TRIGGER.equalsIgnoreCase(childName)) {
-                    EventTrigger eventTrigger = createEventTrigger(child);
-                    dataService.addEventTrigger(eventTrigger);
+                    dataService.addEventTrigger((EventTrigger) node);
                 } else if (Constant.ENABLE_SEC.equalsIgnoreCase(childName)) {
-                    STNode enableSec = new STNode();
-                    enableSec.elementNode((DOMElement) child);
-                    dataService.setEnableSec(enableSec);
+                    dataService.setEnableSec(node);
                 } else if (Constant.AUTHORIZATION_PROVIDER.equalsIgnoreCase(childName)) {
-                    AuthorizationProvider authorizationProvider = createAuthorizationProvider(child);
-                    dataService.setAuthorizationProvider(authorizationProvider);
+                    dataService.setAuthorizationProvider((AuthorizationProvider) node);
                 }
             }
         }
         return dataService;
     }
 
+    private STNode createChild(DOMNode child) {
+
+        String childName = child.getNodeName();
+        if (Constant.DESCRIPTION.equalsIgnoreCase(childName) || Constant.ENABLE_SEC.equalsIgnoreCase(childName)) {
+            STNode node = new STNode();
+            node.elementNode((DOMElement) child);
+            return node;
+        } else if (Constant.CONFIG.equalsIgnoreCase(childName)) {
+            return createConfig(child);
+        } else if (Constant.QUERY.equalsIgnoreCase(childName)) {
+            return createQuery(child);
+        } else if (Constant.OPERATION.equalsIgnoreCase(childName)) {
+            return createOperation(child);
+        } else if (Constant.RESOURCE.equalsIgnoreCase(childName)) {
+            return createResource(child);
+        } else if (Constant.POLICY.equalsIgnoreCase(childName)) {
+            return createPolicy(child);
+        } else if (Constant.EVENT_TRIGGER.equalsIgnoreCase(childName)) {
+            return createEventTrigger(child);
+        } else if (Constant.AUTHORIZATION_PROVIDER.equalsIgnoreCase(childName)) {
+            return createAuthorizationProvider(child);
+        }
+        return null;
+    }
+
     private Config createConfig(DOMNode element) {
 
         Config config = new Config();
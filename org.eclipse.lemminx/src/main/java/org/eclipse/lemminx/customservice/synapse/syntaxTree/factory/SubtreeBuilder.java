@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.customservice.synapse.syntaxTree.factory;
+
+import org.eclipse.lemminx.commons.BadLocationException;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Function;
+
+/**
+ * Builds the syntax tree nodes of the children of an element, in parallel when there are many of them.
+ * <p>
+ * The factories of the large definitions (WSDL, data services) build the independent top-level subtrees, such as the
+ * messages, port types and bindings of a WSDL or the queries, operations and resources of a data service, through
+ * this builder. Each child is built by one task, which reads the DOM nodes of that child and the line tracker of the
+ * document to compute the ranges. The document creates its line tracker lazily without publishing it safely, so the
+ * builder creates it on the calling thread before the tasks start. The nodes are returned in the document order and
+ * the factory adds them to the parent node on the calling thread, so the tree does not depend on the number of
+ * workers.
+ */
+public final class SubtreeBuilder {
+
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 32;
+    private static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors(),
+            pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("mi-syntax-tree-" + thread.getPoolIndex());
+                return thread;
+            }, null, false);
+
+    private static volatile int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    private SubtreeBuilder() {
+
+    }
+
+    /**
+     * Builds the nodes of the given children.
+     *
+     * @param children the children of an element
+     * @param builder  the builder of the node of a child, which returns null for the ignored children
+     * @param <T>      the type of the nodes
+     * @return the nodes of the children, at the index of their child
+     */
+    public static <T> List<T> build(List<DOMNode> children, Function<DOMNode, T> builder) {
+
+        List<T> nodes = new ArrayList<>(children.size());
+        if (children.size() < parallelThreshold || POOL.getParallelism() < 2) {
+            for (DOMNode child : children) {
+                nodes.add(builder.apply(child));
+            }
+            return nodes;
+        }
+        createLineTracker(children.get(0).getOwnerDocument());
+        List<ForkJoinTask<T>> tasks = new ArrayList<>(children.size());
+        try {
+            for (DOMNode child : children) {
+                tasks.add(POOL.submit(() -> builder.apply(child)));
+            }
+            for (ForkJoinTask<T> task : tasks) {
+                nodes.add(task.join());
+            }
+            return nodes;
+        } catch (RuntimeException e) {
+            for (ForkJoinTask<T> task : tasks) {
+                task.cancel(false);
+            }
+            throw e;
+        }
+    }
+
+    private static void createLineTracker(DOMDocument document) {
+
+        if (document == null) {
+            return;
+        }
+        try {
+            // Computing a position creates the line tracker, which the tasks then only read
+            document.positionAt(0);
+        } catch (BadLocationException e) {
+        }
+    }
+
+    /**
+     * Sets the minimum number of children built in parallel. The benchmarks use it to compare with a sequential
+     * build.
+     *
+     * @param threshold the minimum number of children built in parallel, Integer.MAX_VALUE to always build them
+     *                  sequentially
+     */
+    public static void setParallelThreshold(int threshold) {
+
+        parallelThreshold = threshold;
+    }
+}
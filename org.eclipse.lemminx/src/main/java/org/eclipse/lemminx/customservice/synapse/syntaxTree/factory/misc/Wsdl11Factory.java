@@ -15,6 +15,7 @@
 package org.eclipse.lemminx.customservice.synapse.syntaxTree.factory.misc;
 
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.factory.AbstractFactory;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.factory.SubtreeBuilder;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.misc.wsdl11.AnyTopLevelOptionalElement;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.misc.wsdl11.TBinding;
@@ -54,32 +55,27 @@ public class Wsdl11Factory extends AbstractFactory {
         List<Object> any = new ArrayList<>();
         if (children != null && !children.isEmpty()) {
             AnyTopLevelOptionalElement anyTopLevelOptionalElement = new AnyTopLevelOptionalElement();
-            for (DOMNode child : children) {
-                String name = child.getNodeName();
+            // The top-level elements are independent, so they are built in parallel for large definitions
+            List<Object> topLevelElements = SubtreeBuilder.build(children, this::createTopLevelElement);
+            for (int i = 0; i < children.size(); i++) {
+                String name = children.get(i).getNodeName();
+                Object topLevelElement = topLevelElements.get(i);
                 if (name.equalsIgnoreCase(Constant.WSDL_IMPORT)) {
-                    TImport tImport = createTImport(child);
-                    anyTopLevelOptionalElement.set_import(Optional.ofNullable(tImport));
+                    anyTopLevelOptionalElement.set_import(Optional.ofNullable((TImport) topLevelElement));
                 } else if (name.equalsIgnoreCase(Constant.WSDL_TYPES)) {
-                    TTypes tTypes = createTTypes(child);
-                    anyTopLevelOptionalElement.setTypes(Optional.ofNullable(tTypes));
+                    anyTopLevelOptionalElement.setTypes(Optional.ofNullable((TTypes) topLevelElement));
                 } else if (name.equalsIgnoreCase(Constant.WSDL_MESSAGE)) {
-                    TMessage tMessage = createTMessage(child);
-                    anyTopLevelOptionalElement.setMessage(Optional.ofNullable(tMessage));
+                    anyTopLevelOptionalElement.setMessage(Optional.ofNullable((TMessage) topLevelElement));
                 } else if (name.equalsIgnoreCase(Constant.WSDL_PORT_TYPE)) {
-                    TPortType tPortType = createTPortType(child);
-                    anyTopLevelOptionalElement.setPortType(Optional.ofNullable(tPortType));
+                    anyTopLevelOptionalElement.setPortType(Optional.ofNullable((TPortType) topLevelElement));
                 } else if (name.equalsIgnoreCase(Constant.WSDL_BINDING)) {
-                    TBinding tBinding = createTBinding(child);
-                    anyTopLevelOptionalElement.setBinding(Optional.ofNullable(tBinding));
+                    anyTopLevelOptionalElement.setBinding(Optional.ofNullable((TBinding) topLevelElement));
                 } else if (name.equalsIgnoreCase(Constant.WSDL_SERVICE)) {
-                    TService tService = createTService(child);
-                    anyTopLevelOptionalElement.setService(Optional.ofNullable(tService));
+                    anyTopLevelOptionalElement.setService(Optional.ofNullable((TService) topLevelElement));
                 } else if (name.equalsIgnoreCase(Constant.WSDL_DOCUMENTATION)) {
-                    TDocumentation tDocumentation = createTDocumentation(child);
-                    definitions.setDocumentation(tDocumentation);
+                    definitions.setDocumentation((TDocumentation) topLevelElement);
                 } else {
-                    String xml = getAnyElement(child);
-                    any.add(xml);
+                    any.add(topLevelElement);
                 }
             }
             definitions.setAnyTopLevelOptionalElement(anyTopLevelOptionalElement);
@@ -88,6 +84,27 @@ public class Wsdl11Factory extends AbstractFactory {
         return definitions;
     }
 
+    private Object createTopLevelElement(DOMNode node) {
+
+        String name = node.getNodeName();
+        if (name.equalsIgnoreCase(Constant.WSDL_IMPORT)) {
+            return createTImport(node);
+        } else if (name.equalsIgnoreCase(Constant.WSDL_TYPES)) {
+            return createTTypes(node);
+        } else if (name.equalsIgnoreCase(Constant.WSDL_MESSAGE)) {
+            return createTMessage(node);
+        } else if (name.equalsIgnoreCase(Constant.WSDL_PORT_TYPE)) {
+            return createTPortType(node);
+        } else if (name.equalsIgnoreCase(Constant.WSDL_BINDING)) {
+            return createTBinding(node);
+        } else if (name.equalsIgnoreCase(Constant.WSDL_SERVICE)) {
+            return createTService(node);
+        } else if (name.equalsIgnoreCase(Constant.WSDL_DOCUMENTATION)) {
+            return createTDocumentation(node);
+        }
+        return getAnyElement(node);
+    }
+
     private TImport createTImport(DOMNode node) {
 
         TImport tImport = new TImport();
@@ -203,10 +220,13 @@ public class Wsdl11Factory extends AbstractFactory {
         List<DOMNode> children = node.getChildren();
         List<TOperation> operations = new ArrayList<>();
         if (children != null && !children.isEmpty()) {
-            for (DOMNode child : children) {
+            // The operations are built in parallel for large port types
+            List<TOperation> builtOperations = SubtreeBuilder.build(children, child ->
+                    child.getNodeName().equalsIgnoreCase(Constant.WSDL_OPERATION) ? createTOperation(child) : null);
+            for (int i = 0; i < children.size(); i++) {
+                DOMNode child = children.get(i);
                 if (child.getNodeName().equalsIgnoreCase(Constant.WSDL_OPERATION)) {
-                    TOperation tBindingOperation = createTOperation(child);
-                    operations.add(tBindingOperation);
+                    operations.add(builtOperations.get(i));
                 } else if (child.getNodeName().equalsIgnoreCase(Constant.WSDL_DOCUMENTATION)) {
                     TDocumentation tDocumentation = createTDocumentation(child);
                     tPortType.setDocumentation(tDocumentation);
@@ -319,10 +339,14 @@ public class Wsdl11Factory extends AbstractFactory {
         List<Object> elements = new ArrayList<>();
         List<TBindingOperation> operations = new ArrayList<>();
         if (children != null && !children.isEmpty()) {
-            for (DOMNode child : children) {
+            // The operations are built in parallel for large bindings
+            List<TBindingOperation> builtOperations = SubtreeBuilder.build(children, child ->
+                    child.getNodeName().equalsIgnoreCase(Constant.WSDL_OPERATION) ?
+                            createTBindingOperation(child) : null);
+            for (int i = 0; i < children.size(); i++) {
+                DOMNode child = children.get(i);
                 if (child.getNodeName().equalsIgnoreCase(Constant.WSDL_OPERATION)) {
-                    TBindingOperation tBindingOperation = createTBindingOperation(child);
-                    operations.add(tBindingOperation);
+                    operations.add(builtOperations.get(i));
                 } else if (child.getNodeName().equalsIgnoreCase(Constant.WSDL_DOCUMENTATION)) {
                     TDocumentation tDocumentation = createTDocumentation(child);
                     tBinding.setDocumentation(tDocumentation);
@@ -15,6 +15,7 @@
 package org.eclipse.lemminx.customservice.synapse.syntaxTree.factory.misc;
 
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.factory.AbstractFactory;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.factory.SubtreeBuilder;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.STNode;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.misc.wsdl20.BindingFaultType;
 import org.eclipse.lemminx.customservice.synapse.syntaxTree.pojo.misc.wsdl20.BindingOperationFaultType;
@@ -52,36 +53,46 @@ public class Wsdl20Factory extends AbstractFactory {
         List<DOMNode> children = element.getChildren();
         List<Object> elements = new ArrayList<>();
         if (children != null && !children.isEmpty()) {
-            for (DOMNode child : children) {
-                String name = child.getNodeName();
-                if (name.equalsIgnoreCase("import")) {
-                    ImportType importType = createImportType(child);
-                    elements.add(importType);
-                } else if (name.equalsIgnoreCase("include")) {
-                    IncludeType includeType = createIncludeType(child);
-                    elements.add(includeType);
-                } else if (name.equalsIgnoreCase("types")) {
-                    TypesType typesType = createTypesType(child);
-                    elements.add(typesType);
-                } else if (name.equalsIgnoreCase("interface")) {
-                    InterfaceType interfaceType = createInterfaceType(child);
-                    elements.add(interfaceType);
-                } else if (name.equalsIgnoreCase("binding")) {
-                    BindingType bindingType = createBindingType(child);
-                    elements.add(bindingType);
-                } else if (name.equalsIgnoreCase("service")) {
-                    ServiceType serviceType = createServiceType(child);
-                    elements.add(serviceType);
-                } else if (name.equalsIgnoreCase("documentation")) {
-                    DocumentationType documentationType = createDocumentationType(child);
-                    elements.add(documentationType);
-                }
-            }
+            // The top-level elements are independent, so they are built in parallel for large descriptions
+            addBuiltElements(elements, SubtreeBuilder.build(children, this::createTopLevelElement));
             description.setImportOrIncludeOrTypes(elements);
         }
         return description;
     }
 
+    private STNode createTopLevelElement(DOMNode child) {
+
+        String name = child.getNodeName();
+        if (name.equalsIgnoreCase("import")) {
+            return createImportType(child);
+        } else if (name.equalsIgnoreCase("include")) {
+            return createIncludeType(child);
+        } else if (name.equalsIgnoreCase("types")) {
+            return createTypesType(child);
+        } else if (name.equalsIgnoreCase("interface")) {
+            return createInterfaceType(child);
+        } else if (name.equalsIgnoreCase("binding")) {
+            return createBindingType(child);
+        } else if (name.equalsIgnoreCase("service")) {
+            return createServiceType(child);
+        } else if (name.equalsIgnoreCase("documentation")) {
+            return createDocumentationType(child);
+        }
+        return null;
+    }
+
+    /**
+     * Adds the built elements in the document order, skipping the ignored children.
+     */
+    private static void addBuiltElements(List<Object> elements, List<? extends STNode> builtElements) {
+
+        for (STNode builtElement : builtElements) {
+            if (builtElement != null) {
+                elements.add(builtElement);
+            }
+        }
+    }
+
     @Override
     public void populateAttributes(STNode node, DOMElement element) {
 
@@ -170,16 +181,16 @@ public class Wsdl20Factory extends AbstractFactory {
         List<DOMNode> children = child.getChildren();
         List<Object> elements = new ArrayList<>();
         if (children != null && !children.isEmpty()) {
-            for (DOMNode node : children) {
+            // The operations are built in parallel for large interfaces
+            addBuiltElements(elements, SubtreeBuilder.build(children, node -> {
                 String name1 = node.getNodeName();
                 if (name1.equalsIgnoreCase("operation")) {
-                    InterfaceOperationType interfaceOperationType = createInterfaceOperationType(node);
-                    elements.add(interfaceOperationType);
+                    return createInterfaceOperationType(node);
                 } else if (name1.equalsIgnoreCase("fault")) {
-                    InterfaceFaultType interfaceFaultType = createInterfaceFaultType(node);
-                    elements.add(interfaceFaultType);
+                    return createInterfaceFaultType(node);
                 }
-            }
+                return null;
+            }));
             interfaceType.setOperationOrFaultOrAny(elements);
         }
         return interfaceType;
@@ -323,16 +334,16 @@ public class Wsdl20Factory extends AbstractFactory {
         List<DOMNode> children = child.getChildren();
         List<Object> elements = new ArrayList<>();
         if (children != null && !children.isEmpty()) {
-            for (DOMNode node : children) {
+            // The operations are built in parallel for large bindings
+            addBuiltElements(elements, SubtreeBuilder.build(children, node -> {
                 String name1 = node.getNodeName();
                 if (name1.equalsIgnoreCase("operation")) {
-                    BindingOperationType bindingOperationType = createBindingOperationType(node);
-                    elements.add(bindingOperationType);
+                    return createBindingOperationType(node);
                 } else if (name1.equalsIgnoreCase("fault")) {
-                    BindingFaultType bindingFaultType = createBindingFaultType(node);
-                    elements.add(bindingFaultType);
+                    return createBindingFaultType(node);
                 }
-            }
+                return null;
+            }));
             bindingType.setOperationOrFaultOrAny(elements);
         }
         return bindingType;
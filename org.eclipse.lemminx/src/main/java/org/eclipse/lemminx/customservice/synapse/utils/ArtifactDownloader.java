@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.utils;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Downloads artifacts from the Maven repository.
+ * <p>
+ * Artifacts are streamed to a partial file next to the target file, which is moved to the target only after the
+ * download is complete and the SHA-1 checksum published by the repository matches. A partial file left by an
+ * interrupted download is resumed with a range request. Failed downloads are retried a few times.
+ * <p>
+ * The repository URL can be changed with the {@value Constant#MAVEN_REPOSITORY_URL_PROPERTY} system property.
+ */
+public class ArtifactDownloader {
+
+    private static final Logger LOGGER = Logger.getLogger(ArtifactDownloader.class.getName());
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int MAX_PARALLEL_DOWNLOADS = 6;
+    private static final long RETRY_DELAY_MILLIS = 500;
+    private static final String PARTIAL_FILE_EXTENSION = ".part";
+    private static final String SHA1_EXTENSION = ".sha1";
+    private static final String SHA1 = "SHA-1";
+    private static ArtifactDownloader instance;
+
+    private final HttpClient httpClient;
+    private final ExecutorService executor;
+
+    private ArtifactDownloader() {
+
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofSeconds(20))
+                .build();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(MAX_PARALLEL_DOWNLOADS, runnable -> {
+            Thread thread = new Thread(runnable, "artifact-downloader-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static synchronized ArtifactDownloader getInstance() {
+
+        if (instance == null) {
+            instance = new ArtifactDownloader();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the bounded executor used to run downloads in parallel.
+     *
+     * @return the download executor
+     */
+    public ExecutorService getExecutor() {
+
+        return executor;
+    }
+
+    /**
+     * Returns the URL of the Maven repository the artifacts are downloaded from.
+     *
+     * @return the repository URL without the trailing slash
+     */
+    public static String getRepositoryUrl() {
+
+        String repositoryUrl = System.getProperty(Constant.MAVEN_REPOSITORY_URL_PROPERTY,
+                Constant.DEFAULT_MAVEN_REPOSITORY_URL);
+        return StringUtils.removeEnd(repositoryUrl.trim(), "/");
+    }
+
+    /**
+     * Returns the repository URL of the given artifact.
+     *
+     * @param groupId    group ID of the artifact
+     * @param artifactId artifact ID
+     * @param version    version of the artifact
+     * @param type       file type of the artifact
+     * @return the artifact URL
+     */
+    public static String getArtifactUrl(String groupId, String artifactId, String version, String type) {
+
+        return String.format("%s/%s/%s/%s/%s-%s.%s", getRepositoryUrl(), groupId.replace(".", "/"), artifactId,
+                version, artifactId, version, type);
+    }
+
+    /**
+     * Downloads the given artifact to the target file.
+     *
+     * @param groupId    group ID of the artifact
+     * @param artifactId artifact ID
+     * @param version    version of the artifact
+     * @param type       file type of the artifact
+     * @param targetFile file to save the artifact to
+     * @return the downloaded file
+     * @throws FileNotFoundException if the artifact is not available in the repository
+     * @throws IOException           if the artifact could not be downloaded or verified
+     */
+    public File download(String groupId, String artifactId, String version, String type, File targetFile)
+            throws IOException {
+
+        String url = getArtifactUrl(groupId, artifactId, version, type);
+        IOException lastError = null;
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                downloadToFile(url, targetFile);
+                return targetFile;
+            } catch (FileNotFoundException | InterruptedIOException e) {
+                throw e;
+            } catch (IOException e) {
+                lastError = e;
+                LOGGER.log(Level.WARNING, String.format("Attempt %d of %d to download %s failed: %s", attempt,
+                        MAX_ATTEMPTS, targetFile.getName(), e.getMessage()));
+                if (attempt < MAX_ATTEMPTS) {
+                    waitBeforeRetry(attempt);
+                }
+            }
+        }
+        throw lastError;
+    }
+
+    private void downloadToFile(String url, File targetFile) throws IOException {
+
+        Path partialFile = targetFile.toPath().resolveSibling(targetFile.getName() + PARTIAL_FILE_EXTENSION);
+        long resumeFrom = Files.exists(partialFile) ? Files.size(partialFile) : 0;
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(40))
+                .GET();
+        if (resumeFrom > 0) {
+            requestBuilder.header("Range", "bytes=" + resumeFrom + "-");
+        }
+        HttpResponse<InputStream> response = send(requestBuilder.build(), HttpResponse.BodyHandlers.ofInputStream());
+        int status = response.statusCode();
+        if (status == 416) {
+            // The partial file does not match the artifact anymore. Start over in the next attempt.
+            response.body().close();
+            Files.deleteIfExists(partialFile);
+            throw new IOException("Partial download of " + targetFile.getName() + " is not valid");
+        }
+        if (status == 404) {
+            response.body().close();
+            throw new FileNotFoundException("Artifact not found: " + url);
+        }
+        if (status != 200 && status != 206) {
+            response.body().close();
+            throw new IOException("Failed to download " + url + ". HTTP status: " + status);
+        }
+        boolean isResumed = status == 206;
+        long contentLength = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+        long totalSize = contentLength < 0 ? -1 : contentLength + (isResumed ? resumeFrom : 0);
+        LOGGER.log(Level.INFO, isResumed ?
+                String.format("Resuming download of %s from %d bytes", targetFile.getName(), resumeFrom) :
+                "Downloading " + targetFile.getName());
+
+        StandardOpenOption writeOption = isResumed ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING;
+        long downloaded = isResumed ? resumeFrom : 0;
+        int reportedPercentage = 0;
+        try (InputStream in = response.body();
+             OutputStream out = Files.newOutputStream(partialFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     writeOption)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int bytesRead;
+            while ((bytesRead = in.read(buffer)) != -1) {
+                out.write(buffer, 0, bytesRead);
+                downloaded += bytesRead;
+                if (totalSize > 0) {
+                    int percentage = (int) (downloaded * 100 / totalSize);
+                    if (percentage >= reportedPercentage + 10) {
+                        reportedPercentage = percentage;
+                        LOGGER.log(Level.FINE, String.format("Downloaded %d%% of %s", percentage,
+                                targetFile.getName()));
+                    }
+                }
+            }
+        }
+        verifyChecksum(url, partialFile);
+        moveToTarget(partialFile, targetFile.toPath());
+        LOGGER.log(Level.INFO, String.format("Downloaded %s (%d bytes)", targetFile.getName(), downloaded));
+    }
+
+    private void verifyChecksum(String url, Path file) throws IOException {
+
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(url + SHA1_EXTENSION))
+                .timeout(Duration.ofSeconds(20)).GET().build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200 || StringUtils.isBlank(response.body())) {
+            LOGGER.log(Level.FINE, "Checksum is not available for " + url);
+            return;
+        }
+        String expectedChecksum = response.body().trim().split("\\s+")[0];
+        String actualChecksum = getSha1(file);
+        if (!expectedChecksum.equalsIgnoreCase(actualChecksum)) {
+            Files.deleteIfExists(file);
+            throw new IOException(String.format("Checksum mismatch for %s. Expected %s but was %s", url,
+                    expectedChecksum, actualChecksum));
+        }
+    }
+
+    private static String getSha1(Path file) throws IOException {
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance(SHA1);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (InputStream in = Files.newInputStream(file)) {
+                int bytesRead;
+                while ((bytesRead = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, bytesRead);
+                }
+            }
+            StringBuilder checksum = new StringBuilder();
+            for (byte b : digest.digest()) {
+                checksum.append(String.format("%02x", b));
+            }
+            return checksum.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("SHA-1 algorithm is not available", e);
+        }
+    }
+
+    private static void moveToTarget(Path partialFile, Path targetFile) throws IOException {
+
+        try {
+            Files.move(partialFile, targetFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(partialFile, targetFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler)
+            throws IOException {
+
+        try {
+            return httpClient.send(request, bodyHandler);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Download interrupted: " + request.uri());
+        }
+    }
+
+    private static void waitBeforeRetry(int attempt) throws InterruptedIOException {
+
+        try {
+            Thread.sleep(RETRY_DELAY_MILLIS * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Download interrupted");
+        }
+    }
+}
@@ -0,0 +1,811 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.utils;
+
+import org.apache.commons.text.StringEscapeUtils;
+import org.eclipse.lemminx.dom.parser.Scanner;
+import org.eclipse.lemminx.dom.parser.TokenType;
+import org.eclipse.lemminx.dom.parser.XMLScanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+/**
+ * Compact read-only representation of an XML document, for scans that read a few elements and attributes from many
+ * files.
+ * <p>
+ * The document is built from the tokens of the {@link XMLScanner}, in the same way as a
+ * {@link org.eclipse.lemminx.dom.DOMDocument} is built by the {@link org.eclipse.lemminx.dom.DOMParser}, but no
+ * object is created per node. Nodes and attributes are records in primitive int arrays, which hold the node kind, the
+ * offsets, the parent, child and sibling links and the spans of the names and values in the source text. Nodes are
+ * referred by their index, and names, values and text content are materialized as strings only when they are
+ * requested. Only elements, text, CDATA sections and comments are kept. Processing instructions and DTD
+ * declarations are skipped.
+ * <p>
+ * A document can be parsed up to a {@link ScanLimit}, for callers which only need the root element or the first
+ * levels of a file. The scan stops before the first element that reaches the limit, and only the beginning of the
+ * file is read. The nodes scanned so far can be queried as usual. When a query needs a node after the point where the
+ * scan stopped (a child or a following sibling of an element which was still open, or the end offset of such an
+ * element), the rest of the document is parsed first, so the queries always return the same result as for a fully
+ * parsed document. The indexes of the nodes scanned before are not changed by that.
+ */
+public final class CompactDocument {
+
+    /**
+     * Index returned when a node does not exist.
+     */
+    public static final int NONE = -1;
+
+    private static final int DOCUMENT = 0;
+    private static final int ELEMENT = 1;
+    private static final int TEXT = 2;
+    private static final int CDATA = 3;
+    private static final int COMMENT = 4;
+
+    // Fields of a node record
+    private static final int KIND = 0;
+    private static final int START = 1;
+    private static final int END = 2;
+    private static final int PARENT = 3;
+    private static final int FIRST_CHILD = 4;
+    private static final int LAST_CHILD = 5;
+    private static final int NEXT_SIBLING = 6;
+    private static final int NAME_START = 7;
+    private static final int NAME_END = 8;
+    private static final int FIRST_ATTRIBUTE = 9;
+    private static final int ATTRIBUTE_COUNT = 10;
+    private static final int NODE_SIZE = 11;
+
+    // Fields of an attribute record
+    private static final int ATTRIBUTE_NAME_START = 0;
+    private static final int ATTRIBUTE_NAME_END = 1;
+    private static final int VALUE_START = 2;
+    private static final int VALUE_END = 3;
+    private static final int ATTRIBUTE_SIZE = 4;
+
+    private static final int HEADER_CHUNK_SIZE = 1024;
+
+    private final File source;
+    private String text;
+    private int[] nodes;
+    private int nodeCount;
+    private int elementCount;
+    private int[] attributes;
+    private int attributeCount;
+    private boolean complete;
+    private boolean building;
+
+    private CompactDocument(File source, String text) {
+
+        this.source = source;
+        this.text = text;
+        this.nodes = new int[NODE_SIZE * Math.max(16, text.length() / 64)];
+        this.attributes = new int[ATTRIBUTE_SIZE * Math.max(16, text.length() / 64)];
+    }
+
+    /**
+     * Parses the given XML file.
+     *
+     * @param file XML file
+     * @return the compact document
+     * @throws IOException if the file could not be read
+     */
+    public static CompactDocument parse(File file) throws IOException {
+
+        return parse(Files.readString(file.toPath()));
+    }
+
+    /**
+     * Parses the given XML file up to the given limit. Only the beginning of the file which is needed to reach the
+     * limit is read.
+     *
+     * @param file  XML file
+     * @param limit point where the scan stops
+     * @return the compact document
+     * @throws IOException if the file could not be read
+     */
+    public static CompactDocument parse(File file, ScanLimit limit) throws IOException {
+
+        try (Reader reader = Files.newBufferedReader(file.toPath())) {
+            StringBuilder header = new StringBuilder();
+            char[] buffer = new char[HEADER_CHUNK_SIZE];
+            int chunkSize = HEADER_CHUNK_SIZE;
+            while (true) {
+                int read = 0;
+                int length;
+                while (read < chunkSize && (length = reader.read(buffer)) != -1) {
+                    header.append(buffer, 0, length);
+                    read += length;
+                }
+                boolean endOfFile = read < chunkSize;
+                CompactDocument document = new CompactDocument(file, header.toString());
+                // A scan of an incomplete text is used only if it stopped at the limit, since the last tokens
+                // before the end of the text can be cut
+                if (document.build(limit) || endOfFile) {
+                    return document;
+                }
+                chunkSize *= 2;
+            }
+        }
+    }
+
+    /**
+     * Parses the given XML content.
+     *
+     * @param text XML content
+     * @return the compact document
+     */
+    public static CompactDocument parse(String text) {
+
+        return parse(text, null);
+    }
+
+    /**
+     * Parses the given XML content up to the given limit.
+     *
+     * @param text  XML content
+     * @param limit point where the scan stops, or null to parse the whole content
+     * @return the compact document
+     */
+    public static CompactDocument parse(String text, ScanLimit limit) {
+
+        CompactDocument document = new CompactDocument(null, text);
+        document.build(limit);
+        return document;
+    }
+
+    /**
+     * Checks whether the whole document is parsed.
+     *
+     * @return false if the scan stopped at a limit
+     */
+    public boolean isComplete() {
+
+        return complete;
+    }
+
+    /**
+     * Parses the part of the document after the point where the scan stopped. The file of the document is expected
+     * to be unchanged since the first scan.
+     */
+    public void parseRemaining() {
+
+        if (complete) {
+            return;
+        }
+        if (source != null) {
+            try {
+                text = Files.readString(source.toPath());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read " + source, e);
+            }
+        }
+        nodeCount = 0;
+        elementCount = 0;
+        attributeCount = 0;
+        build(null);
+    }
+
+    private boolean build(ScanLimit limit) {
+
+        building = true;
+        try {
+            boolean stopped = scan(limit);
+            complete = !stopped;
+            if (complete) {
+                // Elements which are not closed end at the end of the document
+                for (int node = 0; node < nodeCount; node++) {
+                    if (get(node, END) == NONE) {
+                        set(node, END, text.length());
+                    }
+                }
+            }
+            return stopped;
+        } finally {
+            building = false;
+        }
+    }
+
+    private boolean scan(ScanLimit limit) {
+
+        int current = addNode(DOCUMENT, NONE, 0, NONE);
+        int attribute = NONE;
+        int pendingWhitespace = NONE;
+        int pendingWhitespaceEnd = NONE;
+        boolean previousTokenWasEndTagOpen = false;
+        boolean endTagMatched = false;
+        Scanner scanner = XMLScanner.createScanner(text);
+        TokenType token = scanner.scan();
+        while (token != TokenType.EOS) {
+            if (pendingWhitespace != NONE && token != TokenType.EndTagOpen) {
+                pendingWhitespace = NONE;
+            }
+            if (previousTokenWasEndTagOpen && token != TokenType.EndTag) {
+                // End tag without a name (ex: </>), which does not close any element
+                endTagMatched = false;
+            }
+            previousTokenWasEndTagOpen = false;
+            switch (token) {
+                case StartTagOpen:
+                    if (limit != null && limit.isReached(this, current, getDepth(current) + 1)) {
+                        return true;
+                    }
+                    current = addNode(ELEMENT, current, scanner.getTokenOffset(), NONE);
+                    elementCount++;
+                    attribute = NONE;
+                    break;
+                case StartTag:
+                    if (isKind(current, ELEMENT)) {
+                        set(current, NAME_START, scanner.getTokenOffset());
+                        set(current, NAME_END, scanner.getTokenEnd());
+                    }
+                    break;
+                case AttributeName:
+                    if (isKind(current, ELEMENT)) {
+                        attribute = addAttribute(current, scanner.getTokenOffset(), scanner.getTokenEnd());
+                    }
+                    break;
+                case AttributeValue:
+                    if (attribute != NONE) {
+                        attributes[attribute * ATTRIBUTE_SIZE + VALUE_START] = scanner.getTokenOffset();
+                        attributes[attribute * ATTRIBUTE_SIZE + VALUE_END] = scanner.getTokenEnd();
+                    }
+                    attribute = NONE;
+                    break;
+                case StartTagSelfClose:
+                    if (current != 0) {
+                        set(current, END, scanner.getTokenEnd());
+                        current = get(current, PARENT);
+                    }
+                    break;
+                case EndTagOpen:
+                    if (pendingWhitespace != NONE) {
+                        addNode(TEXT, current, pendingWhitespace, pendingWhitespaceEnd);
+                        pendingWhitespace = NONE;
+                    }
+                    previousTokenWasEndTagOpen = true;
+                    break;
+                case EndTag:
+                    int element = findOpenElement(current, scanner.getTokenOffset(), scanner.getTokenEnd());
+                    endTagMatched = element != NONE;
+                    if (endTagMatched) {
+                        current = element;
+                    }
+                    break;
+                case EndTagClose:
+                    if (endTagMatched && current != 0) {
+                        set(current, END, scanner.getTokenEnd());
+                        current = get(current, PARENT);
+                    }
+                    endTagMatched = false;
+                    break;
+                case CDATATagOpen:
+                    addNode(CDATA, current, scanner.getTokenEnd(), scanner.getTokenEnd());
+                    break;
+                case StartCommentTag:
+                    addNode(COMMENT, current, scanner.getTokenEnd(), scanner.getTokenEnd());
+                    break;
+                case CDATAContent:
+                case Comment:
+                    int lastChild = get(current, LAST_CHILD);
+                    if (isKind(lastChild, token == TokenType.Comment ? COMMENT : CDATA)) {
+                        set(lastChild, START, scanner.getTokenOffset());
+                        set(lastChild, END, scanner.getTokenEnd());
+                    }
+                    break;
+                case Content:
+                    // Blank content is kept only when it is the only content of an element, as done by the DOMParser
+                    if (scanner.isTokenTextBlank()) {
+                        if (get(current, FIRST_CHILD) == NONE) {
+                            pendingWhitespace = scanner.getTokenOffset();
+                            pendingWhitespaceEnd = scanner.getTokenEnd();
+                        }
+                    } else {
+                        addNode(TEXT, current, scanner.getTokenOffset(), scanner.getTokenEnd());
+                    }
+                    break;
+                default:
+                    break;
+            }
+            token = scanner.scan();
+        }
+        return false;
+    }
+
+    private int getDepth(int node) {
+
+        int depth = 0;
+        for (int parent = get(node, PARENT); parent != NONE; parent = get(parent, PARENT)) {
+            depth++;
+        }
+        return depth;
+    }
+
+    /**
+     * Checks whether the given node may have children or following siblings which are not scanned yet, and parses
+     * the rest of the document in that case.
+     */
+    private void ensureScanned(int node) {
+
+        if (!complete && !building && get(node, END) == NONE) {
+            parseRemaining();
+        }
+    }
+
+    private int findOpenElement(int node, int nameStart, int nameEnd) {
+
+        int length = nameEnd - nameStart;
+        while (node != 0) {
+            int start = get(node, NAME_START);
+            if (get(node, NAME_END) - start == length && text.regionMatches(start, text, nameStart, length)) {
+                return node;
+            }
+            node = get(node, PARENT);
+        }
+        return NONE;
+    }
+
+    private int addNode(int kind, int parent, int start, int end) {
+
+        if ((nodeCount + 1) * NODE_SIZE > nodes.length) {
+            nodes = Arrays.copyOf(nodes, nodes.length * 2);
+        }
+        int node = nodeCount++;
+        int offset = node * NODE_SIZE;
+        nodes[offset + KIND] = kind;
+        nodes[offset + START] = start;
+        nodes[offset + END] = end;
+        nodes[offset + PARENT] = parent;
+        nodes[offset + FIRST_CHILD] = NONE;
+        nodes[offset + LAST_CHILD] = NONE;
+        nodes[offset + NEXT_SIBLING] = NONE;
+        nodes[offset + NAME_START] = start;
+        nodes[offset + NAME_END] = start;
+        nodes[offset + FIRST_ATTRIBUTE] = NONE;
+        nodes[offset + ATTRIBUTE_COUNT] = 0;
+        if (parent != NONE) {
+            int lastChild = get(parent, LAST_CHILD);
+            if (lastChild == NONE) {
+                set(parent, FIRST_CHILD, node);
+            } else {
+                set(lastChild, NEXT_SIBLING, node);
+            }
+            set(parent, LAST_CHILD, node);
+        }
+        return node;
+    }
+
+    private int addAttribute(int element, int nameStart, int nameEnd) {
+
+        if ((attributeCount + 1) * ATTRIBUTE_SIZE > attributes.length) {
+            attributes = Arrays.copyOf(attributes, attributes.length * 2);
+        }
+        int attribute = attributeCount++;
+        int offset = attribute * ATTRIBUTE_SIZE;
+        attributes[offset + ATTRIBUTE_NAME_START] = nameStart;
+        attributes[offset + ATTRIBUTE_NAME_END] = nameEnd;
+        attributes[offset + VALUE_START] = NONE;
+        attributes[offset + VALUE_END] = NONE;
+        // Attributes of an element are scanned before its children, so they are stored contiguously
+        if (get(element, FIRST_ATTRIBUTE) == NONE) {
+            set(element, FIRST_ATTRIBUTE, attribute);
+        }
+        set(element, ATTRIBUTE_COUNT, get(element, ATTRIBUTE_COUNT) + 1);
+        return attribute;
+    }
+
+    private int get(int node, int field) {
+
+        return nodes[node * NODE_SIZE + field];
+    }
+
+    private void set(int node, int field, int value) {
+
+        nodes[node * NODE_SIZE + field] = value;
+    }
+
+    private boolean isKind(int node, int kind) {
+
+        return node != NONE && get(node, KIND) == kind;
+    }
+
+    /**
+     * Returns the source text of the document.
+     *
+     * @return the source text
+     */
+    public String getText() {
+
+        return text;
+    }
+
+    /**
+     * Returns the number of nodes of the document, including the document node.
+     *
+     * @return the number of nodes
+     */
+    public int getNodeCount() {
+
+        return nodeCount;
+    }
+
+    /**
+     * Returns the number of elements scanned so far.
+     *
+     * @return the number of elements
+     */
+    public int getElementCount() {
+
+        return elementCount;
+    }
+
+    /**
+     * Returns the document node, which is the parent of the top level nodes.
+     *
+     * @return the document node
+     */
+    public int getDocument() {
+
+        return 0;
+    }
+
+    /**
+     * Returns the first top level element of the document.
+     *
+     * @return the document element, or {@link #NONE} if the document does not have an element
+     */
+    public int getDocumentElement() {
+
+        return getFirstElement(getDocument());
+    }
+
+    public boolean isElement(int node) {
+
+        return isKind(node, ELEMENT);
+    }
+
+    public boolean isText(int node) {
+
+        return isKind(node, TEXT);
+    }
+
+    public boolean isCDATA(int node) {
+
+        return isKind(node, CDATA);
+    }
+
+    public boolean isComment(int node) {
+
+        return isKind(node, COMMENT);
+    }
+
+    /**
+     * Returns the start offset of the given node. The offset of a text, CDATA or comment node is the start of its
+     * content.
+     *
+     * @param node node index
+     * @return the start offset
+     */
+    public int getStart(int node) {
+
+        return get(node, START);
+    }
+
+    /**
+     * Returns the end offset of the given node. The offset of a text, CDATA or comment node is the end of its
+     * content.
+     *
+     * @param node node index
+     * @return the end offset
+     */
+    public int getEnd(int node) {
+
+        ensureScanned(node);
+        return get(node, END);
+    }
+
+    public int getParent(int node) {
+
+        return node != NONE ? get(node, PARENT) : NONE;
+    }
+
+    public int getFirstChild(int node) {
+
+        if (node == NONE) {
+            return NONE;
+        }
+        if (get(node, FIRST_CHILD) == NONE) {
+            ensureScanned(node);
+        }
+        return get(node, FIRST_CHILD);
+    }
+
+    public int getNextSibling(int node) {
+
+        if (node == NONE) {
+            return NONE;
+        }
+        if (get(node, NEXT_SIBLING) == NONE && get(node, PARENT) != NONE) {
+            ensureScanned(get(node, PARENT));
+        }
+        return get(node, NEXT_SIBLING);
+    }
+
+    /**
+     * Returns the first child element of the given node. Navigating from {@link #NONE} returns {@link #NONE}, so
+     * that lookups can be chained.
+     *
+     * @param node node index
+     * @return the first child element, or {@link #NONE} if the node does not have a child element
+     */
+    public int getFirstElement(int node) {
+
+        int child = getFirstChild(node);
+        while (child != NONE && !isElement(child)) {
+            child = getNextSibling(child);
+        }
+        return child;
+    }
+
+    /**
+     * Returns the next sibling element of the given node.
+     *
+     * @param node node index
+     * @return the next sibling element, or {@link #NONE} if there is no sibling element after the node
+     */
+    public int getNextElement(int node) {
+
+        int sibling = getNextSibling(node);
+        while (sibling != NONE && !isElement(sibling)) {
+            sibling = getNextSibling(sibling);
+        }
+        return sibling;
+    }
+
+    /**
+     * Returns the first child element of the given node with the given name, ignoring the case in the same way as
+     * {@link Utils#getChildNodeByName(org.eclipse.lemminx.dom.DOMNode, String)}.
+     *
+     * @param node node index
+     * @param name element name
+     * @return the child element, or {@link #NONE} if it is not found
+     */
+    public int getChildElement(int node, String name) {
+
+        for (int child = getFirstElement(node); child != NONE; child = getNextElement(child)) {
+            if (hasNameIgnoreCase(child, name)) {
+                return child;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Returns the tag name of the given element.
+     *
+     * @param node node index
+     * @return the tag name, or null if the node is not an element
+     */
+    public String getNodeName(int node) {
+
+        return isElement(node) ? text.substring(get(node, NAME_START), get(node, NAME_END)) : null;
+    }
+
+    /**
+     * Checks whether the given node is an element with the given name, without materializing the name.
+     *
+     * @param node node index
+     * @param name element name
+     * @return true if the element has the given name
+     */
+    public boolean hasName(int node, String name) {
+
+        return isElement(node) && regionEquals(get(node, NAME_START), get(node, NAME_END), name, false);
+    }
+
+    /**
+     * Checks whether the given node is an element with the given name, ignoring the case.
+     *
+     * @param node node index
+     * @param name element name
+     * @return true if the element has the given name
+     */
+    public boolean hasNameIgnoreCase(int node, String name) {
+
+        return isElement(node) && regionEquals(get(node, NAME_START), get(node, NAME_END), name, true);
+    }
+
+    public int getAttributeCount(int node) {
+
+        return isElement(node) ? get(node, ATTRIBUTE_COUNT) : 0;
+    }
+
+    public String getAttributeName(int node, int index) {
+
+        int offset = (get(node, FIRST_ATTRIBUTE) + index) * ATTRIBUTE_SIZE;
+        return text.substring(attributes[offset + ATTRIBUTE_NAME_START], attributes[offset + ATTRIBUTE_NAME_END]);
+    }
+
+    /**
+     * Returns the value of an attribute of the given element, without the quotes.
+     *
+     * @param node  node index
+     * @param index index of the attribute in the element
+     * @return the attribute value, or null if the attribute does not have a value
+     */
+    public String getAttributeValue(int node, int index) {
+
+        int offset = (get(node, FIRST_ATTRIBUTE) + index) * ATTRIBUTE_SIZE;
+        int start = attributes[offset + VALUE_START];
+        int end = attributes[offset + VALUE_END];
+        if (start == NONE) {
+            return null;
+        }
+        if (end - start > 1) {
+            char quote = text.charAt(start);
+            if ((quote == '"' || quote == '\'') && text.charAt(end - 1) == quote) {
+                return text.substring(start + 1, end - 1);
+            }
+        }
+        return text.substring(start, end);
+    }
+
+    /**
+     * Checks whether the given element has the given attribute.
+     *
+     * @param node node index
+     * @param name attribute name
+     * @return true if the attribute exists
+     */
+    public boolean hasAttribute(int node, String name) {
+
+        return indexOfAttribute(node, name) != NONE;
+    }
+
+    /**
+     * Returns the value of the given attribute of an element, without the quotes.
+     *
+     * @param node node index
+     * @param name attribute name
+     * @return the attribute value, or null if the node is not an element or the attribute does not exist
+     */
+    public String getAttribute(int node, String name) {
+
+        int index = indexOfAttribute(node, name);
+        return index != NONE ? getAttributeValue(node, index) : null;
+    }
+
+    private int indexOfAttribute(int node, String name) {
+
+        int count = getAttributeCount(node);
+        int first = get(node, FIRST_ATTRIBUTE);
+        for (int i = 0; i < count; i++) {
+            int offset = (first + i) * ATTRIBUTE_SIZE;
+            if (regionEquals(attributes[offset + ATTRIBUTE_NAME_START], attributes[offset + ATTRIBUTE_NAME_END], name,
+                    false)) {
+                return i;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Returns the raw content of the given text, CDATA or comment node.
+     *
+     * @param node node index
+     * @return the content, or null if the node is not a text, CDATA or comment node
+     */
+    public String getContent(int node) {
+
+        return isText(node) || isCDATA(node) || isComment(node) ? text.substring(get(node, START), get(node, END)) :
+                null;
+    }
+
+    /**
+     * Returns the inline string of the given node, in the same format as
+     * {@link Utils#getInlineString(org.eclipse.lemminx.dom.DOMNode)}.
+     *
+     * @param node node index
+     * @return the inline string, or an empty string if the node does not exist
+     */
+    public String getInlineString(int node) {
+
+        if (node == NONE) {
+            return "";
+        }
+        if (isCDATA(node)) {
+            return "<![CDATA[" + getContent(node) + "]]>";
+        }
+        if (isText(node)) {
+            return Utils.unescapeXml(getContent(node));
+        }
+        if (!isElement(node)) {
+            return "";
+        }
+        StringBuilder inline = new StringBuilder("<").append(getNodeName(node));
+        int attributeCount = getAttributeCount(node);
+        if (attributeCount > 0) {
+            inline.append(' ');
+            for (int i = 0; i < attributeCount; i++) {
+                inline.append(getAttributeName(node, i)).append("=\"")
+                        .append(Utils.unescapeXml(getAttributeValue(node, i))).append("\" ");
+            }
+        }
+        if (text.startsWith("/>", getEnd(node) - 2)) {
+            return inline.append("/>").toString();
+        }
+        inline.append('>');
+        int child = getFirstChild(node);
+        if (isElement(child)) {
+            inline.append('\n');
+        }
+        for (; child != NONE; child = getNextSibling(child)) {
+            inline.append(getInlineString(child));
+            if (isElement(child)) {
+                inline.append('\n');
+            }
+        }
+        return inline.append("</").append(StringEscapeUtils.escapeXml10(getNodeName(node))).append('>').toString();
+    }
+
+    private boolean regionEquals(int start, int end, String name, boolean ignoreCase) {
+
+        return end - start == name.length() && text.regionMatches(ignoreCase, start, name, 0, name.length());
+    }
+
+    /**
+     * Point where the scan of a document stops.
+     */
+    @FunctionalInterface
+    public interface ScanLimit {
+
+        /**
+         * Checks whether the scan should stop before the next element.
+         *
+         * @param document document scanned so far
+         * @param parent   parent node of the next element
+         * @param depth    depth of the next element, where the document element has the depth 1
+         * @return true to stop the scan
+         */
+        boolean isReached(CompactDocument document, int parent, int depth);
+
+        /**
+         * Stops the scan before the first element deeper than the given depth. A depth of 1 scans the start tag of the
+         * document element only.
+         *
+         * @param maxDepth maximum depth of the scanned elements
+         * @return the scan limit
+         */
+        static ScanLimit depth(int maxDepth) {
+
+            return (document, parent, depth) -> depth > maxDepth;
+        }
+
+        /**
+         * Stops the scan after the start tags of the given number of elements.
+         *
+         * @param maxElements number of elements to scan
+         * @return the scan limit
+         */
+        static ScanLimit elements(int maxElements) {
+
+            return (document, parent, depth) -> document.getElementCount() >= maxElements;
+        }
+    }
+}
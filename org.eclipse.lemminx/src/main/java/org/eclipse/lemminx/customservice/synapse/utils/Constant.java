@@ -542,6 +542,8 @@ public class Constant {
     public static final String WSO2_MI = ".wso2-mi";
     public static final String M2 = ".m2";
     public static final String DOWNLOADED = "Downloaded";
+    public static final String MAVEN_REPOSITORY_URL_PROPERTY = "mi.maven.repository.url";
+    public static final String DEFAULT_MAVEN_REPOSITORY_URL = "https://maven.wso2.org/nexus/content/groups/public";
     public static final String EXTRACTED = "Extracted";
     public static final String PARALLEL_EXECUTION = "parallelExecution";
     public static final String CONTINUE_WITHOUT_AGGREGATION = "continueWithoutAggregation";
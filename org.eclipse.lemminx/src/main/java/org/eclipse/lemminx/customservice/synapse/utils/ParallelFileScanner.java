@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.utils;
+
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Scans the files of a project folder and processes them in parallel.
+ * <p>
+ * The folder is walked by the calling thread, which submits each accepted file to a shared fork-join pool as soon as
+ * it is found, so that reading and parsing the files overlaps with the walk. The results are returned in the walk
+ * order, which is the same order in which the files were found by recursive {@link java.io.File#listFiles()}
+ * traversal, so the outcome of a scan does not depend on the number of workers.
+ */
+public class ParallelFileScanner {
+
+    /**
+     * Cancel checker of a scan that is never cancelled.
+     */
+    public static final CancelChecker NOT_CANCELLED = () -> {
+    };
+    private static final Logger LOGGER = Logger.getLogger(ParallelFileScanner.class.getName());
+    private static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors(),
+            pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("mi-file-scanner-" + thread.getPoolIndex());
+                return thread;
+            }, null, false);
+
+    private ParallelFileScanner() {
+
+    }
+
+    /**
+     * Processes the files inside the given folder.
+     *
+     * @param root            folder to scan
+     * @param directoryFilter filter for the sub folders to walk into
+     * @param fileFilter      filter for the files to process
+     * @param processor       processor of a file. A null result is not added to the scan result
+     * @param <T>             type of the result of a file
+     * @return the results of the processed files in the walk order
+     */
+    public static <T> List<T> scan(Path root, Predicate<Path> directoryFilter, Predicate<Path> fileFilter,
+                                   Function<Path, T> processor) {
+
+        return scan(root, directoryFilter, fileFilter, processor, NOT_CANCELLED);
+    }
+
+    /**
+     * Processes the files inside the given folder.
+     * <p>
+     * The cancel checker is polled while walking the folder and before processing each file. When the scan is
+     * cancelled, the pending files are not processed and a
+     * {@link java.util.concurrent.CancellationException} is thrown.
+     *
+     * @param root            folder to scan
+     * @param directoryFilter filter for the sub folders to walk into
+     * @param fileFilter      filter for the files to process
+     * @param processor       processor of a file. A null result is not added to the scan result
+     * @param cancelChecker   cancel checker of the request that started the scan
+     * @param <T>             type of the result of a file
+     * @return the results of the processed files in the walk order
+     */
+    public static <T> List<T> scan(Path root, Predicate<Path> directoryFilter, Predicate<Path> fileFilter,
+                                   Function<Path, T> processor, CancelChecker cancelChecker) {
+
+        if (root == null || !Files.isDirectory(root)) {
+            return new ArrayList<>();
+        }
+        List<ForkJoinTask<T>> tasks = new ArrayList<>();
+        try {
+            walk(root, directoryFilter, fileFilter, processor, cancelChecker, tasks);
+            List<T> results = new ArrayList<>(tasks.size());
+            for (ForkJoinTask<T> task : tasks) {
+                T result = task.join();
+                if (result != null) {
+                    results.add(result);
+                }
+            }
+            return results;
+        } catch (RuntimeException e) {
+            for (ForkJoinTask<T> task : tasks) {
+                task.cancel(false);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Checks whether the given file or folder is hidden.
+     *
+     * @param path file or folder
+     * @return true if the path is hidden or could not be read
+     */
+    public static boolean isHidden(Path path) {
+
+        try {
+            return Files.isHidden(path);
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    private static <T> void walk(Path root, Predicate<Path> directoryFilter, Predicate<Path> fileFilter,
+                                 Function<Path, T> processor, CancelChecker cancelChecker,
+                                 List<ForkJoinTask<T>> tasks) {
+
+        try {
+            Files.walkFileTree(root, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE,
+                    new SimpleFileVisitor<>() {
+                        @Override
+                        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+
+                            cancelChecker.checkCanceled();
+                            if (dir.equals(root) || directoryFilter.test(dir)) {
+                                return FileVisitResult.CONTINUE;
+                            }
+                            return FileVisitResult.SKIP_SUBTREE;
+                        }
+
+                        @Override
+                        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+
+                            cancelChecker.checkCanceled();
+                            if (attrs.isRegularFile() && fileFilter.test(file)) {
+                                tasks.add(POOL.submit(() -> {
+                                    cancelChecker.checkCanceled();
+                                    return processor.apply(file);
+                                }));
+                            }
+                            return FileVisitResult.CONTINUE;
+                        }
+
+                        @Override
+                        public FileVisitResult visitFileFailed(Path file, IOException e) {
+
+                            LOGGER.log(Level.WARNING, "Could not read " + file + " while scanning the project", e);
+                            return FileVisitResult.CONTINUE;
+                        }
+                    });
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Error while scanning " + root, e);
+        }
+    }
+}
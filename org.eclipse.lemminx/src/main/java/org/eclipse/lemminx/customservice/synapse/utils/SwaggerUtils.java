@@ -18,182 +18,147 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.parser.OpenAPIV3Parser;
 import org.eclipse.lemminx.customservice.synapse.api.generator.SwaggerConstants;
+import org.eclipse.lemminx.customservice.synapse.performance.PerformanceMonitor;
 
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 public class SwaggerUtils {
 
+    private static final int MAX_CACHED_FINGERPRINTS = 16;
+    private static final Map<String, Map<String, String>> FINGERPRINT_CACHE =
+            Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Map<String, String>> eldest) {
+
+                    return size() > MAX_CACHED_FINGERPRINTS;
+                }
+            });
+
     /**
      * Compares the paths of two OpenAPI specifications and returns whether they are equal.
      * <p>
-     * This method extracts the {@link PathItem} mappings from both the generated and existing
-     * OpenAPI specifications and delegates the comparison to {@code comparePaths}.
+     * The fingerprints of the paths of a specification are cached by its content, so a specification that was
+     * already compared is not parsed again.
      * </p>
      *
-     * @param openAPI1 the generated {@link OpenAPI} specification to compare.
-     * @param openAPI2 the existing {@link OpenAPI} specification to compare against.
+     * @param swagger1 the generated OpenAPI specification to compare.
+     * @param swagger2 the existing OpenAPI specification to compare against.
      * @return {@code true} if the paths in both OpenAPI specifications are equal, {@code false} otherwise.
      */
-    public static boolean compareOpenAPIs(OpenAPI openAPI1, OpenAPI openAPI2) {
-        return comparePaths(openAPI1.getPaths(), openAPI2.getPaths());
+    public static boolean compareOpenAPIs(String swagger1, String swagger2) {
+
+        Map<String, String> fingerprints1 = getPathFingerprints(swagger1);
+        Map<String, String> fingerprints2 = getPathFingerprints(swagger2);
+        return fingerprints1 != null && fingerprints1.equals(fingerprints2);
     }
 
     /**
-     * Compares two maps of OpenAPI {@link PathItem} objects and determines if they are equal.
+     * Compares the paths of two OpenAPI specifications and returns whether they are equal.
      * <p>
-     * This method performs a comparison between the two provided path maps, typically extracted
-     * from two OpenAPI specifications, to check if their path definitions are identical.
+     * This method extracts the {@link PathItem} mappings from both the generated and existing
+     * OpenAPI specifications and compares their fingerprints.
      * </p>
      *
-     * @param paths1 the first map of path strings to {@link PathItem} objects.
-     * @param paths2 the second map of path strings to {@link PathItem} objects.
-     * @return {@code true} if both path maps are equal; {@code false} otherwise.
+     * @param openAPI1 the generated {@link OpenAPI} specification to compare.
+     * @param openAPI2 the existing {@link OpenAPI} specification to compare against.
+     * @return {@code true} if the paths in both OpenAPI specifications are equal, {@code false} otherwise.
      */
-    private static boolean comparePaths(Map<String, PathItem> paths1, Map<String, PathItem> paths2) {
-        Map<String, String> normalizedPaths1 = normalizePaths(paths1);
-        Map<String, String> normalizedPaths2 = normalizePaths(paths2);
+    public static boolean compareOpenAPIs(OpenAPI openAPI1, OpenAPI openAPI2) {
 
-        Set<String> allNormalizedPaths = new HashSet<>(normalizedPaths1.keySet());
-        allNormalizedPaths.addAll(normalizedPaths2.keySet());
+        return getPathFingerprints(openAPI1.getPaths()).equals(getPathFingerprints(openAPI2.getPaths()));
+    }
 
-        if (allNormalizedPaths.size() != normalizedPaths2.size()) {
-            return false;
-        }
-        for (String normalizedPath : allNormalizedPaths) {
-            // Get the original paths using precomputed mappings
-            String originalPath1 = normalizedPaths1.get(normalizedPath);
-            String originalPath2 = normalizedPaths2.get(normalizedPath);
+    private static Map<String, String> getPathFingerprints(String swagger) {
 
-            if (originalPath1 == null || originalPath2 == null) {
-                return false;
-            }
-            PathItem pathItem1 = paths1.get(originalPath1);
-            PathItem pathItem2 = paths2.get(originalPath2);
-            if (!compareMethods(pathItem1, pathItem2)) {
-                return false;
+        if (swagger == null) {
+            return null;
+        }
+        String hash = Utils.getHash(swagger);
+        Map<String, String> fingerprints = FINGERPRINT_CACHE.get(hash);
+        PerformanceMonitor.getInstance().recordCacheAccess("openApiFingerprint", fingerprints != null);
+        if (fingerprints == null) {
+            OpenAPI openAPI = new OpenAPIV3Parser().readContents(swagger, null, null).getOpenAPI();
+            if (openAPI == null) {
+                return null;
             }
+            fingerprints = getPathFingerprints(openAPI.getPaths());
+            FINGERPRINT_CACHE.put(hash, fingerprints);
         }
-        return true;
+        return fingerprints;
     }
 
     /**
-     * Normalizes the path strings in the given map of OpenAPI {@link PathItem} objects.
+     * Computes the fingerprints of the given OpenAPI paths.
      * <p>
-     * This method replaces all path parameter placeholders (e.g., {@code {id}}) with a generic
-     * placeholder {@code {}} to allow for structural comparison of paths without considering
-     * parameter names. It returns a map where the key is the normalized path and the value
-     * is the original path.
+     * The path parameter placeholders (e.g., {@code {id}}) are replaced with a generic placeholder {@code {}}, so
+     * that the paths are compared structurally without considering the parameter names. The fingerprint of a path
+     * lists its HTTP methods along with the names and locations of their required parameters.
      * </p>
      *
      * @param paths the map of path strings to {@link PathItem} objects.
-     * @return a map containing normalized path strings as keys and their corresponding original paths as values.
+     * @return a map containing normalized path strings as keys and their fingerprints as values.
      */
-    private static Map<String, String> normalizePaths(Map<String, PathItem> paths) {
-        Map<String, String> normalizedPaths = new HashMap<>();
+    private static Map<String, String> getPathFingerprints(Map<String, PathItem> paths) {
 
-        for (String path : paths.keySet()) {
-            String normalizedPath = path.replaceAll(SwaggerConstants.PATH_PARAMETER_REGEX, SwaggerConstants.NORMALIZED_PLACEHOLDER);
-            normalizedPaths.put(normalizedPath, path); // Store normalized -> original mapping
+        Map<String, String> fingerprints = new HashMap<>();
+        if (paths == null) {
+            return fingerprints;
         }
-        return normalizedPaths;
-    }
-
-    /**
-     * Compares the HTTP methods defined in two {@link PathItem} objects.
-     * <p>
-     * This method checks whether both {@link PathItem} instances define the same set of HTTP methods
-     * (e.g., GET, POST, PUT) and can be used as part of a structural comparison of OpenAPI paths.
-     * </p>
-     *
-     * @param p1 the first {@link PathItem} to compare.
-     * @param p2 the second {@link PathItem} to compare.
-     * @return {@code true} if both {@link PathItem} objects define the same HTTP methods; {@code false} otherwise.
-     */
-    private static boolean compareMethods(PathItem p1, PathItem p2) {
-        if (p1 == p2) return true;
-        if (p1 == null || p2 == null) return false;
-
-        return compareOperation(p1.getGet(), p2.getGet()) &&
-                compareOperation(p1.getPost(), p2.getPost()) &&
-                compareOperation(p1.getPut(), p2.getPut()) &&
-                compareOperation(p1.getDelete(), p2.getDelete()) &&
-                compareOperation(p1.getPatch(), p2.getPatch()) &&
-                compareOperation(p1.getOptions(), p2.getOptions()) &&
-                compareOperation(p1.getHead(), p2.getHead());
+        for (Map.Entry<String, PathItem> path : paths.entrySet()) {
+            String normalizedPath = path.getKey().replaceAll(SwaggerConstants.PATH_PARAMETER_REGEX,
+                    SwaggerConstants.NORMALIZED_PLACEHOLDER);
+            fingerprints.put(normalizedPath, getPathItemFingerprint(path.getValue()));
+        }
+        return fingerprints;
     }
 
-    /**
-     * Compares two {@link Operation} objects from OpenAPI to check if they are equivalent.
-     * <p>
-     * This method compares the properties of two {@link Operation} instances (such as HTTP method,
-     * parameters, responses, etc.) to determine if they define the same operation. It can be used
-     * for comparing individual operations in a structural OpenAPI comparison.
-     * </p>
-     *
-     * @param op1 the first {@link Operation} object to compare.
-     * @param op2 the second {@link Operation} object to compare.
-     * @return {@code true} if both {@link Operation} objects are equivalent; {@code false} otherwise.
-     */
-    private static boolean compareOperation(Operation op1, Operation op2) {
-        if (op1 == op2) return true;
-        if (op1 == null || op2 == null) return false;
+    private static String getPathItemFingerprint(PathItem pathItem) {
 
-        return compareParameters(op1.getParameters(), op2.getParameters());
+        if (pathItem == null) {
+            return "";
+        }
+        StringBuilder fingerprint = new StringBuilder();
+        appendOperationFingerprint(fingerprint, "GET", pathItem.getGet());
+        appendOperationFingerprint(fingerprint, "POST", pathItem.getPost());
+        appendOperationFingerprint(fingerprint, "PUT", pathItem.getPut());
+        appendOperationFingerprint(fingerprint, "DELETE", pathItem.getDelete());
+        appendOperationFingerprint(fingerprint, "PATCH", pathItem.getPatch());
+        appendOperationFingerprint(fingerprint, "OPTIONS", pathItem.getOptions());
+        appendOperationFingerprint(fingerprint, "HEAD", pathItem.getHead());
+        return fingerprint.toString();
     }
 
     /**
-     * Compares two lists of {@link Parameter} objects to check if they are equivalent.
+     * Appends the fingerprint of the given {@link Operation}.
      * <p>
-     * This method compares the parameters of two OpenAPI operations, checking for equality in
-     * parameter names, types, and other relevant attributes. It ensures that both sets of parameters
-     * are structurally and semantically identical.
+     * Only the required parameters of the operation are considered, sorted by their names.
      * </p>
      *
-     * @param params1 the first list of {@link Parameter} objects to compare.
-     * @param params2 the second list of {@link Parameter} objects to compare.
-     * @return {@code true} if both lists of parameters are identical in structure and content; {@code false} otherwise.
+     * @param fingerprint the fingerprint of the path to append to.
+     * @param method      the HTTP method of the operation.
+     * @param operation   the {@link Operation} to append, or {@code null} if the method is not defined.
      */
-    private static boolean compareParameters(List<Parameter> params1, List<Parameter> params2) {
-        if (params1 == params2) return true;
+    private static void appendOperationFingerprint(StringBuilder fingerprint, String method, Operation operation) {
 
-        // Filter only required parameters
-        List<Parameter> requiredParams1 = new ArrayList<>();
-        if (params1 != null) {
-            requiredParams1 = params1.stream()
-                    .filter(p -> Boolean.TRUE.equals(p.getRequired()))
-                    .sorted(Comparator.comparing(Parameter::getName))
-                    .collect(Collectors.toList());
+        if (operation == null) {
+            return;
         }
-
-        List<Parameter> requiredParams2 = new ArrayList<>();
-        if (params2 != null) {
-            requiredParams2 = params2.stream()
+        fingerprint.append(method).append('(');
+        List<Parameter> parameters = operation.getParameters();
+        if (parameters != null) {
+            fingerprint.append(parameters.stream()
                     .filter(p -> Boolean.TRUE.equals(p.getRequired()))
-                    .sorted(Comparator.comparing(Parameter::getName))
-                    .collect(Collectors.toList());
-        }
-
-        if (requiredParams1.size() != requiredParams2.size()) {
-            return false;
-        }
-
-        for (int i = 0; i < requiredParams1.size(); i++) {
-            Parameter p1 = requiredParams1.get(i);
-            Parameter p2 = requiredParams2.get(i);
-            if (!Objects.equals(p1.getName(), p2.getName()) ||
-                    !Objects.equals(p1.getIn(), p2.getIn())) {
-                return false;
-            }
+                    .map(p -> p.getIn() + ":" + p.getName())
+                    .sorted()
+                    .collect(Collectors.joining(",")));
         }
-        return true;
+        fingerprint.append(')');
     }
 }
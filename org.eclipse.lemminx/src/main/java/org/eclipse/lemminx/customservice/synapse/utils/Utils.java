@@ -26,18 +26,14 @@ import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSyntaxException;
 import org.apache.commons.lang3.StringEscapeUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.maven.shared.invoker.DefaultInvocationRequest;
-import org.apache.maven.shared.invoker.DefaultInvoker;
-import org.apache.maven.shared.invoker.Invoker;
-import org.apache.maven.shared.invoker.InvocationResult;
-import org.apache.maven.shared.invoker.InvocationRequest;
 import org.eclipse.lemminx.commons.TextDocument;
 import org.eclipse.lemminx.customservice.synapse.connectors.ConnectorHolder;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.Connector;
 import org.eclipse.lemminx.customservice.synapse.connectors.entity.ConnectorAction;
-import org.eclipse.lemminx.customservice.synapse.directoryTree.legacyBuilder.utils.ProjectType;
+import org.eclipse.lemminx.customservice.synapse.parser.DependencyDetails;
+import org.eclipse.lemminx.customservice.synapse.parser.MavenDependencyResolver;
 import org.eclipse.lemminx.customservice.synapse.parser.OverviewPageDetailsResponse;
-import org.eclipse.lemminx.customservice.synapse.parser.pom.PomParser;
+import org.eclipse.lemminx.customservice.synapse.parser.ProjectMetadataService;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.Resource;
 import org.eclipse.lemminx.customservice.synapse.resourceFinder.pojo.ResourceResponse;
 import org.eclipse.lemminx.dom.DOMAttr;
@@ -64,7 +60,6 @@ import java.io.OutputStream;
 import java.io.StringWriter;
 import java.lang.reflect.Method;
 import java.math.BigInteger;
-import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -88,7 +83,6 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Properties;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.logging.Level;
@@ -258,28 +252,7 @@ public class Utils {
 
     public static boolean isLegacyProject(String path) {
 
-        String dotProjectPath = path + File.separator + Constant.DOT_PROJECT;
-        File dotProjectFile = new File(dotProjectPath);
-        if (dotProjectFile != null && dotProjectFile.exists()) {
-            try {
-                DOMDocument projectDOM = Utils.getDOMDocument(dotProjectFile);
-                DOMNode descriptionNode = findDescriptionNode(projectDOM);
-                if (descriptionNode != null) {
-                    DOMNode naturesNode = findNaturesNode(descriptionNode);
-                    if (naturesNode != null) {
-                        List<DOMNode> children = naturesNode.getChildren();
-                        for (DOMNode child : children) {
-                            String nature = Utils.getInlineString(child.getFirstChild());
-                            if (ProjectType.ROOT_PROJECT.value.equalsIgnoreCase(nature)) {
-                                return Boolean.TRUE;
-                            }
-                        }
-                    }
-                }
-            } catch (IOException e) {
-            }
-        }
-        return Boolean.FALSE;
+        return ProjectMetadataService.getInstance().getMetadata(path).isLegacyProject();
     }
 
     public static DOMNode findDescriptionNode(DOMDocument projectDOM) {
@@ -419,7 +392,7 @@ public class Utils {
 
     }
 
-    private static void waitForDownload(File file) {
+    static void waitForDownload(File file) {
 
         boolean isDownloaded = false;
         long fileSize = getFileSize(file);
@@ -935,27 +908,9 @@ public class Utils {
     }
 
     public static String getServerVersion(String projectPath, String defaultVersion) {
+
         try {
-            Path pomPath = Path.of(projectPath, "pom.xml");
-            File pomFile = pomPath.toFile();
-            DOMDocument document = getDOMDocument(pomFile);
-
-            DOMNode propertiesList = getChildNodeByName(document.getDocumentElement(), "properties");
-            if (propertiesList != null) {
-                DOMNode runtimeVersionList = getChildNodeByName(propertiesList, "project.runtime.version");
-                if (runtimeVersionList != null) {
-                    String version = getInlineString(runtimeVersionList.getFirstChild());
-                    Pattern pattern = Pattern.compile("^\\d+\\.\\d+\\.\\d+$");
-                    Matcher matcher = pattern.matcher(version);
-                    if (matcher.matches()) {
-                        if (Integer.parseInt(version.replace(".", "")) <
-                                Integer.parseInt(Constant.MI_430_VERSION.replace(".", ""))) {
-                            return Constant.MI_430_VERSION;
-                        }
-                        return Constant.MI_SUPPORTED_VERSION_MAP.get(version);
-                    }
-                }
-            }
+            return ProjectMetadataService.getInstance().getMetadata(projectPath).getServerVersion(defaultVersion);
         } catch (Exception e) {
             logger.log(Level.SEVERE, "Error occurred while extracting server runtime version.", e);
         }
@@ -1359,8 +1314,8 @@ public class Utils {
      */
     public static boolean isOlderCARPlugin(String projectPath) {
 
-        OverviewPageDetailsResponse overviewPageDetailsResponse = new OverviewPageDetailsResponse();
-        PomParser.getPomDetails(projectPath, overviewPageDetailsResponse);
+        OverviewPageDetailsResponse overviewPageDetailsResponse =
+                ProjectMetadataService.getInstance().getMetadata(projectPath).getPomDetails();
         String currentVersion = overviewPageDetailsResponse.getBuildDetails().getAdvanceDetails().getPluginDetails()
                 .getProjectBuildPluginVersion().getValue();
         if (currentVersion.contains("-SNAPSHOT")) {
@@ -1424,60 +1379,32 @@ public class Utils {
             useLocalMaven = useLocalMaven(projectPath);
         }
 
+        // Default to zip if fileType is not specified
+        String effectiveFileType = StringUtils.isEmpty(fileType) ? Constant.ZIP_EXTENSION_NO_DOT : fileType;
         if (useLocalMaven) {
-            try {
-                InvocationRequest request = new DefaultInvocationRequest();
-                request.setPomFile(new File(Constant.POM));
-                request.setGoals(Collections.singletonList("dependency:copy"));
-                Properties properties = new Properties();
-                properties.setProperty(Constant.ARTIFACT,
-                        String.format("%s:%s:%s:%s", groupId, artifactId, version, Constant.ZIP_EXTENSION_NO_DOT));
-                properties.setProperty(Constant.OUTPUT_DIRECTORY, targetDirectory.getAbsolutePath());
-                request.setProperties(properties);
-
-                Invoker invoker = new DefaultInvoker();
-                invoker.setMavenHome(new File(getMavenHome()));
-
-                InvocationResult result = invoker.execute(request);
-                if (result.getExitCode() != 0) {
-                    throw new IllegalStateException("Maven build failed. Exit code: " + result.getExitCode(), result.getExecutionException());
-                }
+            DependencyDetails dependency = new DependencyDetails();
+            dependency.setGroupId(groupId);
+            dependency.setArtifact(artifactId);
+            dependency.setVersion(version);
+            dependency.setType(effectiveFileType);
+            File resolvedFile = MavenDependencyResolver.getInstance().resolve(List.of(dependency)).get(dependency);
+            if (resolvedFile != null) {
+                copyFile(resolvedFile.getPath(), targetDirectory.getPath());
                 logger.log(Level.INFO, "Dependency downloaded via local maven: " + artifactId);
                 return;
-            } catch (Exception e) {
-                logger.log(Level.SEVERE, "Error occurred while downloading dependency from local maven: "
-                        + artifactId + "-" + version + ". Error: " + e.getMessage());
             }
+            logger.log(Level.SEVERE, "Error occurred while downloading dependency from local maven: "
+                    + artifactId + "-" + version);
         }
 
-        // Default to zip if fileType is not specified
-        String effectiveFileType = StringUtils.isEmpty(fileType) ? Constant.ZIP_EXTENSION_NO_DOT : fileType;
-        String urlString = String.format("https://maven.wso2.org/nexus/content/groups/public/%s/%s/%s/%s-%s.%s",
-                groupId.replace(".", "/"), artifactId, version, artifactId, version, effectiveFileType);
         File targetFile = new File(targetDirectory, String.format("%s-%s.%s", artifactId, version, effectiveFileType));
-        HttpURLConnection connection = null;
         try {
-            URL url = new URL(urlString);
-            connection = (HttpURLConnection) url.openConnection();
-            connection.setConnectTimeout(20_000);
-            connection.setReadTimeout(40_000);
-
-            try (BufferedInputStream in = new BufferedInputStream(connection.getInputStream());
-                 FileOutputStream fileOutputStream = new FileOutputStream(targetFile)) {
-                byte[] dataBuffer = new byte[1024];
-                int bytesRead;
-                while ((bytesRead = in.read(dataBuffer, 0, 1024)) != -1) {
-                    fileOutputStream.write(dataBuffer, 0, bytesRead);
-                }
-            }
+            ArtifactDownloader.getInstance().download(groupId, artifactId, version, effectiveFileType, targetFile);
         } catch (IOException e) {
             logger.log(Level.SEVERE, "Error occurred while downloading dependency: " + artifactId + "-" + version + "."
-                    + effectiveFileType + " from " + urlString + ". Error: " + e.getMessage());
+                    + effectiveFileType + " from " + ArtifactDownloader.getRepositoryUrl() + ". Error: "
+                    + e.getMessage());
             throw e;
-        } finally {
-            if (connection != null) {
-                connection.disconnect();
-            }
         }
     }
 
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.customservice.synapse.utils;
+
+import com.google.gson.JsonObject;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.lemminx.customservice.synapse.performance.PerformanceMonitor;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Read-only view of a zip archive.
+ * <p>
+ * The entries are looked up from the central directory of the zip, so a single file can be read without extracting
+ * the archive. Entry paths are relative to the root of the archive content. When all the entries are inside a top
+ * level folder named after the zip, that folder is skipped in the same way as when the zip is extracted with
+ * {@link Utils#extractZip(File, File)}.
+ */
+public class ZipArchive implements Closeable {
+
+    private static final int MAX_CACHED_JSON = 64;
+    // Access order, the eldest entry is the least recently read JSON
+    private static final Map<String, CachedJson> JSON_CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedJson> eldest) {
+
+            return size() > MAX_CACHED_JSON;
+        }
+    };
+
+    private final ZipFile zipFile;
+    private final Map<String, ZipEntry> entries;
+
+    private ZipArchive(ZipFile zipFile, Map<String, ZipEntry> entries) {
+
+        this.zipFile = zipFile;
+        this.entries = entries;
+    }
+
+    /**
+     * Opens the given zip archive.
+     *
+     * @param zip zip file
+     * @return the zip archive
+     * @throws IOException if the zip could not be opened
+     */
+    public static ZipArchive open(File zip) throws IOException {
+
+        Utils.waitForDownload(zip);
+        ZipFile zipFile = new ZipFile(zip);
+        String rootFolder = zip.getName().replace(Constant.ZIP_EXTENSION, StringUtils.EMPTY) + "/";
+        boolean removeRootFolder = zipFile.getEntry(rootFolder) != null;
+        Map<String, ZipEntry> entries = new HashMap<>();
+        Enumeration<? extends ZipEntry> zipEntries = zipFile.entries();
+        while (zipEntries.hasMoreElements()) {
+            ZipEntry entry = zipEntries.nextElement();
+            String name = entry.getName();
+            if (removeRootFolder && name.startsWith(rootFolder)) {
+                name = name.substring(rootFolder.length());
+            }
+            if (!name.isEmpty() && !entry.isDirectory()) {
+                entries.put(name, entry);
+            }
+        }
+        return new ZipArchive(zipFile, entries);
+    }
+
+    /**
+     * Reads the given JSON entry of the zip without extracting it.
+     * <p>
+     * The parsed JSON is cached by the hash of the zip, so a modified zip is read again. The least recently read
+     * entries are evicted when the cache is full.
+     *
+     * @param zip  zip file
+     * @param path path of the entry
+     * @return a copy of the parsed JSON object, or null if the entry is not a JSON object
+     * @throws IOException if the zip or the entry could not be read
+     */
+    public static JsonObject readJsonEntry(File zip, String path) throws IOException {
+
+        String zipPath = zip.getAbsolutePath();
+        String cacheKey = Utils.getHash(zipPath + ":" + zip.length() + ":" + zip.lastModified()) + "!" + path;
+        CachedJson cachedJson;
+        synchronized (JSON_CACHE) {
+            cachedJson = JSON_CACHE.get(cacheKey);
+        }
+        PerformanceMonitor.getInstance().recordCacheAccess("connectorZipJson", cachedJson != null);
+        if (cachedJson == null) {
+            try (ZipArchive archive = open(zip)) {
+                cachedJson = new CachedJson(zipPath, Utils.getJsonObject(archive.readEntry(path)));
+            }
+            synchronized (JSON_CACHE) {
+                JSON_CACHE.put(cacheKey, cachedJson);
+            }
+        }
+        return cachedJson.json != null ? cachedJson.json.deepCopy() : null;
+    }
+
+    /**
+     * Removes the cached JSON entries of the given zip, when the zip is removed.
+     *
+     * @param zip zip file
+     */
+    public static void evictJsonEntries(File zip) {
+
+        String zipPath = zip.getAbsolutePath();
+        synchronized (JSON_CACHE) {
+            JSON_CACHE.values().removeIf(cachedJson -> cachedJson.zipPath.equals(zipPath));
+        }
+    }
+
+    /**
+     * Checks whether the archive contains the given entry.
+     *
+     * @param path path of the entry
+     * @return true if the entry exists
+     */
+    public boolean hasEntry(String path) {
+
+        return entries.containsKey(path);
+    }
+
+    /**
+     * Returns the paths of the entries inside the given folder of the archive.
+     *
+     * @param folder folder path
+     * @return the entry paths
+     */
+    public List<String> getEntries(String folder) {
+
+        String prefix = folder.endsWith("/") ? folder : folder + "/";
+        List<String> folderEntries = new ArrayList<>();
+        for (String path : entries.keySet()) {
+            if (path.startsWith(prefix)) {
+                folderEntries.add(path);
+            }
+        }
+        return folderEntries;
+    }
+
+    /**
+     * Opens a stream to read the given entry.
+     *
+     * @param path path of the entry
+     * @return the entry stream
+     * @throws IOException if the entry does not exist or could not be read
+     */
+    public InputStream getInputStream(String path) throws IOException {
+
+        ZipEntry entry = entries.get(path);
+        if (entry == null) {
+            throw new FileNotFoundException(path + " not found in " + zipFile.getName());
+        }
+        return zipFile.getInputStream(entry);
+    }
+
+    /**
+     * Reads the content of the given entry.
+     *
+     * @param path path of the entry
+     * @return the entry content
+     * @throws IOException if the entry does not exist or could not be read
+     */
+    public String readEntry(String path) throws IOException {
+
+        try (InputStream inputStream = getInputStream(path)) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        zipFile.close();
+    }
+
+    private static class CachedJson {
+
+        private final String zipPath;
+        private final JsonObject json;
+
+        CachedJson(String zipPath, JsonObject json) {
+
+            this.zipPath = zipPath;
+            this.json = json;
+        }
+    }
+}
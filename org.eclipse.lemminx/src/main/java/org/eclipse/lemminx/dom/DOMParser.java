@@ -153,7 +153,7 @@ public class DOMParser {
 
 				case StartTag: {
 					DOMElement element = (DOMElement) curr;
-					element.tag = scanner.getTokenText();
+					element.tag = scanner.getTokenSymbol();
 					curr.end = scanner.getTokenEnd();
 					break;
 				}
@@ -193,7 +193,7 @@ public class DOMParser {
 
 				case EndTag:
 					// end tag (ex: </root>)
-					String closeTag = scanner.getTokenText();
+					String closeTag = scanner.getTokenSymbol();
 					DOMNode current = curr;
 
 					/**
@@ -249,7 +249,7 @@ public class DOMParser {
 					break;
 
 				case AttributeName: {
-					attr = new DOMAttr(null, scanner.getTokenOffset(),
+					attr = new DOMAttr(scanner.getTokenSymbol(), scanner.getTokenOffset(),
 							scanner.getTokenEnd(), curr);
 					curr.setAttributeNode(attr);
 					curr.end = scanner.getTokenEnd();
@@ -305,14 +305,14 @@ public class DOMParser {
 
 				case PIName: {
 					DOMProcessingInstruction processingInstruction = ((DOMProcessingInstruction) curr);
-					processingInstruction.target = scanner.getTokenText();
+					processingInstruction.target = scanner.getTokenSymbol();
 					processingInstruction.processingInstruction = true;
 					break;
 				}
 
 				case PrologName: {
 					DOMProcessingInstruction processingInstruction = ((DOMProcessingInstruction) curr);
-					processingInstruction.target = scanner.getTokenText();
+					processingInstruction.target = scanner.getTokenSymbol();
 					processingInstruction.prolog = true;
 					break;
 				}
@@ -29,7 +29,7 @@ import static org.eclipse.lemminx.dom.parser.Constants._WSP;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Predicate;
+import java.util.function.IntPredicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -39,20 +39,19 @@ import java.util.regex.Pattern;
  */
 public class MultiLineStream {
 
-	private static final Predicate<Integer> WHITESPACE_PREDICATE = ch -> {
+	private static final IntPredicate WHITESPACE_PREDICATE = ch -> {
 		return ch == _WSP || ch == _TAB || ch == _NWL || ch == _LFD || ch == _CAR;
 	};
 
 	private final String source;
 	private final int len;
 	private int position;
-	private final Map<Pattern, Matcher> regexpCache;
+	private Map<Pattern, Matcher> regexpCache;
 
 	public MultiLineStream(String source, int position) {
 		this.source = source;
 		this.len = source.length();
 		this.position = position;
-		this.regexpCache = new HashMap<>();
 	}
 
 	public boolean eos() {
@@ -301,7 +300,13 @@ public class MultiLineStream {
 		return n > 0;
 	}
 
-	public int advanceWhileChar(Predicate<Integer> condition) {
+	/**
+	 * Advances while the char at the stream position matches the given condition.
+	 * 
+	 * @param condition the condition tested with the code point of the chars.
+	 * @return the number of chars the stream advanced.
+	 */
+	public int advanceWhileChar(IntPredicate condition) {
 		int posNow = this.position;
 		while (this.position < this.len && condition.test(peekChar())) {
 			this.position++;
@@ -316,6 +321,10 @@ public class MultiLineStream {
 	 * @return the cached matcher from the given regex.
 	 */
 	private Matcher getCachedMatcher(Pattern regex) {
+		if (regexpCache == null) {
+			// Most of the streams scan XML content only, which doesn't use regex
+			regexpCache = new HashMap<>();
+		}
 		Matcher matcher = regexpCache.get(regex);
 		if (matcher == null) {
 			matcher = regex.matcher(source);
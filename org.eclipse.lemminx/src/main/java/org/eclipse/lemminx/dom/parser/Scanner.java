@@ -45,6 +45,15 @@ public interface Scanner {
 
 	String getTokenText();
 
+	/**
+	 * Returns the text of the current token from the shared
+	 * {@link SymbolTable}, to use for the names (element, attribute, ...) so
+	 * that the documents share the same string instance for a name.
+	 * 
+	 * @return the text of the current token from the shared symbol table.
+	 */
+	String getTokenSymbol();
+
 	String getTokenError();
 
 	ScannerState getScannerState();
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.dom.parser;
+
+/**
+ * Table of the names found by the scanner (element, attribute and processing
+ * instruction names).
+ *
+ * <p>
+ * A name is looked up with the range of the text where it was scanned, so no
+ * string is created when the name is already in the table, and all the DOM
+ * documents share the same string instance for a name.
+ * </p>
+ *
+ * <p>
+ * The table is a fixed size, direct mapped cache: a name replaces the name
+ * which was stored in the same slot. The memory used by the table is bounded,
+ * whatever the number of distinct names of the documents, and the table is
+ * shared by the parser threads without locking, since a slot holds an
+ * immutable string.
+ * </p>
+ *
+ */
+public class SymbolTable {
+
+	private static final int DEFAULT_SIZE = 1 << 13;
+
+	private static final int MAX_SYMBOL_LENGTH = 128;
+
+	private static final SymbolTable SHARED = new SymbolTable(DEFAULT_SIZE);
+
+	private final String[] symbols;
+
+	private final int mask;
+
+	/**
+	 * Creates a symbol table.
+	 *
+	 * @param size the number of slots of the table, rounded up to a power of two.
+	 */
+	public SymbolTable(int size) {
+		int capacity = Integer.highestOneBit(Math.max(size - 1, 1)) << 1;
+		this.symbols = new String[capacity];
+		this.mask = capacity - 1;
+	}
+
+	/**
+	 * Returns the symbol table shared by the XML scanners.
+	 *
+	 * @return the symbol table shared by the XML scanners.
+	 */
+	public static SymbolTable getShared() {
+		return SHARED;
+	}
+
+	/**
+	 * Returns the symbol for the given range of the text.
+	 *
+	 * @param text  the text.
+	 * @param start the start offset of the symbol (inclusive).
+	 * @param end   the end offset of the symbol (exclusive).
+	 * @return the symbol, equal to <code>text.substring(start, end)</code>.
+	 */
+	public String getSymbol(String text, int start, int end) {
+		int length = end - start;
+		if (length <= 0) {
+			return "";
+		}
+		if (length > MAX_SYMBOL_LENGTH) {
+			return text.substring(start, end);
+		}
+		int hash = 0;
+		for (int i = start; i < end; i++) {
+			hash = 31 * hash + text.charAt(i);
+		}
+		int index = (hash ^ (hash >>> 16)) & mask;
+		String symbol = symbols[index];
+		if (symbol != null && symbol.length() == length && symbol.regionMatches(0, text, start, length)) {
+			return symbol;
+		}
+		symbol = text.substring(start, end);
+		symbols[index] = symbol;
+		return symbol;
+	}
+}
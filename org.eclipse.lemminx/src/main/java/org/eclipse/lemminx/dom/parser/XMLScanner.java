@@ -17,11 +17,8 @@
  */
 package org.eclipse.lemminx.dom.parser;
 
-import static org.eclipse.lemminx.dom.parser.Constants.ATTRIBUTE_NAME_REGEX;
 import static org.eclipse.lemminx.dom.parser.Constants.DOCTYPE_KIND_OPTIONS;
 import static org.eclipse.lemminx.dom.parser.Constants.DTD_ELEMENT_CATEGORY;
-import static org.eclipse.lemminx.dom.parser.Constants.ELEMENT_NAME_REGEX;
-import static org.eclipse.lemminx.dom.parser.Constants.PROLOG_NAME_OPTIONS;
 import static org.eclipse.lemminx.dom.parser.Constants.URL_VALUE_REGEX;
 import static org.eclipse.lemminx.dom.parser.Constants._AST;
 import static org.eclipse.lemminx.dom.parser.Constants._AVL;
@@ -59,10 +56,10 @@ import static org.eclipse.lemminx.dom.parser.Constants._UDS;
 import static org.eclipse.lemminx.dom.parser.Constants._WSP;
 import static org.eclipse.lemminx.dom.parser.Constants._YVL;
 
-import java.util.function.Predicate;
+import java.util.function.IntPredicate;
 
 import org.eclipse.lemminx.dom.DOMDocumentType.DocumentTypeKind;
-import org.eclipse.lemminx.utils.StringUtils;;
+import org.eclipse.lemminx.utils.StringUtils;
 
 /**
  * XML scanner implementation.
@@ -70,22 +67,40 @@ import org.eclipse.lemminx.utils.StringUtils;;
  */
 public class XMLScanner implements Scanner {
 
-	private static final Predicate<Integer> START_ELEMENT_NAME_PREDICATE = ch -> {
+	private static final IntPredicate START_ELEMENT_NAME_PREDICATE = withAsciiTable(ch -> {
 		// ^[_:\w]
 		return ch == _UDS || ch == _DDT || Character.isLetter(ch);
-	};
+	});
 
-	private static final Predicate<Integer> ELEMENT_NAME_PREDICATE = ch -> {
+	private static final IntPredicate ELEMENT_NAME_PREDICATE = withAsciiTable(ch -> {
 		// [_:\w-.\d]*
 		return ch == _UDS /* '_' */ || ch == _DDT /* ':' */ || ch == _DOT /* '.' */ || ch == _MIN /* '-' */
 				|| Character.isLetterOrDigit(ch);
-	};
+	});
 
-	private static final Predicate<Integer> ATTRIBUTE_NAME_PREDICATE = ch -> {
+	private static final IntPredicate ATTRIBUTE_NAME_PREDICATE = withAsciiTable(ch -> {
 		// ^[^\s\?\"'<>\/=\x00-\x0F\x7F\x80-\x9F]*
 		return !Character.isWhitespace(ch) && ch != _QMA && ch != _DQO && ch != _SIQ && ch != _LAN && ch != _RAN
 				&& ch != _FSL && ch != _EQS && !(ch >= 0x00 && ch <= 0x0F) && ch != 0x7F && !(ch >= 0x80 && ch <= 0x9F);
-	};
+	});
+
+	// Character classes of the name regex of the DTD declarations, where \w and \s are ASCII only
+
+	private static final IntPredicate START_NAME_REGEX_PREDICATE = withAsciiTable(ch -> {
+		// ^[_:\w]
+		return ch == _UDS || ch == _DDT || isAsciiLetterOrDigit(ch);
+	});
+
+	private static final IntPredicate NAME_REGEX_PREDICATE = withAsciiTable(ch -> {
+		// [_:\w-.\d]*
+		return ch == _UDS || ch == _DDT || ch == _DOT || ch == _MIN || isAsciiLetterOrDigit(ch);
+	});
+
+	private static final IntPredicate ATTRIBUTE_NAME_REGEX_PREDICATE = withAsciiTable(ch -> {
+		// ^[^\s\?\"'<>\/=\x00-\x0F\x7F\x80-\x9F]*
+		return ch != _WSP && ch != _QMA && ch != _DQO && ch != _SIQ && ch != _LAN && ch != _RAN && ch != _FSL
+				&& ch != _EQS && !(ch >= 0x00 && ch <= 0x0F) && ch != 0x7F && !(ch >= 0x80 && ch <= 0x9F);
+	});
 
 	private static final int[] END_COMMENT_PATTERN = new int[] { _MIN, _MIN, _RAN }; // -->
 
@@ -193,8 +208,60 @@ public class XMLScanner implements Scanner {
 		return false;
 	}
 
-	String doctypeName() {
-		return stream.advanceIfRegExp(ELEMENT_NAME_REGEX);
+	/**
+	 * Returns true if the current token matches the name regexp of the DTD
+	 * declarations and false otherwise.
+	 * 
+	 * @return true if the current token matches the name regexp of the DTD
+	 *         declarations and false otherwise.
+	 */
+	boolean hasNextDTDName() {
+		// Name regexp : ^[_:\w][_:\w-.\d]*
+		if (!START_NAME_REGEX_PREDICATE.test(stream.peekChar())) {
+			return false;
+		}
+		stream.advance(1);
+		stream.advanceWhileChar(NAME_REGEX_PREDICATE);
+		return true;
+	}
+
+	/**
+	 * Returns true if the text from the given offset to the stream position is the
+	 * name of the XML prolog, ie matches the regexp <code>^(xml)[\s&lt;&gt;?]?</code>.
+	 * 
+	 * @param offset the start offset of the name.
+	 * @return true if the text is the name of the XML prolog.
+	 */
+	boolean isPrologName(int offset) {
+		String text = stream.getSource();
+		int length = stream.pos() - offset;
+		if (length < 3 || length > 4 || !text.startsWith("xml", offset)) {
+			return false;
+		}
+		if (length == 3) {
+			return true;
+		}
+		char last = text.charAt(offset + 3);
+		return last == ' ' || last == '\t' || last == '\n' || last == 0x0B || last == '\f' || last == '\r'
+				|| last == '<' || last == '>' || last == '?';
+	}
+
+	/**
+	 * Returns true if the text from the given offset to the stream position is a
+	 * processing instruction name, ie matches the attribute name regexp
+	 * <code>^[^\s\?\"'&lt;&gt;\/=\x00-\x0F\x7F\x80-\x9F]*</code>.
+	 * 
+	 * @param offset the start offset of the name.
+	 * @return true if the text is a processing instruction name.
+	 */
+	boolean isPIName(int offset) {
+		String text = stream.getSource();
+		for (int i = offset; i < stream.pos(); i++) {
+			if (!ATTRIBUTE_NAME_REGEX_PREDICATE.test(text.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
 	}
 
 	/**
@@ -257,8 +324,7 @@ public class XMLScanner implements Scanner {
 				return finishToken(offset, TokenType.PIEnd);
 			}
 			if (stream.advanceUntilAnyOfChars(END_WS_OR_PROLOG_PATTERN) || stream.eos()) { // \n or \r or ' ' or '?'
-				String name = getTokenTextFromOffset(offset);
-				if (PROLOG_NAME_OPTIONS.matcher(name).matches()) { // name eg: xml
+				if (isPrologName(offset)) { // name eg: xml
 					state = ScannerState.WithinTag;
 					return finishToken(offset, TokenType.PrologName);
 				}
@@ -266,7 +332,7 @@ public class XMLScanner implements Scanner {
 				// state = ScannerState.WithinTag;
 				// return finishToken(offset, TokenType.PIName);
 				// }
-				if (ATTRIBUTE_NAME_REGEX.matcher(name).matches()) { // {name} eg: m2e
+				if (isPIName(offset)) { // {name} eg: m2e
 					state = ScannerState.WithinPI;
 					return finishToken(offset, TokenType.PIName);
 				}
@@ -290,7 +356,7 @@ public class XMLScanner implements Scanner {
 				if (stream.peekChar() == _LAN) {
 					state = getWithinContentState();
 				}
-				if (getTokenTextFromOffset(offset).length() == 0) {
+				if (stream.pos() == offset) {
 					return finishToken(offset, TokenType.PIEnd);
 				}
 			}
@@ -482,8 +548,7 @@ public class XMLScanner implements Scanner {
 			}
 
 			if (isDeclCompleted == false) {
-				String doctypeName = doctypeName();
-				if (!doctypeName.equals("")) {
+				if (hasNextDTDName()) {
 					state = ScannerState.DTDAfterDoctypeName;
 					return finishToken(offset, TokenType.DTDDoctypeName);
 				}
@@ -658,7 +723,7 @@ public class XMLScanner implements Scanner {
 				return internalScan();
 			}
 
-			if (!stream.advanceIfRegExp(Constants.ELEMENT_NAME_REGEX).equals("")) {
+			if (hasNextDTDName()) {
 				state = ScannerState.DTDElementAfterName;
 				return finishToken(offset, TokenType.DTDElementDeclName);
 			}
@@ -736,7 +801,7 @@ public class XMLScanner implements Scanner {
 			}
 
 			if (isInitialAttlistDeclCompleted == false
-					&& !stream.advanceIfRegExp(Constants.ELEMENT_NAME_REGEX).equals("")) {
+					&& hasNextDTDName()) {
 				state = ScannerState.DTDAfterAttlistElementName;
 				return finishToken(offset, TokenType.DTDAttlistElementName);
 			}
@@ -749,7 +814,7 @@ public class XMLScanner implements Scanner {
 				return finishToken(offset, TokenType.Whitespace);
 			}
 
-			if (!stream.advanceIfRegExp(Constants.ATTRIBUTE_NAME_REGEX).equals("")) {
+			if (stream.advanceWhileChar(ATTRIBUTE_NAME_REGEX_PREDICATE) > 0) {
 				state = ScannerState.DTDAfterAttlistAttributeName;
 				return finishToken(offset, TokenType.DTDAttlistAttributeName);
 			}
@@ -815,7 +880,7 @@ public class XMLScanner implements Scanner {
 				return internalScan();
 			}
 
-			if (!stream.advanceIfRegExp(Constants.ELEMENT_NAME_REGEX).equals("")) {
+			if (hasNextDTDName()) {
 				state = ScannerState.DTDAfterEntityName;
 				return finishToken(offset, TokenType.DTDEntityName);
 			}
@@ -907,7 +972,7 @@ public class XMLScanner implements Scanner {
 				return internalScan();
 			}
 
-			if (!stream.advanceIfRegExp(ELEMENT_NAME_REGEX).equals("")) {
+			if (hasNextDTDName()) {
 				state = ScannerState.DTDAfterNotationName;
 				return finishToken(offset, TokenType.DTDNotationName);
 			}
@@ -1034,6 +1099,11 @@ public class XMLScanner implements Scanner {
 		return stream.getSource().substring(tokenOffset, stream.pos());
 	}
 
+	@Override
+	public String getTokenSymbol() {
+		return SymbolTable.getShared().getSymbol(stream.getSource(), tokenOffset, stream.pos());
+	}
+
 	@Override
 	public boolean isTokenTextBlank() {
 		return StringUtils.isWhitespace(stream.getSource(), tokenOffset, stream.pos());
@@ -1053,6 +1123,25 @@ public class XMLScanner implements Scanner {
 		return stream.getSource().substring(offset, stream.pos());
 	}
 
+	/**
+	 * Returns a predicate which looks up the ASCII chars in a table computed with
+	 * the given predicate, and tests the other chars with the given predicate.
+	 * 
+	 * @param predicate the char predicate.
+	 * @return the predicate using the ASCII table.
+	 */
+	private static IntPredicate withAsciiTable(IntPredicate predicate) {
+		boolean[] table = new boolean[128];
+		for (int ch = 0; ch < table.length; ch++) {
+			table[ch] = predicate.test(ch);
+		}
+		return ch -> ch >= 0 && ch < 128 ? table[ch] : predicate.test(ch);
+	}
+
+	private static boolean isAsciiLetterOrDigit(int ch) {
+		return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9');
+	}
+
 	public static Scanner createScanner(String input) {
 		return createScanner(input, false);
 	}
@@ -66,6 +66,13 @@ public class XMLCatalogURIResolverExtension implements URIResolverExtension {
 		return CATALOG_SYSTEM;
 	}
 
+	@Override
+	public boolean isCacheable(String baseLocation, String publicId, String systemId) {
+		// The catalog schema is used only if the catalog document has no DTD or XML
+		// Schema
+		return !CATALOG_NAMESPACE_URI.equals(publicId);
+	}
+
 	@Override
 	public XMLInputSource resolveEntity(XMLResourceIdentifier resourceIdentifier) throws XNIException, IOException {
 		if (hasDTDorXMLSchema(resourceIdentifier.getBaseSystemId())) {
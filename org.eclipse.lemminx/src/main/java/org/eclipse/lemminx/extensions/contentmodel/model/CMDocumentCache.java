@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.extensions.contentmodel.model;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.eclipse.lemminx.telemetry.TelemetryManager;
+
+/**
+ * The cache of the content model documents (XSD, DTD) by grammar URI.
+ *
+ * <p>
+ * Each document is cached with an estimate of the memory it uses. When the
+ * total exceeds the maximum weight of the cache, the least recently used
+ * documents are evicted, and the given listener is notified with their URI so
+ * that the grammars of the evicted documents can be released too.
+ * </p>
+ *
+ */
+public class CMDocumentCache {
+
+	private static class CachedCMDocument {
+
+		private final CMDocument document;
+
+		private final long weight;
+
+		private long lastUsed;
+
+		CachedCMDocument(CMDocument document, long weight) {
+			this.document = document;
+			this.weight = weight;
+			this.lastUsed = System.currentTimeMillis();
+		}
+	}
+
+	private final Map<String, CachedCMDocument> documents;
+
+	private final Consumer<String> evictionListener;
+
+	private long weight;
+
+	private long maxWeight;
+
+	/**
+	 * Creates an unbounded cache.
+	 *
+	 * @param evictionListener the listener notified with the URI of the documents
+	 *                         evicted to stay within the maximum weight.
+	 */
+	public CMDocumentCache(Consumer<String> evictionListener) {
+		// Access order, the eldest entry is the least recently used document
+		this.documents = new LinkedHashMap<>(16, 0.75f, true);
+		this.evictionListener = evictionListener;
+		this.maxWeight = Long.MAX_VALUE;
+	}
+
+	public synchronized CMDocument get(String uri) {
+		CachedCMDocument cached = documents.get(uri);
+		if (cached == null) {
+			return null;
+		}
+		cached.lastUsed = System.currentTimeMillis();
+		return cached.document;
+	}
+
+	/**
+	 * Caches the given document and evicts the least recently used documents if
+	 * the cache exceeds its maximum weight. The given document is kept even if it
+	 * is heavier than the maximum weight, since it is being used.
+	 *
+	 * @param uri      the grammar URI.
+	 * @param document the content model document.
+	 * @param weight   the estimated memory used by the document in bytes.
+	 */
+	public void put(String uri, CMDocument document, long weight) {
+		List<String> evicted;
+		synchronized (this) {
+			CachedCMDocument old = documents.put(uri, new CachedCMDocument(document, weight));
+			if (old != null) {
+				this.weight -= old.weight;
+			}
+			this.weight += weight;
+			evicted = evict(maxWeight, Long.MAX_VALUE, 1);
+			recordMemory();
+		}
+		notifyEvicted(evicted);
+	}
+
+	public synchronized CMDocument remove(String uri) {
+		CachedCMDocument cached = documents.remove(uri);
+		if (cached == null) {
+			return null;
+		}
+		weight -= cached.weight;
+		recordMemory();
+		return cached.document;
+	}
+
+	public synchronized void clear() {
+		documents.clear();
+		weight = 0;
+		recordMemory();
+	}
+
+	/**
+	 * Sets the maximum weight of the cache and evicts the least recently used
+	 * documents which exceed it.
+	 *
+	 * @param maxWeight the maximum estimated memory in bytes used by the cached
+	 *                  documents.
+	 */
+	public void setMaxWeight(long maxWeight) {
+		List<String> evicted;
+		synchronized (this) {
+			this.maxWeight = maxWeight;
+			evicted = evict(maxWeight, Long.MAX_VALUE, 1);
+			recordMemory();
+		}
+		notifyEvicted(evicted);
+	}
+
+	/**
+	 * Evicts the documents which were not used since the given time.
+	 *
+	 * @param lastUsedBefore the time in milliseconds.
+	 * @return the number of evicted documents.
+	 */
+	public int evictUnused(long lastUsedBefore) {
+		List<String> evicted;
+		synchronized (this) {
+			evicted = evict(0, lastUsedBefore, 0);
+			recordMemory();
+		}
+		notifyEvicted(evicted);
+		return evicted.size();
+	}
+
+	/**
+	 * Returns the estimated memory in bytes used by the cached documents.
+	 *
+	 * @return the estimated memory in bytes used by the cached documents.
+	 */
+	public synchronized long getWeight() {
+		return weight;
+	}
+
+	public synchronized int size() {
+		return documents.size();
+	}
+
+	/**
+	 * Evicts the least recently used documents, which were not used since the
+	 * given time, until the weight of the cache is not greater than the given
+	 * weight or only the given number of documents are left.
+	 */
+	private List<String> evict(long targetWeight, long lastUsedBefore, int minSize) {
+		List<String> evicted = new ArrayList<>();
+		Iterator<Map.Entry<String, CachedCMDocument>> entries = documents.entrySet().iterator();
+		while (weight > targetWeight && documents.size() > minSize && entries.hasNext()) {
+			Map.Entry<String, CachedCMDocument> entry = entries.next();
+			CachedCMDocument cached = entry.getValue();
+			if (cached.lastUsed >= lastUsedBefore) {
+				break;
+			}
+			entries.remove();
+			weight -= cached.weight;
+			evicted.add(entry.getKey());
+		}
+		return evicted;
+	}
+
+	private void recordMemory() {
+		TelemetryManager.getPerformanceListener().recordCMDocumentMemory(documents.size(), weight);
+	}
+
+	private void notifyEvicted(List<String> evicted) {
+		for (String uri : evicted) {
+			TelemetryManager.getPerformanceListener().recordCMDocumentEvicted();
+			evictionListener.accept(uri);
+		}
+	}
+}
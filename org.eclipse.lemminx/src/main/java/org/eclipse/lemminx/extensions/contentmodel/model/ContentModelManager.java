@@ -17,11 +17,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.lemminx.dom.DOMDocument;
@@ -32,6 +29,7 @@ import org.eclipse.lemminx.extensions.contentmodel.settings.XMLFileAssociation;
 import org.eclipse.lemminx.extensions.contentmodel.uriresolver.XMLCacheResolverExtension;
 import org.eclipse.lemminx.extensions.contentmodel.uriresolver.XMLCatalogResolverExtension;
 import org.eclipse.lemminx.extensions.contentmodel.uriresolver.XMLFileAssociationResolverExtension;
+import org.eclipse.lemminx.telemetry.TelemetryManager;
 import org.eclipse.lemminx.uriresolver.CacheResourceDownloadingException;
 import org.eclipse.lemminx.uriresolver.CacheResourcesManager;
 import org.eclipse.lemminx.uriresolver.ResolvedURIInfo;
@@ -46,7 +44,13 @@ import org.eclipse.lemminx.utils.URIUtils;
  */
 public class ContentModelManager {
 
-	public final Map<String, CMDocument> cmDocumentCache;
+	// Estimate of the memory used by a content model document for each byte of its
+	// grammar file
+	private static final int CM_DOCUMENT_BYTES_PER_GRAMMAR_BYTE = 10;
+
+	private static final long DEFAULT_CM_DOCUMENT_WEIGHT = 1024 * 1024;
+
+	public final CMDocumentCache cmDocumentCache;
 
 	public final URIResolverExtensionManager resolverManager;
 	public final List<ContentModelProvider> modelProviders;
@@ -61,14 +65,15 @@ public class ContentModelManager {
 	public ContentModelManager(URIResolverExtensionManager resolverManager) {
 		this.resolverManager = resolverManager;
 		modelProviders = new ArrayList<>();
-		cmDocumentCache = Collections.synchronizedMap(new HashMap<>());
+		grammarPool = new LSPXMLGrammarPool();
+		// The grammar of an evicted content model document is not used anymore
+		cmDocumentCache = new CMDocumentCache(grammarURI -> grammarPool.removeGrammar(grammarURI));
 		fileAssociationResolver = new XMLFileAssociationResolverExtension();
 		resolverManager.registerResolver(fileAssociationResolver);
 		catalogResolverExtension = new XMLCatalogResolverExtension();
 		resolverManager.registerResolver(catalogResolverExtension);
 		cacheResolverExtension = new XMLCacheResolverExtension();
 		resolverManager.registerResolver(cacheResolverExtension);
-		grammarPool = new LSPXMLGrammarPool();
 		// Use cache by default
 		setUseCache(true);
 	}
@@ -313,6 +318,7 @@ public class ContentModelManager {
 		if (cmDocument != null) {
 			return cmDocument;
 		}
+		String grammarURI = resolvedUri;
 		if (cacheResolverExtension.canUseCache(resolvedUri)) {
 			// The DTD/XML Schema comes from http://, ftp:// etc and cache manager is
 			// activated
@@ -320,7 +326,8 @@ public class ContentModelManager {
 			try {
 				Path file = cacheResolverExtension.getCachedResource(resolvedUri);
 				if (file != null) {
-					cmDocument = modelProvider.createCMDocument(file.toUri().toString(), isResolveExternalEntities());
+					grammarURI = file.toUri().toString();
+					cmDocument = modelProvider.createCMDocument(grammarURI, isResolveExternalEntities());
 				}
 			} catch (CacheResourceDownloadingException e) {
 				// the DTD/XML Schema is downloading
@@ -334,11 +341,24 @@ public class ContentModelManager {
 		}
 		// Cache the document
 		if (cmDocument != null) {
-			cache(resolvedUri, cmDocument);
+			cache(resolvedUri, cmDocument, getCMDocumentWeight(grammarURI));
 		}
 		return cmDocument;
 	}
 
+	/**
+	 * Returns the estimated memory used by the content model document loaded from
+	 * the given grammar URI, from the size of the grammar file.
+	 */
+	private static long getCMDocumentWeight(String grammarURI) {
+		try {
+			return Files.size(FilesUtils.getPath(grammarURI)) * CM_DOCUMENT_BYTES_PER_GRAMMAR_BYTE;
+		} catch (Exception e) {
+			// The grammar is not a file (http, jar, etc)
+			return DEFAULT_CM_DOCUMENT_WEIGHT;
+		}
+	}
+
 	private CMDocument getCMDocumentFromCache(String key) {
 		CMDocument document = null;
 		synchronized (cmDocumentCache) {
@@ -351,10 +371,8 @@ public class ContentModelManager {
 		return document;
 	}
 
-	private void cache(String key, CMDocument cmDocument) {
-		synchronized (cmDocumentCache) {
-			cmDocumentCache.put(key, cmDocument);
-		}
+	private void cache(String key, CMDocument cmDocument, long weight) {
+		cmDocumentCache.put(key, cmDocument, weight);
 	}
 
 	/**
@@ -399,7 +417,12 @@ public class ContentModelManager {
 	 * @return true if catalogs changed and false otherwise
 	 */
 	public boolean setCatalogs(String[] catalogs) {
-		return catalogResolverExtension.setCatalogs(catalogs);
+		try {
+			return catalogResolverExtension.setCatalogs(catalogs);
+		} finally {
+			// the content of the catalog files could have changed too.
+			resolverManager.invalidateResolutionCache();
+		}
 	}
 
 	/**
@@ -407,6 +430,7 @@ public class ContentModelManager {
 	 */
 	public void refreshCatalogs() {
 		catalogResolverExtension.refreshCatalogs();
+		resolverManager.invalidateResolutionCache();
 	}
 
 	/**
@@ -416,13 +440,18 @@ public class ContentModelManager {
 	 * @return true if file associations changed and false otherwise
 	 */
 	public boolean setFileAssociations(XMLFileAssociation[] fileAssociations) {
-		return this.fileAssociationResolver.setFileAssociations(fileAssociations);
+		boolean changed = this.fileAssociationResolver.setFileAssociations(fileAssociations);
+		if (changed) {
+			resolverManager.invalidateResolutionCache();
+		}
+		return changed;
 	}
 
 	public void setRootURI(String rootUri) {
 		rootUri = URIUtils.sanitizingUri(rootUri);
 		fileAssociationResolver.setRootUri(rootUri);
 		catalogResolverExtension.setRootUri(rootUri);
+		resolverManager.invalidateResolutionCache();
 	}
 
 	public void setUseCache(boolean useCache) {
@@ -484,6 +513,7 @@ public class ContentModelManager {
 			if (nbDeletedFiles > 0) {
 				// TODO : clear only the DTD, XSD which has been deleted from the cache.
 				grammarPool.clear();
+				resolverManager.invalidateResolutionCache();
 			}
 		}
 	}
@@ -503,10 +533,49 @@ public class ContentModelManager {
 			grammarPool.clear();
 			// clear the XSD/DTD content model documents.
 			cmDocumentCache.clear();
+			// the embedded grammars deployed in the cache directory must be deployed
+			// again by the resolvers.
+			resolverManager.invalidateResolutionCache();
 		}
 
 	}
 
+	/**
+	 * Sets the memory budget of the content model documents. The least recently
+	 * used documents are evicted when their estimated memory exceeds the budget.
+	 *
+	 * @param budgetBytes the memory budget in bytes.
+	 */
+	public void setMemoryBudget(long budgetBytes) {
+		cmDocumentCache.setMaxWeight(budgetBytes);
+	}
+
+	/**
+	 * Returns the estimated memory in bytes used by the cached content model
+	 * documents.
+	 *
+	 * @return the estimated memory in bytes used by the cached content model
+	 *         documents.
+	 */
+	public long getMemoryUsage() {
+		return cmDocumentCache.getWeight();
+	}
+
+	/**
+	 * Evicts the content model documents and drops the Xerces grammars which were
+	 * not used for the given time.
+	 *
+	 * @param inactiveMillis the time in milliseconds since the last use of a
+	 *                       content model document or a grammar after which it is
+	 *                       evicted.
+	 */
+	public void evictUnusedGrammars(long inactiveMillis) {
+		long lastUsedBefore = System.currentTimeMillis() - inactiveMillis;
+		cmDocumentCache.evictUnused(lastUsedBefore);
+		int evictedGrammars = grammarPool.removeUnusedGrammars(lastUsedBefore);
+		TelemetryManager.getPerformanceListener().recordGrammarsEvicted(evictedGrammars);
+	}
+
 	public void registerModelProvider(ContentModelProvider modelProvider) {
 		modelProviders.add(modelProvider);
 	}
@@ -92,6 +92,7 @@ public class LSPXMLGrammarPool implements XMLGrammarPool {
 			for (Entry entry = fGrammars[index]; entry != null; entry = entry.next) {
 				if (entry.hash == hash && equals(entry.desc, desc)) {
 					entry.grammar = grammar;
+					entry.lastUsed = System.currentTimeMillis();
 					return;
 				}
 			}
@@ -118,6 +119,7 @@ public class LSPXMLGrammarPool implements XMLGrammarPool {
 						removeGrammar(entry.desc);
 						return null;
 					}
+					entry.lastUsed = System.currentTimeMillis();
 					return entry.grammar;
 				}
 			}
@@ -155,14 +157,44 @@ public class LSPXMLGrammarPool implements XMLGrammarPool {
 	}
 
 	public void removeGrammar(String grammarURI) {
-		for (Entry entry : fGrammars) {
-			if (entry != null) {
-				if (grammarURI.equals(entry.desc.getExpandedSystemId())) {
-					removeGrammar(entry.desc);
-					return;
+		synchronized (fGrammars) {
+			for (Entry bucket : fGrammars) {
+				for (Entry entry = bucket; entry != null; entry = entry.next) {
+					if (grammarURI.equals(entry.desc.getExpandedSystemId())) {
+						removeGrammar(entry.desc);
+						return;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Removes the grammars which were not retrieved since the given time.
+	 *
+	 * @param lastUsedBefore the time in milliseconds.
+	 * @return the number of removed grammars.
+	 */
+	public int removeUnusedGrammars(long lastUsedBefore) {
+		int removed = 0;
+		synchronized (fGrammars) {
+			for (int i = 0; i < fGrammars.length; i++) {
+				for (Entry entry = fGrammars[i], prev = null; entry != null; entry = entry.next) {
+					if (entry.lastUsed < lastUsedBefore) {
+						if (prev != null) {
+							prev.next = entry.next;
+						} else {
+							fGrammars[i] = entry.next;
+						}
+						entry.grammar = null;
+						removed++;
+					} else {
+						prev = entry;
+					}
 				}
 			}
 		}
+		return removed;
 	}
 
 	@Override
@@ -224,6 +256,7 @@ public class LSPXMLGrammarPool implements XMLGrammarPool {
 		public Entry next;
 		private final FilesChangedTracker tracker;
 		public String internalSubset;
+		private long lastUsed;
 
 		protected Entry(int hash, XMLGrammarDescription desc, Grammar grammar, Entry next) {
 			this.hash = hash;
@@ -231,6 +264,7 @@ public class LSPXMLGrammarPool implements XMLGrammarPool {
 			this.grammar = grammar;
 			this.next = next;
 			this.tracker = create(grammar);
+			this.lastUsed = System.currentTimeMillis();
 		}
 
 		private static FilesChangedTracker create(Grammar grammar) {
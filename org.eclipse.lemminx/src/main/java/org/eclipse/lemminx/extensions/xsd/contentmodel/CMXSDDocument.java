@@ -25,6 +25,7 @@ import java.util.logging.Logger;
 import org.apache.xerces.impl.dv.XSSimpleType;
 import org.apache.xerces.impl.dv.xs.XSSimpleTypeDecl;
 import org.apache.xerces.impl.xs.SchemaGrammar;
+import org.apache.xerces.impl.xs.SubstitutionGroupHandler;
 import org.apache.xerces.impl.xs.XMLSchemaLoader;
 import org.apache.xerces.impl.xs.XSComplexTypeDecl;
 import org.apache.xerces.impl.xs.XSElementDecl;
@@ -88,6 +89,8 @@ public class CMXSDDocument implements CMDocument, XSElementDeclHelper {
 
 	private final XSLoaderImpl xsLoader;
 
+	private SubstitutionGroupHandler substitutionGroupHandler;
+
 	public CMXSDDocument(XSModel model, XSLoaderImpl xsLoaderImpl) {
 		this.model = model;
 		this.xsLoader = xsLoaderImpl;
@@ -169,6 +172,19 @@ public class CMXSDDocument implements CMDocument, XSElementDeclHelper {
 		return model.getSubstitutionGroup(elementDeclaration);
 	}
 
+	/**
+	 * Returns the substitution group handler used to validate the child elements
+	 * with the content models of the XML Schema.
+	 *
+	 * @return the substitution group handler.
+	 */
+	synchronized SubstitutionGroupHandler getSubstitutionGroupHandler() {
+		if (substitutionGroupHandler == null) {
+			substitutionGroupHandler = new SubstitutionGroupHandler(this);
+		}
+		return substitutionGroupHandler;
+	}
+
 	@Override
 	public CMElementDeclaration findCMElement(DOMElement element, String namespace) {
 		List<DOMElement> paths = new ArrayList<>();
@@ -13,6 +13,7 @@
 package org.eclipse.lemminx.extensions.xsd.contentmodel;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -22,10 +23,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.xerces.impl.dv.xs.XSSimpleTypeDecl;
 import org.apache.xerces.impl.xs.SchemaGrammar;
-import org.apache.xerces.impl.xs.SubstitutionGroupHandler;
 import org.apache.xerces.impl.xs.XSComplexTypeDecl;
 import org.apache.xerces.impl.xs.models.CMBuilder;
 import org.apache.xerces.impl.xs.models.CMNodeFactory;
@@ -45,6 +47,7 @@ import org.apache.xerces.xs.XSTerm;
 import org.apache.xerces.xs.XSTypeDefinition;
 import org.apache.xerces.xs.XSWildcard;
 import org.eclipse.lemminx.dom.DOMElement;
+import org.eclipse.lemminx.dom.DOMNode;
 import org.eclipse.lemminx.extensions.contentmodel.model.CMAttributeDeclaration;
 import org.eclipse.lemminx.extensions.contentmodel.model.CMElementDeclaration;
 import org.eclipse.lemminx.services.extensions.ISharedSettingsRequest;
@@ -52,8 +55,6 @@ import org.eclipse.lemminx.settings.SchemaDocumentationType;
 import org.eclipse.lemminx.utils.StringUtils;
 import org.eclipse.lsp4j.MarkupKind;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
 /**
  * XSD element declaration implementation.
@@ -63,6 +64,8 @@ public class CMXSDElementDeclaration implements CMElementDeclaration {
 
 	private static final short PC_UNKWOWN = -1;
 
+	private static final int MAX_CACHED_CONTENT_MODEL_STATES = 256;
+
 	final CMXSDDocument document;
 
 	final XSElementDeclaration elementDeclaration;
@@ -79,9 +82,19 @@ public class CMXSDElementDeclaration implements CMElementDeclaration {
 
 	private Map<String, Boolean> elementOptionality;
 
+	private XSCMValidator contentModelValidator;
+
+	private boolean contentModelValidatorResolved;
+
+	private final Map<DOMElement, List<int[]>> contentModelStates;
+
+	private final Map<String, Collection<CMElementDeclaration>> possibleElementsByStates;
+
 	public CMXSDElementDeclaration(CMXSDDocument document, XSElementDeclaration elementDeclaration) {
 		this.document = document;
 		this.elementDeclaration = elementDeclaration;
+		this.contentModelStates = new WeakHashMap<>();
+		this.possibleElementsByStates = new ConcurrentHashMap<>();
 	}
 
 	@Override
@@ -152,62 +165,158 @@ public class CMXSDElementDeclaration implements CMElementDeclaration {
 			// The type definition is complex (ex: xs:all; xs:sequence), returns list of
 			// element declaration according those XML Schema constraints
 
-			// Initialize Xerces validator
-			CMBuilder cmBuilder = new CMBuilder(new CMNodeFactory());
-			XSCMValidator validator = ((XSComplexTypeDecl) typeDefinition).getContentModel(cmBuilder);
+			// Get the Xerces validator compiled for the complex type
+			XSCMValidator validator = getContentModelValidator((XSComplexTypeDecl) typeDefinition);
 			if (validator == null) {
 				return Collections.emptyList();
 			}
 
-			SubstitutionGroupHandler handler = new SubstitutionGroupHandler(document);
-			// Compute list of child element (QName)
-			List<QName> qNames = toQNames(parentElement, offset);
-			// Loop for each element (QName) and check if it is valid according the XML
-			// Schema constraint
-			int[] states = validator.startContentModel();
-			for (QName elementName : qNames) {
-				Object decl = validator.oneTransition(elementName, states, handler);
-				if (decl == null) {
-					return Collections.emptyList();
-				}
+			// Get the validator states after the child elements which are before the
+			// offset. The states are computed once per parent element and child
+			// position, and they are null when one of the child elements is not valid
+			// according the XML Schema constraint
+			int[] states = getContentModelStates(validator, parentElement, offset);
+			if (states == null) {
+				return Collections.emptyList();
 			}
 
-			// At this step, all child elements are valid, the call of
-			// XSCMValidator#oneTransition has updated the states flag.
 			// Collect the next valid elements according the XML Schema constraints
-			Vector<?> result = validator.whatCanGoHere(states);
-			if (result.isEmpty()) {
-				return Collections.emptyList();
+			String statesKey = Arrays.toString(states);
+			Collection<CMElementDeclaration> possibleElements = possibleElementsByStates.get(statesKey);
+			if (possibleElements == null) {
+				possibleElements = collectPossibleElements(validator, states);
+				if (possibleElementsByStates.size() < MAX_CACHED_CONTENT_MODEL_STATES) {
+					possibleElementsByStates.put(statesKey, possibleElements);
+				}
 			}
+			return possibleElements;
+		}
+		return getElements();
+	}
 
-			// Compute list of possible elements
-			Collection<CMElementDeclaration> possibleElements = new HashSet<>();
-			for (Object object : result) {
-				if (object instanceof XSElementDeclaration) {
-					XSElementDeclaration elementDecl = (XSElementDeclaration) object;
-					document.collectElement(elementDecl, possibleElements);
-					// Collect substitution group
-					XSObjectList group = document.getSubstitutionGroup(elementDecl);
-					if (group != null) {
-						for (int i = 0; i < group.getLength(); i++) {
-							XSElementDeclaration o = (XSElementDeclaration) group.item(i);
-							document.collectElement(o, possibleElements);
-						}
-					}
-				} else {
-					// case with xs:any. Ex:
-					// <xs:sequence>
-					// <xs:any maxOccurs="2" processContents="lax" />
-					// </xs:sequence>
-					Collection<CMElementDeclaration> anyElements = getXSAnyElements(object);
-					if (anyElements != null) {
-						return anyElements;
+	private Collection<CMElementDeclaration> collectPossibleElements(XSCMValidator validator, int[] states) {
+		Vector<?> result = validator.whatCanGoHere(states);
+		if (result.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		// Compute list of possible elements
+		Collection<CMElementDeclaration> possibleElements = new HashSet<>();
+		for (Object object : result) {
+			if (object instanceof XSElementDeclaration) {
+				XSElementDeclaration elementDecl = (XSElementDeclaration) object;
+				document.collectElement(elementDecl, possibleElements);
+				// Collect substitution group
+				XSObjectList group = document.getSubstitutionGroup(elementDecl);
+				if (group != null) {
+					for (int i = 0; i < group.getLength(); i++) {
+						XSElementDeclaration o = (XSElementDeclaration) group.item(i);
+						document.collectElement(o, possibleElements);
 					}
 				}
+			} else {
+				// case with xs:any. Ex:
+				// <xs:sequence>
+				// <xs:any maxOccurs="2" processContents="lax" />
+				// </xs:sequence>
+				Collection<CMElementDeclaration> anyElements = getXSAnyElements(object);
+				if (anyElements != null) {
+					return anyElements;
+				}
 			}
-			return possibleElements;
 		}
-		return getElements();
+		return possibleElements;
+	}
+
+	/**
+	 * Returns the content model validator of the given complex type.
+	 *
+	 * @param complexType the complex type
+	 * @return the content model validator of the given complex type.
+	 */
+	private synchronized XSCMValidator getContentModelValidator(XSComplexTypeDecl complexType) {
+		if (!contentModelValidatorResolved) {
+			contentModelValidator = complexType.getContentModel(new CMBuilder(new CMNodeFactory()));
+			contentModelValidatorResolved = true;
+		}
+		return contentModelValidator;
+	}
+
+	/**
+	 * Returns the validator states after the transitions of the child elements of
+	 * the given parent element which are before the given offset, and null if one
+	 * of those child elements is not valid.
+	 *
+	 * <p>
+	 * The states after each child element are memoized for the parent element.
+	 * Since the DOM document is parsed again when the XML document changes, the
+	 * memoized states are valid for the version of the document the parent element
+	 * belongs to.
+	 * </p>
+	 *
+	 * @param validator     the content model validator
+	 * @param parentElement the parent element
+	 * @param offset        the offset where child element must be belong to
+	 * @return the validator states or null if a child element is not valid.
+	 */
+	private int[] getContentModelStates(XSCMValidator validator, DOMElement parentElement, int offset) {
+		if (parentElement == null || !parentElement.hasChildNodes()) {
+			return validator.startContentModel();
+		}
+		List<DOMNode> children = parentElement.getChildren();
+		int childCount = getChildCountBefore(children, offset);
+		synchronized (contentModelStates) {
+			List<int[]> states = contentModelStates.computeIfAbsent(parentElement, k -> new ArrayList<>());
+			if (states.isEmpty()) {
+				states.add(validator.startContentModel());
+			}
+			// Extend the memoized states up to the requested child position
+			for (int i = states.size() - 1; i < childCount; i++) {
+				states.add(nextContentModelStates(validator, states.get(i), children.get(i)));
+			}
+			return states.get(childCount);
+		}
+	}
+
+	private int[] nextContentModelStates(XSCMValidator validator, int[] states, DOMNode child) {
+		if (states == null || !child.isElement()) {
+			return states;
+		}
+		DOMElement element = (DOMElement) child;
+		if (!element.isClosed()) {
+			// Element is not closed, ignore it
+			return states;
+		}
+		// XSCMValidator#oneTransition updates the given states, keep the states of the
+		// previous child element untouched
+		int[] nextStates = states.clone();
+		Object decl = validator.oneTransition(createQName(element), nextStates,
+				document.getSubstitutionGroupHandler());
+		return decl != null ? nextStates : null;
+	}
+
+	/**
+	 * Returns the number of child nodes which are before the first child element
+	 * which ends after the given offset.
+	 *
+	 * @param children the child nodes
+	 * @param offset   the offset where child element must be belong to
+	 * @return the number of child nodes which are before the given offset.
+	 */
+	private static int getChildCountBefore(List<DOMNode> children, int offset) {
+		// The child nodes are ordered by their offsets, search the first child node
+		// which ends after the offset
+		int low = 0;
+		int high = children.size();
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (children.get(middle).getEnd() > offset) {
+				high = middle;
+			} else {
+				low = middle + 1;
+			}
+		}
+		return low;
 	}
 
 	/**
@@ -256,40 +365,6 @@ public class CMXSDElementDeclaration implements CMElementDeclaration {
 		return PC_UNKWOWN;
 	}
 
-	/**
-	 * Returns list of element (QName) of child elements of the given parent element
-	 * upon the given offset
-	 *
-	 * @param parentElement the parent element
-	 * @param offset        the offset where child element must be belong to
-	 * @return list of element (QName) of child elements of the given parent element
-	 *         upon the given offset
-	 */
-	private static List<QName> toQNames(DOMElement parentElement, int offset) {
-		if (parentElement == null || !parentElement.hasChildNodes()) {
-			return Collections.emptyList();
-		}
-		List<QName> qNames = new ArrayList<>();
-		NodeList children = parentElement.getChildNodes();
-		for (int i = 0; i < children.getLength(); i++) {
-			Node child = children.item(i);
-			if (child.getNodeType() == Node.ELEMENT_NODE) {
-				// child node is an element
-				DOMElement element = (DOMElement) child;
-				if (element.getEnd() > offset) {
-					// child element is after the given offset, stop the computing
-					break;
-				}
-				if (!element.isClosed()) {
-					// Element is not closed, ignore it
-					continue;
-				}
-				qNames.add(createQName(element));
-			}
-		}
-		return qNames;
-	}
-
 	private static QName createQName(Element tag) {
 		// intern must be called since Xerces uses == to compare String ?
 		// -> see
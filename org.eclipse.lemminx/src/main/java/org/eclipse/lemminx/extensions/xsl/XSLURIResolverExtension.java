@@ -78,6 +78,12 @@ public class XSLURIResolverExtension implements URIResolverExtension {
 		return null;
 	}
 
+	@Override
+	public boolean isCacheable(String baseLocation, String publicId, String systemId) {
+		// The XSL schema depends on the version declared in the XSL document
+		return !XSL_NAMESPACE_URI.equals(publicId);
+	}
+
 	@Override
 	public XMLInputSource resolveEntity(XMLResourceIdentifier resourceIdentifier) throws XNIException, IOException {
 		String publicId = resourceIdentifier.getNamespace();
@@ -53,6 +53,8 @@ public class XMLGeneralClientSettings {
 
 	private XMLTelemetrySettings telemetry;
 
+	private XMLMemorySettings memory;
+
 	private boolean linkedEditingEnabled;
 	
 	public void setLogs(LogsSettings logs) {
@@ -205,6 +207,24 @@ public class XMLGeneralClientSettings {
 		this.telemetry = telemetry;
 	}
 
+	/**
+	 * Returns the memory settings
+	 *
+	 * @return the memory settings
+	 */
+	public XMLMemorySettings getMemory() {
+		return memory;
+	}
+
+	/**
+	 * Sets the memory settings
+	 *
+	 * @param memory the memory settings
+	 */
+	public void setMemory(XMLMemorySettings memory) {
+		this.memory = memory;
+	}
+
 	/**
 	 * Returns a new instance of <code>XMLGeneralClientSettings</code>
 	 * with contents from <code>initializationOptionsSettings</code>
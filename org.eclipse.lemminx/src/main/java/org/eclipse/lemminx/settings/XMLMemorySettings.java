@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.settings;
+
+/**
+ * Memory settings.
+ *
+ * <p>
+ * The budget bounds the estimated memory used by the parsed models of the open
+ * documents and by the content model documents (XSD, DTD). When it is exceeded,
+ * the models of the documents which were not accessed for the inactive delay
+ * are released, and parsed again when they are needed.
+ * </p>
+ *
+ */
+public class XMLMemorySettings {
+
+	private static final int DEFAULT_BUDGET = 512;
+
+	private static final int DEFAULT_INACTIVE_DELAY = 60;
+
+	private int budget;
+
+	private int inactiveDelay;
+
+	public XMLMemorySettings() {
+		setBudget(DEFAULT_BUDGET);
+		setInactiveDelay(DEFAULT_INACTIVE_DELAY);
+	}
+
+	/**
+	 * Returns the memory budget in megabytes.
+	 *
+	 * @return the memory budget in megabytes.
+	 */
+	public int getBudget() {
+		return budget;
+	}
+
+	/**
+	 * Sets the memory budget in megabytes.
+	 *
+	 * @param budget the memory budget in megabytes.
+	 */
+	public void setBudget(int budget) {
+		this.budget = budget;
+	}
+
+	/**
+	 * Returns the memory budget in bytes.
+	 *
+	 * @return the memory budget in bytes.
+	 */
+	public long getBudgetInBytes() {
+		return budget * 1024L * 1024L;
+	}
+
+	/**
+	 * Returns the delay in seconds since the last access of a document after which
+	 * its model can be released.
+	 *
+	 * @return the delay in seconds since the last access of a document after which
+	 *         its model can be released.
+	 */
+	public int getInactiveDelay() {
+		return inactiveDelay;
+	}
+
+	/**
+	 * Sets the delay in seconds since the last access of a document after which
+	 * its model can be released.
+	 *
+	 * @param inactiveDelay the delay in seconds.
+	 */
+	public void setInactiveDelay(int inactiveDelay) {
+		this.inactiveDelay = inactiveDelay;
+	}
+
+	/**
+	 * Merges the given memory settings.
+	 *
+	 * @param newSettings the new memory settings.
+	 */
+	public void merge(XMLMemorySettings newSettings) {
+		this.setBudget(newSettings.getBudget());
+		this.setInactiveDelay(newSettings.getInactiveDelay());
+	}
+}
@@ -123,6 +123,17 @@ public class ClientCapabilitiesWrapper {
 		return v3Supported && isDynamicRegistrationSupported(getTextDocument().getLinkedEditingRange());
 	}
 
+	/**
+	 * Returns true if the client pulls the diagnostics with the
+	 * 'textDocument/diagnostic' request instead of receiving the published
+	 * diagnostics.
+	 *
+	 * @return true if the client pulls the diagnostics.
+	 */
+	public boolean isPullDiagnosticsSupported() {
+		return v3Supported && getTextDocument().getDiagnostic() != null;
+	}
+
 	private boolean isDynamicRegistrationSupported(DynamicRegistrationCapabilities capability) {
 		return capability != null && capability.getDynamicRegistration() != null
 				&& capability.getDynamicRegistration().booleanValue();
@@ -17,6 +17,7 @@ import static org.eclipse.lemminx.settings.capabilities.ServerCapabilitiesConsta
 import static org.eclipse.lemminx.settings.capabilities.ServerCapabilitiesConstants.DEFAULT_COMPLETION_OPTIONS;
 import static org.eclipse.lemminx.settings.capabilities.ServerCapabilitiesConstants.DEFAULT_LINK_OPTIONS;
 
+import org.eclipse.lsp4j.DiagnosticRegistrationOptions;
 import org.eclipse.lsp4j.ServerCapabilities;
 import org.eclipse.lsp4j.TextDocumentSyncKind;
 import org.eclipse.lsp4j.WorkspaceFoldersOptions;
@@ -79,6 +80,11 @@ public class ServerCapabilitiesInitializer {
 		if (!clientCapabilities.isCodeActionDynamicRegistered()) {
 			serverCapabilities.setCodeActionProvider(DEFAULT_CODEACTION_OPTIONS);
 		}
+		if (clientCapabilities.isPullDiagnosticsSupported()) {
+			// The diagnostics of a document depend on its grammars, and the closed
+			// documents of the workspace are validated by 'workspace/diagnostic'
+			serverCapabilities.setDiagnosticProvider(new DiagnosticRegistrationOptions(true, true));
+		}
 		return serverCapabilities;
 	}
 }
\ No newline at end of file
@@ -202,11 +202,16 @@ public class XMLCapabilityManager {
 	}
 
 	private void registerWatchedFiles() {
-		List<FileSystemWatcher> watchers = new ArrayList<>(2);
+		List<FileSystemWatcher> watchers = new ArrayList<>(8);
 		watchers.add(new FileSystemWatcher(Either.forLeft("**/*.xsd")));
 		watchers.add(new FileSystemWatcher(Either.forLeft("**/*.dtd")));
 		watchers.add(new FileSystemWatcher(Either.forLeft("**/*.rng")));
 		watchers.add(new FileSystemWatcher(Either.forLeft("**/*.rnc")));
+		// The files of the project metadata, see ProjectMetadataService
+		watchers.add(new FileSystemWatcher(Either.forLeft("**/pom.xml")));
+		watchers.add(new FileSystemWatcher(Either.forLeft("**/.project")));
+		watchers.add(new FileSystemWatcher(Either.forLeft("**/.env")));
+		watchers.add(new FileSystemWatcher(Either.forLeft("**/config.properties")));
 		DidChangeWatchedFilesRegistrationOptions options = new DidChangeWatchedFilesRegistrationOptions(watchers);
 		registerCapability(WORKSPACE_WATCHED_FILES_ID, WORKSPACE_WATCHED_FILES, options);
 	}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.telemetry;
+
+import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
+
+/**
+ * Listener of the performance events of the language server.
+ * <p>
+ * The events are reported to the listener registered with
+ * {@link TelemetryManager#setPerformanceListener(PerformanceListener)}. Every
+ * method does nothing by default, so that a listener implements only the events
+ * it collects.
+ */
+public interface PerformanceListener {
+
+	/**
+	 * Listener used when none is registered.
+	 */
+	PerformanceListener NO_OP = new PerformanceListener() {
+	};
+
+	/**
+	 * Wraps a JSON-RPC message stream of the language server, to measure the
+	 * requests.
+	 *
+	 * @param consumer message stream
+	 * @return the wrapped message stream
+	 */
+	default MessageConsumer wrap(MessageConsumer consumer) {
+		return consumer;
+	}
+
+	/**
+	 * Records an access to a cache.
+	 *
+	 * @param cache name of the cache
+	 * @param hit   true if the value was found in the cache
+	 */
+	default void recordCacheAccess(String cache, boolean hit) {
+	}
+
+	/**
+	 * Records a validation of a document which ran to completion.
+	 *
+	 * @param micros duration of the validation in microseconds
+	 */
+	default void recordValidation(long micros) {
+	}
+
+	/**
+	 * Records a validation of a document which was replaced by the validation of
+	 * a newer version before it started.
+	 */
+	default void recordValidationCoalesced() {
+	}
+
+	/**
+	 * Records a validation of a document which was stopped because a newer
+	 * version of the document exists.
+	 */
+	default void recordValidationCancelled() {
+	}
+
+	/**
+	 * Records that the diagnostics of a validation were not published because
+	 * they did not change since the last publish.
+	 */
+	default void recordUnchangedDiagnostics() {
+	}
+
+	/**
+	 * Records the parsed models of the open documents after the inactive models
+	 * were released.
+	 *
+	 * @param openDocuments  number of open documents
+	 * @param parsedModels   number of open documents which have a parsed model
+	 * @param modelBytes     estimated memory used by the parsed models
+	 * @param releasedModels number of models which were released
+	 */
+	default void recordModelMemory(int openDocuments, int parsedModels, long modelBytes, int releasedModels) {
+	}
+
+	/**
+	 * Records the content model documents (XSD, DTD) which are cached.
+	 *
+	 * @param cmDocuments     number of cached content model documents
+	 * @param cmDocumentBytes estimated memory used by the cached content model
+	 *                        documents
+	 */
+	default void recordCMDocumentMemory(int cmDocuments, long cmDocumentBytes) {
+	}
+
+	/**
+	 * Records a content model document which was evicted from the cache to stay
+	 * within the memory budget.
+	 */
+	default void recordCMDocumentEvicted() {
+	}
+
+	/**
+	 * Records grammars which were dropped from the grammar pool since they were
+	 * not used recently.
+	 *
+	 * @param count number of dropped grammars
+	 */
+	default void recordGrammarsEvicted(int count) {
+	}
+
+	/**
+	 * Returns the collected performance statistics sent with the performance
+	 * telemetry events.
+	 *
+	 * @return the performance statistics or null if none are collected
+	 */
+	default Object getPerformanceStats() {
+		return null;
+	}
+}
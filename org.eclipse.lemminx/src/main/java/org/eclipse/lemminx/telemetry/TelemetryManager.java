@@ -9,6 +9,10 @@
 *******************************************************************************/
 package org.eclipse.lemminx.telemetry;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 import org.eclipse.lemminx.dom.DOMDocument;
 import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelManager;
 import org.eclipse.lsp4j.InitializedParams;
@@ -26,16 +30,45 @@ public class TelemetryManager {
 	 */
 	private static final String STARTUP_EVENT_NAME = "server.initialized";
 	private static final String SHUTDOWN_EVENT_NAME = "server.shutdown";
+	private static final String PERFORMANCE_EVENT_NAME = "server.performance";
+
+	/**
+	 * Interval in minutes of the periodic performance events. The periodic events
+	 * are disabled when it is not set.
+	 */
+	private static final String PERFORMANCE_INTERVAL_PROPERTY = "lemminx.telemetry.performanceInterval";
 
 	@SuppressWarnings("unused")
 	private static final String DOC_OPEN_EVENT_NAME = "server.document.open";
 
+	private static volatile PerformanceListener performanceListener = PerformanceListener.NO_OP;
+
 	private final LanguageClient languageClient;
 
 	private final TelemetryCache telemetryCache;
 
 	private boolean enabled;
 
+	private ScheduledExecutorService performanceReporter;
+
+	/**
+	 * Returns the listener of the performance events of the language server.
+	 *
+	 * @return the registered listener or a listener which does nothing
+	 */
+	public static PerformanceListener getPerformanceListener() {
+		return performanceListener;
+	}
+
+	/**
+	 * Registers the listener of the performance events of the language server.
+	 *
+	 * @param listener the listener, null to stop listening
+	 */
+	public static void setPerformanceListener(PerformanceListener listener) {
+		performanceListener = listener != null ? listener : PerformanceListener.NO_OP;
+	}
+
 	public TelemetryManager(LanguageClient languageClient) {
 		this.languageClient = languageClient;
 		this.telemetryCache = new TelemetryCache();
@@ -57,9 +90,27 @@ public class TelemetryManager {
 	public void onInitialized(InitializedParams params) {
 		if (isEnabled()) {
 			telemetryEvent(STARTUP_EVENT_NAME, InitializationTelemetryInfo.getInitializationTelemetryInfo());
+			startPerformanceReporter();
 		}
 	}
 
+	private synchronized void startPerformanceReporter() {
+		long interval = Long.getLong(PERFORMANCE_INTERVAL_PROPERTY, 0L);
+		if (interval <= 0 || performanceReporter != null) {
+			return;
+		}
+		performanceReporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "performance-telemetry");
+			thread.setDaemon(true);
+			return thread;
+		});
+		performanceReporter.scheduleAtFixedRate(() -> {
+			if (isEnabled()) {
+				performanceEvent();
+			}
+		}, interval, interval, TimeUnit.MINUTES);
+	}
+
 	public void onDidOpen(DOMDocument document, ContentModelManager manager) {
 		if (isEnabled()) {
 			DocumentTelemetryInfo.collectDocumentTelemetryInfo(document, manager, telemetryCache);
@@ -76,8 +127,22 @@ public class TelemetryManager {
 		}
 	}
 
+	private void performanceEvent() {
+		Object stats = performanceListener.getPerformanceStats();
+		if (stats != null) {
+			telemetryEvent(PERFORMANCE_EVENT_NAME, stats);
+		}
+	}
+
 	public void shutdown() {
+		synchronized (this) {
+			if (performanceReporter != null) {
+				performanceReporter.shutdownNow();
+				performanceReporter = null;
+			}
+		}
 		if (isEnabled()) {
+			performanceEvent();
 			telemetryEvent(SHUTDOWN_EVENT_NAME, telemetryCache.getProperties());
 		}
 	}
@@ -40,6 +40,21 @@ public interface URIResolverExtension extends XMLEntityResolver {
 	 */
 	public String resolve(String baseLocation, String publicId, String systemId);
 
+	/**
+	 * Returns true if the result of {@link #resolve(String, String, String)} for
+	 * the given arguments can be cached until the settings of the resolver change,
+	 * and false if it depends on the content of the document of the base location.
+	 * 
+	 * @param baseLocation - the location of the resource that contains the uri
+	 * @param publicId     - an optional public identifier (i.e. namespace name), or
+	 *                     null if none
+	 * @param systemId     - an absolute or relative URI, or null if none
+	 * @return true if the resolution can be cached and false otherwise.
+	 */
+	default boolean isCacheable(String baseLocation, String publicId, String systemId) {
+		return true;
+	}
+
 	@Override
 	default XMLInputSource resolveEntity(XMLResourceIdentifier resourceIdentifier) throws XNIException, IOException {
 		return null;
@@ -17,26 +17,102 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.xerces.impl.XMLEntityManager;
 import org.apache.xerces.util.URI.MalformedURIException;
 import org.apache.xerces.xni.XMLResourceIdentifier;
 import org.apache.xerces.xni.XNIException;
 import org.apache.xerces.xni.parser.XMLInputSource;
+import org.eclipse.lemminx.telemetry.TelemetryManager;
 
 /**
  * URI resolver manager.
  *
+ * <p>
+ * The result of {@link #resolve(String, String, String)} and
+ * {@link #resolveInfo(String, String, String)} is cached by (base location,
+ * public id, system id), including the resolutions which gave no URI, so that
+ * the resolvers (catalogs, file associations, etc) are not called again for
+ * each validation and completion of a document. The cache is invalidated with
+ * {@link #invalidateResolutionCache()} when the settings of the resolvers
+ * change.
+ * </p>
+ *
  */
 public class URIResolverExtensionManager implements URIResolverExtension, IExternalGrammarLocationProvider {
 
+	private static final int MAX_CACHED_RESOLUTIONS = 10000;
+
+	private static final String RESOLUTION_CACHE = "uriResolution";
+
 	private final List<URIResolverExtension> resolvers;
 
 	private final URIResolverExtension defaultURIResolverExtension;
 
+	private final Map<ResolutionKey, CachedResolution> resolutionCache;
+
+	private final AtomicLong resolutionEpoch;
+
 	public URIResolverExtensionManager() {
 		resolvers = new ArrayList<>();
 		this.defaultURIResolverExtension = new DefaultURIResolverExtension();
+		this.resolutionCache = new ConcurrentHashMap<>();
+		this.resolutionEpoch = new AtomicLong();
+	}
+
+	private static class ResolutionKey {
+
+		private final String baseLocation;
+
+		private final String publicId;
+
+		private final String systemId;
+
+		private final int hashCode;
+
+		ResolutionKey(String baseLocation, String publicId, String systemId) {
+			this.baseLocation = baseLocation;
+			this.publicId = publicId;
+			this.systemId = systemId;
+			this.hashCode = Objects.hash(baseLocation, publicId, systemId);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof ResolutionKey)) {
+				return false;
+			}
+			ResolutionKey other = (ResolutionKey) obj;
+			return Objects.equals(baseLocation, other.baseLocation) && Objects.equals(publicId, other.publicId)
+					&& Objects.equals(systemId, other.systemId);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	private static class CachedResolution {
+
+		private final long epoch;
+
+		/**
+		 * The resolved URI info, with a null or empty resolved URI when no resolver
+		 * resolved the URI.
+		 */
+		private final ResolvedURIInfo info;
+
+		CachedResolution(long epoch, ResolvedURIInfo info) {
+			this.epoch = epoch;
+			this.info = info;
+		}
 	}
 
 	class DefaultURIResolverExtension implements URIResolverExtension {
@@ -81,6 +157,7 @@ public class URIResolverExtensionManager implements URIResolverExtension, IExter
 	 */
 	public void registerResolver(URIResolverExtension resolver) {
 		resolvers.add(resolver);
+		invalidateResolutionCache();
 	}
 
 	/**
@@ -89,21 +166,66 @@ public class URIResolverExtensionManager implements URIResolverExtension, IExter
 	 * @param resolver the URI resolver to unregister.
 	 */
 	public void unregisterResolver(URIResolverExtension resolver) {
-		resolvers.add(resolver);
+		resolvers.remove(resolver);
+		invalidateResolutionCache();
+	}
+
+	/**
+	 * Invalidate the cached URI resolutions. This method must be called when a
+	 * setting which changes the result of a resolver (catalogs, file associations,
+	 * root URI, etc) is updated.
+	 */
+	public void invalidateResolutionCache() {
+		resolutionEpoch.incrementAndGet();
+		resolutionCache.clear();
+	}
+
+	/**
+	 * Returns the number of times the cached URI resolutions were invalidated.
+	 *
+	 * @return the number of times the cached URI resolutions were invalidated.
+	 */
+	public long getResolutionEpoch() {
+		return resolutionEpoch.get();
 	}
 
 	@Override
 	public String resolve(String baseLocation, String publicId, String systemId) {
-		for (URIResolverExtension resolver : resolvers) {
-			String resolved = resolver.resolve(baseLocation, publicId, systemId);
-			if (resolved != null && !resolved.isEmpty()) {
-				return resolved;
-			}
-		}
-		return defaultURIResolverExtension.resolve(baseLocation, publicId, systemId);
+		return getResolution(baseLocation, publicId, systemId).getResolvedURI();
 	}
 
 	public ResolvedURIInfo resolveInfo(String baseLocation, String publicId, String systemId) {
+		ResolvedURIInfo info = getResolution(baseLocation, publicId, systemId);
+		String resolvedURI = info.getResolvedURI();
+		if (resolvedURI != null && !resolvedURI.isEmpty()) {
+			return info;
+		}
+		return null;
+	}
+
+	private ResolvedURIInfo getResolution(String baseLocation, String publicId, String systemId) {
+		if (!isCacheable(baseLocation, publicId, systemId)) {
+			return resolveWithResolvers(baseLocation, publicId, systemId);
+		}
+		long epoch = resolutionEpoch.get();
+		ResolutionKey key = new ResolutionKey(baseLocation, publicId, systemId);
+		CachedResolution cached = resolutionCache.get(key);
+		if (cached != null && cached.epoch == epoch) {
+			TelemetryManager.getPerformanceListener().recordCacheAccess(RESOLUTION_CACHE, true);
+			return cached.info;
+		}
+		TelemetryManager.getPerformanceListener().recordCacheAccess(RESOLUTION_CACHE, false);
+		ResolvedURIInfo info = resolveWithResolvers(baseLocation, publicId, systemId);
+		if (resolutionCache.size() >= MAX_CACHED_RESOLUTIONS) {
+			resolutionCache.clear();
+		}
+		// A resolution computed before an invalidation is ignored by the next lookups
+		// since it is stored with the old epoch.
+		resolutionCache.put(key, new CachedResolution(epoch, info));
+		return info;
+	}
+
+	private ResolvedURIInfo resolveWithResolvers(String baseLocation, String publicId, String systemId) {
 		for (URIResolverExtension resolver : resolvers) {
 			String resolvedURI = resolver.resolve(baseLocation, publicId, systemId);
 			if (resolvedURI != null && !resolvedURI.isEmpty()) {
@@ -111,10 +233,17 @@ public class URIResolverExtensionManager implements URIResolverExtension, IExter
 			}
 		}
 		String resolvedURI = defaultURIResolverExtension.resolve(baseLocation, publicId, systemId);
-		if (resolvedURI != null && !resolvedURI.isEmpty()) {
-			return new ResolvedURIInfo(resolvedURI, defaultURIResolverExtension);
+		return new ResolvedURIInfo(resolvedURI, defaultURIResolverExtension);
+	}
+
+	@Override
+	public boolean isCacheable(String baseLocation, String publicId, String systemId) {
+		for (URIResolverExtension resolver : resolvers) {
+			if (!resolver.isCacheable(baseLocation, publicId, systemId)) {
+				return false;
+			}
 		}
-		return null;
+		return true;
 	}
 
 	@Override
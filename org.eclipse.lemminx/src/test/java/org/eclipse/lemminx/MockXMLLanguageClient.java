@@ -14,6 +14,7 @@ package org.eclipse.lemminx;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.lemminx.customservice.ActionableNotification;
 import org.eclipse.lemminx.customservice.SynapseLanguageClientAPI;
@@ -43,6 +44,8 @@ public class MockXMLLanguageClient implements SynapseLanguageClientAPI {
 
 	private final List<MessageParams> logMessages;
 
+	private final AtomicInteger diagnosticsRefreshes = new AtomicInteger();
+
 	public MockXMLLanguageClient() {
 		publishDiagnostics = new ArrayList<>();
 		showMessages = new ArrayList<>();
@@ -90,6 +93,12 @@ public class MockXMLLanguageClient implements SynapseLanguageClientAPI {
 		return CompletableFuture.completedFuture(null);
 	}
 
+	@Override
+	public CompletableFuture<Void> refreshDiagnostics() {
+		diagnosticsRefreshes.incrementAndGet();
+		return CompletableFuture.completedFuture(null);
+	}
+
 	@Override
 	public CompletableFuture<Object> executeClientCommand(ExecuteCommandParams params) {
 		throw new UnsupportedOperationException();
@@ -99,6 +108,10 @@ public class MockXMLLanguageClient implements SynapseLanguageClientAPI {
 		return publishDiagnostics;
 	}
 
+	public int getDiagnosticsRefreshes() {
+		return diagnosticsRefreshes.get();
+	}
+
 	public List<MessageParams> getLogMessages() {
 		return logMessages;
 	}
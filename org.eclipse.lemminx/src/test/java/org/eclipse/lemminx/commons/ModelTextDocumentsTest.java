@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.commons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the release of the models in {@link ModelTextDocuments}.
+ *
+ */
+public class ModelTextDocumentsTest {
+
+	@Test
+	public void releaseInactiveModels() {
+		AtomicInteger parses = new AtomicInteger();
+		ModelTextDocuments<String> documents = new ModelTextDocuments<>((document, cancelChecker) -> {
+			parses.incrementAndGet();
+			return document.getText();
+		});
+		ModelTextDocument<String> document = open(documents, "file:///a.xml", "<a />");
+		assertEquals("<a />", document.getModel());
+
+		// The model is within the budget
+		long usage = documents.releaseInactiveModels(Long.MAX_VALUE, 0);
+		assertEquals(ModelTextDocuments.getModelWeight(document), usage);
+		assertNotNull(document.getExistingModel());
+
+		// The model was accessed recently
+		documents.releaseInactiveModels(0, 60000);
+		assertNotNull(document.getExistingModel());
+
+		// The model is released and parsed again on access, the text is kept
+		assertEquals(0, documents.releaseInactiveModels(0, 0));
+		assertNull(document.getExistingModel());
+		assertEquals("<a />", document.getText());
+		assertEquals("<a />", document.getModel());
+		assertEquals(2, parses.get());
+	}
+
+	@Test
+	public void releaseLeastRecentlyAccessedModels() throws Exception {
+		ModelTextDocuments<String> documents = new ModelTextDocuments<>((document, cancelChecker) -> document.getText());
+		ModelTextDocument<String> a = open(documents, "file:///a.xml", "<a />");
+		a.getModel();
+		Thread.sleep(10);
+		ModelTextDocument<String> b = open(documents, "file:///b.xml", "<b />");
+		b.getModel();
+
+		long budget = ModelTextDocuments.getModelWeight(b);
+		assertEquals(budget, documents.releaseInactiveModels(budget, 0));
+		assertNull(a.getExistingModel());
+		assertNotNull(b.getExistingModel());
+	}
+
+	private static ModelTextDocument<String> open(ModelTextDocuments<String> documents, String uri, String text) {
+		return documents.onDidOpenTextDocument(
+				new DidOpenTextDocumentParams(new TextDocumentItem(uri, "xml", 1, text)));
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.commons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.lemminx.telemetry.PerformanceListener;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ModelValidatorDelayer}.
+ *
+ */
+public class ModelValidatorDelayerTest {
+
+	@Test
+	public void delayFromDocumentSize() {
+		ModelValidatorDelayer<String> delayer = new ModelValidatorDelayer<>(document -> {
+		});
+		assertEquals(200, delayer.getValidationDelay(createDocument("<a />", 1)));
+		assertEquals(600, delayer.getValidationDelay(createDocument("a".repeat(300000), 1)));
+		assertEquals(2000, delayer.getValidationDelay(createDocument("a".repeat(5000000), 1)));
+	}
+
+	@Test
+	public void delayFromValidationCost() {
+		ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+		try {
+			ModelValidatorDelayer<String> delayer = new ModelValidatorDelayer<>(executor, document -> {
+			}, 0);
+			ModelTextDocument<String> document = createDocument("a".repeat(300000), 1);
+			// The first validation may load the grammars, so it is ignored
+			delayer.updateValidationCost(document.getUri(), 1000);
+			assertEquals(600, delayer.getValidationDelay(document));
+			delayer.updateValidationCost(document.getUri(), 100);
+			assertEquals(200, delayer.getValidationDelay(document));
+			// 100 + 0.3 * (200 - 100)
+			delayer.updateValidationCost(document.getUri(), 200);
+			assertEquals(260, delayer.getValidationDelay(document));
+			// 130 + 0.3 * (30 - 130)
+			delayer.updateValidationCost(document.getUri(), 30);
+			assertEquals(200, delayer.getValidationDelay(document));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void coalescedValidations() throws Exception {
+		AtomicInteger validations = new AtomicInteger();
+		AtomicInteger coalesced = new AtomicInteger();
+		PerformanceListener listener = new PerformanceListener() {
+
+			@Override
+			public void recordValidationCoalesced() {
+				coalesced.incrementAndGet();
+			}
+		};
+		ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+		try {
+			ModelValidatorDelayer<String> delayer = new ModelValidatorDelayer<>(executor,
+					document -> validations.incrementAndGet(), 500, listener);
+			ModelTextDocument<String> document = createDocument("<a />", 1);
+			delayer.validateWithDelay(document);
+			document.setVersion(2);
+			delayer.validateWithDelay(document);
+			document.setVersion(3);
+			delayer.validateWithDelay(document);
+			executor.shutdown();
+			executor.awaitTermination(5, TimeUnit.SECONDS);
+			assertEquals(1, validations.get());
+			assertEquals(2, coalesced.get());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static ModelTextDocument<String> createDocument(String text, int version) {
+		TextDocumentItem item = new TextDocumentItem("file:///test.xml", "xml", version, text);
+		return new ModelTextDocument<>(item, (document, cancelChecker) -> document.getText());
+	}
+}
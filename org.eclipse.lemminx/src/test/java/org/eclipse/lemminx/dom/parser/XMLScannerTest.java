@@ -13,6 +13,7 @@
 package org.eclipse.lemminx.dom.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.junit.jupiter.api.Test;
 
@@ -841,8 +842,54 @@ public class XMLScannerTest {
 		assertOffsetAndToken(20, TokenType.EndTagClose);
 	}
 
+	@Test
+	public void testTokenSymbolIsShared() {
+		scanner = XMLScanner.createScanner("<root attr=\"value\"></root>");
+		assertOffsetAndToken(0, TokenType.StartTagOpen);
+		assertOffsetAndToken(1, TokenType.StartTag, "root");
+		String startTag = scanner.getTokenSymbol();
+		assertOffsetAndToken(5, TokenType.Whitespace);
+		assertOffsetAndToken(6, TokenType.AttributeName, "attr");
+		String attributeName = scanner.getTokenSymbol();
+
+		scanner = XMLScanner.createScanner("<other><root attr=\"\"/></other>");
+		assertOffsetAndToken(0, TokenType.StartTagOpen);
+		assertOffsetAndToken(1, TokenType.StartTag, "other");
+		assertOffsetAndToken(6, TokenType.StartTagClose);
+		assertOffsetAndToken(7, TokenType.StartTagOpen);
+		assertOffsetAndToken(8, TokenType.StartTag, "root");
+		assertSame(startTag, scanner.getTokenSymbol());
+		assertOffsetAndToken(12, TokenType.Whitespace);
+		assertOffsetAndToken(13, TokenType.AttributeName, "attr");
+		assertSame(attributeName, scanner.getTokenSymbol());
+	}
+
+	@Test
+	public void testNamesMatchRegex() {
+		for (int ch = 0; ch <= Character.MAX_VALUE; ch++) {
+			String name = "a" + (char) ch;
+			assertEquals(Constants.ATTRIBUTE_NAME_REGEX.matcher(name).matches(), createScannerAtEnd(name).isPIName(0),
+					name);
+			String prologName = "xml" + (char) ch;
+			assertEquals(Constants.PROLOG_NAME_OPTIONS.matcher(prologName).matches(),
+					createScannerAtEnd(prologName).isPrologName(0), prologName);
+			for (String dtdName : new String[] { String.valueOf((char) ch), "a" + (char) ch }) {
+				XMLScanner dtdScanner = new XMLScanner(dtdName, 0, ScannerState.DTDWithinContent, true);
+				dtdScanner.hasNextDTDName();
+				assertEquals(new MultiLineStream(dtdName, 0).advanceIfRegExp(Constants.ELEMENT_NAME_REGEX).length(),
+						dtdScanner.stream.pos(), dtdName);
+			}
+		}
+	}
+
   //----------Tools-------------------------------------------------------
 
+	private static XMLScanner createScannerAtEnd(String text) {
+		XMLScanner scanner = new XMLScanner(text, 0, ScannerState.PrologOrPI, false);
+		scanner.stream.goToEnd();
+		return scanner;
+	}
+
 
   public void assertOffsetAndToken(int tokenOffset, TokenType tokenType) {
 	TokenType token = scanner.scan();
@@ -15,6 +15,7 @@ package org.eclipse.lemminx.extensions.contentmodel;
 import static org.eclipse.lemminx.XMLAssert.c;
 import static org.eclipse.lemminx.XMLAssert.r;
 import static org.eclipse.lemminx.XMLAssert.te;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.io.IOException;
 import java.net.URL;
@@ -25,14 +26,24 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import org.apache.xerces.impl.XMLEntityManager;
 import org.apache.xerces.util.URI.MalformedURIException;
 import org.eclipse.lemminx.XMLAssert;
 import org.eclipse.lemminx.commons.BadLocationException;
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMElement;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.eclipse.lemminx.extensions.contentmodel.model.CMElementDeclaration;
 import org.eclipse.lemminx.extensions.contentmodel.model.ContentModelManager;
+import org.eclipse.lemminx.extensions.contentmodel.settings.ContentModelSettings;
 import org.eclipse.lemminx.services.XMLLanguageService;
 import org.eclipse.lemminx.settings.SharedSettings;
 import org.eclipse.lemminx.uriresolver.URIResolverExtension;
@@ -1602,4 +1613,39 @@ public class XMLSchemaCompletionExtensionsTest extends BaseFileTempTest {
 								"Source: attr-enum.xsd",
 						MarkupKind.PLAINTEXT));
 	}
+
+	@Test
+	public void possibleElementsAtDifferentOffsetsOfSameDocument() {
+		String xml = "<?xml version=\"1.0\" encoding=\"utf-8\"?>\r\n" + //
+				"<person xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:noNamespaceSchemaLocation=\"xsd/choice.xsd\">\r\n"
+				+ //
+				" <employee />\r\n" + //
+				" <member />\r\n" + //
+				" <employee />\r\n" + //
+				"</person>";
+		XMLLanguageService ls = new XMLLanguageService();
+		ls.initializeIfNeeded();
+		ContentModelSettings cmSettings = new ContentModelSettings();
+		cmSettings.setUseCache(false);
+		ls.doSave(new XMLAssert.SettingsSaveContext(cmSettings));
+		ContentModelManager contentModelManager = ls.getComponent(ContentModelManager.class);
+		DOMDocument document = DOMParser.getInstance().parse(
+				new TextDocument(xml, "src/test/resources/choice.xml"), ls.getResolverExtensionManager());
+		DOMElement person = document.getDocumentElement();
+		CMElementDeclaration cmPerson = contentModelManager.findCMDocument(person).iterator().next()
+				.findCMElement(person);
+
+		// The states of the content model are computed once for the child elements of
+		// the parent element, the requests must not depend on the order of the offsets
+		int afterAllChildren = xml.indexOf("</person>");
+		int afterFirstChild = xml.indexOf("<member");
+		assertEquals(Collections.emptySet(), getNames(cmPerson.getPossibleElements(person, afterAllChildren)));
+		assertEquals(new HashSet<>(Arrays.asList("employee", "member")),
+				getNames(cmPerson.getPossibleElements(person, afterFirstChild)));
+		assertEquals(Collections.emptySet(), getNames(cmPerson.getPossibleElements(person, afterAllChildren)));
+	}
+
+	private static Set<String> getNames(Collection<CMElementDeclaration> elements) {
+		return elements.stream().map(CMElementDeclaration::getLocalName).collect(Collectors.toSet());
+	}
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.extensions.contentmodel.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CMDocumentCache}.
+ *
+ */
+public class CMDocumentCacheTest {
+
+	@Test
+	public void evictLeastRecentlyUsed() {
+		List<String> evicted = new ArrayList<>();
+		CMDocumentCache cache = new CMDocumentCache(evicted::add);
+		cache.setMaxWeight(100);
+		cache.put("a.xsd", mock(CMDocument.class), 40);
+		cache.put("b.xsd", mock(CMDocument.class), 40);
+		// a.xsd is used after b.xsd
+		assertNotNull(cache.get("a.xsd"));
+
+		cache.put("c.xsd", mock(CMDocument.class), 40);
+		assertEquals(Arrays.asList("b.xsd"), evicted);
+		assertNull(cache.get("b.xsd"));
+		assertEquals(80, cache.getWeight());
+		assertEquals(2, cache.size());
+
+		// The document which is being cached is kept even if it exceeds the budget
+		cache.put("d.xsd", mock(CMDocument.class), 200);
+		assertEquals(Arrays.asList("b.xsd", "a.xsd", "c.xsd"), evicted);
+		assertNotNull(cache.get("d.xsd"));
+		assertEquals(200, cache.getWeight());
+	}
+
+	@Test
+	public void evictUnused() throws Exception {
+		List<String> evicted = new ArrayList<>();
+		CMDocumentCache cache = new CMDocumentCache(evicted::add);
+		cache.put("a.xsd", mock(CMDocument.class), 40);
+		Thread.sleep(10);
+		long lastUsedBefore = System.currentTimeMillis();
+		Thread.sleep(10);
+		cache.put("b.xsd", mock(CMDocument.class), 40);
+
+		assertEquals(1, cache.evictUnused(lastUsedBefore));
+		assertEquals(Arrays.asList("a.xsd"), evicted);
+		assertNotNull(cache.get("b.xsd"));
+		assertEquals(40, cache.getWeight());
+	}
+}
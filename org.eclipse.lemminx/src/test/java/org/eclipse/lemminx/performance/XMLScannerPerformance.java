@@ -13,33 +13,73 @@ package org.eclipse.lemminx.performance;
 
 import static org.eclipse.lemminx.utils.IOUtils.convertStreamToString;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import org.eclipse.lemminx.dom.parser.Scanner;
 import org.eclipse.lemminx.dom.parser.TokenType;
 import org.eclipse.lemminx.dom.parser.XMLScanner;
 
 /**
- * This utility class is used to check the memory usage of {@link XMLScanner},
- * loading the large content.xml file
- * 
+ * This utility class is used to check the time and memory usage of
+ * {@link XMLScanner}, loading the large content.xml file, or the XML file
+ * given as argument.
+ *
+ * <p>
+ * Each pass scans the whole file, reading the names from the symbol table as
+ * the DOM parser does, and reports the number of tokens, the time and the bytes
+ * allocated by the pass.
+ * </p>
+ *
  * @author Angelo ZERR
  *
  */
 public class XMLScannerPerformance {
 
-	public static void main(String[] args) {
-		InputStream in = XMLScannerPerformance.class.getResourceAsStream("/xml/content.xml");
-		String text = convertStreamToString(in);
-		// Continuously parses the large content.xml file with the XML scanner
+	public static void main(String[] args) throws IOException {
+		String text;
+		String name;
+		if (args.length > 0) {
+			text = Files.readString(Path.of(args[0]));
+			name = Path.of(args[0]).getFileName().toString();
+		} else {
+			InputStream in = XMLScannerPerformance.class.getResourceAsStream("/xml/content.xml");
+			name = "content.xml";
+			if (in == null) {
+				in = XMLScannerPerformance.class.getResourceAsStream("/xml/largeFile.xml");
+				name = "largeFile.xml";
+			}
+			text = convertStreamToString(in);
+		}
+		com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+		// Continuously parses the large file with the XML scanner
 		while (true) {
+			long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
 			long start = System.currentTimeMillis();
-			Scanner scanner = XMLScanner.createScanner(text);
-			TokenType token = scanner.scan();
-			while (token != TokenType.EOS) {
-				token = scanner.scan();
+			int tokens = scan(text);
+			long time = System.currentTimeMillis() - start;
+			long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+			System.err.println("Parsed '" + name + "' with XMLScanner in " + time + " ms, " + tokens + " tokens, "
+					+ allocated / 1024 + " KB allocated.");
+		}
+	}
+
+	private static int scan(String text) {
+		Scanner scanner = XMLScanner.createScanner(text);
+		int tokens = 0;
+		TokenType token = scanner.scan();
+		while (token != TokenType.EOS) {
+			tokens++;
+			if (token == TokenType.StartTag || token == TokenType.EndTag || token == TokenType.AttributeName) {
+				scanner.getTokenSymbol();
 			}
-			System.err.println("Parsed 'content.xml' with XMLScanner in " + (System.currentTimeMillis() - start) + " ms.");
+			token = scanner.scan();
 		}
+		return tokens;
 	}
 }
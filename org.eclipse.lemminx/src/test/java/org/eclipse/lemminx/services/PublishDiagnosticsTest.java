@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.lemminx.AbstractCacheBasedTest;
+import org.eclipse.lemminx.MockXMLLanguageServer;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.telemetry.PerformanceListener;
+import org.eclipse.lemminx.telemetry.TelemetryManager;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the 'textDocument/publishDiagnostics' notification.
+ *
+ */
+public class PublishDiagnosticsTest extends AbstractCacheBasedTest {
+
+	private static final String URI = "file:///test.xml";
+
+	@Test
+	public void unchangedDiagnosticsAreNotPublished() throws Exception {
+		MockXMLLanguageServer server = new MockXMLLanguageServer();
+		server.getXMLLanguageService().initializeIfNeeded();
+		AtomicInteger unchanged = new AtomicInteger();
+		PerformanceListener previousListener = TelemetryManager.getPerformanceListener();
+		TelemetryManager.setPerformanceListener(new PerformanceListener() {
+
+			@Override
+			public void recordUnchangedDiagnostics() {
+				unchanged.incrementAndGet();
+			}
+		});
+		try {
+			server.didOpen(URI, "<a></b>");
+			List<PublishDiagnosticsParams> publishDiagnostics = server.getPublishDiagnostics();
+			long timeout = System.currentTimeMillis() + 5000;
+			while (publishDiagnostics.isEmpty() && System.currentTimeMillis() < timeout) {
+				Thread.sleep(10);
+			}
+			assertEquals(1, publishDiagnostics.size());
+			assertFalse(publishDiagnostics.get(0).getDiagnostics().isEmpty());
+
+			DOMDocument document = server.getDocument(URI);
+			server.validate(document, Collections.emptyMap());
+			server.validate(document, Collections.emptyMap());
+			assertEquals(1, publishDiagnostics.size());
+			assertEquals(2, unchanged.get());
+		} finally {
+			TelemetryManager.setPerformanceListener(previousListener);
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.lemminx.AbstractCacheBasedTest;
+import org.eclipse.lemminx.MockXMLLanguageServer;
+import org.eclipse.lemminx.XMLTextDocumentService;
+import org.eclipse.lsp4j.ClientCapabilities;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticCapabilities;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.DiagnosticWorkspaceCapabilities;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.DocumentDiagnosticParams;
+import org.eclipse.lsp4j.DocumentDiagnosticReport;
+import org.eclipse.lsp4j.RelatedFullDocumentDiagnosticReport;
+import org.eclipse.lsp4j.TextDocumentClientCapabilities;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.eclipse.lsp4j.WorkspaceClientCapabilities;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the 'textDocument/diagnostic' request.
+ *
+ */
+public class PullDiagnosticsTest extends AbstractCacheBasedTest {
+
+	private static final String URI = "file:///test.xml";
+
+	private MockXMLLanguageServer server;
+
+	private XMLTextDocumentService textDocumentService;
+
+	@BeforeEach
+	public void initServer() {
+		server = new MockXMLLanguageServer();
+		server.getXMLLanguageService().initializeIfNeeded();
+		textDocumentService = (XMLTextDocumentService) server.getTextDocumentService();
+		TextDocumentClientCapabilities textDocument = new TextDocumentClientCapabilities();
+		textDocument.setDiagnostic(new DiagnosticCapabilities());
+		ClientCapabilities capabilities = new ClientCapabilities();
+		capabilities.setTextDocument(textDocument);
+		WorkspaceClientCapabilities workspace = new WorkspaceClientCapabilities();
+		workspace.setDiagnostics(new DiagnosticWorkspaceCapabilities(true));
+		capabilities.setWorkspace(workspace);
+		textDocumentService.updateClientCapabilities(capabilities, null);
+	}
+
+	@Test
+	public void unchangedDocument() throws Exception {
+		server.didOpen(URI, "<a></b>");
+		RelatedFullDocumentDiagnosticReport report = pull(null).getRelatedFullDocumentDiagnosticReport();
+		assertTrue(hasError(report.getItems()));
+		String resultId = report.getResultId();
+
+		DocumentDiagnosticReport unchanged = pull(resultId);
+		assertTrue(unchanged.isRelatedUnchangedDocumentDiagnosticReport());
+		assertEquals(resultId, unchanged.getRelatedUnchangedDocumentDiagnosticReport().getResultId());
+
+		// The diagnostics are pulled by the client, so they are not published
+		assertEquals(Collections.emptyList(), server.getPublishDiagnostics());
+	}
+
+	@Test
+	public void changedDocument() throws Exception {
+		server.didOpen(URI, "<a></b>");
+		String resultId = pull(null).getRelatedFullDocumentDiagnosticReport().getResultId();
+
+		DidChangeTextDocumentParams params = new DidChangeTextDocumentParams(
+				new VersionedTextDocumentIdentifier(URI, 2),
+				Collections.singletonList(new TextDocumentContentChangeEvent("<a></a>")));
+		textDocumentService.didChange(params);
+		RelatedFullDocumentDiagnosticReport report = pull(resultId).getRelatedFullDocumentDiagnosticReport();
+		assertFalse(hasError(report.getItems()));
+		assertNotEquals(resultId, report.getResultId());
+	}
+
+	@Test
+	public void refreshedDiagnostics() throws Exception {
+		server.didOpen(URI, "<a></b>");
+		String resultId = pull(null).getRelatedFullDocumentDiagnosticReport().getResultId();
+
+		// The grammars changed
+		textDocumentService.refreshDiagnostics();
+		DocumentDiagnosticReport report = pull(resultId);
+		assertTrue(report.isRelatedFullDocumentDiagnosticReport());
+		assertNotEquals(resultId, report.getRelatedFullDocumentDiagnosticReport().getResultId());
+
+		// The document was closed and opened again
+		resultId = report.getRelatedFullDocumentDiagnosticReport().getResultId();
+		server.didClose(URI);
+		server.didOpen(URI, "<b></a>");
+		assertTrue(pull(resultId).isRelatedFullDocumentDiagnosticReport());
+	}
+
+	@Test
+	public void validationsAreCoalescedIntoOneRefresh() throws Exception {
+		server.didOpen(URI, "<a></b>");
+		server.didOpen("file:///other.xml", "<b></a>");
+		int refreshes = server.getLanguageClient().getDiagnosticsRefreshes();
+
+		// All the open documents are validated again, for instance because the
+		// settings changed
+		for (int i = 0; i < 3; i++) {
+			server.getAllDocuments().forEach(document -> server.validate(document, Collections.emptyMap()));
+		}
+		long timeout = System.currentTimeMillis() + 5000;
+		while (server.getLanguageClient().getDiagnosticsRefreshes() == refreshes
+				&& System.currentTimeMillis() < timeout) {
+			Thread.sleep(10);
+		}
+		Thread.sleep(300);
+		assertEquals(refreshes + 1, server.getLanguageClient().getDiagnosticsRefreshes());
+	}
+
+	private static boolean hasError(List<Diagnostic> diagnostics) {
+		return diagnostics.stream().anyMatch(diagnostic -> diagnostic.getSeverity() == DiagnosticSeverity.Error);
+	}
+
+	private DocumentDiagnosticReport pull(String previousResultId) throws Exception {
+		DocumentDiagnosticParams params = new DocumentDiagnosticParams(new TextDocumentIdentifier(URI));
+		params.setPreviousResultId(previousResultId);
+		return textDocumentService.diagnostic(params).get();
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.api;
+
+import org.eclipse.lemminx.customservice.synapse.api.generator.RestApiAdmin;
+import org.eclipse.lemminx.customservice.synapse.api.generator.pojo.GenerateAPIResponse;
+import org.eclipse.lemminx.customservice.synapse.api.generator.pojo.IsEqualSwaggersParam;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RestApiAdminTest {
+
+    private static final String SWAGGER_YAML = "openapi: 3.0.1\n" +
+            "info:\n" +
+            "  title: Petstore\n" +
+            "  version: 1.0.0\n" +
+            "servers:\n" +
+            "  - url: http://localhost:8290/pets\n" +
+            "paths:\n" +
+            "  /pets/{id}:\n" +
+            "    get:\n" +
+            "      parameters:\n" +
+            "        - name: id\n" +
+            "          in: path\n" +
+            "          required: true\n" +
+            "          schema:\n" +
+            "            type: string\n" +
+            "      responses:\n" +
+            "        default:\n" +
+            "          description: Default response\n";
+    private static final String SWAGGER_JSON = "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"Petstore\"," +
+            "\"version\":\"1.0.0\"},\"servers\":[{\"url\":\"http://localhost:8290/pets\"}],\"paths\":{" +
+            "\"/pets/{petId}\":{\"get\":{\"parameters\":[{\"name\":\"id\",\"in\":\"path\",\"required\":true," +
+            "\"schema\":{\"type\":\"string\"}}],\"responses\":{\"default\":{\"description\":\"Default response\"}}}}}}";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testCreateAPIFromYamlAndJsonSwagger() throws IOException {
+
+        Path yamlFile = tempDir.resolve("petstore.yaml");
+        Files.writeString(yamlFile, SWAGGER_YAML);
+        Path jsonFile = tempDir.resolve("petstore.json");
+        Files.writeString(jsonFile, SWAGGER_JSON.replace("{petId}", "{id}"));
+
+        RestApiAdmin restApiAdmin = new RestApiAdmin();
+        GenerateAPIResponse fromYaml = restApiAdmin.createAPI("PetAPI", yamlFile.toString(), null, null,
+                "create.api.from.swagger");
+        GenerateAPIResponse fromJson = restApiAdmin.createAPI("PetAPI", jsonFile.toString(), null, null,
+                "create.api.from.swagger");
+
+        assertNotNull(fromYaml);
+        assertTrue(fromYaml.apiXml.contains("name=\"PetAPI\""));
+        assertTrue(fromYaml.apiXml.contains("context=\"/pets\""));
+        assertTrue(fromYaml.apiXml.contains("uri-template=\"/pets/{id}\""));
+        assertEquals(fromYaml.apiXml, fromJson.apiXml);
+    }
+
+    @Test
+    public void testIsEqualSwaggers() {
+
+        RestApiAdmin restApiAdmin = new RestApiAdmin();
+        IsEqualSwaggersParam param = new IsEqualSwaggersParam();
+        param.generatedSwagger = SWAGGER_YAML;
+        param.existingSwagger = SWAGGER_JSON;
+        assertTrue(restApiAdmin.isEqualSwaggers(param));
+
+        param.existingSwagger = SWAGGER_JSON.replace("\"in\":\"path\"", "\"in\":\"query\"");
+        assertFalse(restApiAdmin.isEqualSwaggers(param));
+
+        param.existingSwagger = SWAGGER_JSON.replace("\"get\"", "\"post\"");
+        assertFalse(restApiAdmin.isEqualSwaggers(param));
+
+        param.existingSwagger = null;
+        assertFalse(restApiAdmin.isEqualSwaggers(param));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+
+package org.eclipse.lemminx.synapse.connector.downloader;
+
+import org.eclipse.lemminx.customservice.synapse.utils.ArtifactDownloader;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ArtifactDownloaderTest {
+
+    private static final String GROUP_ID = "org.wso2.integration.connector";
+    private static final String ARTIFACT_ID = "mi-connector-test";
+    private static final String VERSION = "1.0.0";
+    private static final String TYPE = "zip";
+
+    private static MockMavenRepository repository;
+    private Path downloadDirectory;
+
+    @BeforeAll
+    static void startRepository() throws IOException {
+
+        repository = new MockMavenRepository();
+        repository.start();
+    }
+
+    @AfterAll
+    static void stopRepository() {
+
+        repository.stop();
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+
+        repository.clear();
+        downloadDirectory = Files.createTempDirectory("mi-artifact-download-test-");
+    }
+
+    @Test
+    void testDownload() throws IOException {
+
+        byte[] content = createContent();
+        repository.publish(GROUP_ID, ARTIFACT_ID, VERSION, TYPE, content);
+        File targetFile = downloadDirectory.resolve("mi-connector-test-1.0.0.zip").toFile();
+
+        ArtifactDownloader.getInstance().download(GROUP_ID, ARTIFACT_ID, VERSION, TYPE, targetFile);
+
+        assertArrayEquals(content, Files.readAllBytes(targetFile.toPath()));
+        assertFalse(downloadDirectory.resolve("mi-connector-test-1.0.0.zip.part").toFile().exists());
+    }
+
+    @Test
+    void testDownload_ResumesPartialFile() throws IOException {
+
+        byte[] content = createContent();
+        repository.publish(GROUP_ID, ARTIFACT_ID, VERSION, TYPE, content);
+        File targetFile = downloadDirectory.resolve("mi-connector-test-1.0.0.zip").toFile();
+        Files.write(downloadDirectory.resolve("mi-connector-test-1.0.0.zip.part"),
+                Arrays.copyOfRange(content, 0, 1000));
+
+        ArtifactDownloader.getInstance().download(GROUP_ID, ARTIFACT_ID, VERSION, TYPE, targetFile);
+
+        assertEquals(List.of("bytes=1000-"), repository.getRequestedRanges());
+        assertArrayEquals(content, Files.readAllBytes(targetFile.toPath()));
+    }
+
+    @Test
+    void testDownload_RestartsInvalidPartialFile() throws IOException {
+
+        byte[] content = createContent();
+        repository.publish(GROUP_ID, ARTIFACT_ID, VERSION, TYPE, content);
+        File targetFile = downloadDirectory.resolve("mi-connector-test-1.0.0.zip").toFile();
+        Files.write(downloadDirectory.resolve("mi-connector-test-1.0.0.zip.part"),
+                "corrupted".getBytes(StandardCharsets.UTF_8));
+
+        ArtifactDownloader.getInstance().download(GROUP_ID, ARTIFACT_ID, VERSION, TYPE, targetFile);
+
+        assertArrayEquals(content, Files.readAllBytes(targetFile.toPath()));
+    }
+
+    @Test
+    void testDownload_MissingArtifact() {
+
+        File targetFile = downloadDirectory.resolve("mi-connector-test-1.0.0.zip").toFile();
+
+        assertThrows(FileNotFoundException.class,
+                () -> ArtifactDownloader.getInstance().download(GROUP_ID, ARTIFACT_ID, VERSION, TYPE, targetFile));
+        assertFalse(targetFile.exists());
+    }
+
+    private byte[] createContent() {
+
+        byte[] content = new byte[200_000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i % 251);
+        }
+        return content;
+    }
+}
@@ -17,59 +17,117 @@ package org.eclipse.lemminx.synapse.connector.downloader;
 import org.eclipse.lemminx.customservice.synapse.parser.ConnectorDownloadManager;
 import org.eclipse.lemminx.customservice.synapse.parser.DependencyDetails;
 import org.eclipse.lemminx.customservice.synapse.parser.OverviewPageDetailsResponse;
+import org.eclipse.lemminx.customservice.synapse.utils.Constant;
 import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.MockedStatic;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.List;
 
 import static org.eclipse.lemminx.customservice.synapse.parser.pom.PomParser.getPomDetails;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.mockito.Mockito.any;
-import static org.mockito.Mockito.mockStatic;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ConnectorDownloadManagerTest {
 
+    private static MockMavenRepository repository;
     private ConnectorDownloadManager connectorDownloadManager;
-    private static MockedStatic<Utils> utilsMock;
+    private String projectPath;
+    private File downloadDirectory;
+    private String originalUserHome;
+
+    @TempDir
+    Path userHome;
+
+    @BeforeAll
+    static void startRepository() throws IOException {
+
+        repository = new MockMavenRepository();
+        repository.start();
+    }
+
+    @AfterAll
+    static void stopRepository() {
+
+        repository.stop();
+    }
 
     @BeforeEach
     void setUp() {
+
+        originalUserHome = System.getProperty(Constant.USER_HOME);
+        System.setProperty(Constant.USER_HOME, userHome.toString());
         connectorDownloadManager = new ConnectorDownloadManager();
-        utilsMock = mockStatic(Utils.class);
+        repository.clear();
+        String path = ConnectorDownloadManagerTest.class.getResource("/synapse/pom.parser/test_pom_parser").getPath();
+        projectPath = new File(path).getAbsolutePath();
+        String projectId = new File(projectPath).getName() + "_" + Utils.getHash(projectPath);
+        downloadDirectory = userHome.resolve(Constant.WSO2_MI).resolve(Constant.CONNECTORS).resolve(projectId)
+                .resolve(Constant.DOWNLOADED).toFile();
+    }
+
+    @AfterEach
+    void restoreUserHome() {
+
+        System.setProperty(Constant.USER_HOME, originalUserHome);
     }
 
     @Test
     void downloadConnectorsWithValidDependencies() {
-        String path = ConnectorDownloadManagerTest.class.getResource("/synapse/pom.parser/test_pom_parser").getPath();
-        String projectPath = new File(path).getAbsolutePath();
-        utilsMock.when(() -> Utils.downloadConnector(any(), any(), any(), any(), any(), any())).thenAnswer(invocationOnMock -> { return null; });
-        OverviewPageDetailsResponse pomDetailsResponse = new OverviewPageDetailsResponse();
-        getPomDetails(projectPath, pomDetailsResponse);
-        List<DependencyDetails>
-                connectorDependencies = pomDetailsResponse.getDependenciesDetails().getConnectorDependencies();
+
+        List<DependencyDetails> connectorDependencies = getConnectorDependencies();
+        for (DependencyDetails dependency : connectorDependencies) {
+            repository.publish(dependency.getGroupId(), dependency.getArtifact(), dependency.getVersion(),
+                    Constant.ZIP_EXTENSION_NO_DOT, dependency.getArtifact().getBytes(StandardCharsets.UTF_8));
+        }
         List<String> failedDependencies = connectorDownloadManager.downloadDependencies(projectPath, connectorDependencies);
-        utilsMock.close();
 
         assertEquals(0, failedDependencies.size());
+        for (DependencyDetails dependency : connectorDependencies) {
+            assertTrue(new File(downloadDirectory,
+                    dependency.getArtifact() + "-" + dependency.getVersion() + Constant.ZIP_EXTENSION).exists());
+        }
     }
 
     @Test
     void downloadConnectorsWithInvalidDependencies() {
-        String path = ConnectorDownloadManagerTest.class.getResource("/synapse/pom.parser/test_pom_parser").getPath();
-        String projectPath = new File(path).getAbsolutePath();
-        utilsMock.when(() -> Utils.downloadConnector(any(), any(), any(), any(), any(), any())).thenThrow(new IOException());
-        OverviewPageDetailsResponse pomDetailsResponse = new OverviewPageDetailsResponse();
-        getPomDetails(projectPath, pomDetailsResponse);
-        List<DependencyDetails>
-                connectorDependencies = pomDetailsResponse.getDependenciesDetails().getConnectorDependencies();
+
+        List<DependencyDetails> connectorDependencies = getConnectorDependencies();
         List<String> failedDependencies = connectorDownloadManager.downloadDependencies(projectPath, connectorDependencies);
-        utilsMock.close();
 
         assertFalse(failedDependencies.isEmpty());
     }
+
+    @Test
+    void downloadConnectorsWithChecksumMismatch() {
+
+        List<DependencyDetails> connectorDependencies = getConnectorDependencies();
+        DependencyDetails dependency = connectorDependencies.get(0);
+        repository.publish(dependency.getGroupId(), dependency.getArtifact(), dependency.getVersion(),
+                Constant.ZIP_EXTENSION_NO_DOT, dependency.getArtifact().getBytes(StandardCharsets.UTF_8));
+        repository.publishChecksum(dependency.getGroupId(), dependency.getArtifact(), dependency.getVersion(),
+                Constant.ZIP_EXTENSION_NO_DOT, "0000000000000000000000000000000000000000");
+        List<String> failedDependencies =
+                connectorDownloadManager.downloadDependencies(projectPath, List.of(dependency));
+
+        assertEquals(1, failedDependencies.size());
+        assertFalse(new File(downloadDirectory,
+                dependency.getArtifact() + "-" + dependency.getVersion() + Constant.ZIP_EXTENSION).exists());
+    }
+
+    private List<DependencyDetails> getConnectorDependencies() {
+
+        OverviewPageDetailsResponse pomDetailsResponse = new OverviewPageDetailsResponse();
+        getPomDetails(projectPath, pomDetailsResponse);
+        return pomDetailsResponse.getDependenciesDetails().getConnectorDependencies();
+    }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.connector.downloader;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Local stand-in for the Maven repository. Serves the published artifacts with their SHA-1 checksums and supports
+ * range requests.
+ */
+public class MockMavenRepository {
+
+    private final HttpServer server;
+    private final Map<String, byte[]> files;
+    private final List<String> ranges;
+
+    public MockMavenRepository() throws IOException {
+
+        this.files = new ConcurrentHashMap<>();
+        this.ranges = new CopyOnWriteArrayList<>();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/", this::handle);
+    }
+
+    public void start() {
+
+        server.start();
+        System.setProperty(Constant.MAVEN_REPOSITORY_URL_PROPERTY,
+                "http://localhost:" + server.getAddress().getPort() + "/");
+    }
+
+    public void stop() {
+
+        server.stop(0);
+        System.clearProperty(Constant.MAVEN_REPOSITORY_URL_PROPERTY);
+    }
+
+    public void publish(String groupId, String artifactId, String version, String type, byte[] content) {
+
+        String path = getPath(groupId, artifactId, version, type);
+        files.put(path, content);
+        files.put(path + ".sha1", sha1Hex(content).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void publishChecksum(String groupId, String artifactId, String version, String type, String checksum) {
+
+        files.put(getPath(groupId, artifactId, version, type) + ".sha1", checksum.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void clear() {
+
+        files.clear();
+        ranges.clear();
+    }
+
+    public List<String> getRequestedRanges() {
+
+        return ranges;
+    }
+
+    static String sha1Hex(byte[] content) {
+
+        try {
+            StringBuilder checksum = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-1").digest(content)) {
+                checksum.append(String.format("%02x", b));
+            }
+            return checksum.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String getPath(String groupId, String artifactId, String version, String type) {
+
+        return String.format("/%s/%s/%s/%s-%s.%s", groupId.replace(".", "/"), artifactId, version, artifactId,
+                version, type);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+
+        byte[] content = files.get(exchange.getRequestURI().getPath());
+        if (content == null) {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+            return;
+        }
+        int status = 200;
+        String range = exchange.getRequestHeaders().getFirst("Range");
+        if (range != null) {
+            ranges.add(range);
+            int start = Integer.parseInt(range.substring("bytes=".length(), range.indexOf('-')));
+            if (start >= content.length) {
+                exchange.sendResponseHeaders(416, -1);
+                exchange.close();
+                return;
+            }
+            content = Arrays.copyOfRange(content, start, content.length);
+            status = 206;
+        }
+        exchange.sendResponseHeaders(status, content.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(content);
+        }
+    }
+}
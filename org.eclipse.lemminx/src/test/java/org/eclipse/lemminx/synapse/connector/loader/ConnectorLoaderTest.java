@@ -19,6 +19,7 @@ import org.eclipse.lemminx.MockXMLLanguageClient;
 import org.eclipse.lemminx.customservice.SynapseLanguageClientAPI;
 import org.eclipse.lemminx.customservice.synapse.InvalidConfigurationException;
 import org.eclipse.lemminx.customservice.synapse.connectors.ConnectorHolder;
+import org.eclipse.lemminx.customservice.synapse.connectors.entity.ConnectorAction;
 import org.eclipse.lemminx.customservice.synapse.inbound.conector.InboundConnectorHolder;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.MethodOrderer;
@@ -38,6 +39,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -165,6 +167,24 @@ public class ConnectorLoaderTest {
         assertNotNull(connectorHolder.getConnector("file"));
     }
 
+    @Test
+    @Order(9)
+    public void testConnectorLoading_FromConnectorCatalog() throws Exception {
+
+        assertTrue(tempPath.resolve("connector-catalog.json").toFile().exists());
+
+        connectorHolder.clearConnectors();
+        MockConnectorLoader newLoader = new MockConnectorLoader(new MockXMLLanguageClient(), connectorHolder,
+                new InboundConnectorHolder(), tempPath);
+        newLoader.init(getResourceFilePath("/synapse/pom.parser/test_pom_parser"));
+        newLoader.loadConnector();
+
+        assertEquals(2, connectorHolder.getConnectors().size());
+        ConnectorAction action = connectorHolder.getConnector("http").getAction("get");
+        assertNotNull(action);
+        assertNotNull(connectorHolder.getUiSchema(action.getUiSchemaPath()));
+    }
+
     private void loadConnector(String... connectorPaths) throws IOException {
 
         for (String path : connectorPaths) {
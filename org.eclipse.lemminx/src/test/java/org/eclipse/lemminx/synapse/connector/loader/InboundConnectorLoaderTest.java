@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.connector.loader;
+
+import org.eclipse.lemminx.MockXMLLanguageClient;
+import org.eclipse.lemminx.customservice.synapse.connectors.ConnectorHolder;
+import org.eclipse.lemminx.customservice.synapse.inbound.conector.InboundConnectorHolder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.eclipse.lemminx.synapse.TestUtils.getResourceFilePath;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InboundConnectorLoaderTest {
+
+    @TempDir
+    Path tempPath;
+
+    @Test
+    public void testRemovedInboundConnectorZipRemovesSchema() throws Exception {
+
+        ConnectorHolder connectorHolder = ConnectorHolder.getInstance();
+        connectorHolder.clearConnectors();
+        RecordingInboundConnectorHolder inboundConnectorHolder = new RecordingInboundConnectorHolder();
+        MockConnectorLoader connectorLoader = new MockConnectorLoader(new MockXMLLanguageClient(), connectorHolder,
+                inboundConnectorHolder, tempPath);
+        connectorLoader.init(getResourceFilePath("/synapse/pom.parser/test_pom_parser"));
+
+        Path zip = createInboundConnectorZip("mi-inbound-sample-1.0.0.zip", "sample");
+        connectorLoader.loadConnector();
+        assertEquals(List.of("sample"), inboundConnectorHolder.saved);
+        assertTrue(inboundConnectorHolder.removed.isEmpty());
+
+        // The connector is not removed while its zip is available
+        connectorLoader.loadConnector();
+        assertTrue(inboundConnectorHolder.removed.isEmpty());
+
+        Files.delete(zip);
+        connectorLoader.loadConnector();
+        assertEquals(List.of("sample"), inboundConnectorHolder.removed);
+
+        connectorLoader.loadConnector();
+        assertEquals(List.of("sample"), inboundConnectorHolder.removed);
+    }
+
+    private Path createInboundConnectorZip(String name, String connectorName) throws IOException {
+
+        Path connectorsFolder = Files.createDirectories(tempPath.resolve("connectors"));
+        Path zip = connectorsFolder.resolve(name);
+        try (OutputStream out = Files.newOutputStream(zip);
+             ZipOutputStream zipOut = new ZipOutputStream(out)) {
+            zipOut.putNextEntry(new ZipEntry("resources/uischema.json"));
+            zipOut.write(("{\"name\":\"" + connectorName + "\", \"id\":\"" + connectorName + "\"}")
+                    .getBytes(StandardCharsets.UTF_8));
+            zipOut.closeEntry();
+        }
+        // Mark the zip as an old file, so that it is not treated as a download in progress
+        zip.toFile().setLastModified(System.currentTimeMillis() - 2000000);
+        return zip;
+    }
+
+    private static class RecordingInboundConnectorHolder extends InboundConnectorHolder {
+
+        private final List<String> saved = new ArrayList<>();
+        private final List<String> removed = new ArrayList<>();
+
+        @Override
+        public Boolean saveInboundConnector(String connectorName, String uiSchema) {
+
+            saved.add(connectorName);
+            return true;
+        }
+
+        @Override
+        public void removeInboundConnector(String connectorName) {
+
+            removed.add(connectorName);
+        }
+    }
+}
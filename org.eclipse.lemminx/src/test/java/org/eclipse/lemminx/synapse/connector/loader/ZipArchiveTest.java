@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.connector.loader;
+
+import com.google.gson.JsonObject;
+import org.eclipse.lemminx.customservice.synapse.utils.ZipArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ZipArchiveTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testReadEntriesWithoutExtracting() throws IOException {
+
+        File zip = createZip("sample-connector-1.0.0.zip", Map.of(
+                "sample-connector-1.0.0/", "",
+                "sample-connector-1.0.0/connector.xml", "<connector/>",
+                "sample-connector-1.0.0/uischema/init.json", "{}"));
+
+        try (ZipArchive archive = ZipArchive.open(zip)) {
+            assertTrue(archive.hasEntry("connector.xml"));
+            assertFalse(archive.hasEntry("sample-connector-1.0.0/connector.xml"));
+            assertEquals("<connector/>", archive.readEntry("connector.xml"));
+            assertEquals(List.of("uischema/init.json"), archive.getEntries("uischema"));
+            assertThrows(IOException.class, () -> archive.readEntry("missing.xml"));
+        }
+        assertEquals(List.of("sample-connector-1.0.0.zip"), List.of(tempDir.toFile().list()));
+    }
+
+    @Test
+    public void testReadJsonEntryIsRefreshedWhenZipChanges() throws IOException {
+
+        File zip = createZip("inbound-connector.zip", Map.of("resources/uischema.json", "{\"name\":\"first\"}"));
+        JsonObject schema = ZipArchive.readJsonEntry(zip, "resources/uischema.json");
+        assertEquals("first", schema.get("name").getAsString());
+
+        schema.addProperty("name", "modified");
+        assertEquals("first", ZipArchive.readJsonEntry(zip, "resources/uischema.json").get("name").getAsString());
+
+        createZip("inbound-connector.zip", Map.of("resources/uischema.json", "{\"name\":\"second\", \"id\":\"2\"}"));
+        assertEquals("second", ZipArchive.readJsonEntry(zip, "resources/uischema.json").get("name").getAsString());
+    }
+
+    @Test
+    public void testEvictedJsonEntryIsReadAgain() throws IOException {
+
+        File zip = createZip("inbound-connector.zip", Map.of("resources/uischema.json", "{\"name\":\"first\"}"));
+        long lastModified = zip.lastModified();
+        assertEquals("first", ZipArchive.readJsonEntry(zip, "resources/uischema.json").get("name").getAsString());
+
+        // A zip replaced with the same size and modification time has the same hash
+        createZip("inbound-connector.zip", Map.of("resources/uischema.json", "{\"name\":\"other\"}"));
+        zip.setLastModified(lastModified);
+        assertEquals("first", ZipArchive.readJsonEntry(zip, "resources/uischema.json").get("name").getAsString());
+
+        ZipArchive.evictJsonEntries(zip);
+        assertEquals("other", ZipArchive.readJsonEntry(zip, "resources/uischema.json").get("name").getAsString());
+    }
+
+    private File createZip(String name, Map<String, String> entries) throws IOException {
+
+        File zip = tempDir.resolve(name).toFile();
+        try (OutputStream out = Files.newOutputStream(zip.toPath());
+             ZipOutputStream zipOut = new ZipOutputStream(out)) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                zipOut.putNextEntry(new ZipEntry(entry.getKey()));
+                zipOut.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                zipOut.closeEntry();
+            }
+        }
+        // Mark the zip as an old file, so that it is not treated as a download in progress
+        zip.setLastModified(System.currentTimeMillis() - 2000000 + entries.size());
+        return zip;
+    }
+}
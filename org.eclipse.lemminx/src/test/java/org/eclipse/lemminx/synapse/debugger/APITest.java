@@ -104,4 +104,13 @@ public class APITest extends AbstractDebuggerTest {
         Breakpoint breakpoint2 = new Breakpoint(41, 12);
         testDebugInfo(List.of(breakpoint1, breakpoint2), List.of("0", "1"));
     }
+
+    @Test
+    public void testMultipleBreakpoint_APIDifferentSequences() throws Exception {
+
+        Breakpoint breakpoint1 = new Breakpoint(25, 12);
+        Breakpoint breakpoint2 = new Breakpoint(30, 12);
+        Breakpoint breakpoint3 = new Breakpoint(41, 12);
+        testDebugInfo(List.of(breakpoint1, breakpoint2, breakpoint3), List.of("1", "0", "1"));
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.debugger;
+
+import org.eclipse.lemminx.customservice.synapse.debugger.BreakpointIndex;
+import org.eclipse.lemminx.customservice.synapse.debugger.BreakpointIndexCache;
+import org.eclipse.lemminx.customservice.synapse.debugger.entity.Breakpoint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class BreakpointIndexCacheTest {
+
+    private static final String SEQUENCE = "<sequence name=\"TestSequence\" xmlns=\"http://ws.apache.org/ns/synapse\">\n" +
+            "    <log/>\n" +
+            "%s" +
+            "</sequence>\n";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void indexIsReusedUntilFileChanges() throws IOException {
+
+        Path file = tempDir.resolve("TestSequence.xml");
+        Files.writeString(file, String.format(SEQUENCE, ""));
+        BreakpointIndexCache cache = BreakpointIndexCache.getInstance();
+
+        BreakpointIndex index = cache.getIndex(file.toString());
+        assertSame(index, cache.getIndex(file.toString()));
+        assertEquals("Invalid breakpoint in Sequence",
+                index.getDebugInfo(new Breakpoint(2)).getError());
+
+        Files.writeString(file, String.format(SEQUENCE, "    <drop/>\n"));
+        BreakpointIndex updatedIndex = cache.getIndex(file.toString());
+        assertNotSame(index, updatedIndex);
+        assertEquals("1", updatedIndex.getDebugInfo(new Breakpoint(2)).getMediatorPosition());
+    }
+
+    @Test
+    public void unreadableFileIsCached() {
+
+        String filePath = tempDir.resolve("Missing.xml").toString();
+        BreakpointIndexCache cache = BreakpointIndexCache.getInstance();
+
+        BreakpointIndex index = cache.getIndex(filePath);
+        assertNull(index.getSyntaxTree());
+        assertNull(index.getDebugInfo(new Breakpoint(1)));
+        assertSame(index, cache.getIndex(filePath));
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.debugger.mediators;
+
+import org.eclipse.lemminx.customservice.synapse.debugger.entity.Breakpoint;
+import org.eclipse.lemminx.customservice.synapse.debugger.entity.debuginfo.IDebugInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class IterateSequenceKeyMediatorTest extends AbstractMediatorDebuggerTest {
+
+    @Override
+    protected String getTestResourceName() {
+
+        return "iterateSequenceKeyMediator.xml";
+    }
+
+    @Test
+    public void testIterateMediator() throws Exception {
+
+        // The target sequence is referred to by key, so step over continues with the next mediator
+        Breakpoint breakpoint = new Breakpoint(23, 4);
+        testDebugInfo(List.of(breakpoint), List.of("1"));
+        testStepOverInfo(breakpoint, List.of(new Breakpoint(26, 4)));
+    }
+
+    @Test
+    public void testBreakpointInTarget() {
+
+        IDebugInfo debugInfo = getDebugInfo(List.of(new Breakpoint(24, 8))).get(0);
+        assertFalse(debugInfo.isValid());
+        assertEquals("Invalid breakpoint in Iterate Mediator", debugInfo.getError());
+        testStepOverInfo(new Breakpoint(24, 8), List.of(new Breakpoint(26, 4)));
+    }
+}
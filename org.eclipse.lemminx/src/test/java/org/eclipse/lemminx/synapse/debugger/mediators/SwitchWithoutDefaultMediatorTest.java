@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.debugger.mediators;
+
+import org.eclipse.lemminx.customservice.synapse.debugger.entity.Breakpoint;
+import org.eclipse.lemminx.customservice.synapse.debugger.entity.debuginfo.IDebugInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class SwitchWithoutDefaultMediatorTest extends AbstractMediatorDebuggerTest {
+
+    @Override
+    protected String getTestResourceName() {
+
+        return "switchWithoutDefaultMediator.xml";
+    }
+
+    @Test
+    public void testSwitchMediator() throws Exception {
+
+        // Without a default case, a message which matches no case continues with the next mediator
+        Breakpoint breakpoint = new Breakpoint(23, 4);
+        testDebugInfo(List.of(breakpoint), List.of("1"));
+        testStepOverInfo(breakpoint, List.of(new Breakpoint(25, 12), new Breakpoint(33, 4)));
+    }
+
+    @Test
+    public void testMediatorsInCase() throws Exception {
+
+        Breakpoint breakpoint = new Breakpoint(25, 12);
+        testDebugInfo(List.of(breakpoint), List.of("1 1 0"));
+        testStepOverInfo(breakpoint, List.of(new Breakpoint(28, 12)));
+
+        Breakpoint lastBreakpoint = new Breakpoint(28, 12);
+        testDebugInfo(List.of(lastBreakpoint), List.of("1 1 1"));
+        testStepOverInfo(lastBreakpoint, List.of(new Breakpoint(33, 4)));
+    }
+
+    @Test
+    public void testBreakpointOutsideMediatorsOfCase() {
+
+        IDebugInfo debugInfo = getDebugInfo(List.of(new Breakpoint(24, 8))).get(0);
+        assertFalse(debugInfo.isValid());
+        assertEquals("Invalid breakpoint in Switch Mediator", debugInfo.getError());
+    }
+}
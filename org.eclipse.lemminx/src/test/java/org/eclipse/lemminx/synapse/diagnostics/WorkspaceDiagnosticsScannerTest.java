@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.diagnostics;
+
+import org.eclipse.lemminx.MockXMLLanguageServer;
+import org.eclipse.lemminx.XMLTextDocumentService;
+import org.eclipse.lemminx.customservice.synapse.diagnostics.WorkspaceDiagnosticsScanner;
+import org.eclipse.lemminx.customservice.synapse.utils.ParallelFileScanner;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.PreviousResultId;
+import org.eclipse.lsp4j.WorkspaceDiagnosticParams;
+import org.eclipse.lsp4j.WorkspaceDocumentDiagnosticReport;
+import org.eclipse.lsp4j.WorkspaceFullDocumentDiagnosticReport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkspaceDiagnosticsScannerTest {
+
+    @TempDir
+    Path projectPath;
+
+    @Test
+    public void testScan() throws IOException {
+
+        Path sequences = Files.createDirectories(projectPath.resolve(Path.of("src", "main", "wso2mi", "artifacts",
+                "sequences")));
+        Path invalidSequence = Files.writeString(sequences.resolve("invalid.xml"), "<sequence></sequ>");
+        Path openSequence = Files.writeString(sequences.resolve("open.xml"), "<sequence></sequ>");
+        MockXMLLanguageServer server = new MockXMLLanguageServer();
+        server.getXMLLanguageService().initializeIfNeeded();
+        server.didOpen(openSequence.toUri().toString(), "<sequence></sequ>");
+        XMLTextDocumentService textDocumentService = (XMLTextDocumentService) server.getTextDocumentService();
+        WorkspaceDiagnosticsScanner scanner = new WorkspaceDiagnosticsScanner(textDocumentService,
+                server.getXMLLanguageService().getResolverExtensionManager(), server.getLanguageClient());
+
+        // The open artifacts are not reported
+        List<WorkspaceDocumentDiagnosticReport> reports = scan(scanner, new ArrayList<>());
+        assertEquals(1, reports.size());
+        WorkspaceFullDocumentDiagnosticReport report = reports.get(0).getWorkspaceFullDocumentDiagnosticReport();
+        assertEquals(invalidSequence.toUri().toString(), report.getUri());
+        assertTrue(hasError(report.getItems()));
+
+        List<PreviousResultId> previousResultIds = new ArrayList<>();
+        previousResultIds.add(new PreviousResultId(report.getUri(), report.getResultId()));
+        reports = scan(scanner, previousResultIds);
+        assertTrue(reports.get(0).isWorkspaceUnchangedDocumentDiagnosticReport());
+
+        Files.writeString(invalidSequence, "<sequence></sequence>");
+        Files.setLastModifiedTime(invalidSequence, FileTime.fromMillis(System.currentTimeMillis() + 1000));
+        reports = scan(scanner, previousResultIds);
+        report = reports.get(0).getWorkspaceFullDocumentDiagnosticReport();
+        assertFalse(hasError(report.getItems()));
+    }
+
+    private static boolean hasError(List<Diagnostic> diagnostics) {
+
+        return diagnostics.stream().anyMatch(diagnostic -> diagnostic.getSeverity() == DiagnosticSeverity.Error);
+    }
+
+    private List<WorkspaceDocumentDiagnosticReport> scan(WorkspaceDiagnosticsScanner scanner,
+                                                         List<PreviousResultId> previousResultIds) {
+
+        return scanner.scan(projectPath.toString(), new WorkspaceDiagnosticParams(previousResultIds),
+                ParallelFileScanner.NOT_CANCELLED).getItems();
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.parser;
+
+import org.eclipse.lemminx.customservice.synapse.parser.DependencyDetails;
+import org.eclipse.lemminx.customservice.synapse.parser.MavenDependencyResolver;
+import org.eclipse.lemminx.customservice.synapse.utils.Constant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MavenDependencyResolverTest {
+
+    @TempDir
+    Path userHome;
+
+    private String originalUserHome;
+    private TestClock clock;
+    private File cacheFile;
+
+    @BeforeEach
+    public void setUp() {
+
+        originalUserHome = System.getProperty(Constant.USER_HOME);
+        System.setProperty(Constant.USER_HOME, userHome.toString());
+        clock = new TestClock();
+        cacheFile = userHome.resolve("maven-resolution-failures.json").toFile();
+    }
+
+    @AfterEach
+    public void tearDown() {
+
+        System.setProperty(Constant.USER_HOME, originalUserHome);
+    }
+
+    @Test
+    public void testMissingDependenciesAreResolvedInOneInvocation() {
+
+        DependencyDetails local = dependency("local");
+        DependencyDetails remote = dependency("remote");
+        DependencyDetails missing = dependency("missing");
+        installInLocalRepo(local);
+        TestResolver resolver = new TestResolver();
+        resolver.available.add(remote.getArtifact());
+
+        Map<DependencyDetails, File> results = resolver.resolve(List.of(local, remote, missing));
+
+        assertEquals(1, resolver.invocations.size());
+        assertEquals(List.of(remote, missing), resolver.invocations.get(0));
+        assertNotNull(results.get(local));
+        assertNotNull(results.get(remote));
+        assertNull(results.get(missing));
+    }
+
+    @Test
+    public void testFailedDependencyIsNotResolvedAgain() {
+
+        DependencyDetails missing = dependency("missing");
+        TestResolver resolver = new TestResolver();
+        resolver.resolve(List.of(missing));
+        assertEquals(1, resolver.invocations.size());
+
+        clock.advance(Duration.ofMinutes(14));
+        assertNull(resolver.resolve(List.of(missing)).get(missing));
+        assertEquals(1, resolver.invocations.size());
+
+        // The failure is kept in the cache file for the next language server session
+        assertTrue(cacheFile.exists());
+        TestResolver nextSession = new TestResolver();
+        assertNull(nextSession.resolve(List.of(missing)).get(missing));
+        assertTrue(nextSession.invocations.isEmpty());
+    }
+
+    @Test
+    public void testFailedDependencyIsRetriedAfterExpiry() {
+
+        DependencyDetails missing = dependency("missing");
+        TestResolver resolver = new TestResolver();
+        resolver.resolve(List.of(missing));
+
+        clock.advance(Duration.ofMinutes(15));
+        resolver.available.add(missing.getArtifact());
+        assertNotNull(resolver.resolve(List.of(missing)).get(missing));
+        assertEquals(2, resolver.invocations.size());
+
+        // A resolved dependency is no longer skipped, even if it is removed from the local repository later
+        deleteFromLocalRepo(missing);
+        resolver.available.clear();
+        resolver.resolve(List.of(missing));
+        assertEquals(3, resolver.invocations.size());
+    }
+
+    private static DependencyDetails dependency(String artifact) {
+
+        DependencyDetails dependency = new DependencyDetails();
+        dependency.setGroupId("org.wso2.test");
+        dependency.setArtifact(artifact);
+        dependency.setVersion("1.0.0");
+        dependency.setType("zip");
+        return dependency;
+    }
+
+    private Path getLocalRepoPath(DependencyDetails dependency) {
+
+        return userHome.resolve(Path.of(Constant.M2, Constant.REPOSITORY, "org", "wso2", "test",
+                dependency.getArtifact(), dependency.getVersion(),
+                dependency.getArtifact() + "-" + dependency.getVersion() + ".zip"));
+    }
+
+    private void installInLocalRepo(DependencyDetails dependency) {
+
+        Path path = getLocalRepoPath(dependency);
+        try {
+            Files.createDirectories(path.getParent());
+            Files.writeString(path, dependency.getArtifact());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteFromLocalRepo(DependencyDetails dependency) {
+
+        try {
+            Files.delete(getLocalRepoPath(dependency));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Resolver that installs the available artifacts into the local repository instead of invoking Maven.
+     */
+    private class TestResolver extends MavenDependencyResolver {
+
+        private final List<List<DependencyDetails>> invocations = new ArrayList<>();
+        private final Set<String> available = new HashSet<>();
+
+        TestResolver() {
+
+            super(cacheFile, clock);
+        }
+
+        @Override
+        protected void invokeMaven(List<DependencyDetails> dependencies) {
+
+            invocations.add(new ArrayList<>(dependencies));
+            for (DependencyDetails dependency : dependencies) {
+                if (available.contains(dependency.getArtifact())) {
+                    installInLocalRepo(dependency);
+                }
+            }
+        }
+    }
+
+    private static class TestClock extends Clock {
+
+        private Instant instant = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+
+            return instant;
+        }
+    }
+}
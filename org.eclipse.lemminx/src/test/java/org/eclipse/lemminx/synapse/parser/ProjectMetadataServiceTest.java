@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.synapse.parser;
+
+import org.eclipse.lemminx.customservice.synapse.parser.ProjectMetadata;
+import org.eclipse.lemminx.customservice.synapse.parser.ProjectMetadataService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ProjectMetadataServiceTest {
+
+    private static final String POM = "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n" +
+            "  <groupId>com.example</groupId>\n" +
+            "  <artifactId>sample</artifactId>\n" +
+            "  <version>1.0.0</version>\n" +
+            "  <properties>\n" +
+            "    <project.runtime.version>%s</project.runtime.version>\n" +
+            "  </properties>\n" +
+            "</project>\n";
+
+    @TempDir
+    Path projectDir;
+
+    private Path configFile;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+
+        Files.writeString(projectDir.resolve("pom.xml"), String.format(POM, "4.3.0"));
+        configFile = projectDir.resolve("src/main/wso2mi/resources/conf/config.properties");
+        Files.createDirectories(configFile.getParent());
+        Files.writeString(configFile, "url:string\n");
+    }
+
+    @Test
+    public void testMetadataIsShared() {
+
+        ProjectMetadataService service = ProjectMetadataService.getInstance();
+        ProjectMetadata metadata = service.getMetadata(projectDir.toString());
+        assertSame(metadata, service.getMetadata(projectDir.resolve(".").toString()));
+        assertSame(metadata.getPomDetails(), metadata.getPomDetails());
+        assertEquals("4.3.0", metadata.getRuntimeVersion());
+        assertEquals("com.example", metadata.getGroupId());
+        assertEquals("sample", metadata.getArtifactId());
+        assertFalse(metadata.isLegacyProject());
+    }
+
+    @Test
+    public void testPomChanged() throws IOException {
+
+        ProjectMetadataService service = ProjectMetadataService.getInstance();
+        ProjectMetadata metadata = service.getMetadata(projectDir.toString());
+        assertEquals("4.3.0", metadata.getRuntimeVersion());
+
+        // A change of the pom is seen from its modification time, even if it is not notified
+        Path pom = projectDir.resolve("pom.xml");
+        long lastModified = pom.toFile().lastModified();
+        Files.writeString(pom, String.format(POM, "4.4.0"));
+        pom.toFile().setLastModified(lastModified + 2000);
+        assertEquals("4.4.0", metadata.getRuntimeVersion());
+        assertFalse(service.fileChanged(projectDir.resolve("README.md").toUri().toString()));
+        assertEquals("4.4.0", metadata.getRuntimeVersion());
+
+        // A change which keeps the modification time and size is seen once it is notified
+        Files.writeString(pom, String.format(POM, "4.5.0"));
+        pom.toFile().setLastModified(lastModified + 2000);
+        assertEquals("4.4.0", metadata.getRuntimeVersion());
+        assertTrue(service.fileChanged(pom.toUri().toString()));
+        assertEquals("4.5.0", metadata.getRuntimeVersion());
+        assertEquals(1, metadata.getConfigurables().size());
+    }
+
+    @Test
+    public void testConfigChanged() throws IOException {
+
+        ProjectMetadataService service = ProjectMetadataService.getInstance();
+        ProjectMetadata metadata = service.getMetadata(projectDir.toString());
+        assertEquals(1, metadata.getConfigurables().size());
+
+        Files.writeString(configFile, "url:string\npassword:cert\n");
+        assertEquals(2, metadata.getConfigurables().size());
+        assertTrue(service.fileChanged(configFile.toUri().toString()));
+        assertEquals(2, metadata.getConfigurables().size());
+        assertEquals("password", metadata.getConfigurables().get(1).getKey());
+    }
+}
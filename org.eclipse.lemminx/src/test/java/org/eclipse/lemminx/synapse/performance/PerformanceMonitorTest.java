@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.performance;
+
+import org.eclipse.lemminx.customservice.synapse.performance.CacheStats;
+import org.eclipse.lemminx.customservice.synapse.performance.LatencyHistogram;
+import org.eclipse.lemminx.customservice.synapse.performance.PerformanceMonitor;
+import org.eclipse.lemminx.customservice.synapse.performance.RequestStats;
+import org.eclipse.lsp4j.jsonrpc.Endpoint;
+import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.RemoteEndpoint;
+import org.eclipse.lsp4j.jsonrpc.messages.CancelParams;
+import org.eclipse.lsp4j.jsonrpc.messages.Message;
+import org.eclipse.lsp4j.jsonrpc.messages.NotificationMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.RequestMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PerformanceMonitorTest {
+
+    private final PerformanceMonitor monitor = PerformanceMonitor.getInstance();
+
+    @BeforeEach
+    public void setUp() {
+
+        monitor.reset();
+    }
+
+    @Test
+    public void testHistogramPercentiles() {
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1000, histogram.getMax());
+        assertEquals(500.5, histogram.getMean());
+        assertWithinBucket(500, histogram.getPercentile(50));
+        assertWithinBucket(950, histogram.getPercentile(95));
+        assertWithinBucket(990, histogram.getPercentile(99));
+        assertEquals(1000, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void testRequestsAreMeasuredFromMessageStreams() {
+
+        Map<String, CompletableFuture<Object>> results = new HashMap<>();
+        Endpoint endpoint = new Endpoint() {
+            @Override
+            public CompletableFuture<?> request(String method, Object parameter) {
+
+                CompletableFuture<Object> result = new CompletableFuture<>();
+                results.put(method + parameter, result);
+                return result;
+            }
+
+            @Override
+            public void notify(String method, Object parameter) {
+
+            }
+        };
+        List<Message> responses = new ArrayList<>();
+        MessageConsumer outgoing = monitor.wrap(responses::add);
+        MessageConsumer incoming = monitor.wrap(new RemoteEndpoint(outgoing, endpoint));
+
+        incoming.consume(createRequest("1", "synapse/syntaxTree", "a"));
+        incoming.consume(createRequest("2", "synapse/syntaxTree", "b"));
+        incoming.consume(createRequest("3", "textDocument/completion", "c"));
+        assertEquals(3, getStats("synapse/syntaxTree").getInFlight() + getStats("textDocument/completion")
+                .getInFlight());
+
+        results.get("synapse/syntaxTreea").complete("done");
+        results.get("textDocument/completionc").completeExceptionally(new IllegalStateException());
+        NotificationMessage cancel = new NotificationMessage();
+        cancel.setMethod("$/cancelRequest");
+        CancelParams cancelParams = new CancelParams();
+        cancelParams.setId("2");
+        cancel.setParams(cancelParams);
+        incoming.consume(cancel);
+
+        assertEquals(3, responses.stream().filter(ResponseMessage.class::isInstance).count());
+        RequestStats syntaxTree = getStats("synapse/syntaxTree");
+        assertEquals(2, syntaxTree.getCount());
+        assertEquals(0, syntaxTree.getInFlight());
+        assertEquals(1, syntaxTree.getCancelled());
+        assertEquals(1, syntaxTree.getFailed());
+        assertTrue(syntaxTree.getP50() <= syntaxTree.getMax());
+        RequestStats completion = getStats("textDocument/completion");
+        assertEquals(1, completion.getCount());
+        assertEquals(1, completion.getFailed());
+        assertEquals(0, completion.getCancelled());
+    }
+
+    @Test
+    public void testCacheHitRatio() {
+
+        monitor.recordCacheAccess("test", false);
+        monitor.recordCacheAccess("test", true);
+        monitor.recordCacheAccess("test", true);
+        monitor.recordCacheAccess("test", true);
+
+        CacheStats stats = monitor.getPerformanceStats().getCaches().get(0);
+        assertEquals("test", stats.getName());
+        assertEquals(3, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(0.75, stats.getHitRatio());
+    }
+
+    private RequestMessage createRequest(String id, String method, String params) {
+
+        RequestMessage request = new RequestMessage();
+        request.setId(id);
+        request.setMethod(method);
+        request.setParams(params);
+        return request;
+    }
+
+    private RequestStats getStats(String method) {
+
+        RequestStats stats = monitor.getPerformanceStats().getRequests().stream()
+                .filter(request -> method.equals(request.getMethod())).findFirst().orElse(null);
+        assertNotNull(stats);
+        return stats;
+    }
+
+    private void assertWithinBucket(long expected, long actual) {
+
+        assertTrue(actual >= expected && actual <= expected * 1.25, "Expected ~" + expected + " but was " + actual);
+    }
+}
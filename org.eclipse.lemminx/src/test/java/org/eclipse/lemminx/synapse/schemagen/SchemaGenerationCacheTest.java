@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.synapse.schemagen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.lemminx.customservice.synapse.schemagen.util.FileType;
+import org.eclipse.lemminx.customservice.synapse.schemagen.util.SchemaGenerationCache;
+import org.eclipse.lemminx.customservice.synapse.schemagen.util.SchemaGeneratorForXSD;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SchemaGenerationCacheTest {
+
+    private static final String ADDRESS_XSD = "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\">\n" +
+            "  <xs:complexType name=\"Address\">\n" +
+            "    <xs:sequence>\n" +
+            "      <xs:element name=\"street\" type=\"xs:string\"/>\n" +
+            "      <xs:element name=\"id\" type=\"xs:int\"/>\n" +
+            "    </xs:sequence>\n" +
+            "  </xs:complexType>\n" +
+            "  <xs:element name=\"order\">\n" +
+            "    <xs:complexType>\n" +
+            "      <xs:sequence>\n" +
+            "        <xs:element name=\"billing\" type=\"Address\"/>\n" +
+            "        <xs:element name=\"shipping\" type=\"Address\" maxOccurs=\"unbounded\"/>\n" +
+            "        <xs:element name=\"alternate\" type=\"Address\"/>\n" +
+            "      </xs:sequence>\n" +
+            "    </xs:complexType>\n" +
+            "  </xs:element>\n" +
+            "</xs:schema>";
+
+    @TempDir
+    Path cacheFolder;
+
+    @Test
+    public void testSchemaGeneratedOnce() throws IOException {
+
+        SchemaGenerationCache cache = new SchemaGenerationCache(cacheFolder, 1024);
+        AtomicInteger generations = new AtomicInteger();
+        SchemaGenerationCache.SchemaSupplier generator = () -> "schema" + generations.incrementAndGet();
+
+        assertEquals("schema1", cache.getSchema("a,b", FileType.CSV, ",", false, generator));
+        assertEquals("schema1", cache.getSchema("a,b", FileType.CSV, ",", false, generator));
+        assertEquals("schema2", cache.getSchema("a,b", FileType.CSV, ";", false, generator));
+        assertEquals("schema3", cache.getSchema("a,b", FileType.JSON, ",", false, generator));
+        assertEquals("schema4", cache.getSchema("a,b", FileType.CSV, ",", true, generator));
+        assertEquals(4, generations.get());
+    }
+
+    @Test
+    public void testSchemaStoredInCacheFolder() throws IOException {
+
+        AtomicInteger generations = new AtomicInteger();
+        SchemaGenerationCache.SchemaSupplier generator = () -> "schema" + generations.incrementAndGet();
+        new SchemaGenerationCache(cacheFolder, 1024).getSchema("{}", FileType.JSON, null, false, generator);
+
+        // Read from the cache folder by a new cache, as after a restart
+        SchemaGenerationCache cache = new SchemaGenerationCache(cacheFolder, 1024);
+        assertEquals("schema1", cache.getSchema("{}", FileType.JSON, null, false, generator));
+        assertEquals(1, cache.getMemorySize());
+        assertEquals(1, generations.get());
+    }
+
+    @Test
+    public void testMemoryBudget() throws IOException {
+
+        SchemaGenerationCache cache = new SchemaGenerationCache(null, 10);
+        AtomicInteger generations = new AtomicInteger();
+        SchemaGenerationCache.SchemaSupplier generator = () -> "schema" + generations.incrementAndGet();
+
+        cache.getSchema("1", FileType.JSON, null, false, generator);
+        cache.getSchema("2", FileType.JSON, null, false, generator);
+        assertEquals(1, cache.getMemorySize());
+        // The least recently used schema was evicted
+        assertEquals("schema3", cache.getSchema("1", FileType.JSON, null, false, generator));
+        assertEquals("schema3", cache.getSchema("1", FileType.JSON, null, false, generator));
+    }
+
+    @Test
+    public void testDiskBudget() throws IOException {
+
+        AtomicInteger generations = new AtomicInteger();
+        SchemaGenerationCache.SchemaSupplier generator = () -> "schema" + generations.incrementAndGet();
+        // Each stored schema takes 7 bytes
+        SchemaGenerationCache cache = new SchemaGenerationCache(cacheFolder, 1024, 20);
+        cache.getSchema("1", FileType.JSON, null, false, generator);
+        setLastModified(System.currentTimeMillis() - 60000);
+        cache.getSchema("2", FileType.JSON, null, false, generator);
+        assertEquals(2, countStoredSchemas());
+
+        // The least recently used schema is deleted when the stored schemas exceed the budget
+        cache.getSchema("3", FileType.JSON, null, false, generator);
+        assertEquals(2, countStoredSchemas());
+        SchemaGenerationCache nextSession = new SchemaGenerationCache(cacheFolder, 1024, 20);
+        assertEquals("schema2", nextSession.getSchema("2", FileType.JSON, null, false, generator));
+        assertEquals("schema4", nextSession.getSchema("1", FileType.JSON, null, false, generator));
+
+        // A smaller budget is applied to the existing schemas on the first store
+        SchemaGenerationCache smallerCache = new SchemaGenerationCache(cacheFolder, 1024, 10);
+        smallerCache.getSchema("5", FileType.JSON, null, false, generator);
+        assertEquals(1, countStoredSchemas());
+    }
+
+    @Test
+    public void testReusedComplexTypeIds() throws IOException {
+
+        String schema = new SchemaGeneratorForXSD().generateJsonSchemaFromXsd(ADDRESS_XSD);
+        JsonNode properties = new ObjectMapper().readTree(schema).get("properties");
+
+        assertEquals("http://wso2jsonschema.org/billing/id",
+                properties.at("/billing/properties/id/id").asText());
+        assertEquals("http://wso2jsonschema.org/shipping/0/street",
+                properties.at("/shipping/items/0/properties/street/id").asText());
+        assertEquals("http://wso2jsonschema.org/alternate/street",
+                properties.at("/alternate/properties/street/id").asText());
+        assertEquals("http://wso2jsonschema.org/alternate/id",
+                properties.at("/alternate/properties/id/id").asText());
+        assertEquals("object", properties.at("/alternate/type").asText());
+    }
+
+    private void setLastModified(long time) throws IOException {
+
+        try (Stream<Path> files = Files.list(cacheFolder)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.setLastModifiedTime(file, FileTime.fromMillis(time));
+            }
+        }
+    }
+
+    private long countStoredSchemas() throws IOException {
+
+        try (Stream<Path> files = Files.list(cacheFolder)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".json")).count();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.syntaxtree;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.eclipse.lemminx.commons.TextDocument;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.SyntaxTreeGenerator;
+import org.eclipse.lemminx.customservice.synapse.syntaxTree.factory.SubtreeBuilder;
+import org.eclipse.lemminx.customservice.synapse.utils.EnumTypeAdapter;
+import org.eclipse.lemminx.customservice.synapse.utils.OptionalTypeAdapter;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMNode;
+import org.eclipse.lemminx.dom.DOMParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SubtreeBuilderTest {
+
+    @AfterEach
+    public void resetThreshold() {
+
+        SubtreeBuilder.setParallelThreshold(SubtreeBuilder.DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    @Test
+    public void testNodesAreInDocumentOrder() {
+
+        DOMDocument document = parse(dataService(100));
+        List<DOMNode> children = document.getDocumentElement().getChildren();
+        SubtreeBuilder.setParallelThreshold(1);
+        List<String> names = SubtreeBuilder.build(children,
+                child -> child.isElement() ? child.getAttribute("name") : null);
+
+        assertEquals(children.size(), names.size());
+        for (int i = 0; i < children.size(); i++) {
+            DOMNode child = children.get(i);
+            assertEquals(child.isElement() ? child.getAttribute("name") : null, names.get(i));
+        }
+        assertThrows(IllegalStateException.class, () -> SubtreeBuilder.build(children, child -> {
+            throw new IllegalStateException();
+        }));
+    }
+
+    @Test
+    public void testParallelTreeMatchesSequentialTree() {
+
+        Gson gson = new GsonBuilder()
+                .registerTypeHierarchyAdapter(Optional.class, new OptionalTypeAdapter())
+                .registerTypeHierarchyAdapter(Enum.class, new EnumTypeAdapter())
+                .create();
+        // Each build uses a fresh document, so that the parallel build starts without a line tracker
+        SubtreeBuilder.setParallelThreshold(1);
+        String parallel = gson.toJson(SyntaxTreeGenerator.buildTree(parse(dataService(100)).getDocumentElement()));
+        SubtreeBuilder.setParallelThreshold(Integer.MAX_VALUE);
+        String sequential = gson.toJson(SyntaxTreeGenerator.buildTree(parse(dataService(100)).getDocumentElement()));
+
+        assertEquals(sequential, parallel);
+    }
+
+    private static DOMDocument parse(String content) {
+
+        return DOMParser.getInstance().parse(new TextDocument(content, "file:///test/DataService.dbs"), null);
+    }
+
+    private static String dataService(int queries) {
+
+        StringBuilder content = new StringBuilder("<data name=\"DataService\" serviceNamespace=\"\" " +
+                "serviceGroup=\"\" transports=\"http https\">\n");
+        content.append("    <description>Generated data service</description>\n");
+        content.append("    <config id=\"default\">\n");
+        content.append("        <property name=\"driverClassName\">org.h2.Driver</property>\n");
+        content.append("        <property name=\"url\">jdbc:h2:mem:test</property>\n");
+        content.append("    </config>\n");
+        for (int i = 0; i < queries; i++) {
+            content.append("    <query id=\"query").append(i).append("\" useConfig=\"default\">\n");
+            content.append("        <sql>SELECT id, name FROM table").append(i).append(" WHERE id = ?</sql>\n");
+            content.append("        <param name=\"id\" sqlType=\"INTEGER\"/>\n");
+            content.append("        <result element=\"rows\" rowName=\"row\">\n");
+            content.append("            <element column=\"name\" name=\"name\" xsdType=\"string\"/>\n");
+            content.append("        </result>\n");
+            content.append("    </query>\n");
+            content.append("    <operation name=\"operation").append(i).append("\">\n");
+            content.append("        <call-query href=\"query").append(i).append("\">\n");
+            content.append("            <with-param name=\"id\" query-param=\"id\"/>\n");
+            content.append("        </call-query>\n");
+            content.append("    </operation>\n");
+            content.append("    <resource method=\"GET\" path=\"resource").append(i).append("/{id}\">\n");
+            content.append("        <call-query href=\"query").append(i).append("\">\n");
+            content.append("            <with-param name=\"id\" query-param=\"id\"/>\n");
+            content.append("        </call-query>\n");
+            content.append("    </resource>\n");
+        }
+        return content.append("</data>\n").toString();
+    }
+}
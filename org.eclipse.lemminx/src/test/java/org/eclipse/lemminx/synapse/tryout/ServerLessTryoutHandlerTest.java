@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.tryout;
+
+import org.eclipse.lemminx.customservice.synapse.mediator.schema.generate.MediatorFlowStateCache;
+import org.eclipse.lemminx.customservice.synapse.mediator.schema.generate.ServerLessTryoutHandler;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutInfo;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.MediatorTryoutRequest;
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.pojo.Property;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class ServerLessTryoutHandlerTest {
+
+    private static final String API = "<api xmlns=\"http://ws.apache.org/ns/synapse\" name=\"TestAPI\" " +
+            "context=\"/test\">\n" +
+            "    <resource methods=\"POST\" uri-template=\"/\">\n" +
+            "        <inSequence>\n" +
+            "            <variable name=\"%s\" type=\"STRING\" value=\"one\"/>\n" +
+            "            <variable name=\"second\" type=\"STRING\" value=\"two\"/>\n" +
+            "            <respond/>\n" +
+            "        </inSequence>\n" +
+            "        <faultSequence>\n" +
+            "        </faultSequence>\n" +
+            "    </resource>\n" +
+            "</api>\n";
+
+    private static final String PAYLOAD_API = "<api xmlns=\"http://ws.apache.org/ns/synapse\" name=\"TestAPI\" " +
+            "context=\"/test\">\n" +
+            "    <resource methods=\"POST\" uri-template=\"/\">\n" +
+            "        <inSequence>\n" +
+            "            <payloadFactory media-type=\"json\" template-type=\"default\">\n" +
+            "                <format>{\"name\": \"%s\"}</format>\n" +
+            "            </payloadFactory>\n" +
+            "            <respond/>\n" +
+            "        </inSequence>\n" +
+            "        <faultSequence>\n" +
+            "        </faultSequence>\n" +
+            "    </resource>\n" +
+            "</api>\n";
+
+    @TempDir
+    Path projectPath;
+    private Path apiFile;
+    private ServerLessTryoutHandler handler;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+
+        MediatorFlowStateCache.getInstance().clear();
+        Path apiFolder = projectPath.resolve(Path.of("src", "main", "wso2mi", "artifacts", "apis"));
+        Files.createDirectories(apiFolder);
+        apiFile = apiFolder.resolve("TestAPI.xml");
+        Files.writeString(apiFile, String.format(API, "first"));
+        handler = new ServerLessTryoutHandler(projectPath.toString());
+    }
+
+    @Test
+    public void testRepeatedRequestIsServedFromCache() {
+
+        MediatorTryoutInfo first = handler.handle(createRequest(5, 12));
+        assertEquals(List.of("first", "second"), getInputVariables(first));
+
+        // Changes done by a caller must not leak into the cached state.
+        first.addOutputVariable("leaked", "value");
+        MediatorTryoutInfo second = handler.handle(createRequest(5, 12));
+        assertEquals(List.of("first", "second"), getInputVariables(second));
+        assertFalse(second.getOutput().getVariables().stream().anyMatch(var -> "leaked".equals(var.getKey())));
+    }
+
+    @Test
+    public void testStatesAfterEditAreRecomputed() throws IOException {
+
+        assertEquals(List.of("first"), getInputVariables(handler.handle(createRequest(4, 12))));
+        assertEquals(List.of("first", "second"), getInputVariables(handler.handle(createRequest(5, 12))));
+
+        Files.writeString(apiFile, String.format(API, "renamed"));
+
+        assertEquals(List.of("renamed"), getInputVariables(handler.handle(createRequest(4, 12))));
+        assertEquals(List.of("renamed", "second"), getInputVariables(handler.handle(createRequest(5, 12))));
+    }
+
+    @Test
+    public void testStateOfMediatorIsRecomputedWhenItsBodyIsEdited() throws IOException {
+
+        Files.writeString(apiFile, String.format(PAYLOAD_API, "first"));
+        assertEquals("{\"name\": \"first\"}", getOutputPayload(handler.handle(createRequest(3, 12))));
+
+        // The mediator starts before the edited line, but its state depends on all of its lines.
+        Files.writeString(apiFile, String.format(PAYLOAD_API, "renamed"));
+
+        assertEquals("{\"name\": \"renamed\"}", getOutputPayload(handler.handle(createRequest(3, 12))));
+    }
+
+    private MediatorTryoutRequest createRequest(int line, int column) {
+
+        return new MediatorTryoutRequest(apiFile.toString(), line, column, "{}", null);
+    }
+
+    private List<String> getInputVariables(MediatorTryoutInfo info) {
+
+        return info.getInput().getVariables().stream().map(Property::getKey).collect(Collectors.toList());
+    }
+
+    private String getOutputPayload(MediatorTryoutInfo info) {
+
+        return info.getOutput().getPayload().getAsString();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.tryout;
+
+import org.eclipse.lemminx.customservice.synapse.mediator.tryout.TryOutWorkspace;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TryOutWorkspaceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testSync() throws IOException {
+
+        Path project = tempDir.resolve("project");
+        Path workspace = tempDir.resolve("workspace");
+        Path sequences = Files.createDirectories(project.resolve("artifacts").resolve("sequences"));
+        Files.createDirectories(project.resolve("target"));
+        Files.writeString(sequences.resolve("seq1.xml"), "<sequence name=\"seq1\"/>");
+        Files.writeString(sequences.resolve("seq2.xml"), "<sequence name=\"seq2\"/>");
+        Files.writeString(project.resolve("target").resolve("project.car"), "car");
+
+        TryOutWorkspace.sync(project, workspace, folder -> !"target".equals(folder.toString()));
+        Path seq1 = workspace.resolve("artifacts").resolve("sequences").resolve("seq1.xml");
+        Path seq2 = workspace.resolve("artifacts").resolve("sequences").resolve("seq2.xml");
+        assertEquals("<sequence name=\"seq1\"/>", Files.readString(seq1));
+        assertEquals("<sequence name=\"seq2\"/>", Files.readString(seq2));
+        assertFalse(Files.exists(workspace.resolve("target")));
+
+        // A file written in the workspace does not modify the project file
+        TryOutWorkspace.writeFile(seq1, "<sequence name=\"edited\"/>");
+        assertEquals("<sequence name=\"seq1\"/>", Files.readString(sequences.resolve("seq1.xml")));
+
+        // The edited file is restored, the removed files are deleted and the added files are synced
+        Files.delete(sequences.resolve("seq2.xml"));
+        Files.writeString(sequences.resolve("seq3.xml"), "<sequence name=\"seq3\"/>");
+        Files.writeString(workspace.resolve("generated.xml"), "<api/>");
+        TryOutWorkspace.sync(project, workspace, folder -> true);
+        assertEquals("<sequence name=\"seq1\"/>", Files.readString(seq1));
+        assertFalse(Files.exists(seq2));
+        assertFalse(Files.exists(workspace.resolve("generated.xml")));
+        assertEquals("<sequence name=\"seq3\"/>",
+                Files.readString(workspace.resolve("artifacts").resolve("sequences").resolve("seq3.xml")));
+        assertTrue(Files.exists(workspace.resolve("target").resolve("project.car")));
+
+        TryOutWorkspace.sync(project, workspace, folder -> !"artifacts".equals(folder.toString()));
+        assertFalse(Files.exists(workspace.resolve("artifacts")));
+        assertTrue(Files.exists(workspace.resolve("target").resolve("project.car")));
+    }
+
+    @Test
+    public void testSyncFiles() throws IOException {
+
+        Path project = Files.createDirectories(tempDir.resolve("project"));
+        Path workspace = tempDir.resolve("workspace");
+        Path sequence = Files.writeString(project.resolve("seq1.xml"), "<sequence name=\"seq1\"/>");
+        Path endpoint = Files.writeString(project.resolve("ep1.xml"), "<endpoint name=\"ep1\"/>");
+        Path sequenceFile = Path.of("sequences", "seq1.xml");
+        Path endpointFile = Path.of("endpoints", "ep1.xml");
+
+        TryOutWorkspace.sync(Map.of(sequenceFile, sequence, endpointFile, endpoint), workspace);
+        Files.writeString(Files.createDirectories(workspace.resolve("apis")).resolve("api.xml"), "<api/>");
+        assertEquals("<sequence name=\"seq1\"/>", Files.readString(workspace.resolve(sequenceFile)));
+        assertEquals("<endpoint name=\"ep1\"/>", Files.readString(workspace.resolve(endpointFile)));
+
+        TryOutWorkspace.sync(Map.of(sequenceFile, sequence), workspace);
+        assertEquals("<sequence name=\"seq1\"/>", Files.readString(workspace.resolve(sequenceFile)));
+        assertFalse(Files.exists(workspace.resolve("endpoints")));
+        assertFalse(Files.exists(workspace.resolve("apis")));
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.utils;
+
+import org.eclipse.lemminx.customservice.synapse.utils.CompactDocument;
+import org.eclipse.lemminx.customservice.synapse.utils.Utils;
+import org.eclipse.lemminx.dom.DOMAttr;
+import org.eclipse.lemminx.dom.DOMDocument;
+import org.eclipse.lemminx.dom.DOMElement;
+import org.eclipse.lemminx.dom.DOMNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CompactDocumentTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testSameTreeAsDOMDocument() throws IOException {
+
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(Path.of("src", "test", "resources", "synapse"))) {
+            files = paths.filter(path -> path.toString().endsWith(".xml")).collect(Collectors.toList());
+        }
+        assertFalse(files.isEmpty());
+        for (Path file : files) {
+            String text = Files.readString(file);
+            DOMDocument domDocument = Utils.getDOMDocument(text);
+            CompactDocument document = CompactDocument.parse(text);
+            assertSameChildren(file, domDocument, document, document.getDocument());
+
+            // A document scanned up to a limit is parsed to the end when the tree is walked
+            CompactDocument header = CompactDocument.parse(file.toFile(), CompactDocument.ScanLimit.depth(1));
+            assertSameChildren(file, domDocument, header, header.getDocument());
+            assertTrue(header.isComplete());
+        }
+    }
+
+    @Test
+    public void testHeaderScan() throws IOException {
+
+        StringBuilder sequence = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<sequence name=\"LargeSequence\" trace=\"disable\" xmlns=\"http://ws.apache.org/ns/synapse\">\n");
+        for (int i = 0; i < 2000; i++) {
+            sequence.append("    <log category=\"INFO\"><message>Log ").append(i).append("</message></log>\n");
+        }
+        sequence.append("</sequence>\n");
+        Path file = tempDir.resolve("LargeSequence.xml");
+        Files.writeString(file, sequence);
+
+        CompactDocument document = CompactDocument.parse(file.toFile(), CompactDocument.ScanLimit.depth(1));
+        assertFalse(document.isComplete());
+        assertTrue(document.getText().length() < 4096);
+        int root = document.getDocumentElement();
+        assertEquals("LargeSequence", document.getAttribute(root, "name"));
+        assertEquals(1, document.getElementCount());
+
+        // Walking into the children parses the rest of the file and keeps the scanned nodes
+        int log = document.getFirstElement(root);
+        assertTrue(document.isComplete());
+        assertEquals(root, document.getDocumentElement());
+        assertEquals("log", document.getNodeName(log));
+        assertEquals(sequence.length(), document.getText().length());
+        assertEquals(4001, document.getElementCount());
+
+        CompactDocument firstChild = CompactDocument.parse(sequence.toString(), CompactDocument.ScanLimit.elements(2));
+        assertFalse(firstChild.isComplete());
+        assertEquals("log", firstChild.getNodeName(firstChild.getFirstElement(firstChild.getDocumentElement())));
+        assertEquals(2, firstChild.getElementCount());
+    }
+
+    @Test
+    public void testHeaderScanWithNodesBeforeElements() {
+
+        String[] texts = {"<a>text<b/><c/></a>", "<a><!-- comment --><b/><!-- comment --><c/></a>",
+                "<a><x>text<b/>text<c/></x></a>", "<a><x><!-- comment --><b/><!-- comment --><c/></x></a>"};
+        for (String text : texts) {
+            for (int depth = 1; depth <= 2; depth++) {
+                CompactDocument document = CompactDocument.parse(text, CompactDocument.ScanLimit.depth(depth));
+                int parent = document.getDocumentElement();
+                if (text.startsWith("<a><x>")) {
+                    parent = document.getFirstElement(parent);
+                    assertEquals("x", document.getNodeName(parent));
+                }
+                int b = document.getFirstElement(parent);
+                assertEquals("b", document.getNodeName(b), text + " scanned to depth " + depth);
+                assertEquals("c", document.getNodeName(document.getNextElement(b)), text + " scanned to depth " + depth);
+                assertEquals(CompactDocument.NONE, document.getNextElement(document.getNextElement(b)));
+            }
+        }
+    }
+
+    @Test
+    public void testQueries() {
+
+        CompactDocument document = CompactDocument.parse("<?xml version=\"1.0\"?>\n" +
+                "<!-- local entry -->\n" +
+                "<localEntry key='Connection_1' xmlns=\"http://ws.apache.org/ns/synapse\">\n" +
+                "    <http.init>\n" +
+                "        <connectionType>HTTP</connectionType>\n" +
+                "        <baseUrl>{$ctx:url}</baseUrl>\n" +
+                "        <body><![CDATA[<a/>]]></body>\n" +
+                "        <empty>  </empty>\n" +
+                "    </http.init>\n" +
+                "</localEntry>");
+
+        int root = document.getDocumentElement();
+        assertEquals("localEntry", document.getNodeName(root));
+        assertEquals("Connection_1", document.getAttribute(root, "key"));
+        assertTrue(document.hasAttribute(root, "xmlns"));
+        assertNull(document.getAttribute(root, "name"));
+
+        int init = document.getFirstElement(root);
+        assertTrue(document.hasName(init, "http.init"));
+        int connectionType = document.getChildElement(init, "CONNECTIONTYPE");
+        assertEquals("HTTP", document.getInlineString(document.getFirstChild(connectionType)));
+        int baseUrl = document.getNextElement(connectionType);
+        assertEquals("{$ctx:url}", document.getInlineString(document.getFirstChild(baseUrl)));
+        int body = document.getNextElement(baseUrl);
+        assertTrue(document.isCDATA(document.getFirstChild(body)));
+        assertEquals("<![CDATA[<a/>]]>", document.getInlineString(document.getFirstChild(body)));
+        assertEquals("  ", document.getContent(document.getFirstChild(document.getNextElement(body))));
+
+        assertEquals(CompactDocument.NONE, document.getChildElement(init, "missing"));
+        assertEquals(CompactDocument.NONE, document.getChildElement(CompactDocument.NONE, "missing"));
+    }
+
+    @Test
+    public void testUnclosedElements() {
+
+        CompactDocument document = CompactDocument.parse("<api name=\"API\"><resource methods=\"GET\"><inSequence>" +
+                "</resource><resource methods=\"POST\"/></");
+
+        int api = document.getDocumentElement();
+        int first = document.getFirstElement(api);
+        assertEquals("GET", document.getAttribute(first, "methods"));
+        assertEquals("inSequence", document.getNodeName(document.getFirstElement(first)));
+        assertEquals("POST", document.getAttribute(document.getNextElement(first), "methods"));
+        assertEquals(document.getText().length(), document.getEnd(api));
+    }
+
+    private void assertSameChildren(Path file, DOMNode domNode, CompactDocument document, int node) {
+
+        List<DOMNode> domChildren = new ArrayList<>();
+        for (DOMNode child : domNode.getChildren()) {
+            if (child.isElement() || child.isText() || child.isCDATA() || child.isComment()) {
+                domChildren.add(child);
+            }
+        }
+        int child = document.getFirstChild(node);
+        for (DOMNode domChild : domChildren) {
+            String message = file + " at offset " + domChild.getStart();
+            assertTrue(child != CompactDocument.NONE, message);
+            if (domChild.isElement()) {
+                DOMElement element = (DOMElement) domChild;
+                assertEquals(element.getTagName(), document.getNodeName(child), message);
+                List<DOMAttr> attributes = element.getAttributeNodes();
+                assertEquals(attributes != null ? attributes.size() : 0, document.getAttributeCount(child), message);
+                for (int i = 0; attributes != null && i < attributes.size(); i++) {
+                    assertEquals(attributes.get(i).getName(), document.getAttributeName(child, i), message);
+                    assertEquals(element.getAttribute(attributes.get(i).getName()),
+                            document.getAttribute(child, attributes.get(i).getName()), message);
+                }
+                assertSameChildren(file, domChild, document, child);
+            }
+            assertEquals(Utils.getInlineString(domChild), document.getInlineString(child), message);
+            child = document.getNextSibling(child);
+        }
+        assertEquals(CompactDocument.NONE, child, file.toString());
+    }
+}
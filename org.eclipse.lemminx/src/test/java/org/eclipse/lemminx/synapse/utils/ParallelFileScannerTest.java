@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+
+package org.eclipse.lemminx.synapse.utils;
+
+import org.eclipse.lemminx.customservice.synapse.utils.ParallelFileScanner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParallelFileScannerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testResultsAreInFolderTraversalOrder() throws IOException {
+
+        for (int folder = 0; folder < 5; folder++) {
+            Path subFolder = Files.createDirectories(tempDir.resolve("folder" + folder).resolve("nested"));
+            for (int file = 0; file < 50; file++) {
+                Files.writeString(subFolder.getParent().resolve("file" + file + ".xml"), "<sequence/>");
+                Files.writeString(subFolder.resolve("nested" + file + ".xml"), "<sequence/>");
+            }
+        }
+        Files.createDirectories(tempDir.resolve(".meta"));
+        Files.writeString(tempDir.resolve(".meta").resolve("skipped.xml"), "<sequence/>");
+        Files.writeString(tempDir.resolve("artifact.txt"), "text");
+
+        List<String> expected = new ArrayList<>();
+        listFiles(tempDir.toFile(), expected);
+        List<String> results = ParallelFileScanner.scan(tempDir,
+                folder -> !".meta".equals(folder.getFileName().toString()), file -> file.toString().endsWith(".xml"),
+                Path::toString);
+        assertEquals(expected, results);
+        assertEquals(500, results.size());
+
+        List<String> topLevelFiles = ParallelFileScanner.scan(tempDir, folder -> false, file -> true,
+                file -> file.getFileName().toString().startsWith("artifact") ? file.toString() : null);
+        assertEquals(List.of(tempDir.resolve("artifact.txt").toString()), topLevelFiles);
+
+        assertTrue(ParallelFileScanner.scan(tempDir.resolve("missing"), folder -> true, file -> true,
+                Path::toString).isEmpty());
+    }
+
+    @Test
+    public void testCancelledScan() throws IOException {
+
+        for (int file = 0; file < 100; file++) {
+            Files.writeString(tempDir.resolve("file" + file + ".xml"), "<sequence/>");
+        }
+        AtomicInteger checks = new AtomicInteger();
+        assertThrows(CancellationException.class, () -> ParallelFileScanner.scan(tempDir, folder -> true,
+                file -> true, Path::toString, () -> {
+                    if (checks.incrementAndGet() > 10) {
+                        throw new CancellationException();
+                    }
+                }));
+    }
+
+    private void listFiles(File folder, List<String> files) {
+
+        File[] listOfFiles = folder.listFiles();
+        if (listOfFiles == null) {
+            return;
+        }
+        for (File file : listOfFiles) {
+            if (file.isDirectory()) {
+                if (!".meta".equals(file.getName())) {
+                    listFiles(file, files);
+                }
+            } else if (file.getName().endsWith(".xml")) {
+                files.add(file.getPath());
+            }
+        }
+    }
+}
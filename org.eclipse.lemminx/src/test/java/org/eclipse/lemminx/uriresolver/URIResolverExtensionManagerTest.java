@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     WSO2 LLC - support for WSO2 Micro Integrator Configuration
+ */
+package org.eclipse.lemminx.uriresolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the URI resolution cache of {@link URIResolverExtensionManager}.
+ *
+ */
+public class URIResolverExtensionManagerTest {
+
+	private static class CountingResolver implements URIResolverExtension {
+
+		private final Map<String, String> resolutions = new HashMap<>();
+
+		private int calls;
+
+		private boolean cacheable = true;
+
+		@Override
+		public String resolve(String baseLocation, String publicId, String systemId) {
+			calls++;
+			return resolutions.get(publicId);
+		}
+
+		@Override
+		public boolean isCacheable(String baseLocation, String publicId, String systemId) {
+			return cacheable;
+		}
+	}
+
+	@Test
+	public void resolutionIsCached() {
+		URIResolverExtensionManager manager = new URIResolverExtensionManager();
+		CountingResolver resolver = new CountingResolver();
+		resolver.resolutions.put("urn:a", "file:///a.xsd");
+		manager.registerResolver(resolver);
+
+		assertEquals("file:///a.xsd", manager.resolve("file:///doc.xml", "urn:a", null));
+		assertEquals("file:///a.xsd", manager.resolveInfo("file:///doc.xml", "urn:a", null).getResolvedURI());
+		assertEquals(1, resolver.calls);
+
+		// A resolution which gives no URI is cached too
+		assertNull(manager.resolveInfo("file:///doc.xml", "urn:b", null));
+		assertNull(manager.resolveInfo("file:///doc.xml", "urn:b", null));
+		assertEquals(2, resolver.calls);
+
+		// The base location is a part of the key
+		assertEquals("file:///xsd/b.xsd", manager.resolve("file:///xsd/doc.xml", "urn:b", "b.xsd"));
+		assertEquals(3, resolver.calls);
+	}
+
+	@Test
+	public void invalidateResolutionCache() {
+		URIResolverExtensionManager manager = new URIResolverExtensionManager();
+		CountingResolver resolver = new CountingResolver();
+		manager.registerResolver(resolver);
+
+		assertNull(manager.resolveInfo("file:///doc.xml", "urn:a", null));
+		resolver.resolutions.put("urn:a", "file:///a.xsd");
+		assertNull(manager.resolveInfo("file:///doc.xml", "urn:a", null));
+
+		manager.invalidateResolutionCache();
+		assertEquals("file:///a.xsd", manager.resolve("file:///doc.xml", "urn:a", null));
+		assertEquals(2, resolver.calls);
+
+		manager.unregisterResolver(resolver);
+		assertNull(manager.resolveInfo("file:///doc.xml", "urn:a", null));
+		assertEquals(2, resolver.calls);
+	}
+
+	@Test
+	public void notCacheableResolution() {
+		URIResolverExtensionManager manager = new URIResolverExtensionManager();
+		CountingResolver resolver = new CountingResolver();
+		resolver.cacheable = false;
+		resolver.resolutions.put("urn:a", "file:///a.xsd");
+		manager.registerResolver(resolver);
+
+		assertEquals("file:///a.xsd", manager.resolve("file:///doc.xml", "urn:a", null));
+		assertEquals("file:///a.xsd", manager.resolve("file:///doc.xml", "urn:a", null));
+		assertEquals(2, resolver.calls);
+	}
+}